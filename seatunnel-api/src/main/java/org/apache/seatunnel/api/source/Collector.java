@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.api.source;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
  *
@@ -26,6 +28,17 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Emits the rows of the batch with one record if the engine supports columnar batches, otherwise every row is
+     * emitted by {@link #collect(Object)}. The batch must not be modified after it is emitted.
+     *
+     * @param batch The rows to collect, only for the source which produces {@code SeaTunnelRow}.
+     */
+    @SuppressWarnings("unchecked")
+    default void collectBatch(ColumnarBatch batch) {
+        batch.forEachRow(row -> collect((T) row));
+    }
+
     /**
      * Returns the checkpoint lock.
      *
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -50,6 +51,21 @@ public interface SourceReader<T, SplitT extends SourceSplit> extends AutoCloseab
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Returns a future which is completed when the reader has data to emit. If the future is not done, the
+     * runtime will not call {@link #pollNext(Collector)} and park the reader until the future is completed, so
+     * an idle reader does not need to sleep in {@link #pollNext(Collector)}.
+     *
+     * <p>The readers which can't tell when the data arrives can keep the default implementation, then the runtime
+     * will back off the reader exponentially when {@link #pollNext(Collector)} didn't emit any record.
+     *
+     * @return the future which is completed when data is available.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        // a new future every call, so a caller completing or obtruding it can't affect the other readers
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
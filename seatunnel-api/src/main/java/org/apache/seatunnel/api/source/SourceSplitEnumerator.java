@@ -86,6 +86,14 @@ public interface SourceSplitEnumerator<SplitT extends SourceSplit, StateT> exten
          */
         Set<Integer> registeredReaders();
 
+        /**
+         * Whether one enumerator serves all the readers. A source which doesn't support coordination runs one
+         * enumerator per reader in the Flink and Spark translations, every enumerator only serves its own reader.
+         */
+        default boolean isCoordinated() {
+            return true;
+        }
+
         /**
          * Assign the splits.
          */
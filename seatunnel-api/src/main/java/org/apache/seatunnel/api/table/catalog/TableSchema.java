@@ -18,11 +18,13 @@
 package org.apache.seatunnel.api.table.catalog;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Represent a physical table schema.
@@ -49,6 +51,16 @@ public final class TableSchema implements Serializable {
         return columns;
     }
 
+    /**
+     * Returns the row type of the physical columns of this schema.
+     */
+    public SeaTunnelRowType toPhysicalRowDataType() {
+        List<Column> physicalColumns = columns.stream().filter(Column::isPhysical).collect(Collectors.toList());
+        return new SeaTunnelRowType(
+            physicalColumns.stream().map(Column::getName).toArray(String[]::new),
+            physicalColumns.stream().map(Column::getDataType).toArray(SeaTunnelDataType<?>[]::new));
+    }
+
     public static final class Builder {
         private final List<Column> columns = new ArrayList<>();
 
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A column of a {@link ColumnarBatch}. The values of the numeric and boolean types are stored in primitive arrays,
+ * the others in an object array, the nulls are tracked in a bitmap.
+ */
+public abstract class ColumnVector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_WORD = 64;
+
+    private final long[] nulls;
+
+    protected ColumnVector(int capacity) {
+        this.nulls = new long[(capacity + BITS_PER_WORD - 1) / BITS_PER_WORD];
+    }
+
+    public static ColumnVector create(SeaTunnelDataType<?> type, int capacity) {
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return new BooleanVector(capacity);
+            case TINYINT:
+                return new ByteVector(capacity);
+            case SMALLINT:
+                return new ShortVector(capacity);
+            case INT:
+                return new IntVector(capacity);
+            case BIGINT:
+                return new LongVector(capacity);
+            case FLOAT:
+                return new FloatVector(capacity);
+            case DOUBLE:
+                return new DoubleVector(capacity);
+            default:
+                return new ObjectVector(capacity);
+        }
+    }
+
+    public boolean isNullAt(int index) {
+        return (nulls[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    public void setNull(int index) {
+        nulls[index / BITS_PER_WORD] |= 1L << index;
+    }
+
+    protected void setNotNull(int index) {
+        nulls[index / BITS_PER_WORD] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the boxed value, only used to view the column as the fields of {@link SeaTunnelRow}.
+     */
+    public Object getObject(int index) {
+        return isNullAt(index) ? null : get(index);
+    }
+
+    public void setObject(int index, Object value) {
+        if (value == null) {
+            setNull(index);
+        } else {
+            set(index, value);
+            setNotNull(index);
+        }
+    }
+
+    public void reset() {
+        Arrays.fill(nulls, 0L);
+    }
+
+    protected abstract Object get(int index);
+
+    protected abstract void set(int index, Object value);
+
+    public static class BooleanVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final boolean[] values;
+
+        public BooleanVector(int capacity) {
+            super(capacity);
+            this.values = new boolean[capacity];
+        }
+
+        public boolean getBoolean(int index) {
+            return values[index];
+        }
+
+        public void setBoolean(int index, boolean value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Boolean) value;
+        }
+    }
+
+    public static class ByteVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final byte[] values;
+
+        public ByteVector(int capacity) {
+            super(capacity);
+            this.values = new byte[capacity];
+        }
+
+        public byte getByte(int index) {
+            return values[index];
+        }
+
+        public void setByte(int index, byte value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Byte) value;
+        }
+    }
+
+    public static class ShortVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final short[] values;
+
+        public ShortVector(int capacity) {
+            super(capacity);
+            this.values = new short[capacity];
+        }
+
+        public short getShort(int index) {
+            return values[index];
+        }
+
+        public void setShort(int index, short value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Short) value;
+        }
+    }
+
+    public static class IntVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final int[] values;
+
+        public IntVector(int capacity) {
+            super(capacity);
+            this.values = new int[capacity];
+        }
+
+        public int getInt(int index) {
+            return values[index];
+        }
+
+        public void setInt(int index, int value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Integer) value;
+        }
+    }
+
+    public static class LongVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final long[] values;
+
+        public LongVector(int capacity) {
+            super(capacity);
+            this.values = new long[capacity];
+        }
+
+        public long getLong(int index) {
+            return values[index];
+        }
+
+        public void setLong(int index, long value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Long) value;
+        }
+    }
+
+    public static class FloatVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final float[] values;
+
+        public FloatVector(int capacity) {
+            super(capacity);
+            this.values = new float[capacity];
+        }
+
+        public float getFloat(int index) {
+            return values[index];
+        }
+
+        public void setFloat(int index, float value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Float) value;
+        }
+    }
+
+    public static class DoubleVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final double[] values;
+
+        public DoubleVector(int capacity) {
+            super(capacity);
+            this.values = new double[capacity];
+        }
+
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        public void setDouble(int index, double value) {
+            values[index] = value;
+            setNotNull(index);
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = (Double) value;
+        }
+    }
+
+    /**
+     * The column of the types without a primitive representation, e.g. string, decimal and the time types.
+     */
+    public static class ObjectVector extends ColumnVector {
+        private static final long serialVersionUID = 1L;
+        private final Object[] values;
+
+        public ObjectVector(int capacity) {
+            super(capacity);
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        protected Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        protected void set(int index, Object value) {
+            values[index] = value;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            // release the references of the previous batch
+            Arrays.fill(values, null);
+        }
+    }
+}
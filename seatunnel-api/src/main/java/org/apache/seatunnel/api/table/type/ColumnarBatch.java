@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A batch of rows stored by column, so a source of wide tables can emit many rows with one record and without boxing
+ * every field. The connectors which only support {@link SeaTunnelRow} view the batch with {@link #getRow(int)} or
+ * {@link #forEachRow(Consumer)}.
+ */
+public final class ColumnarBatch implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final ColumnVector[] columns;
+
+    private final byte[] rowKinds;
+
+    private final int capacity;
+
+    private int rowCount;
+
+    /** Table identifier, the same as {@link SeaTunnelRow#getTableId()} of every row in the batch. */
+    private int tableId = -1;
+
+    public ColumnarBatch(SeaTunnelRowType rowType, int capacity) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        this.columns = new ColumnVector[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            columns[i] = ColumnVector.create(fieldTypes[i], capacity);
+        }
+        this.rowKinds = new byte[capacity];
+        this.capacity = capacity;
+    }
+
+    public ColumnVector getColumn(int pos) {
+        return columns[pos];
+    }
+
+    public int getArity() {
+        return columns.length;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Sets the number of rows after the columns are filled by the source.
+     */
+    public void setRowCount(int rowCount) {
+        if (rowCount < 0 || rowCount > capacity) {
+            throw new IllegalArgumentException(String.format("The row count %d is out of the capacity %d", rowCount, capacity));
+        }
+        this.rowCount = rowCount;
+    }
+
+    public boolean isFull() {
+        return rowCount == capacity;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
+    public RowKind getRowKind(int index) {
+        return RowKind.fromByteValue(rowKinds[index]);
+    }
+
+    public void setRowKind(int index, RowKind kind) {
+        rowKinds[index] = kind.toByteValue();
+    }
+
+    /**
+     * Appends the fields of the row as the last row of the batch.
+     */
+    public void appendRow(SeaTunnelRow row) {
+        if (isFull()) {
+            throw new IllegalStateException("The batch is full");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].setObject(rowCount, row.getField(i));
+        }
+        rowKinds[rowCount] = row.getRowKind().toByteValue();
+        rowCount++;
+    }
+
+    /**
+     * Materializes the row at the index.
+     */
+    public SeaTunnelRow getRow(int index) {
+        Object[] fields = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fields[i] = columns[i].getObject(index);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(getRowKind(index));
+        row.setTableId(tableId);
+        return row;
+    }
+
+    public void forEachRow(Consumer<SeaTunnelRow> consumer) {
+        for (int i = 0; i < rowCount; i++) {
+            consumer.accept(getRow(i));
+        }
+    }
+
+    /**
+     * Clears the batch to be filled again, only allowed when the previous content is not referenced any more. The row
+     * kinds are reset to {@link RowKind#INSERT} and the table id is unset, like a new batch.
+     */
+    public void reset() {
+        for (ColumnVector column : columns) {
+            column.reset();
+        }
+        Arrays.fill(rowKinds, RowKind.INSERT.toByteValue());
+        rowCount = 0;
+        tableId = -1;
+    }
+}
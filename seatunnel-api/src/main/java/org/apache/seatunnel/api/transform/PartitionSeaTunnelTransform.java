@@ -21,8 +21,29 @@ import org.apache.seatunnel.api.table.type.Record;
 
 public interface PartitionSeaTunnelTransform extends SeaTunnelTransform<Record<?>> {
 
+    /**
+     * The number of upstream partitions, each upstream subtask writes one partition.
+     */
     int getPartitionCount();
 
+    /**
+     * The number of downstream subtasks the records will be redistributed to.
+     */
     int getTargetCount();
 
+    /**
+     * How to choose the target subtask of a record, default is {@link PartitionType#ROUND_ROBIN}.
+     */
+    default PartitionType getPartitionType() {
+        return PartitionType.ROUND_ROBIN;
+    }
+
+    /**
+     * The key of record used by {@link PartitionType#HASH} and {@link PartitionType#KEY_GROUP}, records with the
+     * same key will be sent to the same target subtask.
+     */
+    default Object getPartitionKey(Record<?> record) {
+        return record.getData();
+    }
+
 }
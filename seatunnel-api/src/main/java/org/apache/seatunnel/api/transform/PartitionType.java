@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+public enum PartitionType {
+    /**
+     * Send records to the target subtasks one by one, used to rebalance skewed upstream.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Send records to the target subtask by the hash of the partition key.
+     */
+    HASH,
+
+    /**
+     * Hash the partition key to a fixed number of key groups, and assign a continuous range of key groups to each
+     * target subtask, so a key always belongs to the same key group no matter how many target subtasks there are.
+     */
+    KEY_GROUP
+}
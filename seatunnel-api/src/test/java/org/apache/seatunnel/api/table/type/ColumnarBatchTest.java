@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("MagicNumber")
+public class ColumnarBatchTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "score", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE, BasicType.DOUBLE_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testFillColumnsAndViewRows() {
+        ColumnarBatch batch = new ColumnarBatch(ROW_TYPE, 100);
+        Assertions.assertTrue(batch.getColumn(0) instanceof ColumnVector.LongVector);
+        Assertions.assertTrue(batch.getColumn(1) instanceof ColumnVector.DoubleVector);
+        Assertions.assertTrue(batch.getColumn(2) instanceof ColumnVector.ObjectVector);
+        ColumnVector.LongVector ids = (ColumnVector.LongVector) batch.getColumn(0);
+        ColumnVector.DoubleVector scores = (ColumnVector.DoubleVector) batch.getColumn(1);
+        for (int i = 0; i < 100; i++) {
+            ids.setLong(i, i);
+            if (i % 2 == 0) {
+                scores.setDouble(i, i * 0.5);
+            } else {
+                scores.setNull(i);
+            }
+            batch.getColumn(2).setObject(i, "name-" + i);
+        }
+        batch.setRowKind(99, RowKind.DELETE);
+        batch.setRowCount(100);
+        batch.setTableId(3);
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        batch.forEachRow(rows::add);
+        Assertions.assertEquals(100, rows.size());
+        Assertions.assertArrayEquals(new Object[]{64L, 32.0, "name-64"}, rows.get(64).getFields());
+        Assertions.assertArrayEquals(new Object[]{65L, null, "name-65"}, rows.get(65).getFields());
+        Assertions.assertEquals(RowKind.INSERT, rows.get(0).getRowKind());
+        Assertions.assertEquals(RowKind.DELETE, rows.get(99).getRowKind());
+        Assertions.assertEquals(3, rows.get(99).getTableId());
+    }
+
+    @Test
+    public void testAppendAndReset() {
+        ColumnarBatch batch = new ColumnarBatch(ROW_TYPE, 2);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{1L, null, "a"});
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        batch.appendRow(row);
+        batch.appendRow(new SeaTunnelRow(new Object[]{2L, 2.0, null}));
+        Assertions.assertTrue(batch.isFull());
+        Assertions.assertThrows(IllegalStateException.class, () -> batch.appendRow(row));
+        Assertions.assertEquals(row, batch.getRow(0));
+        Assertions.assertArrayEquals(new Object[]{2L, 2.0, null}, batch.getRow(1).getFields());
+
+        batch.setTableId(3);
+        batch.reset();
+        Assertions.assertEquals(0, batch.getRowCount());
+        Assertions.assertEquals(-1, batch.getTableId());
+        Assertions.assertEquals(RowKind.INSERT, batch.getRowKind(0));
+        batch.getColumn(1).setObject(0, 3.0);
+        Assertions.assertFalse(batch.getColumn(1).isNullAt(0));
+        Assertions.assertNull(batch.getColumn(2).getObject(0));
+    }
+}
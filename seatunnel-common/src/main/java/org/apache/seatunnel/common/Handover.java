@@ -17,58 +17,183 @@
 
 package org.apache.seatunnel.common;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
 
+/**
+ * Hands the elements over from the producer threads to the consumer thread.
+ * <p>
+ * The handover is bounded by the number of elements and optionally by their total size in bytes, a producer blocks
+ * in {@link #produce(Object)} while the handover is full, so a slow consumer throttles the producers instead of
+ * letting the buffered elements grow without limit. An element is always accepted when the handover is empty, even
+ * if it is larger than the byte capacity.
+ */
 public final class Handover<T> implements Closeable {
-    private final Object lock = new Object();
-    private final LinkedBlockingQueue<T> blockingQueue =
-        new LinkedBlockingQueue<>();
-    private Throwable error;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<T> queue = new ArrayDeque<>();
+    private final ArrayDeque<Long> sizes;
+    private final int capacity;
+    private final long byteCapacity;
+    private final ToLongFunction<T> sizeEstimator;
+    private volatile Throwable error;
+    private volatile int size;
+    private volatile long bytes;
+
+    /**
+     * Creates an unbounded handover.
+     */
+    public Handover() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public Handover(int capacity) {
+        this(capacity, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @param capacity      the maximum number of elements in the handover
+     * @param byteCapacity  the maximum total size of the elements in the handover
+     * @param sizeEstimator estimates the size of an element in bytes, only required when the byte capacity is bounded
+     */
+    public Handover(int capacity, long byteCapacity, ToLongFunction<T> sizeEstimator) {
+        checkArgument(capacity > 0, "The capacity of handover must be > 0");
+        checkArgument(byteCapacity > 0, "The byte capacity of handover must be > 0");
+        checkArgument(byteCapacity == Long.MAX_VALUE || sizeEstimator != null,
+            "The size estimator is required when the byte capacity is bounded");
+        this.capacity = capacity;
+        this.byteCapacity = byteCapacity;
+        this.sizeEstimator = byteCapacity == Long.MAX_VALUE ? null : sizeEstimator;
+        this.sizes = this.sizeEstimator == null ? null : new ArrayDeque<>();
+    }
 
     public boolean isEmpty() {
-        return blockingQueue.isEmpty();
+        return size == 0;
+    }
+
+    /**
+     * The number of elements in the handover.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The estimated total size of the elements in the handover, always 0 when the byte capacity is not bounded.
+     */
+    public long sizeInBytes() {
+        return bytes;
+    }
+
+    /**
+     * The fill level between 0 and 1 of the most limiting capacity, a value close to 1 means the consumer can't keep
+     * up with the producers.
+     */
+    public double fillRatio() {
+        double ratio = (double) size / capacity;
+        if (sizes != null) {
+            ratio = Math.max(ratio, (double) bytes / byteCapacity);
+        }
+        return Math.min(ratio, 1.0);
     }
 
     public Optional<T> pollNext() throws Exception {
-        if (error != null) {
-            rethrowException(error, error.getMessage());
-        } else if (!isEmpty()) {
-            return Optional.ofNullable(blockingQueue.poll());
+        List<T> elements = drain(1);
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elements.get(0));
+    }
+
+    /**
+     * Takes at most max elements without blocking, rethrows the error reported by a producer.
+     */
+    public List<T> drain(int max) throws Exception {
+        Throwable t = error;
+        if (t != null) {
+            rethrowException(t, t.getMessage());
+        }
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.lock();
+        try {
+            int count = Math.min(max, queue.size());
+            List<T> elements = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                elements.add(queue.poll());
+                if (sizes != null) {
+                    bytes -= sizes.poll();
+                }
+            }
+            size = queue.size();
+            notFull.signalAll();
+            return elements;
+        } finally {
+            lock.unlock();
         }
-        return Optional.empty();
     }
 
+    /**
+     * Adds the element, blocks while the handover is full.
+     *
+     * @throws ClosedException if the handover is closed or an error is reported
+     */
     public void produce(final T element)
         throws InterruptedException, ClosedException {
-        if (error != null) {
-            throw new ClosedException();
+        long elementSize = sizeEstimator == null ? 0 : sizeEstimator.applyAsLong(element);
+        lock.lockInterruptibly();
+        try {
+            while (error == null && !queue.isEmpty()
+                && (queue.size() >= capacity || bytes + elementSize > byteCapacity)) {
+                notFull.await();
+            }
+            if (error != null) {
+                throw new ClosedException();
+            }
+            queue.add(element);
+            if (sizes != null) {
+                sizes.add(elementSize);
+                bytes += elementSize;
+            }
+            size = queue.size();
+        } finally {
+            lock.unlock();
         }
-        blockingQueue.put(element);
     }
 
     public void reportError(Throwable t) {
         checkNotNull(t);
 
-        synchronized (lock) {
+        lock.lock();
+        try {
             // do not override the initial exception
             if (error == null) {
                 error = t;
             }
-            lock.notifyAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void close() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (error == null) {
                 error = new ClosedException();
             }
-            lock.notifyAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
 
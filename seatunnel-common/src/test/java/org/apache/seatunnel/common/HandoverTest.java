@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@SuppressWarnings("MagicNumber")
+public class HandoverTest {
+
+    @Test
+    public void testProducerBlocksWhenFull() throws Exception {
+        Handover<Integer> handover = new Handover<>(2);
+        handover.produce(1);
+        handover.produce(2);
+        Assertions.assertEquals(1.0, handover.fillRatio());
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                handover.produce(3);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertThrows(TimeoutException.class, () -> blocked.get(100, TimeUnit.MILLISECONDS));
+
+        Assertions.assertEquals(Arrays.asList(1), handover.drain(1));
+        blocked.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(Arrays.asList(2, 3), handover.drain(10));
+        Assertions.assertTrue(handover.drain(10).isEmpty());
+        Assertions.assertFalse(handover.pollNext().isPresent());
+    }
+
+    @Test
+    public void testByteCapacity() throws Exception {
+        Handover<byte[]> handover = new Handover<>(100, 10, bytes -> bytes.length);
+        // always accepted when empty
+        handover.produce(new byte[20]);
+        Assertions.assertEquals(20, handover.sizeInBytes());
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                handover.produce(new byte[5]);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertThrows(TimeoutException.class, () -> blocked.get(100, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(20, handover.pollNext().get().length);
+        blocked.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(5, handover.sizeInBytes());
+        Assertions.assertEquals(0.5, handover.fillRatio());
+    }
+
+    @Test
+    public void testCloseWakesUpProducer() throws Exception {
+        Handover<Integer> handover = new Handover<>(1);
+        handover.produce(1);
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                handover.produce(2);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        handover.close();
+        Exception e = Assertions.assertThrows(Exception.class, () -> blocked.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause().getCause() instanceof Handover.ClosedException);
+        Assertions.assertThrows(Handover.ClosedException.class, handover::pollNext);
+    }
+}
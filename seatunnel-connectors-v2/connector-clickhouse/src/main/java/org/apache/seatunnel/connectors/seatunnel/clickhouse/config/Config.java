@@ -61,11 +61,22 @@ public class Config {
      */
     public static final String SPLIT_MODE = "split_mode";
 
+    /**
+     * When split_mode is true, the number of rows above which a partition is read as ranges of the primary key
+     */
+    public static final String SPLIT_ROWS = "split_rows";
+
     /**
      * When split_mode is true, the sharding_key use for split
      */
     public static final String SHARDING_KEY = "sharding_key";
 
+    /**
+     * The format of the inserts, jdbc writes through the prepared statement of clickhouse jdbc and row_binary streams
+     * the batches in RowBinary format
+     */
+    public static final String WRITE_FORMAT = "write_format";
+
     /**
      * ClickhouseFile sink connector used clickhouse-local program's path
      */
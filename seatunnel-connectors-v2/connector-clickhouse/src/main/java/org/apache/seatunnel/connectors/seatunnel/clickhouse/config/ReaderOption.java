@@ -34,14 +34,16 @@ public class ReaderOption implements Serializable {
     private SeaTunnelRowType seaTunnelRowType;
     private Properties properties;
     private int bulkSize;
+    private WriteFormat writeFormat;
 
-    public ReaderOption(ShardMetadata shardMetadata,
-                        Properties properties, List<String> fields, Map<String, String> tableSchema, int bulkSize) {
+    public ReaderOption(ShardMetadata shardMetadata, Properties properties, List<String> fields,
+                        Map<String, String> tableSchema, int bulkSize, WriteFormat writeFormat) {
         this.shardMetadata = shardMetadata;
         this.properties = properties;
         this.fields = fields;
         this.tableSchema = tableSchema;
         this.bulkSize = bulkSize;
+        this.writeFormat = writeFormat;
     }
 
     public Properties getProperties() {
@@ -91,4 +93,12 @@ public class ReaderOption implements Serializable {
     public void setBulkSize(int bulkSize) {
         this.bulkSize = bulkSize;
     }
+
+    public WriteFormat getWriteFormat() {
+        return writeFormat;
+    }
+
+    public void setWriteFormat(WriteFormat writeFormat) {
+        this.writeFormat = writeFormat;
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Writes the batches of rows into the table of one shard.
+ */
+public interface ClickhouseBatchExecutor {
+
+    /**
+     * Write the rows in one insert.
+     *
+     * @param rows rows to write
+     */
+    void executeBatch(List<SeaTunnelRow> rows) throws IOException;
+
+    /**
+     * Write the rows which are already encoded in the format of the insert in one insert.
+     *
+     * @param encodedRows the encoded rows to write
+     */
+    default void executeEncodedBatch(InputStream encodedRows) throws IOException {
+        throw new UnsupportedOperationException("The batch executor only writes rows");
+    }
+
+    void close() throws IOException;
+}
@@ -17,36 +17,124 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
 
-import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.BatchFlusher;
 
-import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
-
-import java.sql.PreparedStatement;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * The batch of one shard. The task thread fills the buffer while the previous batch is written by the flusher thread
+ * of the shard, so the shards are written concurrently and a slow shard only blocks the task when its next batch is
+ * full too.
+ *
+ * <p>The rows of a {@link ColumnarBatch} are encoded by the task thread when they are added, because the source may
+ * reuse the batch, and written in order with the buffered rows.
+ */
 public class ClickhouseBatchStatement {
 
-    private final ClickHouseConnectionImpl clickHouseConnection;
-    private final PreparedStatement preparedStatement;
-    private final IntHolder intHolder;
+    private final String shardName;
+    private final ClickhouseBatchExecutor batchExecutor;
+    private final BatchFlusher<PendingInsert> flusher;
+
+    private List<SeaTunnelRow> buffer = new ArrayList<>();
+    private RowBinaryBuffer encodedBuffer = new RowBinaryBuffer();
+    private int encodedRowCount;
 
-    public ClickhouseBatchStatement(ClickHouseConnectionImpl clickHouseConnection,
-                                    PreparedStatement preparedStatement,
-                                    IntHolder intHolder) {
-        this.clickHouseConnection = clickHouseConnection;
-        this.preparedStatement = preparedStatement;
-        this.intHolder = intHolder;
+    public ClickhouseBatchStatement(String shardName, ClickhouseBatchExecutor batchExecutor) {
+        this.shardName = shardName;
+        this.batchExecutor = batchExecutor;
+        this.flusher = new BatchFlusher<>("clickhouse-flusher-" + shardName, 1, inserts -> {
+            for (PendingInsert insert : inserts) {
+                insert.execute();
+            }
+        });
     }
 
-    public ClickHouseConnectionImpl getClickHouseConnection() {
-        return clickHouseConnection;
+    public void addRow(SeaTunnelRow row, int bulkSize) throws IOException {
+        checkFlushException();
+        if (encodedRowCount > 0) {
+            submitEncodedRows();
+        }
+        // the upstream may reuse the row while it is buffered, the field values are immutable or not reused
+        buffer.add(new SeaTunnelRow(row.getFields().clone()));
+        if (buffer.size() >= bulkSize) {
+            submitBuffer();
+        }
     }
 
-    public PreparedStatement getPreparedStatement() {
-        return preparedStatement;
+    /**
+     * Encodes the rows of the batch to write them in one insert with the rows of the next batches.
+     *
+     * @param rows     the index in the batch of every row of this shard.
+     * @param rowCount the number of rows of this shard, the first ones of {@code rows}.
+     */
+    public void addBatchRows(ClickhouseRowBinaryEncoder encoder, ColumnarBatch batch, int[] rows, int rowCount,
+                             int bulkSize) throws IOException {
+        checkFlushException();
+        if (!buffer.isEmpty()) {
+            submitBuffer();
+        }
+        encoder.encode(encodedBuffer, batch, rows, rowCount);
+        encodedRowCount += rowCount;
+        if (encodedRowCount >= bulkSize) {
+            submitEncodedRows();
+        }
     }
 
-    public IntHolder getIntHolder() {
-        return intHolder;
+    /**
+     * Submits the buffered rows and waits until they are written.
+     */
+    public void flush() throws IOException {
+        checkFlushException();
+        if (!buffer.isEmpty()) {
+            submitBuffer();
+        }
+        if (encodedRowCount > 0) {
+            submitEncodedRows();
+        }
+        flusher.waitForBatches();
+        checkFlushException();
     }
 
+    private void submitBuffer() throws IOException {
+        List<SeaTunnelRow> rows = buffer;
+        flusher.submit(Collections.singletonList(() -> batchExecutor.executeBatch(rows)));
+        buffer = new ArrayList<>();
+    }
+
+    private void submitEncodedRows() throws IOException {
+        RowBinaryBuffer encodedRows = encodedBuffer;
+        flusher.submit(Collections.singletonList(() -> batchExecutor.executeEncodedBatch(encodedRows.toInputStream())));
+        encodedBuffer = new RowBinaryBuffer();
+        encodedRowCount = 0;
+    }
+
+    private void checkFlushException() throws IOException {
+        if (flusher.getFlushException() != null) {
+            throw new IOException("Failed to write batch into shard " + shardName, flusher.getFlushException());
+        }
+    }
+
+    /**
+     * Writes the buffered rows and releases the flusher and the executor.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            flusher.close();
+            batchExecutor.close();
+        }
+    }
+
+    /**
+     * The rows or the encoded rows submitted to the flusher.
+     */
+    private interface PendingInsert {
+        void execute() throws IOException;
+    }
 }
@@ -34,12 +34,17 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @SuppressWarnings("magicnumber")
 public class ClickhouseProxy {
 
+    private static final Pattern RANGE_KEY_TYPE = Pattern.compile("U?Int\\d+|Float\\d+|Decimal.*|Date(32)?|DateTime.*");
+
     private final ClickHouseRequest<?> clickhouseRequest;
     private final ClickHouseClient client;
 
@@ -137,6 +142,98 @@ public class ClickhouseProxy {
         }
     }
 
+    /**
+     * Get the number of rows of the partitions which have active parts in the given table of the connected node.
+     *
+     * @param connection clickhouse connection.
+     * @param database   database of the table.
+     * @param table      table name of the table.
+     * @return row counts by partition id, sorted by partition id.
+     */
+    public Map<String, Long> getTablePartitionRows(ClickHouseRequest<?> connection, String database, String table) {
+        String sql = String.format("select partition_id, sum(rows) from system.parts where database = '%s' and table = '%s' and active group by partition_id order by partition_id", database, table);
+        Map<String, Long> partitionRows = new LinkedHashMap<>();
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            response.records().forEach(r -> partitionRows.put(r.getValue(0).asString(), r.getValue(1).asLong()));
+            return partitionRows;
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get partitions of table from clickhouse", e);
+        }
+    }
+
+    /**
+     * Get the first column of the primary key of the given table if the rows can be cut into ranges of it, which are
+     * the columns of a number, date or time type that is not nullable.
+     *
+     * @param connection clickhouse connection.
+     * @param database   database of the table.
+     * @param table      table name of the table.
+     * @return the column, null if the primary key doesn't start with such a column.
+     */
+    public String getRangeKeyColumn(ClickHouseRequest<?> connection, String database, String table) {
+        String sql = String.format("select primary_key from system.tables where database = '%s' and name = '%s'", database, table);
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            List<ClickHouseRecord> records = response.stream().collect(Collectors.toList());
+            if (records.isEmpty() || records.get(0).getValue(0).asString().isEmpty()) {
+                return null;
+            }
+            String key = records.get(0).getValue(0).asString().split(",")[0].trim().replace("`", "");
+            String typeSql = String.format("select type from system.columns where database = '%s' and table = '%s' and name = '%s'", database, table, key);
+            try (ClickHouseResponse typeResponse = connection.query(typeSql).executeAndWait()) {
+                List<ClickHouseRecord> types = typeResponse.stream().collect(Collectors.toList());
+                // the key is an expression if it is not a column
+                if (types.isEmpty() || !RANGE_KEY_TYPE.matcher(types.get(0).getValue(0).asString()).matches()) {
+                    return null;
+                }
+                return key;
+            }
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get primary key of table from clickhouse", e);
+        }
+    }
+
+    /**
+     * Get the values of the key which cut the rows of a partition into the given number of ranges of about the same
+     * number of rows. The values are approximate quantiles, which are only returned once if they are duplicated.
+     *
+     * @param connection  clickhouse connection.
+     * @param database    database of the table.
+     * @param table       table name of the table.
+     * @param partitionId id of the partition.
+     * @param key         the column of the ranges, see {@link #getRangeKeyColumn}.
+     * @param rangeCount  the number of ranges.
+     * @return sorted values as sql literals.
+     */
+    public List<String> getPartitionKeyQuantiles(ClickHouseRequest<?> connection, String database, String table,
+                                                 String partitionId, String key, int rangeCount) {
+        String levels = IntStream.range(1, rangeCount)
+                .mapToObj(i -> String.valueOf((double) i / rangeCount))
+                .collect(Collectors.joining(", "));
+        String sql = String.format("select toString(boundary), toTypeName(boundary) from (select arrayJoin(arrayDistinct(quantiles(%s)(%s))) as boundary from %s.%s where _partition_id = '%s') order by boundary",
+                levels, key, database, table, partitionId);
+        List<String> boundaries = new ArrayList<>();
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            response.records().forEach(r -> boundaries.add(String.format("CAST('%s' AS %s)",
+                    r.getValue(0).asString().replace("'", "\\'"), r.getValue(1).asString())));
+            return boundaries;
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get quantiles of primary key from clickhouse", e);
+        }
+    }
+
+    /**
+     * Get the time zone of the connected server, which is the time zone of the DateTime columns without one.
+     *
+     * @return server time zone.
+     */
+    public TimeZone getServerTimeZone() {
+        try (ClickHouseResponse response = clickhouseRequest.query("select timezone()").executeAndWait()) {
+            return TimeZone.getTimeZone(response.firstRecord().getValue(0).asString());
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get time zone from clickhouse", e);
+        }
+    }
+
     /**
      * Get ClickHouse table info.
      *
@@ -0,0 +1,506 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import com.clickhouse.client.ClickHouseColumn;
+import com.clickhouse.client.data.BinaryStreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Encodes rows in the RowBinary format of ClickHouse. The encoders of the columns are resolved once from the table
+ * schema, so encoding a row only walks the precomputed arrays.
+ *
+ * <p>RowBinary has no null marker for columns which are not Nullable, a null value is written as the default value
+ * of the type, which is all zero bytes of the encoded width.
+ *
+ * <p>The values of the primitive columns of a {@link ColumnarBatch} are written without boxing them when the
+ * ClickHouse type is an integer or floating point type, the other values are encoded like the fields of a row.
+ */
+@SuppressWarnings("magicnumber")
+public class ClickhouseRowBinaryEncoder {
+
+    private final int[] fieldIndexes;
+    private final FieldEncoder[] fieldEncoders;
+    private final LongEncoder[] longEncoders;
+    private final DoubleEncoder[] doubleEncoders;
+    private final boolean[] nullableColumns;
+
+    /**
+     * @param fieldIndexes   the index in the row of every column to write.
+     * @param fieldTypes     the ClickHouse type of every column to write.
+     * @param serverTimeZone the time zone of the DateTime columns without an explicit time zone.
+     */
+    public ClickhouseRowBinaryEncoder(int[] fieldIndexes, List<String> fieldTypes, TimeZone serverTimeZone) {
+        this.fieldIndexes = fieldIndexes;
+        this.fieldEncoders = new FieldEncoder[fieldTypes.size()];
+        this.longEncoders = new LongEncoder[fieldEncoders.length];
+        this.doubleEncoders = new DoubleEncoder[fieldEncoders.length];
+        this.nullableColumns = new boolean[fieldEncoders.length];
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            ClickHouseColumn column = ClickHouseColumn.of("column" + i, fieldTypes.get(i));
+            fieldEncoders[i] = createEncoder(column, serverTimeZone);
+            longEncoders[i] = createLongEncoder(column);
+            doubleEncoders[i] = createDoubleEncoder(column);
+            nullableColumns[i] = column.isNullable();
+        }
+    }
+
+    public void encode(OutputStream output, SeaTunnelRow row) throws IOException {
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            fieldEncoders[i].encode(output, row.getField(fieldIndexes[i]));
+        }
+    }
+
+    /**
+     * Encodes the rows of the batch in the order of {@code rows}.
+     *
+     * @param rows     the index in the batch of every row to write.
+     * @param rowCount the number of rows to write, the first ones of {@code rows}.
+     */
+    public void encode(OutputStream output, ColumnarBatch batch, int[] rows, int rowCount) throws IOException {
+        ColumnWriter[] columnWriters = new ColumnWriter[fieldEncoders.length];
+        for (int i = 0; i < columnWriters.length; i++) {
+            columnWriters[i] = bindColumn(i, batch.getColumn(fieldIndexes[i]));
+        }
+        for (int i = 0; i < rowCount; i++) {
+            int row = rows[i];
+            for (ColumnWriter columnWriter : columnWriters) {
+                columnWriter.write(output, row);
+            }
+        }
+    }
+
+    /**
+     * Resolves how the values of the column of the batch are written, once per batch instead of per value.
+     */
+    private ColumnWriter bindColumn(int index, ColumnVector column) {
+        FieldEncoder fieldEncoder = fieldEncoders[index];
+        ColumnWriter primitiveWriter = bindPrimitiveColumn(index, column);
+        if (primitiveWriter == null) {
+            return (output, row) -> fieldEncoder.encode(output, column.getObject(row));
+        }
+        boolean nullable = nullableColumns[index];
+        return (output, row) -> {
+            if (column.isNullAt(row)) {
+                fieldEncoder.encode(output, null);
+                return;
+            }
+            if (nullable) {
+                BinaryStreamUtils.writeNonNull(output);
+            }
+            primitiveWriter.write(output, row);
+        };
+    }
+
+    /**
+     * The booleans are written as 1 and 0 like {@link #toNumber(Object)}, the integers aren't written into the
+     * floating point columns, which would round them twice.
+     *
+     * @return the writer of the not null values, or null when the values are boxed.
+     */
+    private ColumnWriter bindPrimitiveColumn(int index, ColumnVector column) {
+        LongEncoder longEncoder = longEncoders[index];
+        if (longEncoder != null) {
+            if (column instanceof ColumnVector.LongVector) {
+                ColumnVector.LongVector vector = (ColumnVector.LongVector) column;
+                return (output, row) -> longEncoder.encode(output, vector.getLong(row));
+            }
+            if (column instanceof ColumnVector.IntVector) {
+                ColumnVector.IntVector vector = (ColumnVector.IntVector) column;
+                return (output, row) -> longEncoder.encode(output, vector.getInt(row));
+            }
+            if (column instanceof ColumnVector.ShortVector) {
+                ColumnVector.ShortVector vector = (ColumnVector.ShortVector) column;
+                return (output, row) -> longEncoder.encode(output, vector.getShort(row));
+            }
+            if (column instanceof ColumnVector.ByteVector) {
+                ColumnVector.ByteVector vector = (ColumnVector.ByteVector) column;
+                return (output, row) -> longEncoder.encode(output, vector.getByte(row));
+            }
+            if (column instanceof ColumnVector.BooleanVector) {
+                ColumnVector.BooleanVector vector = (ColumnVector.BooleanVector) column;
+                return (output, row) -> longEncoder.encode(output, vector.getBoolean(row) ? 1 : 0);
+            }
+        }
+        DoubleEncoder doubleEncoder = doubleEncoders[index];
+        if (doubleEncoder != null) {
+            if (column instanceof ColumnVector.DoubleVector) {
+                ColumnVector.DoubleVector vector = (ColumnVector.DoubleVector) column;
+                return (output, row) -> doubleEncoder.encode(output, vector.getDouble(row));
+            }
+            if (column instanceof ColumnVector.FloatVector) {
+                ColumnVector.FloatVector vector = (ColumnVector.FloatVector) column;
+                return (output, row) -> doubleEncoder.encode(output, vector.getFloat(row));
+            }
+        }
+        return null;
+    }
+
+    static FieldEncoder createEncoder(ClickHouseColumn column, TimeZone serverTimeZone) {
+        FieldEncoder encoder = createNotNullEncoder(column, serverTimeZone);
+        if (column.isNullable()) {
+            return (output, value) -> {
+                if (value == null) {
+                    BinaryStreamUtils.writeNull(output);
+                } else {
+                    BinaryStreamUtils.writeNonNull(output);
+                    encoder.encode(output, value);
+                }
+            };
+        }
+        byte[] defaultValue = new byte[defaultWidth(column)];
+        return (output, value) -> {
+            if (value == null) {
+                output.write(defaultValue);
+            } else {
+                encoder.encode(output, value);
+            }
+        };
+    }
+
+    private static FieldEncoder createNotNullEncoder(ClickHouseColumn column, TimeZone serverTimeZone) {
+        TimeZone timeZone = column.getTimeZoneOrDefault(serverTimeZone);
+        switch (column.getDataType()) {
+            case Bool:
+                return (output, value) -> BinaryStreamUtils.writeBoolean(output, toBoolean(value));
+            case Int8:
+                return (output, value) -> BinaryStreamUtils.writeInt8(output, toNumber(value).byteValue());
+            case UInt8:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt8(output, toNumber(value).intValue());
+            case Int16:
+                return (output, value) -> BinaryStreamUtils.writeInt16(output, toNumber(value).shortValue());
+            case UInt16:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt16(output, toNumber(value).intValue());
+            case Int32:
+                return (output, value) -> BinaryStreamUtils.writeInt32(output, toNumber(value).intValue());
+            case UInt32:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt32(output, toNumber(value).longValue());
+            case Int64:
+                return (output, value) -> BinaryStreamUtils.writeInt64(output, toNumber(value).longValue());
+            case UInt64:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt64(output, toBigInteger(value));
+            case Int128:
+                return (output, value) -> BinaryStreamUtils.writeInt128(output, toBigInteger(value));
+            case UInt128:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt128(output, toBigInteger(value));
+            case Int256:
+                return (output, value) -> BinaryStreamUtils.writeInt256(output, toBigInteger(value));
+            case UInt256:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt256(output, toBigInteger(value));
+            case Float32:
+                return (output, value) -> BinaryStreamUtils.writeFloat32(output, toNumber(value).floatValue());
+            case Float64:
+                return (output, value) -> BinaryStreamUtils.writeFloat64(output, toNumber(value).doubleValue());
+            case Decimal:
+            case Decimal32:
+            case Decimal64:
+            case Decimal128:
+            case Decimal256:
+                int precision = column.getPrecision();
+                int scale = column.getScale();
+                return (output, value) -> BinaryStreamUtils.writeDecimal(output,
+                        toBigDecimal(value).setScale(scale, RoundingMode.HALF_UP), precision, scale);
+            case String:
+                return (output, value) -> {
+                    if (value instanceof byte[]) {
+                        BinaryStreamUtils.writeString(output, (byte[]) value);
+                    } else {
+                        BinaryStreamUtils.writeString(output, value.toString());
+                    }
+                };
+            case FixedString:
+                int length = column.getPrecision();
+                return (output, value) -> BinaryStreamUtils.writeFixedString(output, value.toString(), length);
+            case UUID:
+                return (output, value) -> BinaryStreamUtils.writeUuid(output,
+                        value instanceof UUID ? (UUID) value : UUID.fromString(value.toString()));
+            case Date:
+                return (output, value) -> BinaryStreamUtils.writeDate(output, toLocalDate(value));
+            case Date32:
+                return (output, value) -> BinaryStreamUtils.writeDate32(output, toLocalDate(value));
+            case DateTime:
+            case DateTime32:
+                return (output, value) -> BinaryStreamUtils.writeDateTime32(output, toLocalDateTime(value), timeZone);
+            case DateTime64:
+                int dateTimeScale = column.getScale();
+                return (output, value) -> BinaryStreamUtils.writeDateTime64(output, toLocalDateTime(value),
+                        dateTimeScale, timeZone);
+            case Enum8:
+                return (output, value) -> BinaryStreamUtils.writeEnum8(output, (byte) toEnumValue(column, value));
+            case Enum16:
+                return (output, value) -> BinaryStreamUtils.writeEnum16(output, toEnumValue(column, value));
+            case Array:
+                FieldEncoder elementEncoder = createEncoder(column.getNestedColumns().get(0), serverTimeZone);
+                return (output, value) -> {
+                    Object[] elements = toArray(value);
+                    BinaryStreamUtils.writeVarInt(output, elements.length);
+                    for (Object element : elements) {
+                        elementEncoder.encode(output, element);
+                    }
+                };
+            case Map:
+                FieldEncoder keyEncoder = createEncoder(column.getKeyInfo(), serverTimeZone);
+                FieldEncoder valueEncoder = createEncoder(column.getValueInfo(), serverTimeZone);
+                return (output, value) -> {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    BinaryStreamUtils.writeVarInt(output, map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        keyEncoder.encode(output, entry.getKey());
+                        valueEncoder.encode(output, entry.getValue());
+                    }
+                };
+            default:
+                throw new UnsupportedOperationException("Unsupported type of RowBinary format: "
+                        + column.getOriginalTypeName());
+        }
+    }
+
+    /**
+     * @return the encoder of the integer values, or null when the type isn't encoded from a long.
+     */
+    private static LongEncoder createLongEncoder(ClickHouseColumn column) {
+        switch (column.getDataType()) {
+            case Bool:
+                return (output, value) -> BinaryStreamUtils.writeBoolean(output, value != 0);
+            case Int8:
+                return (output, value) -> BinaryStreamUtils.writeInt8(output, (byte) value);
+            case UInt8:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt8(output, (int) value);
+            case Int16:
+                return (output, value) -> BinaryStreamUtils.writeInt16(output, (short) value);
+            case UInt16:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt16(output, (int) value);
+            case Int32:
+                return (output, value) -> BinaryStreamUtils.writeInt32(output, (int) value);
+            case UInt32:
+                return (output, value) -> BinaryStreamUtils.writeUnsignedInt32(output, value);
+            case Int64:
+                return (output, value) -> BinaryStreamUtils.writeInt64(output, value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the encoder of the floating point values, or null when the type isn't encoded from a double.
+     */
+    private static DoubleEncoder createDoubleEncoder(ClickHouseColumn column) {
+        switch (column.getDataType()) {
+            case Float32:
+                return (output, value) -> BinaryStreamUtils.writeFloat32(output, (float) value);
+            case Float64:
+                return (output, value) -> BinaryStreamUtils.writeFloat64(output, value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The width of the encoded default value, the variable length types start with a varint length of one byte.
+     */
+    private static int defaultWidth(ClickHouseColumn column) {
+        switch (column.getDataType()) {
+            case Bool:
+            case Int8:
+            case UInt8:
+            case Enum8:
+            case String:
+            case Array:
+            case Map:
+                return 1;
+            case Int16:
+            case UInt16:
+            case Enum16:
+            case Date:
+                return 2;
+            case Int32:
+            case UInt32:
+            case Float32:
+            case Date32:
+            case DateTime:
+            case DateTime32:
+            case Decimal32:
+                return 4;
+            case Int64:
+            case UInt64:
+            case Float64:
+            case DateTime64:
+            case Decimal64:
+                return 8;
+            case Int128:
+            case UInt128:
+            case UUID:
+            case Decimal128:
+                return 16;
+            case Int256:
+            case UInt256:
+            case Decimal256:
+                return 32;
+            case Decimal:
+                if (column.getPrecision() <= 9) {
+                    return 4;
+                }
+                if (column.getPrecision() <= 18) {
+                    return 8;
+                }
+                return column.getPrecision() <= 38 ? 16 : 32;
+            case FixedString:
+                return column.getPrecision();
+            default:
+                throw new UnsupportedOperationException("Unsupported type of RowBinary format: "
+                        + column.getOriginalTypeName());
+        }
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        }
+        if (value instanceof Number) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString()).toBigInteger();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        return Timestamp.valueOf(value.toString()).toLocalDateTime();
+    }
+
+    private static int toEnumValue(ClickHouseColumn column, Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return column.getEnumConstants().value(value.toString());
+    }
+
+    private static Object[] toArray(Object value) throws IOException {
+        if (value instanceof Object[]) {
+            return (Object[]) value;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).toArray();
+        }
+        if (value instanceof Array) {
+            try {
+                return (Object[]) ((Array) value).getArray();
+            } catch (SQLException e) {
+                throw new IOException("Failed to read the elements of array", e);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported value of array type: " + value.getClass());
+    }
+
+    /**
+     * Writes a value of a column, the encoder of a column is created once for the table schema.
+     */
+    interface FieldEncoder {
+        void encode(OutputStream output, Object value) throws IOException;
+    }
+
+    interface LongEncoder {
+        void encode(OutputStream output, long value) throws IOException;
+    }
+
+    interface DoubleEncoder {
+        void encode(OutputStream output, double value) throws IOException;
+    }
+
+    /**
+     * Writes the value of a row of a column of the batch.
+     */
+    interface ColumnWriter {
+        void write(OutputStream output, int row) throws IOException;
+    }
+}
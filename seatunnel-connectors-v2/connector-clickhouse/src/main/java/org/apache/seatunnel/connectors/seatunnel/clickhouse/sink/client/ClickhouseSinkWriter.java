@@ -18,9 +18,13 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
 
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.WriteFormat;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.ArrayInjectFunction;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.BigDecimalInjectFunction;
@@ -35,7 +39,6 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.MapInjec
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.StringInjectFunction;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSinkState;
-import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
 
 import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
 import com.google.common.collect.Lists;
@@ -52,18 +55,29 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
-public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> {
+public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState>,
+        SupportColumnarBatchWrite {
 
     private final Context context;
     private final ReaderOption option;
     private final ShardRouter shardRouter;
     private final transient ClickhouseProxy proxy;
-    private final String prepareSql;
     private final Map<Shard, ClickhouseBatchStatement> statementMap;
-    private final Map<String, ClickhouseFieldInjectFunction> fieldInjectFunctionMap;
-    private static final ClickhouseFieldInjectFunction DEFAULT_INJECT_FUNCTION = new StringInjectFunction();
+    /**
+     * The index in the row of every field to write, resolved once instead of per row.
+     */
+    private final int[] fieldIndexes;
+    /**
+     * The index in the row of the shard key, -1 when the rows are not sharded by key.
+     */
+    private final int shardKeyIndex;
+    /**
+     * The encoder of the RowBinary format, shared by the shards. Null when the rows are written by the JDBC driver.
+     */
+    private final ClickhouseRowBinaryEncoder rowBinaryEncoder;
 
     private static final Pattern NULLABLE = Pattern.compile("Nullable\\((.*)\\)");
     private static final Pattern LOW_CARDINALITY = Pattern.compile("LowCardinality\\((.*)\\)");
@@ -73,35 +87,61 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
         this.context = context;
 
         this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
-        this.fieldInjectFunctionMap = initFieldInjectFunctionMap();
+        this.fieldIndexes = option.getFields().stream().mapToInt(option.getSeaTunnelRowType()::indexOf).toArray();
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex = StringUtils.isNotEmpty(shardKey) ? option.getSeaTunnelRowType().indexOf(shardKey) : -1;
         this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
-        this.prepareSql = initPrepareSQL();
+        this.rowBinaryEncoder = option.getWriteFormat() == WriteFormat.ROW_BINARY ?
+                new ClickhouseRowBinaryEncoder(fieldIndexes,
+                        option.getFields().stream().map(option.getTableSchema()::get).collect(Collectors.toList()),
+                        proxy.getServerTimeZone()) : null;
         this.statementMap = initStatementMap();
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
+        Object shardKey = shardKeyIndex >= 0 ? element.getField(shardKeyIndex) : null;
+        statementMap.get(shardRouter.getShard(shardKey)).addRow(element, option.getBulkSize());
+    }
 
-        Object shardKey = null;
-        if (StringUtils.isNotEmpty(this.option.getShardMetadata().getShardKey())) {
-            int i = this.option.getSeaTunnelRowType().indexOf(this.option.getShardMetadata().getShardKey());
-            shardKey = element.getField(i);
+    /**
+     * Encodes the rows of the batch from its columns in the RowBinary format, the JDBC driver writes the rows of the
+     * batch one by one.
+     */
+    @Override
+    public void writeBatch(ColumnarBatch batch) throws IOException {
+        int rowCount = batch.getRowCount();
+        if (rowBinaryEncoder == null) {
+            for (int row = 0; row < rowCount; row++) {
+                write(batch.getRow(row));
+            }
+            return;
+        }
+        Shard[] rowShards = new Shard[rowCount];
+        ColumnVector shardKeyColumn = shardKeyIndex >= 0 ? batch.getColumn(shardKeyIndex) : null;
+        for (int row = 0; row < rowCount; row++) {
+            rowShards[row] = shardRouter.getShard(shardKeyColumn != null ? shardKeyColumn.getObject(row) : null);
         }
-        ClickhouseBatchStatement statement = statementMap.get(shardRouter.getShard(shardKey));
-        PreparedStatement clickHouseStatement = statement.getPreparedStatement();
-        IntHolder sizeHolder = statement.getIntHolder();
-        // add into batch
-        addIntoBatch(element, clickHouseStatement);
-        sizeHolder.setValue(sizeHolder.getValue() + 1);
-        // flush batch
-        if (sizeHolder.getValue() >= option.getBulkSize()) {
-            flush(clickHouseStatement);
-            sizeHolder.setValue(0);
+        int[] shardRows = new int[rowCount];
+        for (Map.Entry<Shard, ClickhouseBatchStatement> entry : statementMap.entrySet()) {
+            int shardRowCount = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (entry.getKey().equals(rowShards[row])) {
+                    shardRows[shardRowCount++] = row;
+                }
+            }
+            if (shardRowCount > 0) {
+                entry.getValue().addBatchRows(rowBinaryEncoder, batch, shardRows, shardRowCount, option.getBulkSize());
+            }
         }
     }
 
     @Override
     public Optional<CKCommitInfo> prepareCommit() throws IOException {
+        // write the buffered rows of every shard before the checkpoint completes
+        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
+            batchStatement.flush();
+        }
         return Optional.empty();
     }
 
@@ -112,81 +152,58 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
 
     @Override
     public void close() throws IOException {
-        this.proxy.close();
-        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
-            try (ClickHouseConnectionImpl needClosedConnection = batchStatement.getClickHouseConnection();
-                 PreparedStatement needClosedStatement = batchStatement.getPreparedStatement()) {
-                IntHolder intHolder = batchStatement.getIntHolder();
-                if (intHolder.getValue() > 0) {
-                    flush(needClosedStatement);
-                    intHolder.setValue(0);
-                }
-            } catch (SQLException e) {
-                throw new RuntimeException("Failed to close prepared statement.", e);
-            }
-        }
-    }
-
-    private void addIntoBatch(SeaTunnelRow row, PreparedStatement clickHouseStatement) {
         try {
-            for (int i = 0; i < option.getFields().size(); i++) {
-                String fieldName = option.getFields().get(i);
-                Object fieldValue = row.getField(option.getSeaTunnelRowType().indexOf(fieldName));
-                if (fieldValue == null) {
-                    // field does not exist in row
-                    // todo: do we need to transform to default value of each type
-                    clickHouseStatement.setObject(i + 1, null);
-                    continue;
-                }
-                String fieldType = option.getTableSchema().get(fieldName);
-                fieldInjectFunctionMap
-                        .getOrDefault(fieldType, DEFAULT_INJECT_FUNCTION)
-                        .injectFields(clickHouseStatement, i + 1, fieldValue);
+            for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
+                batchStatement.close();
             }
-            clickHouseStatement.addBatch();
-        } catch (SQLException e) {
-            throw new RuntimeException("Add row data into batch error", e);
-        }
-    }
-
-    private void flush(PreparedStatement clickHouseStatement) {
-        try {
-            clickHouseStatement.executeBatch();
-        } catch (Exception e) {
-            throw new RuntimeException("Clickhouse execute batch statement error", e);
+        } finally {
+            this.proxy.close();
         }
     }
 
     private Map<Shard, ClickhouseBatchStatement> initStatementMap() {
         Map<Shard, ClickhouseBatchStatement> result = new HashMap<>(Common.COLLECTION_SIZE);
+        String insertSql = initInsertSQL();
+        ClickhouseFieldInjectFunction[] fieldInjectFunctions = initFieldInjectFunctions();
         shardRouter.getShards().forEach((weight, s) -> {
-            try {
-                ClickHouseConnectionImpl clickhouseConnection = new ClickHouseConnectionImpl(s.getJdbcUrl(),
-                        this.option.getProperties());
-                PreparedStatement preparedStatement = clickhouseConnection.prepareStatement(prepareSql);
-                IntHolder intHolder = new IntHolder();
-                ClickhouseBatchStatement batchStatement =
-                        new ClickhouseBatchStatement(clickhouseConnection, preparedStatement, intHolder);
-                result.put(s, batchStatement);
-            } catch (SQLException e) {
-                throw new RuntimeException("Clickhouse prepare statement error: " + e.getMessage(), e);
+            ClickhouseBatchExecutor batchExecutor;
+            if (rowBinaryEncoder != null) {
+                batchExecutor = new RowBinaryBatchExecutor(proxy.getClickhouseConnection(s),
+                        insertSql + " FORMAT RowBinary", rowBinaryEncoder);
+            } else {
+                batchExecutor = createJdbcBatchExecutor(s, insertSql, fieldInjectFunctions);
             }
+            result.put(s, new ClickhouseBatchStatement(String.valueOf(s.getShardNum()), batchExecutor));
         });
         return result;
     }
 
-    private String initPrepareSQL() {
-        String[] placeholder = new String[option.getFields().size()];
-        Arrays.fill(placeholder, "?");
+    private JdbcBatchExecutor createJdbcBatchExecutor(Shard shard, String insertSql,
+                                                      ClickhouseFieldInjectFunction[] fieldInjectFunctions) {
+        try {
+            ClickHouseConnectionImpl clickhouseConnection = new ClickHouseConnectionImpl(shard.getJdbcUrl(),
+                    this.option.getProperties());
+            String[] placeholder = new String[option.getFields().size()];
+            Arrays.fill(placeholder, "?");
+            PreparedStatement preparedStatement = clickhouseConnection.prepareStatement(
+                    String.format("%s VALUES (%s)", insertSql, String.join(",", placeholder)));
+            return new JdbcBatchExecutor(clickhouseConnection, preparedStatement, fieldIndexes, fieldInjectFunctions);
+        } catch (SQLException e) {
+            throw new RuntimeException("Clickhouse prepare statement error: " + e.getMessage(), e);
+        }
+    }
 
-        return String.format("INSERT INTO %s (%s) VALUES (%s)",
+    private String initInsertSQL() {
+        return String.format("INSERT INTO %s (%s)",
                 shardRouter.getShardTable(),
-                String.join(",", option.getFields()),
-                String.join(",", placeholder));
+                String.join(",", option.getFields()));
     }
 
-    private Map<String, ClickhouseFieldInjectFunction> initFieldInjectFunctionMap() {
-        Map<String, ClickhouseFieldInjectFunction> result = new HashMap<>(Common.COLLECTION_SIZE);
+    /**
+     * Resolve the inject function of every field to write, by the type of the field.
+     */
+    private ClickhouseFieldInjectFunction[] initFieldInjectFunctions() {
+        ClickhouseFieldInjectFunction[] result = new ClickhouseFieldInjectFunction[option.getFields().size()];
         List<ClickhouseFieldInjectFunction> clickhouseFieldInjectFunctions = Lists.newArrayList(
             new ArrayInjectFunction(),
             new MapInjectFunction(),
@@ -201,16 +218,16 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
         );
         ClickhouseFieldInjectFunction defaultFunction = new StringInjectFunction();
         // get field type
-        for (String field : this.option.getFields()) {
+        for (int i = 0; i < result.length; i++) {
             ClickhouseFieldInjectFunction function = defaultFunction;
-            String fieldType = this.option.getTableSchema().get(field);
+            String fieldType = this.option.getTableSchema().get(this.option.getFields().get(i));
             for (ClickhouseFieldInjectFunction clickhouseFieldInjectFunction : clickhouseFieldInjectFunctions) {
                 if (clickhouseFieldInjectFunction.isCurrentFieldType(unwrapCommonPrefix(fieldType))) {
                     function = clickhouseFieldInjectFunction;
                     break;
                 }
             }
-            result.put(fieldType, function);
+            result[i] = function;
         }
         return result;
     }
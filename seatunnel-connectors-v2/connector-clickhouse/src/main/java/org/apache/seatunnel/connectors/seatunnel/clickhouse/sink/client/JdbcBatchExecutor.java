@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.ClickhouseFieldInjectFunction;
+
+import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes the batches through a prepared statement of the ClickHouse JDBC driver.
+ */
+public class JdbcBatchExecutor implements ClickhouseBatchExecutor {
+
+    private final ClickHouseConnectionImpl clickHouseConnection;
+    private final PreparedStatement preparedStatement;
+    private final int[] fieldIndexes;
+    private final ClickhouseFieldInjectFunction[] fieldInjectFunctions;
+
+    public JdbcBatchExecutor(ClickHouseConnectionImpl clickHouseConnection,
+                             PreparedStatement preparedStatement,
+                             int[] fieldIndexes,
+                             ClickhouseFieldInjectFunction[] fieldInjectFunctions) {
+        this.clickHouseConnection = clickHouseConnection;
+        this.preparedStatement = preparedStatement;
+        this.fieldIndexes = fieldIndexes;
+        this.fieldInjectFunctions = fieldInjectFunctions;
+    }
+
+    @Override
+    public void executeBatch(List<SeaTunnelRow> rows) throws IOException {
+        try {
+            for (SeaTunnelRow row : rows) {
+                addIntoBatch(row);
+            }
+            preparedStatement.executeBatch();
+        } catch (SQLException e) {
+            throw new IOException("Clickhouse execute batch statement error", e);
+        }
+    }
+
+    private void addIntoBatch(SeaTunnelRow row) throws SQLException {
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            Object fieldValue = row.getField(fieldIndexes[i]);
+            if (fieldValue == null) {
+                // todo: do we need to transform to default value of each type
+                preparedStatement.setObject(i + 1, null);
+                continue;
+            }
+            fieldInjectFunctions[i].injectFields(preparedStatement, i + 1, fieldValue);
+        }
+        preparedStatement.addBatch();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (ClickHouseConnectionImpl needClosedConnection = clickHouseConnection;
+             PreparedStatement needClosedStatement = preparedStatement) {
+            // close the statement and the connection
+        } catch (SQLException e) {
+            throw new IOException("Failed to close prepared statement.", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseFormat;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Writes the batches as one RowBinary insert over the ClickHouse client, without the prepared statement of the JDBC
+ * driver. The rows are encoded into a buffer which is reused by the batches of the shard and sent without copying it.
+ */
+public class RowBinaryBatchExecutor implements ClickhouseBatchExecutor {
+
+    private final ClickHouseRequest<?> request;
+    private final String insertSql;
+    private final ClickhouseRowBinaryEncoder encoder;
+    private final RowBinaryBuffer buffer = new RowBinaryBuffer();
+
+    public RowBinaryBatchExecutor(ClickHouseRequest<?> request, String insertSql, ClickhouseRowBinaryEncoder encoder) {
+        this.request = request;
+        this.insertSql = insertSql;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void executeBatch(List<SeaTunnelRow> rows) throws IOException {
+        buffer.reset();
+        for (SeaTunnelRow row : rows) {
+            encoder.encode(buffer, row);
+        }
+        executeEncodedBatch(buffer.toInputStream());
+    }
+
+    @Override
+    public void executeEncodedBatch(InputStream encodedRows) throws IOException {
+        try (ClickHouseResponse response = request.write()
+                .format(ClickHouseFormat.RowBinary)
+                .query(insertSql)
+                .data(encodedRows)
+                .sendAndWait()) {
+            // the response of an insert has no data
+        } catch (ClickHouseException e) {
+            throw new IOException("Clickhouse execute RowBinary insert error", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the client of the shard is closed by the proxy
+    }
+}
@@ -18,9 +18,13 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.DATABASE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.FIELDS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.HOST;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.PASSWORD;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_MODE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_ROWS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SQL;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.TABLE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.USERNAME;
 
 import org.apache.seatunnel.api.common.PrepareFailException;
@@ -34,6 +38,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
@@ -49,13 +55,31 @@ import com.google.auto.service.AutoService;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @AutoService(SeaTunnelSource.class)
 public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, ClickhouseSourceSplit, ClickhouseSourceState> {
 
+    private static final long DEFAULT_SPLIT_ROWS = 1_000_000L;
+
+    /**
+     * The sql of split mode, which reads the distributed table with an optional condition.
+     */
+    private static final Pattern SPLIT_SQL = Pattern.compile(
+            "\\s*select\\s+(.+?)\\s+from\\s+(\\S+)(?:\\s+where\\s+(.+?))?\\s*;?\\s*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern UNSUPPORTED_SPLIT_CLAUSE = Pattern.compile(
+            "\\b(group\\s+by|order\\s+by|having|limit\\s+\\d+|union\\s+(all|distinct|select)|join)\\b",
+            Pattern.CASE_INSENSITIVE);
+
     private List<ClickHouseNode> servers;
     private SeaTunnelRowType rowTypeInfo;
     private String sql;
+    private ShardMetadata metadata;
+    private String selectFields;
+    private String condition;
+    private long splitRows;
 
     @Override
     public String getPluginName() {
@@ -64,19 +88,43 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
     @Override
     public void prepare(Config config) throws PrepareFailException {
-        CheckResult result = CheckConfigUtil.checkAllExists(config, HOST, DATABASE, SQL, USERNAME, PASSWORD);
+        CheckResult result = CheckConfigUtil.checkAllExists(config, HOST, DATABASE, USERNAME, PASSWORD);
+        if (!result.isSuccess()) {
+            throw new PrepareFailException(getPluginName(), PluginType.SOURCE, result.getMsg());
+        }
+        boolean splitMode = config.hasPath(SPLIT_MODE) && config.getBoolean(SPLIT_MODE);
+        result = CheckConfigUtil.checkAllExists(config, splitMode ? TABLE : SQL);
         if (!result.isSuccess()) {
             throw new PrepareFailException(getPluginName(), PluginType.SOURCE, result.getMsg());
         }
         servers = ClickhouseUtil.createNodes(config.getString(HOST), config.getString(DATABASE),
                 config.getString(USERNAME), config.getString(PASSWORD));
 
-        sql = config.getString(SQL);
+        String table = splitMode ? config.getString(TABLE) : null;
+        if (splitMode) {
+            if (config.hasPath(SQL)) {
+                parseSplitSql(config.getString(SQL), config.getString(DATABASE), table);
+            } else {
+                selectFields = config.hasPath(FIELDS) ? String.join(", ", config.getStringList(FIELDS)) : "*";
+            }
+            sql = String.format("SELECT %s FROM %s.%s", selectFields, config.getString(DATABASE), table);
+            if (condition != null) {
+                sql += " WHERE " + condition;
+            }
+            splitRows = config.hasPath(SPLIT_ROWS) ? config.getLong(SPLIT_ROWS) : DEFAULT_SPLIT_ROWS;
+            if (splitRows <= 0) {
+                throw new PrepareFailException(getPluginName(), PluginType.SOURCE, "split_rows must be positive");
+            }
+        } else {
+            sql = config.getString(SQL);
+        }
+        metadata = new ShardMetadata(null, null, config.getString(DATABASE), table, splitMode,
+                new Shard(1, 1, servers.get(0)), config.getString(USERNAME), config.getString(PASSWORD));
         ClickHouseNode currentServer = servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
         try (ClickHouseClient client = ClickHouseClient.newInstance(currentServer.getProtocol());
              ClickHouseResponse response =
                      client.connect(currentServer).format(ClickHouseFormat.RowBinaryWithNamesAndTypes)
-                             .query(modifySQLToLimit1(config.getString(SQL))).executeAndWait()) {
+                             .query(modifySQLToLimit1(sql)).executeAndWait()) {
 
             int columnSize = response.getColumns().size();
             String[] fieldNames = new String[columnSize];
@@ -95,6 +143,22 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
     }
 
+    /**
+     * Takes the select list and the condition of the sql of split mode, which are applied to the local tables.
+     */
+    private void parseSplitSql(String splitSql, String database, String table) {
+        Matcher matcher = SPLIT_SQL.matcher(splitSql);
+        boolean readsTable = matcher.matches() && (matcher.group(2).replace("`", "").equals(table)
+                || matcher.group(2).replace("`", "").equals(database + "." + table));
+        if (!readsTable || UNSUPPORTED_SPLIT_CLAUSE.matcher(splitSql).find()) {
+            throw new PrepareFailException(getPluginName(), PluginType.SOURCE,
+                    "sql in split mode must be like SELECT fields FROM table WHERE condition, reading the table without "
+                            + "joins, grouping, ordering or limit: " + splitSql);
+        }
+        selectFields = matcher.group(1).trim();
+        condition = matcher.group(3) == null ? null : matcher.group(3).trim();
+    }
+
     private String modifySQLToLimit1(String sql) {
         return String.format("SELECT * FROM (%s) s LIMIT 1", sql);
     }
@@ -111,17 +175,18 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
     @Override
     public SourceReader<SeaTunnelRow, ClickhouseSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
-        return new ClickhouseSourceReader(servers, readerContext, this.rowTypeInfo, sql);
+        return new ClickhouseSourceReader(servers, readerContext, this.rowTypeInfo);
     }
 
     @Override
     public SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> createEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext) throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        return new ClickhouseSourceSplitEnumerator(enumeratorContext, metadata, sql, selectFields, condition, splitRows);
     }
 
     @Override
     public SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> restoreEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext, ClickhouseSourceState checkpointState) throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        return new ClickhouseSourceSplitEnumerator(enumeratorContext, metadata, sql, selectFields, condition, splitRows,
+                checkpointState);
     }
 
 }
@@ -22,83 +22,109 @@ import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
 
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseFormat;
 import com.clickhouse.client.ClickHouseNode;
-import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseProtocol;
+import com.clickhouse.client.ClickHouseRecord;
 import com.clickhouse.client.ClickHouseResponse;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
 
+@Slf4j
 public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, ClickhouseSourceSplit> {
 
     private final List<ClickHouseNode> servers;
-    private ClickHouseClient client;
     private final SeaTunnelRowType rowTypeInfo;
     private final SourceReader.Context readerContext;
-    private ClickHouseRequest<?> request;
-    private final String sql;
-
-    private final List<ClickhouseSourceSplit> splits;
+    private final Deque<ClickhouseSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    /**
+     * The clients by protocol, a client can connect to every node of its protocol.
+     */
+    private final Map<ClickHouseProtocol, ClickHouseClient> clients = new HashMap<>();
+    private volatile boolean noMoreSplit;
+    private final SplitAvailability availability = new SplitAvailability();
 
     ClickhouseSourceReader(List<ClickHouseNode> servers, SourceReader.Context readerContext,
-                           SeaTunnelRowType rowTypeInfo, String sql) {
+                           SeaTunnelRowType rowTypeInfo) {
         this.servers = servers;
         this.readerContext = readerContext;
         this.rowTypeInfo = rowTypeInfo;
-        this.sql = sql;
-        this.splits = new ArrayList<>();
     }
 
     @Override
     public void open() {
-        Random random = new Random();
-        ClickHouseNode server = servers.get(random.nextInt(servers.size()));
-        client = ClickHouseClient.newInstance(server.getProtocol());
-        request = client.connect(server).format(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+
     }
 
     @Override
     public void close() throws IOException {
-        if (client != null) {
-            client.close();
-        }
+        clients.values().forEach(ClickHouseClient::close);
+        clients.clear();
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        if (!splits.isEmpty()) {
-            try (ClickHouseResponse response = this.request.query(sql).executeAndWait()) {
-                response.stream().forEach(record -> {
-                    Object[] values = new Object[this.rowTypeInfo.getFieldNames().length];
-                    for (int i = 0; i < record.size(); i++) {
-                        values[i] = TypeConvertUtil.valueUnwrap(
-                                this.rowTypeInfo.getFieldType(i), record.getValue(i));
-                    }
-                    output.collect(new SeaTunnelRow(values));
-                });
+        synchronized (output.getCheckpointLock()) {
+            ClickhouseSourceSplit split = splits.poll();
+            if (split != null) {
+                read(split, output);
+            } else if (noMoreSplit) {
+                log.info("Closed the bounded clickhouse source");
+                readerContext.signalNoMoreElement();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return availability.isAvailable(() -> !splits.isEmpty() || noMoreSplit);
+    }
+
+    private void read(ClickhouseSourceSplit split, Collector<SeaTunnelRow> output) throws Exception {
+        ClickHouseNode server = split.getShard() != null ? split.getShard().getNode()
+                : servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
+        ClickHouseClient client = clients.computeIfAbsent(server.getProtocol(), protocol -> ClickHouseClient.newInstance(protocol));
+        int arity = rowTypeInfo.getTotalFields();
+        // the records are decoded while the response is streamed, so a split is never held in memory
+        try (ClickHouseResponse response = client.connect(server).format(ClickHouseFormat.RowBinaryWithNamesAndTypes)
+                .query(split.getQuery()).executeAndWait()) {
+            for (ClickHouseRecord record : response.records()) {
+                Object[] values = new Object[arity];
+                for (int i = 0; i < record.size(); i++) {
+                    values[i] = TypeConvertUtil.valueUnwrap(rowTypeInfo.getFieldType(i), record.getValue(i));
+                }
+                output.collect(new SeaTunnelRow(values));
             }
-            this.readerContext.signalNoMoreElement();
         }
     }
 
     @Override
     public List<ClickhouseSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return null;
+        return new ArrayList<>(splits);
     }
 
     @Override
     public void addSplits(List<ClickhouseSourceSplit> splits) {
         this.splits.addAll(splits);
+        availability.signal();
     }
 
     @Override
     public void handleNoMoreSplits() {
-
+        noMoreSplit = true;
+        availability.signal();
     }
 
     @Override
@@ -18,10 +18,34 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A query read by a single reader. In split mode it is the query of one partition of the local table on a shard,
+ * otherwise the configured sql, which is sent to a random host when there is no shard.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
 public class ClickhouseSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = 8226573960357658214L;
+
+    private final String splitId;
+
+    /**
+     * The shard to query, or null to query a random host.
+     */
+    private final Shard shard;
+
+    private final String query;
+
     @Override
     public String splitId() {
-        return null;
+        return splitId;
     }
 }
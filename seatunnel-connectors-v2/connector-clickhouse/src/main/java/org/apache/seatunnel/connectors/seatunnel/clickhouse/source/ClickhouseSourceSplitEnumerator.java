@@ -18,83 +18,189 @@
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.DistributedEngine;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ClickhouseProxy;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractStaticSplitEnumerator;
 
-import java.io.IOException;
+import com.clickhouse.client.ClickHouseRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
-public class ClickhouseSourceSplitEnumerator implements
-        SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
-
-    private final Context<ClickhouseSourceSplit> context;
-    private final Set<Integer> readers;
-    private volatile int assigned = -1;
-
-    // TODO support read distributed engine use multi split
-    ClickhouseSourceSplitEnumerator(Context<ClickhouseSourceSplit> enumeratorContext) {
-        this.context = enumeratorContext;
-        this.readers = new HashSet<>();
-    }
-
-    @Override
-    public void open() {
-
-    }
-
-    @Override
-    public void run() throws Exception {
-
+/**
+ * Plans the splits of the source.
+ *
+ * <p>In split mode the local table behind the distributed table is read directly from one replica of every shard,
+ * with one split per partition of the shard. A partition of more than {@code splitRows} rows is cut into ranges of the
+ * first column of the primary key, so a table which is not partitioned is read in parallel as well. The condition of
+ * the sql is added to every split. Otherwise the whole sql is a single split.
+ *
+ * <p>The splits are ordered by shard in turn, so the shards are spread over the readers.
+ */
+public class ClickhouseSourceSplitEnumerator extends AbstractStaticSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
+
+    private final ShardMetadata metadata;
+    private final String sql;
+    private final String selectFields;
+    private final String condition;
+    private final long splitRows;
+
+    /**
+     * @param selectFields the select list of the splits in split mode
+     * @param condition    the condition of the sql in split mode, null to read every row
+     * @param splitRows    the number of rows above which a partition is cut into ranges of the primary key
+     */
+    ClickhouseSourceSplitEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext,
+                                    ShardMetadata metadata, String sql, String selectFields, String condition,
+                                    long splitRows) {
+        this(enumeratorContext, metadata, sql, selectFields, condition, splitRows,
+                new ClickhouseSourceState(null, new HashSet<>()));
     }
 
-    @Override
-    public void close() throws IOException {
-
+    ClickhouseSourceSplitEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext,
+                                    ShardMetadata metadata, String sql, String selectFields, String condition,
+                                    long splitRows, ClickhouseSourceState state) {
+        super(enumeratorContext, state.getSplits(), state.getAssignedSplitIds());
+        this.metadata = metadata;
+        this.sql = sql;
+        this.selectFields = selectFields;
+        this.condition = condition;
+        this.splitRows = splitRows;
     }
 
     @Override
-    public void addSplitsBack(List<ClickhouseSourceSplit> splits, int subtaskId) {
-        if (splits.isEmpty()) {
-            return;
+    protected List<ClickhouseSourceSplit> discoverSplits() {
+        if (!metadata.isSplitMode()) {
+            return Collections.singletonList(new ClickhouseSourceSplit("0", null, sql));
         }
-        if (subtaskId == assigned) {
-            Optional<Integer> otherReader = readers.stream().filter(r -> r != subtaskId).findAny();
-            if (otherReader.isPresent()) {
-                context.assignSplit(otherReader.get(), splits);
-            } else {
-                assigned = -1;
+        ClickhouseProxy proxy = new ClickhouseProxy(metadata.getDefaultShard().getNode());
+        try {
+            DistributedEngine localTable = proxy.getClickhouseDistributedTable(metadata.getDatabase(), metadata.getTable());
+            List<Shard> shards = proxy.getClusterShardList(proxy.getClickhouseConnection(), localTable.getClusterName(),
+                    localTable.getDatabase(), metadata.getDefaultShard().getNode().getPort(),
+                    metadata.getUsername(), metadata.getPassword());
+            Map<Shard, List<PartitionRange>> ranges = new LinkedHashMap<>();
+            String key = null;
+            for (Shard shard : selectReplicas(shards)) {
+                ClickHouseRequest<?> connection = proxy.getClickhouseConnection(shard);
+                if (ranges.isEmpty()) {
+                    key = proxy.getRangeKeyColumn(connection, localTable.getDatabase(), localTable.getTable());
+                }
+                ranges.put(shard, discoverRanges(proxy, connection, localTable, key));
             }
+            return createSplits(ranges, localTable, selectFields, condition);
+        } finally {
+            proxy.close();
         }
     }
 
-    @Override
-    public int currentUnassignedSplitSize() {
-        return assigned < 0 ? 0 : 1;
+    private List<PartitionRange> discoverRanges(ClickhouseProxy proxy, ClickHouseRequest<?> connection,
+                                                DistributedEngine localTable, String key) {
+        List<PartitionRange> ranges = new ArrayList<>();
+        Map<String, Long> partitionRows = proxy.getTablePartitionRows(connection,
+                localTable.getDatabase(), localTable.getTable());
+        for (Map.Entry<String, Long> partition : partitionRows.entrySet()) {
+            long rangeCount = (partition.getValue() + splitRows - 1) / splitRows;
+            List<String> boundaries = key == null || rangeCount <= 1 ? Collections.emptyList()
+                    : proxy.getPartitionKeyQuantiles(connection, localTable.getDatabase(), localTable.getTable(),
+                            partition.getKey(), key, (int) Math.min(rangeCount, Integer.MAX_VALUE));
+            ranges.addAll(partitionRanges(partition.getKey(), key, boundaries));
+        }
+        return ranges;
     }
 
-    @Override
-    public void handleSplitRequest(int subtaskId) {
+    /**
+     * Selects the replica with the lowest number of every shard, ordered by shard number.
+     */
+    static Collection<Shard> selectReplicas(List<Shard> shards) {
+        Map<Integer, Shard> replicas = new TreeMap<>();
+        shards.stream()
+                .sorted(Comparator.comparingInt(Shard::getReplicaNum))
+                .forEach(shard -> replicas.putIfAbsent(shard.getShardNum(), shard));
+        return replicas.values();
+    }
 
+    /**
+     * Cuts a partition into ranges of the key at the given boundaries, the whole partition is one range without
+     * boundaries.
+     */
+    static List<PartitionRange> partitionRanges(String partitionId, String key, List<String> boundaries) {
+        String partition = String.format("_partition_id = '%s'", partitionId);
+        if (boundaries.isEmpty()) {
+            return Collections.singletonList(new PartitionRange(partitionId, partition));
+        }
+        List<PartitionRange> ranges = new ArrayList<>(boundaries.size() + 1);
+        for (int i = 0; i <= boundaries.size(); i++) {
+            String range = partition;
+            if (i > 0) {
+                range += String.format(" AND %s >= %s", key, boundaries.get(i - 1));
+            }
+            if (i < boundaries.size()) {
+                range += String.format(" AND %s < %s", key, boundaries.get(i));
+            }
+            ranges.add(new PartitionRange(partitionId + "-" + i, range));
+        }
+        return ranges;
     }
 
-    @Override
-    public void registerReader(int subtaskId) {
-        readers.add(subtaskId);
-        if (assigned < 0) {
-            assigned = subtaskId;
-            context.assignSplit(subtaskId, new ClickhouseSourceSplit());
+    /**
+     * Creates one split per range of every shard, taking the splits of the shards in turn.
+     */
+    static List<ClickhouseSourceSplit> createSplits(Map<Shard, List<PartitionRange>> ranges,
+                                                    DistributedEngine localTable, String selectFields,
+                                                    String condition) {
+        List<ClickhouseSourceSplit> splits = new ArrayList<>();
+        int maxRanges = ranges.values().stream().mapToInt(List::size).max().orElse(0);
+        for (int i = 0; i < maxRanges; i++) {
+            for (Map.Entry<Shard, List<PartitionRange>> entry : ranges.entrySet()) {
+                if (i < entry.getValue().size()) {
+                    Shard shard = entry.getKey();
+                    PartitionRange range = entry.getValue().get(i);
+                    String query = String.format("SELECT %s FROM %s.%s WHERE %s",
+                            selectFields, localTable.getDatabase(), localTable.getTable(), range.getCondition());
+                    if (condition != null) {
+                        query += String.format(" AND (%s)", condition);
+                    }
+                    splits.add(new ClickhouseSourceSplit(shard.getShardNum() + "-" + range.getId(), shard, query));
+                }
+            }
         }
+        return splits;
     }
 
-    @Override
-    public ClickhouseSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
+    /**
+     * A range of the rows of a partition.
+     */
+    @Getter
+    @AllArgsConstructor
+    static class PartitionRange {
+
+        /**
+         * The id of the partition, followed by the number of the range if the partition is cut.
+         */
+        private final String id;
+
+        /**
+         * The condition which selects the rows of the range.
+         */
+        private final String condition;
     }
 
     @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
+    protected ClickhouseSourceState createState(List<ClickhouseSourceSplit> splits, Set<String> assignedSplitIds) {
+        return new ClickhouseSourceState(splits, assignedSplitIds);
     }
 }
@@ -17,7 +17,29 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.state;
 
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
 
+@Getter
+@AllArgsConstructor
 public class ClickhouseSourceState implements Serializable {
+
+    private static final long serialVersionUID = -4619541306358153211L;
+
+    /**
+     * The discovered splits, null before the discovery or in a state saved before the splits were kept. They are kept
+     * because the partitions of the table may change after a restart.
+     */
+    private final List<ClickhouseSourceSplit> splits;
+
+    /**
+     * The ids of the splits which were already assigned to a reader.
+     */
+    private final Set<String> assignedSplitIds;
 }
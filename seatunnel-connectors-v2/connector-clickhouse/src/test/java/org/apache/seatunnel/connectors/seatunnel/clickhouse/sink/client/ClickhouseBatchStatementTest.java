@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+class ClickhouseBatchStatementTest {
+
+    @Test
+    void testWriteBatchesInOrder() throws IOException {
+        TestBatchExecutor executor = new TestBatchExecutor(-1);
+        ClickhouseBatchStatement statement = new ClickhouseBatchStatement("1", executor);
+        for (int i = 0; i < 5; i++) {
+            statement.addRow(new SeaTunnelRow(new Object[]{i}), 2);
+        }
+        statement.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3), Arrays.asList(4)),
+                executor.batches);
+        statement.close();
+        Assertions.assertTrue(executor.closed);
+        Assertions.assertEquals(3, executor.batches.size());
+    }
+
+    @Test
+    void testBufferCopyOfReusedRow() throws IOException {
+        TestBatchExecutor executor = new TestBatchExecutor(-1);
+        ClickhouseBatchStatement statement = new ClickhouseBatchStatement("1", executor);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{0});
+        statement.addRow(row, 2);
+        row.setField(0, 1);
+        statement.addRow(row, 2);
+        statement.close();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1)), executor.batches);
+    }
+
+    @Test
+    void testWriteEncodedBatchRowsInOrder() throws IOException {
+        TestBatchExecutor executor = new TestBatchExecutor(-1);
+        ClickhouseBatchStatement statement = new ClickhouseBatchStatement("1", executor);
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{0},
+                Collections.singletonList("Int8"), TimeZone.getTimeZone("UTC"));
+        ColumnarBatch batch = new ColumnarBatch(new SeaTunnelRowType(new String[]{"id"},
+            new SeaTunnelDataType<?>[]{BasicType.INT_TYPE}), 3);
+        for (int row = 0; row < 3; row++) {
+            ((ColumnVector.IntVector) batch.getColumn(0)).setInt(row, row + 1);
+        }
+        batch.setRowCount(3);
+
+        statement.addRow(new SeaTunnelRow(new Object[]{0}), 4);
+        statement.addBatchRows(encoder, batch, new int[]{0, 2}, 2, 4);
+        // the source reuses the batch after it's written
+        ((ColumnVector.IntVector) batch.getColumn(0)).setInt(0, 9);
+        statement.addBatchRows(encoder, batch, new int[]{1}, 1, 4);
+        statement.addRow(new SeaTunnelRow(new Object[]{4}), 4);
+        statement.close();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList((byte) 1, (byte) 3, (byte) 2),
+                Arrays.asList(4)), executor.batches);
+    }
+
+    @Test
+    void testFailWithFirstException() throws IOException {
+        TestBatchExecutor executor = new TestBatchExecutor(0);
+        ClickhouseBatchStatement statement = new ClickhouseBatchStatement("1", executor);
+        statement.addRow(new SeaTunnelRow(new Object[]{0}), 1);
+        IOException exception = Assertions.assertThrows(IOException.class, statement::flush);
+        Assertions.assertEquals("batch 0 failed", exception.getCause().getMessage());
+        Assertions.assertThrows(IOException.class, () -> statement.addRow(new SeaTunnelRow(new Object[]{1}), 1));
+        Assertions.assertTrue(executor.batches.isEmpty());
+    }
+
+    private static class TestBatchExecutor implements ClickhouseBatchExecutor {
+
+        private final int failedBatch;
+        private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        private int executedBatches;
+        private volatile boolean closed;
+
+        TestBatchExecutor(int failedBatch) {
+            this.failedBatch = failedBatch;
+        }
+
+        @Override
+        public void executeBatch(List<SeaTunnelRow> rows) throws IOException {
+            if (executedBatches++ == failedBatch) {
+                throw new IOException("batch " + failedBatch + " failed");
+            }
+            batches.add(rows.stream().map(row -> row.getField(0)).collect(Collectors.toCollection(ArrayList::new)));
+        }
+
+        @Override
+        public void executeEncodedBatch(InputStream encodedRows) throws IOException {
+            List<Object> values = new ArrayList<>();
+            for (int value = encodedRows.read(); value >= 0; value = encodedRows.read()) {
+                values.add((byte) value);
+            }
+            batches.add(values);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
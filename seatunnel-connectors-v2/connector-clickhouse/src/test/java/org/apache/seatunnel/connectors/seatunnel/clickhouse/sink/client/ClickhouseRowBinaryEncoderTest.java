@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TimeZone;
+
+class ClickhouseRowBinaryEncoderTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @Test
+    void testEncodeFieldsInTableOrder() throws IOException {
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{2, 0, 1},
+                Arrays.asList("Int32", "Nullable(String)", "LowCardinality(String)"), UTC);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{"ab", null, 1});
+        Assertions.assertArrayEquals(new byte[]{1, 0, 0, 0, 0, 2, 'a', 'b', 0}, encode(encoder, row));
+    }
+
+    @Test
+    void testEncodeNullAsDefaultOfNotNullableColumn() throws IOException {
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{0, 1, 2, 3},
+                Arrays.asList("Int64", "String", "Array(Int8)", "FixedString(3)"), UTC);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[4]);
+        Assertions.assertArrayEquals(new byte[8 + 1 + 1 + 3], encode(encoder, row));
+    }
+
+    @Test
+    void testEncodeConvertedValues() throws IOException {
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{0, 1, 2, 3, 4, 5},
+                Arrays.asList("Decimal(9, 2)", "Date", "DateTime", "Array(Nullable(UInt8))", "Enum8('a' = 1, 'b' = 2)",
+                        "Map(String, Int16)"), UTC);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{
+            new BigDecimal("1.5"),
+            LocalDate.ofEpochDay(3),
+            "1970-01-01 00:00:05",
+            new Object[]{200, null},
+            "b",
+            Collections.singletonMap("k", (short) 7)
+        });
+        Assertions.assertArrayEquals(new byte[]{
+            (byte) 150, 0, 0, 0,
+            3, 0,
+            5, 0, 0, 0,
+            2, 0, (byte) 200, 1,
+            2,
+            1, 1, 'k', 7, 0
+        }, encode(encoder, row));
+    }
+
+    @Test
+    void testDateTimeInServerTimeZone() throws IOException {
+        LocalDateTime value = LocalDateTime.of(1970, 1, 1, 8, 0, 1);
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{0, 0},
+                Arrays.asList("DateTime", "DateTime64(3, 'UTC')"), TimeZone.getTimeZone("Asia/Shanghai"));
+        byte[] bytes = encode(encoder, new SeaTunnelRow(new Object[]{value}));
+        Assertions.assertArrayEquals(new byte[]{1, 0, 0, 0}, Arrays.copyOfRange(bytes, 0, 4));
+        // 28801000 milliseconds
+        Assertions.assertArrayEquals(new byte[]{(byte) 0xe8, 0x77, (byte) 0xb7, 0x01, 0, 0, 0, 0},
+                Arrays.copyOfRange(bytes, 4, 12));
+    }
+
+    @Test
+    void testEncodeColumnarBatchLikeRows() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"id", "count", "price", "name", "valid"},
+            new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE, BasicType.INT_TYPE, BasicType.DOUBLE_TYPE,
+                BasicType.STRING_TYPE, BasicType.BOOLEAN_TYPE});
+        ColumnarBatch batch = new ColumnarBatch(rowType, 3);
+        for (int row = 0; row < 3; row++) {
+            ((ColumnVector.LongVector) batch.getColumn(0)).setLong(row, 1L << (8 * row));
+            ((ColumnVector.IntVector) batch.getColumn(1)).setInt(row, -row);
+            ((ColumnVector.DoubleVector) batch.getColumn(2)).setDouble(row, row + 0.5);
+            batch.getColumn(3).setObject(row, "r" + row);
+            ((ColumnVector.BooleanVector) batch.getColumn(4)).setBoolean(row, row % 2 == 0);
+        }
+        batch.getColumn(1).setNull(1);
+        batch.getColumn(2).setNull(2);
+        batch.setRowCount(3);
+        // the integers are written into a floating point column like the fields of a row
+        ClickhouseRowBinaryEncoder encoder = new ClickhouseRowBinaryEncoder(new int[]{0, 1, 2, 3, 4, 1},
+                Arrays.asList("Int64", "Nullable(Int32)", "Float32", "String", "Bool", "Float64"), UTC);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        encoder.encode(expected, batch.getRow(2));
+        encoder.encode(expected, batch.getRow(0));
+        encoder.encode(expected, batch.getRow(1));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        encoder.encode(output, batch, new int[]{2, 0, 1}, 3);
+        Assertions.assertArrayEquals(expected.toByteArray(), output.toByteArray());
+    }
+
+    @Test
+    void testUnsupportedType() {
+        Assertions.assertThrows(UnsupportedOperationException.class,
+            () -> new ClickhouseRowBinaryEncoder(new int[]{0}, Collections.singletonList("IPv4"), UTC));
+    }
+
+    private static byte[] encode(ClickhouseRowBinaryEncoder encoder, SeaTunnelRow row) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        encoder.encode(output, row);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplitEnumerator.PartitionRange;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.DistributedEngine;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestEnumeratorContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ClickhouseSourceSplitEnumeratorTest {
+
+    @Test
+    void testCreateSplitsByShardInTurn() {
+        Map<Shard, List<PartitionRange>> ranges = new LinkedHashMap<>();
+        ranges.put(shard(1, 1), Stream.of("202201", "202202", "202203")
+                .flatMap(partition -> ClickhouseSourceSplitEnumerator.partitionRanges(partition, "id",
+                        Collections.emptyList()).stream())
+                .collect(Collectors.toList()));
+        ranges.put(shard(2, 1),
+                ClickhouseSourceSplitEnumerator.partitionRanges("202201", null, Collections.emptyList()));
+        List<ClickhouseSourceSplit> splits = ClickhouseSourceSplitEnumerator.createSplits(ranges,
+                new DistributedEngine("cluster", "local_db", "local_table"), "id, name", null);
+
+        Assertions.assertEquals(Arrays.asList("1-202201", "2-202201", "1-202202", "1-202203"),
+                splits.stream().map(ClickhouseSourceSplit::splitId).collect(Collectors.toList()));
+        Assertions.assertEquals("SELECT id, name FROM local_db.local_table WHERE _partition_id = '202202'",
+                splits.get(2).getQuery());
+        Assertions.assertEquals(2, splits.get(1).getShard().getShardNum());
+    }
+
+    @Test
+    void testCutLargePartitionIntoKeyRanges() {
+        Map<Shard, List<PartitionRange>> ranges = new LinkedHashMap<>();
+        ranges.put(shard(1, 1), ClickhouseSourceSplitEnumerator.partitionRanges("all", "id",
+                Arrays.asList("CAST('100' AS Float64)", "CAST('200' AS Float64)")));
+        List<ClickhouseSourceSplit> splits = ClickhouseSourceSplitEnumerator.createSplits(ranges,
+                new DistributedEngine("cluster", "local_db", "local_table"), "*", "age > 20 OR name = 'a'");
+
+        Assertions.assertEquals(Arrays.asList("1-all-0", "1-all-1", "1-all-2"),
+                splits.stream().map(ClickhouseSourceSplit::splitId).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList(
+                "SELECT * FROM local_db.local_table WHERE _partition_id = 'all' AND id < CAST('100' AS Float64)"
+                        + " AND (age > 20 OR name = 'a')",
+                "SELECT * FROM local_db.local_table WHERE _partition_id = 'all' AND id >= CAST('100' AS Float64)"
+                        + " AND id < CAST('200' AS Float64) AND (age > 20 OR name = 'a')",
+                "SELECT * FROM local_db.local_table WHERE _partition_id = 'all' AND id >= CAST('200' AS Float64)"
+                        + " AND (age > 20 OR name = 'a')"),
+                splits.stream().map(ClickhouseSourceSplit::getQuery).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSelectOneReplicaOfEveryShard() {
+        List<Shard> replicas = new ArrayList<>(ClickhouseSourceSplitEnumerator.selectReplicas(
+                Arrays.asList(shard(2, 2), shard(1, 2), shard(2, 1), shard(1, 1))));
+        Assertions.assertEquals(2, replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Assertions.assertEquals(i + 1, replicas.get(i).getShardNum());
+            Assertions.assertEquals(1, replicas.get(i).getReplicaNum());
+        }
+    }
+
+    @Test
+    void testAssignSplitsToReaders() throws Exception {
+        TestEnumeratorContext<ClickhouseSourceSplit> context = new TestEnumeratorContext<>(2);
+        TestEnumerator enumerator = new TestEnumerator(context, new ClickhouseSourceState(null, new HashSet<>()));
+        enumerator.run();
+        Assertions.assertEquals(Arrays.asList("0", "2", "4"), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Arrays.asList("1", "3"), context.getAssignedSplitIds(1));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.getNoMoreSplits());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+
+        // the splits of a failed reader are assigned again when it registers
+        enumerator.addSplitsBack(context.removeAssignedSplits(1), 1);
+        Assertions.assertEquals(3, enumerator.snapshotState(1).getAssignedSplitIds().size());
+        enumerator.registerReader(1);
+        Assertions.assertEquals(Arrays.asList("1", "3"), context.getAssignedSplitIds(1));
+
+        // the restored enumerator skips the splits assigned before the checkpoint, a state without the splits
+        // discovers them again
+        ClickhouseSourceState state = new ClickhouseSourceState(null, new HashSet<>(Arrays.asList("0", "1", "2")));
+        TestEnumeratorContext<ClickhouseSourceSplit> restoredContext = new TestEnumeratorContext<>(2);
+        new TestEnumerator(restoredContext, state).run();
+        Assertions.assertEquals(Collections.singletonList("4"), restoredContext.getAssignedSplitIds(0));
+        Assertions.assertEquals(Collections.singletonList("3"), restoredContext.getAssignedSplitIds(1));
+    }
+
+    private static Shard shard(int shardNum, int replicaNum) {
+        return new Shard(shardNum, 1, replicaNum, "host" + shardNum + replicaNum, "127.0.0.1", 8123,
+                "local_db", "default", "");
+    }
+
+    /**
+     * Discovers a fixed list of splits instead of asking the cluster.
+     */
+    private static class TestEnumerator extends ClickhouseSourceSplitEnumerator {
+
+        TestEnumerator(Context<ClickhouseSourceSplit> context, ClickhouseSourceState state) {
+            super(context, new ShardMetadata(null, null, "db", "table", true, null, "default", ""),
+                    null, "*", null, 1, state);
+        }
+
+        @Override
+        protected List<ClickhouseSourceSplit> discoverSplits() {
+            return IntStream.range(0, 5)
+                    .mapToObj(i -> new ClickhouseSourceSplit(String.valueOf(i), null, "SELECT " + i))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes the batches of a sink writer on a background flusher thread, so the task thread fills the next batch while
+ * the previous ones are written. At most {@code maxInFlightBatches} batches are submitted and not yet written,
+ * submitting another one blocks until the oldest is written. The batches are written in the order they are submitted.
+ * The batches after a failed one are dropped and {@link #getFlushException()} returns the first exception, which the
+ * writer rethrows.
+ *
+ * @param <T> The type of the records in the batches.
+ */
+public class BatchFlusher<T> {
+
+    private final int maxInFlightBatches;
+    private final BatchWriter<T> batchWriter;
+    private final Semaphore inFlightBatches;
+    private final ExecutorService flusher;
+
+    private volatile Exception flushException;
+
+    public BatchFlusher(String threadName, int maxInFlightBatches, BatchWriter<T> batchWriter) {
+        if (maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("The max in flight batches must be positive");
+        }
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.batchWriter = batchWriter;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            thread.setName(threadName);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits the batch, waiting until less than {@code maxInFlightBatches} batches are in flight.
+     */
+    public void submit(List<T> batch) throws IOException {
+        try {
+            inFlightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the flusher to submit the batch", e);
+        }
+        execute(batch);
+    }
+
+    /**
+     * Submits the batch unless {@code maxInFlightBatches} batches are in flight.
+     *
+     * @return whether the batch was submitted.
+     */
+    public boolean trySubmit(List<T> batch) {
+        if (!inFlightBatches.tryAcquire()) {
+            return false;
+        }
+        execute(batch);
+        return true;
+    }
+
+    /**
+     * Waits until all submitted batches are written or dropped.
+     */
+    public void waitForBatches() throws IOException {
+        try {
+            inFlightBatches.acquire(maxInFlightBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the flusher to write the submitted batches", e);
+        }
+        inFlightBatches.release(maxInFlightBatches);
+    }
+
+    public Exception getFlushException() {
+        return flushException;
+    }
+
+    /**
+     * Stops the flusher thread, the submitted batches are still written.
+     */
+    public void close() {
+        flusher.shutdown();
+    }
+
+    private void execute(List<T> batch) {
+        flusher.execute(() -> {
+            try {
+                if (flushException == null) {
+                    batchWriter.write(batch);
+                }
+            } catch (Exception e) {
+                flushException = e;
+            } finally {
+                inFlightBatches.release();
+            }
+        });
+    }
+
+    /**
+     * Writes one batch on the flusher thread.
+     *
+     * @param <T> The type of the records in the batch.
+     */
+    @FunctionalInterface
+    public interface BatchWriter<T> {
+
+        void write(List<T> batch) throws Exception;
+    }
+}
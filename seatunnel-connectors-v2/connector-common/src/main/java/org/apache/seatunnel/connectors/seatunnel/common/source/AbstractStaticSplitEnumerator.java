@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base of the enumerators of bounded sources which discover all their splits once, when the enumerator first runs.
+ *
+ * <p>The n-th split is assigned to reader {@code n % parallelism}, so every enumerator of a parallel source makes the
+ * same assignment. The readers get all their splits at once and no more splits afterwards. The splits added back by a
+ * failed reader are assigned to it again when it registers.
+ *
+ * <p>The state class stays with the connector, so the states saved before a connector moved to this base can still be
+ * restored. {@link #createState} converts the splits and the assigned split ids into it.
+ */
+@Slf4j
+public abstract class AbstractStaticSplitEnumerator<SplitT extends SourceSplit, StateT extends Serializable>
+        implements SourceSplitEnumerator<SplitT, StateT> {
+
+    protected final SourceSplitEnumerator.Context<SplitT> context;
+    private final Set<String> assignedSplitIds;
+    private List<SplitT> splits;
+
+    /**
+     * The splits waiting for their reader, null until the splits are discovered.
+     */
+    private Map<Integer, List<SplitT>> pendingSplits;
+
+    /**
+     * @param splits           The restored splits, null when the splits are not discovered yet.
+     * @param assignedSplitIds The ids of the restored splits which were already assigned to a reader.
+     */
+    protected AbstractStaticSplitEnumerator(SourceSplitEnumerator.Context<SplitT> context, List<SplitT> splits,
+                                            Set<String> assignedSplitIds) {
+        this.context = context;
+        this.splits = splits;
+        this.assignedSplitIds = new HashSet<>(assignedSplitIds);
+    }
+
+    /**
+     * Discovers all the splits of the source, in the order in which they are spread over the readers.
+     */
+    protected abstract List<SplitT> discoverSplits() throws Exception;
+
+    /**
+     * Creates the state of the connector.
+     *
+     * @param splits           The discovered splits, null when the splits are not discovered yet.
+     * @param assignedSplitIds The ids of the splits which were already assigned to a reader.
+     */
+    protected abstract StateT createState(List<SplitT> splits, Set<String> assignedSplitIds);
+
+    @Override
+    public void open() {
+        // nothing
+    }
+
+    @Override
+    public synchronized void run() throws Exception {
+        if (pendingSplits == null) {
+            if (splits == null) {
+                splits = discoverSplits();
+            }
+            log.info("Discovered {} splits, {} of them were assigned before", splits.size(), assignedSplitIds.size());
+            pendingSplits = new HashMap<>();
+            int parallelism = context.currentParallelism();
+            for (int i = 0; i < splits.size(); i++) {
+                SplitT split = splits.get(i);
+                if (!assignedSplitIds.contains(split.splitId())) {
+                    pendingSplits.computeIfAbsent(i % parallelism, reader -> new ArrayList<>()).add(split);
+                }
+            }
+        }
+        assignPendingSplits(context.registeredReaders());
+    }
+
+    private void assignPendingSplits(Collection<Integer> readers) {
+        for (int reader : readers) {
+            List<SplitT> readerSplits = pendingSplits.remove(reader);
+            if (readerSplits != null && !readerSplits.isEmpty()) {
+                log.info("Assign {} splits to reader {}", readerSplits.size(), reader);
+                context.assignSplit(reader, readerSplits);
+                readerSplits.forEach(split -> assignedSplitIds.add(split.splitId()));
+            }
+            context.signalNoMoreSplits(reader);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // nothing
+    }
+
+    @Override
+    public synchronized void addSplitsBack(List<SplitT> splits, int subtaskId) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        splits.forEach(split -> assignedSplitIds.remove(split.splitId()));
+        if (pendingSplits != null) {
+            pendingSplits.computeIfAbsent(subtaskId, reader -> new ArrayList<>()).addAll(splits);
+        }
+    }
+
+    @Override
+    public synchronized int currentUnassignedSplitSize() {
+        return pendingSplits == null ? 0 : pendingSplits.values().stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {
+        // nothing, the splits are pushed to the readers
+    }
+
+    @Override
+    public synchronized void registerReader(int subtaskId) {
+        if (pendingSplits != null) {
+            assignPendingSplits(Collections.singletonList(subtaskId));
+        }
+    }
+
+    @Override
+    public synchronized StateT snapshotState(long checkpointId) throws Exception {
+        return createState(splits, new HashSet<>(assignedSplitIds));
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        // nothing
+    }
+}
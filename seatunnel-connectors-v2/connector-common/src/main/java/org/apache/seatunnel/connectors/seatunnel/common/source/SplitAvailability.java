@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceReader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The availability of a reader which only has work once splits are assigned to it. The reader signals it when splits
+ * are added or no more splits will come, and returns {@link #isAvailable(BooleanSupplier)} from
+ * {@link SourceReader#isAvailable()}, so the runtime parks the idle reader instead of the reader sleeping in
+ * {@link SourceReader#pollNext}.
+ */
+public class SplitAvailability {
+
+    private volatile CompletableFuture<Void> available = new CompletableFuture<>();
+
+    /**
+     * @param hasWork whether the reader has a split to read or something else to do in its next poll, e.g. signal the
+     *                end of its data
+     */
+    public CompletableFuture<Void> isAvailable(BooleanSupplier hasWork) {
+        // read the future before the state of the reader, a signal after the state was read completes it
+        CompletableFuture<Void> future = available;
+        if (hasWork.getAsBoolean()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (future.isDone()) {
+            // the previous signal was consumed, wait for the next one
+            future = new CompletableFuture<>();
+            available = future;
+            if (hasWork.getAsBoolean()) {
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Wakes up the reader, called after the splits were added or no more splits will come.
+     */
+    public void signal() {
+        available.complete(null);
+    }
+}
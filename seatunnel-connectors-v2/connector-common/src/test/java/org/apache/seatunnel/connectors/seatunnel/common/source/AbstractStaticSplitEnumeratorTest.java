@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class AbstractStaticSplitEnumeratorTest {
+
+    @Test
+    void testAssignSplitsRoundRobin() throws Exception {
+        TestEnumeratorContext<TestSplit> context = new TestEnumeratorContext<>(2);
+        TestEnumerator enumerator = new TestEnumerator(context, 5);
+        enumerator.run();
+        Assertions.assertEquals(Arrays.asList("0", "2", "4"), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Arrays.asList("1", "3"), context.getAssignedSplitIds(1));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.getNoMoreSplits());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+        Assertions.assertEquals(1, enumerator.discoveries);
+    }
+
+    @Test
+    void testRestoreAssignsOnlyUnassignedSplits() throws Exception {
+        TestEnumerator enumerator = new TestEnumerator(new TestEnumeratorContext<>(2), 4);
+        enumerator.run();
+        enumerator.addSplitsBack(Collections.singletonList(new TestSplit("3")), 1);
+        TestState state = enumerator.snapshotState(1);
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("0", "1", "2")), state.getAssignedSplitIds());
+
+        // the splits of the state are assigned without discovering them again
+        TestEnumeratorContext<TestSplit> context = new TestEnumeratorContext<>(2);
+        TestEnumerator restored = new TestEnumerator(context, state);
+        restored.run();
+        Assertions.assertEquals(0, restored.discoveries);
+        Assertions.assertEquals(Collections.emptyList(), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Collections.singletonList("3"), context.getAssignedSplitIds(1));
+    }
+
+    private static class TestEnumerator extends AbstractStaticSplitEnumerator<TestSplit, TestState> {
+
+        private final int splitCount;
+        private int discoveries;
+
+        TestEnumerator(TestEnumeratorContext<TestSplit> context, int splitCount) {
+            super(context, null, new HashSet<>());
+            this.splitCount = splitCount;
+        }
+
+        TestEnumerator(TestEnumeratorContext<TestSplit> context, TestState state) {
+            super(context, state.getSplits(), state.getAssignedSplitIds());
+            this.splitCount = 0;
+        }
+
+        @Override
+        protected List<TestSplit> discoverSplits() {
+            discoveries++;
+            return IntStream.range(0, splitCount).mapToObj(i -> new TestSplit(String.valueOf(i)))
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        protected TestState createState(List<TestSplit> splits, Set<String> assignedSplitIds) {
+            return new TestState(splits, assignedSplitIds);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TestState implements Serializable {
+
+        private final List<TestSplit> splits;
+        private final Set<String> assignedSplitIds;
+    }
+
+    private static class TestSplit implements SourceSplit {
+
+        private final String splitId;
+
+        TestSplit(String splitId) {
+            this.splitId = splitId;
+        }
+
+        @Override
+        public String splitId() {
+            return splitId;
+        }
+    }
+}
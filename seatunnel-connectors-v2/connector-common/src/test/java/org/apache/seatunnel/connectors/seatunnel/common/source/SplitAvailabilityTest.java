@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class SplitAvailabilityTest {
+
+    @Test
+    void testWaitForTheNextSignal() {
+        SplitAvailability availability = new SplitAvailability();
+        AtomicBoolean hasWork = new AtomicBoolean();
+        CompletableFuture<Void> idle = availability.isAvailable(hasWork::get);
+        Assertions.assertFalse(idle.isDone());
+
+        hasWork.set(true);
+        availability.signal();
+        Assertions.assertTrue(idle.isDone());
+        Assertions.assertTrue(availability.isAvailable(hasWork::get).isDone());
+
+        // the reader read its splits, the consumed signal doesn't wake it up again
+        hasWork.set(false);
+        CompletableFuture<Void> next = availability.isAvailable(hasWork::get);
+        Assertions.assertFalse(next.isDone());
+        availability.signal();
+        Assertions.assertTrue(next.isDone());
+    }
+
+    @Test
+    void testAvailableWhenWorkArrivesBeforeTheNextCheck() {
+        SplitAvailability availability = new SplitAvailability();
+        availability.signal();
+        AtomicBoolean hasWork = new AtomicBoolean(true);
+        Assertions.assertTrue(availability.isAvailable(hasWork::get).isDone());
+        // the splits were added, but not signaled yet, when the reader checks again
+        Assertions.assertTrue(availability.isAvailable(hasWork::get).isDone());
+    }
+}
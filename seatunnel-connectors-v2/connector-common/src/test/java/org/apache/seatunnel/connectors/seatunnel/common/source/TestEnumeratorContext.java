@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link SourceSplitEnumerator.Context} for the tests of the enumerators, which registers all the readers and
+ * records the splits assigned to them.
+ */
+public class TestEnumeratorContext<SplitT extends SourceSplit> implements SourceSplitEnumerator.Context<SplitT> {
+
+    private final int parallelism;
+    private final Map<Integer, List<SplitT>> assignments = new HashMap<>();
+    private final Set<Integer> noMoreSplits = new HashSet<>();
+
+    public TestEnumeratorContext(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public List<SplitT> getAssignedSplits(int reader) {
+        return assignments.getOrDefault(reader, new ArrayList<>());
+    }
+
+    public List<SplitT> getAssignedSplits() {
+        return assignments.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    public List<String> getAssignedSplitIds(int reader) {
+        return getAssignedSplits(reader).stream().map(SourceSplit::splitId).collect(Collectors.toList());
+    }
+
+    /**
+     * Forgets the splits assigned to the reader, e.g. to add them back to the enumerator after a failure of the reader.
+     */
+    public List<SplitT> removeAssignedSplits(int reader) {
+        List<SplitT> splits = assignments.remove(reader);
+        return splits == null ? new ArrayList<>() : splits;
+    }
+
+    /**
+     * The number of splits assigned to every reader.
+     */
+    public List<Integer> getLoads() {
+        return IntStream.range(0, parallelism).mapToObj(reader -> getAssignedSplits(reader).size())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The readers which were told that they get no more splits.
+     */
+    public Set<Integer> getNoMoreSplits() {
+        return noMoreSplits;
+    }
+
+    @Override
+    public int currentParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Set<Integer> registeredReaders() {
+        return IntStream.range(0, parallelism).boxed().collect(Collectors.toSet());
+    }
+
+    @Override
+    public void assignSplit(int subtaskId, List<SplitT> splits) {
+        assignments.computeIfAbsent(subtaskId, reader -> new ArrayList<>()).addAll(splits);
+    }
+
+    @Override
+    public void signalNoMoreSplits(int subtask) {
+        noMoreSplits.add(subtask);
+    }
+
+    @Override
+    public void sendEventToSourceReader(int subtaskId, SourceEvent event) {
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+
+/**
+ * A {@link SourceReader.Context} for the tests of the readers of the first subtask.
+ */
+public class TestReaderContext implements SourceReader.Context {
+
+    private final Boundedness boundedness;
+    private volatile boolean noMoreElement;
+
+    public TestReaderContext() {
+        this(Boundedness.BOUNDED);
+    }
+
+    public TestReaderContext(Boundedness boundedness) {
+        this.boundedness = boundedness;
+    }
+
+    public boolean isNoMoreElement() {
+        return noMoreElement;
+    }
+
+    @Override
+    public int getIndexOfSubtask() {
+        return 0;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return boundedness;
+    }
+
+    @Override
+    public void signalNoMoreElement() {
+        noMoreElement = true;
+    }
+
+    @Override
+    public void sendSplitRequest() {
+    }
+
+    @Override
+    public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {
+    }
+}
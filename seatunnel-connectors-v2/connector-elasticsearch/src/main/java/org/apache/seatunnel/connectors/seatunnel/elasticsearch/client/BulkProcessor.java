@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.client;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.BulkElasticsearchException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the documents into bulk requests and sends them in the background.
+ *
+ * <p>A bulk request is sent when it holds max batch size documents or max batch bytes bytes. At most max concurrent
+ * requests bulk requests are in flight, the caller is blocked when it completes another one. The documents are
+ * written straight into the body buffer of the request, the buffers are reused by the following requests.
+ *
+ * <p>When the cluster rejects documents with 429 Too Many Requests or a 5xx status, only the rejected documents are
+ * sent again after a backoff which is doubled by every retry. The whole request is retried the same way when it fails
+ * with an I/O error or one of these statuses. Other document failures fail the writer.
+ */
+@Slf4j
+public class BulkProcessor {
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final boolean compress;
+    private final int maxConcurrentRequests;
+
+    private final ExecutorService executor;
+    private final Semaphore inFlightRequests;
+    private final BlockingQueue<BulkBuffer> freeBuffers;
+    private BulkBuffer current;
+    private volatile RuntimeException failure;
+
+    public BulkProcessor(EsRestClient esRestClient, int maxBatchSize, long maxBatchBytes, int maxRetries,
+                         long retryBackoffMs, boolean compress, int maxConcurrentRequests) {
+        if (maxBatchSize <= 0 || maxBatchBytes <= 0 || maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("max_batch_size, max_batch_bytes and max_concurrent_requests must be positive");
+        }
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.compress = compress;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        this.freeBuffers = new ArrayBlockingQueue<>(maxConcurrentRequests);
+        for (int i = 0; i < maxConcurrentRequests; i++) {
+            freeBuffers.add(new BulkBuffer());
+        }
+        this.current = new BulkBuffer();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentRequests, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            thread.setName("elasticsearch-bulk-processor");
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the body of the current bulk request, the caller writes one document into it and calls
+     * {@link #endDocument()}.
+     */
+    public ByteArrayOutputStream startDocument() {
+        checkFailure();
+        return current;
+    }
+
+    public void endDocument() {
+        current.endDocument();
+        if (current.documents() >= maxBatchSize || current.size() >= maxBatchBytes) {
+            submit();
+        }
+    }
+
+    /**
+     * Sends the buffered documents and waits until all bulk requests are done.
+     */
+    public void flush() {
+        checkFailure();
+        if (current.documents() > 0) {
+            submit();
+        }
+        acquire(maxConcurrentRequests);
+        inFlightRequests.release(maxConcurrentRequests);
+        checkFailure();
+    }
+
+    public void close() {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void submit() {
+        acquire(1);
+        BulkBuffer request = current;
+        current = freeBuffers.remove();
+        executor.execute(() -> {
+            try {
+                if (failure == null) {
+                    send(request);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                request.clear();
+                freeBuffers.add(request);
+                inFlightRequests.release();
+            }
+        });
+    }
+
+    private void send(BulkBuffer request) {
+        long backoffMs = retryBackoffMs;
+        BulkBuffer pending = request;
+        for (int retry = 0; ; retry++) {
+            BulkResponse response = executeBulk(pending.buffer(), pending.size());
+            BulkBuffer rejected = new BulkBuffer();
+            if (response == null) {
+                // the whole request failed
+                rejected = pending;
+            } else if (response.isErrors()) {
+                int[] statuses = response.getItemStatuses();
+                for (int i = 0; i < statuses.length; i++) {
+                    if (EsRestClient.isRetryable(statuses[i])) {
+                        rejected.copyDocument(pending, i);
+                    } else if (response.getItemErrors()[i] != null) {
+                        throw new BulkElasticsearchException(String.format("bulk es error, document status=%d, error=%s",
+                                statuses[i], response.getItemErrors()[i]));
+                    }
+                }
+            }
+            if (rejected.documents() == 0) {
+                return;
+            }
+            if (retry >= maxRetries) {
+                throw new BulkElasticsearchException(String.format("bulk es error, %d documents are still rejected after %d retries",
+                        rejected.documents(), retry));
+            }
+            log.warn("bulk es rejected {} documents, retry count={}, retry after {} ms", rejected.documents(), retry + 1, backoffMs);
+            sleep(backoffMs);
+            backoffMs *= 2;
+            pending = rejected;
+        }
+    }
+
+    BulkResponse executeBulk(byte[] body, int length) {
+        return esRestClient.bulk(body, length, compress);
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkElasticsearchException("interrupted while waiting to retry bulk es", e);
+        }
+    }
+
+    private void acquire(int permits) {
+        try {
+            inFlightRequests.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkElasticsearchException("interrupted while waiting for bulk es requests", e);
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new BulkElasticsearchException("bulk es failed", failure);
+        }
+    }
+
+    /**
+     * The body of a bulk request, which remembers where every document starts.
+     */
+    static class BulkBuffer extends ByteArrayOutputStream {
+
+        private static final int INITIAL_DOCUMENTS = 16;
+
+        private int[] documentEnds = new int[INITIAL_DOCUMENTS];
+        private int documents;
+
+        void endDocument() {
+            if (documents == documentEnds.length) {
+                documentEnds = Arrays.copyOf(documentEnds, documents * 2);
+            }
+            documentEnds[documents++] = count;
+        }
+
+        void copyDocument(BulkBuffer source, int document) {
+            int start = document == 0 ? 0 : source.documentEnds[document - 1];
+            write(source.buf, start, source.documentEnds[document] - start);
+            endDocument();
+        }
+
+        int documents() {
+            return documents;
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void clear() {
+            reset();
+            documents = 0;
+        }
+
+        @Override
+        public void close() {
+            // the buffer is reused by the next requests
+        }
+    }
+}
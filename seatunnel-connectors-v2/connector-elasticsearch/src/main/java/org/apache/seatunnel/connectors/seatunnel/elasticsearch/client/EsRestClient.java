@@ -18,34 +18,54 @@
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.client;
 
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ScrollResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.BulkElasticsearchException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.GetElasticsearchVersionException;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.SearchElasticsearchException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpStatus;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 public class EsRestClient {
 
-    private static EsRestClient ES_REST_CLIENT;
-    private static RestClient REST_CLIENT;
+    public static final int TOO_MANY_REQUESTS = 429;
 
-    private EsRestClient() {
+    /**
+     * The type of the error returned when a search uses a point in time or scroll which expired.
+     */
+    private static final String SEARCH_CONTEXT_MISSING = "search_context_missing_exception";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    private final RestClient restClient;
+
+    private EsRestClient(RestClient restClient) {
+        this.restClient = restClient;
     }
 
     @SuppressWarnings("checkstyle:MagicNumber")
@@ -69,48 +89,95 @@ public class EsRestClient {
         return builder;
     }
 
-    public static EsRestClient getInstance(List<String> hosts, String username, String password) {
-        if (REST_CLIENT == null) {
-            RestClientBuilder restClientBuilder = getRestClientBuilder(hosts, username, password);
-            REST_CLIENT = restClientBuilder.build();
-            ES_REST_CLIENT = new EsRestClient();
-        }
-        return ES_REST_CLIENT;
+    /**
+     * Create a client with its own connections, which are released by {@link #close()}.
+     */
+    public static EsRestClient createInstance(List<String> hosts, String username, String password) {
+        return new EsRestClient(getRestClientBuilder(hosts, username, password).build());
     }
 
-    public BulkResponse bulk(String requestBody) {
-        Request request = new Request("POST", "_bulk");
-        request.setJsonEntity(requestBody);
+    /**
+     * Send the first length bytes of the body as one bulk request.
+     *
+     * @param body     the newline delimited actions and documents.
+     * @param length   the length of the body in the array.
+     * @param compress whether gzip the body.
+     * @return the response, or null if the whole request failed with an error worth retrying, i.e. an I/O error,
+     * 429 Too Many Requests or a 5xx status, see {@link #isRetryable(int)}.
+     */
+    public BulkResponse bulk(byte[] body, int length, boolean compress) {
+        Request request = new Request("POST", "/_bulk");
         try {
-            Response response = REST_CLIENT.performRequest(request);
+            ByteArrayEntity entity;
+            if (compress) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(body, 0, length);
+                }
+                entity = new ByteArrayEntity(compressed.toByteArray(), ContentType.APPLICATION_JSON);
+                entity.setContentEncoding("gzip");
+            } else {
+                entity = new ByteArrayEntity(body, 0, length, ContentType.APPLICATION_JSON);
+            }
+            request.setEntity(entity);
+            Response response = restClient.performRequest(request);
             if (response == null) {
                 throw new BulkElasticsearchException("bulk es Response is null");
             }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String entity = EntityUtils.toString(response.getEntity());
-                JsonNode json = objectMapper.readTree(entity);
-                int took = json.get("took").asInt();
-                boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                try (InputStream content = response.getEntity().getContent()) {
+                    return parseBulkResponse(OBJECT_MAPPER.readTree(content));
+                }
             } else {
-                throw new BulkElasticsearchException(String.format("bulk es response status code=%d,request boy=%s", response.getStatusLine().getStatusCode(), requestBody));
+                throw new BulkElasticsearchException(String.format("bulk es response status code=%d", response.getStatusLine().getStatusCode()));
+            }
+        } catch (ResponseException e) {
+            int statusCode = e.getResponse().getStatusLine().getStatusCode();
+            if (isRetryable(statusCode)) {
+                log.warn("bulk es request failed with status code={}", statusCode, e);
+                return null;
             }
+            throw new BulkElasticsearchException("bulk es error", e);
         } catch (IOException e) {
-            throw new BulkElasticsearchException(String.format("bulk es error,request boy=%s", requestBody), e);
+            // the connection failed or timed out, the node may be restarting
+            log.warn("bulk es request failed", e);
+            return null;
         }
     }
 
+    /**
+     * Whether a bulk request or document which failed with the status may succeed when it is sent again.
+     */
+    public static boolean isRetryable(int statusCode) {
+        return statusCode == TOO_MANY_REQUESTS || statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    static BulkResponse parseBulkResponse(JsonNode json) {
+        int took = json.get("took").asInt();
+        boolean errors = json.get("errors").asBoolean();
+        JsonNode items = json.get("items");
+        int[] itemStatuses = new int[items.size()];
+        String[] itemErrors = new String[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            // every item has one field named by its action, such as index
+            JsonNode item = items.get(i).elements().next();
+            itemStatuses[i] = item.get("status").asInt();
+            if (item.has("error")) {
+                itemErrors[i] = item.get("error").toString();
+            }
+        }
+        return new BulkResponse(errors, took, itemStatuses, itemErrors);
+    }
+
     /**
      * @return version.number, example:2.0.0
      */
-    public static String getClusterVersion() {
+    public String getClusterVersion() {
         Request request = new Request("GET", "/");
         try {
-            Response response = REST_CLIENT.performRequest(request);
+            Response response = restClient.performRequest(request);
             String result = EntityUtils.toString(response.getEntity());
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(result);
+            JsonNode jsonNode = OBJECT_MAPPER.readTree(result);
             JsonNode versionNode = jsonNode.get("version");
             return versionNode.get("number").asText();
         } catch (IOException e) {
@@ -118,8 +185,131 @@ public class EsRestClient {
         }
     }
 
+    /**
+     * @return the number of primary shards of the index, summed over all indices matched by the name.
+     */
+    public int getPrimaryShardCount(String index) {
+        Request request = new Request("GET", String.format("/_cat/shards/%s", index));
+        request.addParameter("format", "json");
+        request.addParameter("h", "prirep");
+        JsonNode shards = performRequest(request, null);
+        int count = 0;
+        for (JsonNode shard : shards) {
+            if ("p".equals(shard.get("prirep").asText())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Open a point in time of the index, which keeps the searched view of the index alive for keepAlive.
+     *
+     * @return the id of the point in time.
+     */
+    public String openPointInTime(String index, String keepAlive) {
+        Request request = new Request("POST", String.format("/%s/_pit", index));
+        request.addParameter("keep_alive", keepAlive);
+        return performRequest(request, null).get("id").asText();
+    }
+
+    /**
+     * Close a point in time, a point in time which already expired is ignored.
+     */
+    public void closePointInTime(String pitId) {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        body.put("id", pitId);
+        try {
+            performRequest(new Request("DELETE", "/_pit"), body);
+        } catch (SearchElasticsearchException e) {
+            if (!isNotFound(e.getCause())) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Search a page of a point in time, the body contains the pit and the search_after of the page.
+     *
+     * @return the page, or null if the point in time expired or was closed.
+     */
+    public ScrollResult searchWithPointInTime(JsonNode body) {
+        try {
+            return parseScrollResult(performRequest(new Request("POST", "/_search"), body));
+        } catch (SearchElasticsearchException e) {
+            if (isNotFound(e.getCause()) && responseBody(e.getCause()).contains(SEARCH_CONTEXT_MISSING)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Search the first page of a scroll, which keeps the search context alive for keepAlive.
+     */
+    public ScrollResult searchWithScroll(String index, String keepAlive, JsonNode body) {
+        Request request = new Request("POST", String.format("/%s/_search", index));
+        request.addParameter("scroll", keepAlive);
+        return parseScrollResult(performRequest(request, body));
+    }
+
+    /**
+     * Search the next page of a scroll.
+     */
+    public ScrollResult searchScroll(String scrollId, String keepAlive) {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        body.put("scroll", keepAlive);
+        body.put("scroll_id", scrollId);
+        return parseScrollResult(performRequest(new Request("POST", "/_search/scroll"), body));
+    }
+
+    public void clearScroll(String scrollId) {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        body.putArray("scroll_id").add(scrollId);
+        performRequest(new Request("DELETE", "/_search/scroll"), body);
+    }
+
+    static ScrollResult parseScrollResult(JsonNode json) {
+        JsonNode hits = json.get("hits").get("hits");
+        List<JsonNode> docs = new ArrayList<>(hits.size());
+        for (JsonNode hit : hits) {
+            docs.add(hit.get("_source"));
+        }
+        JsonNode lastSort = hits.size() == 0 ? null : hits.get(hits.size() - 1).get("sort");
+        return new ScrollResult(docs, lastSort,
+                json.has("_scroll_id") ? json.get("_scroll_id").asText() : null,
+                json.has("pit_id") ? json.get("pit_id").asText() : null);
+    }
+
+    private JsonNode performRequest(Request request, JsonNode body) {
+        try {
+            if (body != null) {
+                request.setEntity(new ByteArrayEntity(OBJECT_MAPPER.writeValueAsBytes(body), ContentType.APPLICATION_JSON));
+            }
+            Response response = restClient.performRequest(request);
+            try (InputStream content = response.getEntity().getContent()) {
+                return OBJECT_MAPPER.readTree(content);
+            }
+        } catch (IOException e) {
+            throw new SearchElasticsearchException(String.format("%s %s error", request.getMethod(), request.getEndpoint()), e);
+        }
+    }
+
+    private static String responseBody(Throwable e) {
+        try {
+            return EntityUtils.toString(((ResponseException) e).getResponse().getEntity());
+        } catch (IOException | RuntimeException ignored) {
+            return "";
+        }
+    }
+
+    private static boolean isNotFound(Throwable e) {
+        return e instanceof ResponseException
+                && ((ResponseException) e).getResponse().getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND;
+    }
+
     public void close() throws IOException {
-        REST_CLIENT.close();
+        restClient.close();
     }
 
 }
@@ -17,8 +17,6 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.config;
 
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.BulkConfig;
-
 public class SinkConfig {
 
     public static final String INDEX = "index";
@@ -33,15 +31,14 @@ public class SinkConfig {
 
     public static final String MAX_BATCH_SIZE = "max_batch_size";
 
+    public static final String MAX_BATCH_BYTES = "max_batch_bytes";
+
     public static final String MAX_RETRY_SIZE = "max_retry_size";
 
-    public static void setValue(org.apache.seatunnel.shade.com.typesafe.config.Config pluginConfig) {
-        if (pluginConfig.hasPath(MAX_BATCH_SIZE)) {
-            BulkConfig.MAX_BATCH_SIZE = pluginConfig.getInt(MAX_BATCH_SIZE);
-        }
-        if (pluginConfig.hasPath(MAX_RETRY_SIZE)) {
-            BulkConfig.MAX_RETRY_SIZE = pluginConfig.getInt(MAX_RETRY_SIZE);
-        }
-    }
+    public static final String RETRY_BACKOFF_MS = "retry_backoff_ms";
+
+    public static final String MAX_CONCURRENT_REQUESTS = "max_concurrent_requests";
+
+    public static final String COMPRESS_REQUEST = "compress_request";
 
 }
@@ -20,20 +20,43 @@ package org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 
 /**
- * bulk es config
+ * the default values of the bulk es config
  */
+@SuppressWarnings("checkstyle:MagicNumber")
 public class BulkConfig {
     /**
      * once bulk es include max document size
      * {@link SinkConfig#MAX_BATCH_SIZE}
      */
-    @SuppressWarnings("checkstyle:MagicNumber")
-    public static int MAX_BATCH_SIZE = 10;
+    public static final int MAX_BATCH_SIZE = 10;
+
+    /**
+     * once bulk es include max request body bytes
+     * {@link SinkConfig#MAX_BATCH_BYTES}
+     */
+    public static final long MAX_BATCH_BYTES = 5 * 1024 * 1024L;
 
     /**
      * the max retry size of bulk es
      * {@link SinkConfig#MAX_RETRY_SIZE}
      */
-    @SuppressWarnings("checkstyle:MagicNumber")
-    public static int MAX_RETRY_SIZE = 3;
+    public static final int MAX_RETRY_SIZE = 3;
+
+    /**
+     * the first backoff before retrying the rejected documents, doubled by every retry
+     * {@link SinkConfig#RETRY_BACKOFF_MS}
+     */
+    public static final long RETRY_BACKOFF_MS = 100L;
+
+    /**
+     * the max bulk requests sent concurrently
+     * {@link SinkConfig#MAX_CONCURRENT_REQUESTS}
+     */
+    public static final int MAX_CONCURRENT_REQUESTS = 1;
+
+    /**
+     * whether gzip the bulk request body
+     * {@link SinkConfig#COMPRESS_REQUEST}
+     */
+    public static final boolean COMPRESS_REQUEST = false;
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+
+/**
+ * the default values of the scroll es config
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public class ScrollConfig {
+    /**
+     * the max documents of one page
+     * {@link SourceConfig#SCROLL_SIZE}
+     */
+    public static final int SCROLL_SIZE = 100;
+
+    /**
+     * how long the point in time or scroll is kept alive between two pages
+     * {@link SourceConfig#KEEP_ALIVE}
+     */
+    public static final String KEEP_ALIVE = "1m";
+}
@@ -24,15 +24,23 @@ public class BulkResponse {
 
     private boolean errors;
     private int took;
-    private String response;
+    /**
+     * the status of every document in the order of the request
+     */
+    private int[] itemStatuses;
+    /**
+     * the error reason of every document, null for the succeeded documents
+     */
+    private String[] itemErrors;
 
     public BulkResponse() {
     }
 
-    public BulkResponse(boolean errors, int took, String response) {
+    public BulkResponse(boolean errors, int took, int[] itemStatuses, String[] itemErrors) {
         this.errors = errors;
         this.took = took;
-        this.response = response;
+        this.itemStatuses = itemStatuses;
+        this.itemErrors = itemErrors;
     }
 
     public boolean isErrors() {
@@ -51,11 +59,19 @@ public class BulkResponse {
         this.took = took;
     }
 
-    public String getResponse() {
-        return response;
+    public int[] getItemStatuses() {
+        return itemStatuses;
     }
 
-    public void setResponse(String response) {
-        this.response = response;
+    public void setItemStatuses(int[] itemStatuses) {
+        this.itemStatuses = itemStatuses;
+    }
+
+    public String[] getItemErrors() {
+        return itemErrors;
+    }
+
+    public void setItemErrors(String[] itemErrors) {
+        this.itemErrors = itemErrors;
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * one page of the hits of a scroll or point in time search
+ */
+public class ScrollResult {
+
+    /**
+     * the _source of every hit in the order of the page
+     */
+    private List<JsonNode> docs;
+    /**
+     * the sort values of the last hit, the search_after of the next page
+     */
+    private JsonNode lastSort;
+    private String scrollId;
+    private String pitId;
+
+    public ScrollResult() {
+    }
+
+    public ScrollResult(List<JsonNode> docs, JsonNode lastSort, String scrollId, String pitId) {
+        this.docs = docs;
+        this.lastSort = lastSort;
+        this.scrollId = scrollId;
+        this.pitId = pitId;
+    }
+
+    public List<JsonNode> getDocs() {
+        return docs;
+    }
+
+    public void setDocs(List<JsonNode> docs) {
+        this.docs = docs;
+    }
+
+    public JsonNode getLastSort() {
+        return lastSort;
+    }
+
+    public void setLastSort(JsonNode lastSort) {
+        this.lastSort = lastSort;
+    }
+
+    public String getScrollId() {
+        return scrollId;
+    }
+
+    public void setScrollId(String scrollId) {
+        this.scrollId = scrollId;
+    }
+
+    public String getPitId() {
+        return pitId;
+    }
+
+    public void setPitId(String pitId) {
+        this.pitId = pitId;
+    }
+}
@@ -26,11 +26,13 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.index.I
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.type.IndexTypeSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.type.IndexTypeSerializerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,7 +42,8 @@ import java.util.Map;
 public class ElasticsearchRowSerializer implements SeaTunnelRowSerializer {
     private final SeaTunnelRowType seaTunnelRowType;
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
-        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
     private final IndexSerializer indexSerializer;
 
@@ -53,7 +56,7 @@ public class ElasticsearchRowSerializer implements SeaTunnelRowSerializer {
     }
 
     @Override
-    public String serializeRow(SeaTunnelRow row){
+    public void serializeRow(SeaTunnelRow row, OutputStream output) throws IOException {
         String[] fieldNames = seaTunnelRowType.getFieldNames();
         Map<String, Object> doc = new HashMap<>(fieldNames.length);
         Object[] fields = row.getFields();
@@ -61,8 +64,6 @@ public class ElasticsearchRowSerializer implements SeaTunnelRowSerializer {
             doc.put(fieldNames[i], fields[i]);
         }
 
-        StringBuilder sb = new StringBuilder();
-
         Map<String, String> indexInner = new HashMap<>();
         String index = indexSerializer.serialize(row);
         indexInner.put("_index", index);
@@ -70,15 +71,9 @@ public class ElasticsearchRowSerializer implements SeaTunnelRowSerializer {
 
         Map<String, Map<String, String>> indexParam = new HashMap<>();
         indexParam.put("index", indexInner);
-        try {
-            sb.append(objectMapper.writeValueAsString(indexParam));
-            sb.append("\n");
-            String indexDoc = objectMapper.writeValueAsString(doc);
-            sb.append(indexDoc);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Object json deserialization exception.", e);
-        }
-
-        return sb.toString();
+        objectMapper.writeValue(output, indexParam);
+        output.write('\n');
+        objectMapper.writeValue(output, doc);
+        output.write('\n');
     }
 }
@@ -19,7 +19,13 @@ package org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface SeaTunnelRowSerializer {
 
-    String serializeRow(SeaTunnelRow row);
+    /**
+     * Write the index action and the document of the row into the bulk request body, each followed by a newline.
+     */
+    void serializeRow(SeaTunnelRow row, OutputStream output) throws IOException;
 }
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts the _source of a hit to a {@link SeaTunnelRow} of the row type. The converters of the fields are created
+ * once, a field named with dots is looked up by its path in the nested objects of the _source.
+ *
+ * <p>A field of an array type accepts a single value as an array of one element, because every field of
+ * Elasticsearch can hold one or more values. Dates are parsed from the strict formats or from epoch milliseconds.
+ */
+public class DefaultSeaTunnelRowDeserializer implements SeaTunnelRowDeserializer {
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .append(ISO_LOCAL_DATE)
+            .optionalStart().appendLiteral('T').optionalEnd()
+            .optionalStart().appendLiteral(' ').optionalEnd()
+            .append(ISO_LOCAL_TIME)
+            .optionalStart().appendOffsetId().optionalEnd()
+            .toFormatter();
+
+    private final String[] fieldNames;
+    private final String[][] fieldPaths;
+    private final ValueConverter[] fieldConverters;
+
+    public DefaultSeaTunnelRowDeserializer(SeaTunnelRowType rowType) {
+        this.fieldNames = rowType.getFieldNames();
+        this.fieldPaths = new String[fieldNames.length][];
+        this.fieldConverters = new ValueConverter[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldPaths[i] = fieldNames[i].split("\\.");
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+        }
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(JsonNode source) {
+        Object[] values = new Object[fieldPaths.length];
+        for (int i = 0; i < fieldPaths.length; i++) {
+            JsonNode node = source.get(fieldPaths[i][0]);
+            for (int j = 1; j < fieldPaths[i].length && node != null; j++) {
+                node = node.get(fieldPaths[i][j]);
+            }
+            values[i] = convert(fieldConverters[i], node, fieldNames[i]);
+        }
+        return new SeaTunnelRow(values);
+    }
+
+    private static Object convert(ValueConverter converter, JsonNode node, Object field) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        try {
+            return converter.convert(node);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(String.format("fail to convert the value %s of field %s", node, field), e);
+        }
+    }
+
+    private ValueConverter createConverter(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case NULL:
+                return node -> null;
+            case BOOLEAN:
+                return node -> node.isBoolean() ? node.booleanValue() : Boolean.parseBoolean(node.asText());
+            case TINYINT:
+                return node -> node.isNumber() ? (byte) node.intValue() : Byte.parseByte(node.asText());
+            case SMALLINT:
+                return node -> node.isNumber() ? node.shortValue() : Short.parseShort(node.asText());
+            case INT:
+                return node -> node.isNumber() ? node.intValue() : Integer.parseInt(node.asText());
+            case BIGINT:
+                return node -> node.isNumber() ? node.longValue() : Long.parseLong(node.asText());
+            case FLOAT:
+                return node -> node.isNumber() ? node.floatValue() : Float.parseFloat(node.asText());
+            case DOUBLE:
+                return node -> node.isNumber() ? node.doubleValue() : Double.parseDouble(node.asText());
+            case DECIMAL:
+                return node -> node.isNumber() ? node.decimalValue() : new BigDecimal(node.asText());
+            case STRING:
+                return node -> node.isValueNode() ? node.asText() : node.toString();
+            case BYTES:
+                return node -> Base64.getDecoder().decode(node.asText());
+            case DATE:
+                return node -> node.isNumber() ? toDateTime(node.longValue()).toLocalDate() : LocalDate.parse(node.asText().substring(0, ISO_DATE_LENGTH), ISO_LOCAL_DATE);
+            case TIME:
+                return node -> LocalTime.parse(node.asText(), ISO_LOCAL_TIME);
+            case TIMESTAMP:
+                return node -> node.isNumber() ? toDateTime(node.longValue()) : parseDateTime(node.asText());
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            case ROW:
+                SeaTunnelRowDeserializer rowDeserializer = new DefaultSeaTunnelRowDeserializer((SeaTunnelRowType) type);
+                return rowDeserializer::deserialize;
+            default:
+                throw new UnsupportedOperationException("unsupported elasticsearch source type: " + type);
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses a date, or a date time with an optional offset, a date time with an offset is converted to UTC.
+     */
+    private static LocalDateTime parseDateTime(String text) {
+        if (text.length() == ISO_DATE_LENGTH) {
+            return LocalDate.parse(text, ISO_LOCAL_DATE).atStartOfDay();
+        }
+        TemporalAccessor parsed = TIMESTAMP_FORMATTER.parse(text);
+        if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+            return OffsetDateTime.from(parsed).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        }
+        return LocalDateTime.from(parsed);
+    }
+
+    private ValueConverter createArrayConverter(ArrayType<?, ?> type) {
+        Class<?> elementClass = type.getElementType().getTypeClass();
+        ValueConverter elementConverter = createConverter(type.getElementType());
+        return node -> {
+            if (!node.isArray()) {
+                Object array = Array.newInstance(elementClass, 1);
+                Array.set(array, 0, convert(elementConverter, node, type));
+                return array;
+            }
+            Object array = Array.newInstance(elementClass, node.size());
+            for (int i = 0; i < node.size(); i++) {
+                Array.set(array, i, convert(elementConverter, node.get(i), type));
+            }
+            return array;
+        };
+    }
+
+    private ValueConverter createMapConverter(MapType<?, ?> type) {
+        ValueConverter keyConverter = createConverter(type.getKeyType());
+        ValueConverter valueConverter = createConverter(type.getValueType());
+        return node -> {
+            Map<Object, Object> map = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                map.put(keyConverter.convert(TextNode.valueOf(field.getKey())), convert(valueConverter, field.getValue(), type));
+            }
+            return map;
+        };
+    }
+
+    private interface ValueConverter {
+        Object convert(JsonNode node);
+    }
+}
@@ -15,18 +15,13 @@
  * limitations under the License.
  */
 
-package org.apache.seatunnel.connectors.seatunnel.kudu.source;
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
-import java.io.Serializable;
+import com.fasterxml.jackson.databind.JsonNode;
 
-@Data
-@AllArgsConstructor
-public class PartitionParameter implements Serializable {
+public interface SeaTunnelRowDeserializer {
 
-    String partitionColumnName;
-    Long minValue;
-    Long maxValue;
+    SeaTunnelRow deserialize(JsonNode source);
 }
@@ -29,7 +29,6 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchAggregatedCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSinkState;
@@ -58,7 +57,6 @@ public class ElasticsearchSink implements SeaTunnelSink<SeaTunnelRow, Elasticsea
             throw new PrepareFailException(getPluginName(), PluginType.SINK, result.getMsg());
         }
         this.pluginConfig = pluginConfig;
-        SinkConfig.setValue(pluginConfig);
     }
 
     @Override
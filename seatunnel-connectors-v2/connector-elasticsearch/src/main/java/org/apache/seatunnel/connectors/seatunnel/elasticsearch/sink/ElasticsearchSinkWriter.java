@@ -20,13 +20,12 @@ package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.BulkProcessor;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.BulkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.ElasticsearchVersion;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.IndexInfo;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.BulkElasticsearchException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.ElasticsearchRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.SeaTunnelRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
@@ -36,7 +35,6 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,7 +47,7 @@ public class ElasticsearchSinkWriter<ElasticsearchSinkStateT> implements SinkWri
     private final SinkWriter.Context context;
 
     private final SeaTunnelRowSerializer seaTunnelRowSerializer;
-    private final List<String> requestEsList;
+    private final BulkProcessor bulkProcessor;
     private EsRestClient esRestClient;
 
     public ElasticsearchSinkWriter(
@@ -61,10 +59,20 @@ public class ElasticsearchSinkWriter<ElasticsearchSinkStateT> implements SinkWri
 
         IndexInfo indexInfo = new IndexInfo(pluginConfig);
         initRestClient(pluginConfig);
-        ElasticsearchVersion elasticsearchVersion = ElasticsearchVersion.get(EsRestClient.getClusterVersion());
+        ElasticsearchVersion elasticsearchVersion = ElasticsearchVersion.get(esRestClient.getClusterVersion());
         this.seaTunnelRowSerializer = new ElasticsearchRowSerializer(elasticsearchVersion, indexInfo, seaTunnelRowType);
 
-        this.requestEsList = new ArrayList<>(BulkConfig.MAX_BATCH_SIZE);
+        this.bulkProcessor = new BulkProcessor(esRestClient,
+                getInt(pluginConfig, SinkConfig.MAX_BATCH_SIZE, BulkConfig.MAX_BATCH_SIZE),
+                pluginConfig.hasPath(SinkConfig.MAX_BATCH_BYTES) ? pluginConfig.getBytes(SinkConfig.MAX_BATCH_BYTES) : BulkConfig.MAX_BATCH_BYTES,
+                getInt(pluginConfig, SinkConfig.MAX_RETRY_SIZE, BulkConfig.MAX_RETRY_SIZE),
+                pluginConfig.hasPath(SinkConfig.RETRY_BACKOFF_MS) ? pluginConfig.getLong(SinkConfig.RETRY_BACKOFF_MS) : BulkConfig.RETRY_BACKOFF_MS,
+                pluginConfig.hasPath(SinkConfig.COMPRESS_REQUEST) ? pluginConfig.getBoolean(SinkConfig.COMPRESS_REQUEST) : BulkConfig.COMPRESS_REQUEST,
+                getInt(pluginConfig, SinkConfig.MAX_CONCURRENT_REQUESTS, BulkConfig.MAX_CONCURRENT_REQUESTS));
+    }
+
+    private static int getInt(Config pluginConfig, String key, int defaultValue) {
+        return pluginConfig.hasPath(key) ? pluginConfig.getInt(key) : defaultValue;
     }
 
     private void initRestClient(org.apache.seatunnel.shade.com.typesafe.config.Config pluginConfig) {
@@ -77,21 +85,19 @@ public class ElasticsearchSinkWriter<ElasticsearchSinkStateT> implements SinkWri
                 password = pluginConfig.getString(SinkConfig.PASSWORD);
             }
         }
-        esRestClient = EsRestClient.getInstance(hosts, username, password);
+        esRestClient = EsRestClient.createInstance(hosts, username, password);
     }
 
     @Override
-    public void write(SeaTunnelRow element) {
-        String indexRequestRow = seaTunnelRowSerializer.serializeRow(element);
-        requestEsList.add(indexRequestRow);
-        if (requestEsList.size() >= BulkConfig.MAX_BATCH_SIZE) {
-            bulkEsWithRetry(this.esRestClient, this.requestEsList, BulkConfig.MAX_RETRY_SIZE);
-            requestEsList.clear();
-        }
+    public void write(SeaTunnelRow element) throws IOException {
+        seaTunnelRowSerializer.serializeRow(element, bulkProcessor.startDocument());
+        bulkProcessor.endDocument();
     }
 
     @Override
     public Optional<ElasticsearchCommitInfo> prepareCommit() {
+        // send the buffered documents before the checkpoint completes
+        bulkProcessor.flush();
         return Optional.empty();
     }
 
@@ -99,29 +105,12 @@ public class ElasticsearchSinkWriter<ElasticsearchSinkStateT> implements SinkWri
     public void abortPrepare() {
     }
 
-    public void bulkEsWithRetry(EsRestClient esRestClient, List<String> requestEsList, int maxRetry) {
-        for (int tryCnt = 1; tryCnt <= maxRetry; tryCnt++) {
-            if (requestEsList.size() > 0) {
-                String requestBody = String.join("\n", requestEsList) + "\n";
-                try {
-                    BulkResponse bulkResponse = esRestClient.bulk(requestBody);
-                    if (!bulkResponse.isErrors()) {
-                        break;
-                    }
-                } catch (Exception ex) {
-                    if (tryCnt == maxRetry) {
-                        throw new BulkElasticsearchException("bulk es error,try count=%d", ex);
-                    }
-                    log.warn(String.format("bulk es error,try count=%d", tryCnt), ex);
-                }
-
-            }
-        }
-    }
-
     @Override
     public void close() throws IOException {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList, BulkConfig.MAX_RETRY_SIZE);
-        esRestClient.close();
+        try {
+            bulkProcessor.close();
+        } finally {
+            esRestClient.close();
+        }
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.HOSTS;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.INDEX;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.PASSWORD;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.SCHEMA;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.USERNAME;
+
+import org.apache.seatunnel.api.common.PrepareFailException;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.config.CheckConfigUtil;
+import org.apache.seatunnel.common.config.CheckResult;
+import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSourceState;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import com.google.auto.service.AutoService;
+
+@AutoService(SeaTunnelSource.class)
+public class ElasticsearchSource implements SeaTunnelSource<SeaTunnelRow, ElasticsearchSourceSplit, ElasticsearchSourceState> {
+
+    private Config pluginConfig;
+    private SeaTunnelRowType rowTypeInfo;
+
+    @Override
+    public String getPluginName() {
+        return "Elasticsearch";
+    }
+
+    @Override
+    public void prepare(Config pluginConfig) throws PrepareFailException {
+        CheckResult result = CheckConfigUtil.checkAllExists(pluginConfig, HOSTS, INDEX, SCHEMA);
+        if (!result.isSuccess()) {
+            throw new PrepareFailException(getPluginName(), PluginType.SOURCE, result.getMsg());
+        }
+        this.pluginConfig = pluginConfig;
+        // the fields of the schema are the projected fields of the _source
+        this.rowTypeInfo = SeaTunnelSchema.buildWithConfig(pluginConfig.getConfig(SCHEMA)).getSeaTunnelRowType();
+    }
+
+    static EsRestClient createClient(Config pluginConfig) {
+        String username = null;
+        String password = null;
+        if (pluginConfig.hasPath(USERNAME)) {
+            username = pluginConfig.getString(USERNAME);
+            if (pluginConfig.hasPath(PASSWORD)) {
+                password = pluginConfig.getString(PASSWORD);
+            }
+        }
+        return EsRestClient.createInstance(pluginConfig.getStringList(HOSTS), username, password);
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return Boundedness.BOUNDED;
+    }
+
+    @Override
+    public SeaTunnelRowType getProducedType() {
+        return this.rowTypeInfo;
+    }
+
+    @Override
+    public SourceReader<SeaTunnelRow, ElasticsearchSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
+        return new ElasticsearchSourceReader(readerContext, pluginConfig, rowTypeInfo);
+    }
+
+    @Override
+    public SourceSplitEnumerator<ElasticsearchSourceSplit, ElasticsearchSourceState> createEnumerator(SourceSplitEnumerator.Context<ElasticsearchSourceSplit> enumeratorContext) throws Exception {
+        return new ElasticsearchSourceSplitEnumerator(enumeratorContext, pluginConfig);
+    }
+
+    @Override
+    public SourceSplitEnumerator<ElasticsearchSourceSplit, ElasticsearchSourceState> restoreEnumerator(SourceSplitEnumerator.Context<ElasticsearchSourceSplit> enumeratorContext, ElasticsearchSourceState checkpointState) throws Exception {
+        return new ElasticsearchSourceSplitEnumerator(enumeratorContext, pluginConfig, checkpointState);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.ScrollConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ScrollResult;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.SearchElasticsearchException;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.DefaultSeaTunnelRowDeserializer;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.SeaTunnelRowDeserializer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigRenderOptions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Reads the splits one page at a time, so a checkpoint can be taken between two pages.
+ *
+ * <p>A split is read with search_after on the point in time of the split sorted by _shard_doc, or with a scroll sorted
+ * by _doc when the split has no point in time. Only the fields of the schema are fetched from the _source. The state of
+ * a split read with a point in time keeps the sort values of the last document, so it continues after that document
+ * after a restore. The sort values are only valid in the point in time which returned them, so when the point in time
+ * expired, e.g. the job was restored after keep_alive, the reader opens a new one and reads the split again from its
+ * start, the documents read before the expiry are read again, at least once. A split read with a scroll is read again
+ * from its start too.
+ */
+@Slf4j
+public class ElasticsearchSourceReader implements SourceReader<SeaTunnelRow, ElasticsearchSourceSplit> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final SourceReader.Context readerContext;
+    private final Config pluginConfig;
+    private final SeaTunnelRowDeserializer deserializer;
+    private final String index;
+    private final String[] fields;
+    private final int scrollSize;
+    private final String keepAlive;
+    private final Deque<ElasticsearchSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    private volatile boolean noMoreSplit;
+    private final SplitAvailability availability = new SplitAvailability();
+
+    private EsRestClient client;
+    private JsonNode query;
+
+    private ElasticsearchSourceSplit currentSplit;
+    private String pitId;
+    private boolean exclusivePit;
+    private JsonNode searchAfter;
+    private String scrollId;
+
+    ElasticsearchSourceReader(SourceReader.Context readerContext, Config pluginConfig, SeaTunnelRowType rowType) {
+        this.readerContext = readerContext;
+        this.pluginConfig = pluginConfig;
+        this.deserializer = new DefaultSeaTunnelRowDeserializer(rowType);
+        this.index = pluginConfig.getString(SourceConfig.INDEX);
+        this.fields = rowType.getFieldNames();
+        this.scrollSize = pluginConfig.hasPath(SourceConfig.SCROLL_SIZE) ? pluginConfig.getInt(SourceConfig.SCROLL_SIZE) : ScrollConfig.SCROLL_SIZE;
+        this.keepAlive = pluginConfig.hasPath(SourceConfig.KEEP_ALIVE) ? pluginConfig.getString(SourceConfig.KEEP_ALIVE) : ScrollConfig.KEEP_ALIVE;
+    }
+
+    @Override
+    public void open() throws Exception {
+        if (pluginConfig.hasPath(SourceConfig.QUERY)) {
+            query = OBJECT_MAPPER.readTree(pluginConfig.getConfig(SourceConfig.QUERY).root().render(ConfigRenderOptions.concise()));
+        } else {
+            query = OBJECT_MAPPER.createObjectNode().set("match_all", OBJECT_MAPPER.createObjectNode());
+        }
+        client = ElasticsearchSource.createClient(pluginConfig);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (currentSplit != null) {
+                releaseSearchContext();
+            }
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
+
+    @Override
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        synchronized (output.getCheckpointLock()) {
+            if (currentSplit == null) {
+                currentSplit = splits.poll();
+                if (currentSplit == null && noMoreSplit) {
+                    log.info("Closed the bounded elasticsearch source");
+                    readerContext.signalNoMoreElement();
+                    return;
+                }
+                if (currentSplit != null) {
+                    pitId = currentSplit.getPitId();
+                    exclusivePit = currentSplit.isExclusivePit();
+                    searchAfter = currentSplit.getSearchAfter() == null ? null : OBJECT_MAPPER.readTree(currentSplit.getSearchAfter());
+                }
+            }
+            if (currentSplit != null) {
+                readPage(output);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return availability.isAvailable(() -> currentSplit != null || !splits.isEmpty() || noMoreSplit);
+    }
+
+    private void readPage(Collector<SeaTunnelRow> output) {
+        ScrollResult result;
+        if (pitId != null) {
+            result = client.searchWithPointInTime(pointInTimeSearchBody());
+            if (result == null) {
+                log.warn("The point in time of the split {} expired, read the split again from its start on a new point "
+                        + "in time", currentSplit.splitId());
+                pitId = client.openPointInTime(index, keepAlive);
+                exclusivePit = true;
+                searchAfter = null;
+                result = client.searchWithPointInTime(pointInTimeSearchBody());
+                if (result == null) {
+                    throw new SearchElasticsearchException(String.format("The point in time opened for the split %s is missing",
+                            currentSplit.splitId()));
+                }
+            }
+            // the id of the point in time may change between two searches
+            if (result.getPitId() != null) {
+                pitId = result.getPitId();
+            }
+            searchAfter = result.getLastSort();
+        } else if (scrollId == null) {
+            ObjectNode body = searchBody();
+            body.putArray("sort").add("_doc");
+            result = client.searchWithScroll(index, keepAlive, body);
+            scrollId = result.getScrollId();
+        } else {
+            result = client.searchScroll(scrollId, keepAlive);
+            scrollId = result.getScrollId();
+        }
+        for (JsonNode doc : result.getDocs()) {
+            output.collect(deserializer.deserialize(doc));
+        }
+        if (result.getDocs().isEmpty()) {
+            log.info("Finished reading the split {}", currentSplit);
+            releaseSearchContext();
+        }
+    }
+
+    private ObjectNode pointInTimeSearchBody() {
+        ObjectNode body = searchBody();
+        body.putObject("pit").put("id", pitId).put("keep_alive", keepAlive);
+        body.putArray("sort").addObject().put("_shard_doc", "asc");
+        if (searchAfter != null) {
+            body.set("search_after", searchAfter);
+        }
+        return body;
+    }
+
+    private ObjectNode searchBody() {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        body.put("size", scrollSize);
+        ArrayNode source = body.putArray("_source");
+        for (String field : fields) {
+            source.add(field);
+        }
+        body.set("query", query);
+        if (currentSplit.getMaxSlices() > 1) {
+            body.putObject("slice").put("id", currentSplit.getSliceId()).put("max", currentSplit.getMaxSlices());
+        }
+        return body;
+    }
+
+    /**
+     * Clears the scroll of the current split, or closes its point in time if the reader opened it for the split. The
+     * point in time shared with the other slices is closed by the enumerator.
+     */
+    private void releaseSearchContext() {
+        try {
+            if (scrollId != null) {
+                client.clearScroll(scrollId);
+            } else if (exclusivePit && pitId != null) {
+                client.closePointInTime(pitId);
+            }
+        } finally {
+            currentSplit = null;
+            pitId = null;
+            exclusivePit = false;
+            searchAfter = null;
+            scrollId = null;
+        }
+    }
+
+    @Override
+    public List<ElasticsearchSourceSplit> snapshotState(long checkpointId) throws Exception {
+        List<ElasticsearchSourceSplit> state = new ArrayList<>();
+        if (currentSplit != null) {
+            state.add(new ElasticsearchSourceSplit(currentSplit.getSplitId(), currentSplit.getSliceId(),
+                currentSplit.getMaxSlices(), pitId, searchAfter == null ? null : searchAfter.toString(), exclusivePit));
+        }
+        state.addAll(splits);
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<ElasticsearchSourceSplit> splits) {
+        this.splits.addAll(splits);
+        availability.signal();
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+        availability.signal();
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+
+    }
+}
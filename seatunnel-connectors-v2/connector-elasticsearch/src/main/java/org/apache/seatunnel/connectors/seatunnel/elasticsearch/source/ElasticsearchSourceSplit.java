@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One slice of the index read by a single reader, the whole index when there is only one slice.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ElasticsearchSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = -2736515862041867374L;
+
+    private final String splitId;
+
+    private final int sliceId;
+
+    private final int maxSlices;
+
+    /**
+     * The point in time shared by the slices, null when the index is read with a scroll.
+     */
+    private final String pitId;
+
+    /**
+     * The sort values of the last document read as a json array, null before the first page.
+     */
+    private final String searchAfter;
+
+    /**
+     * Whether the reader opened the point in time for this split alone, because the shared one expired. The reader
+     * closes such a point in time when it finished the split.
+     */
+    private final boolean exclusivePit;
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+}
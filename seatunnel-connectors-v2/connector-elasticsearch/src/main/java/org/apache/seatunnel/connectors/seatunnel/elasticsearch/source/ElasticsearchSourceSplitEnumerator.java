@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractStaticSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.ElasticsearchVersion;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.constant.ScrollConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSourceState;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans the splits of the source.
+ *
+ * <p>The index is read in slices, one per primary shard unless the slice count is configured, and every slice is a
+ * split. Elasticsearch 2.x can not slice a search, so the whole index is a single split there.
+ *
+ * <p>When the cluster supports slicing a point in time the enumerator opens one point in time, which all slices search,
+ * so the readers see the same snapshot of the index. The enumerator closes it when it is closed, i.e. after its readers
+ * finished. The Flink and Spark translations run one enumerator per subtask, each one opens and closes its own point in
+ * time for the slices of its reader.
+ */
+@Slf4j
+public class ElasticsearchSourceSplitEnumerator extends AbstractStaticSplitEnumerator<ElasticsearchSourceSplit, ElasticsearchSourceState> {
+
+    /**
+     * Slicing a point in time search is supported since 7.15.
+     */
+    private static final int POINT_IN_TIME_MAJOR_VERSION = 7;
+    private static final int POINT_IN_TIME_MINOR_VERSION = 15;
+
+    private final Config pluginConfig;
+
+    /**
+     * The point in time of the splits, null when the index is read with a scroll or the splits are not discovered yet.
+     */
+    private String pitId;
+
+    ElasticsearchSourceSplitEnumerator(SourceSplitEnumerator.Context<ElasticsearchSourceSplit> enumeratorContext,
+                                       Config pluginConfig) {
+        this(enumeratorContext, pluginConfig, new ElasticsearchSourceState(null, new HashSet<>()));
+    }
+
+    ElasticsearchSourceSplitEnumerator(SourceSplitEnumerator.Context<ElasticsearchSourceSplit> enumeratorContext,
+                                       Config pluginConfig, ElasticsearchSourceState state) {
+        super(enumeratorContext, state.getSplits(), state.getAssignedSplitIds());
+        this.pluginConfig = pluginConfig;
+        if (state.getSplits() != null && !state.getSplits().isEmpty()) {
+            this.pitId = state.getSplits().get(0).getPitId();
+        }
+    }
+
+    @Override
+    protected List<ElasticsearchSourceSplit> discoverSplits() throws IOException {
+        EsRestClient client = ElasticsearchSource.createClient(pluginConfig);
+        try {
+            String clusterVersion = client.getClusterVersion();
+            if (ElasticsearchVersion.get(clusterVersion) == ElasticsearchVersion.ES2) {
+                return createSplits(1, null);
+            }
+            String index = pluginConfig.getString(SourceConfig.INDEX);
+            int sliceCount = pluginConfig.hasPath(SourceConfig.SLICE_COUNT) ? pluginConfig.getInt(SourceConfig.SLICE_COUNT)
+                : client.getPrimaryShardCount(index);
+            if (supportsPointInTime(clusterVersion)) {
+                String keepAlive = pluginConfig.hasPath(SourceConfig.KEEP_ALIVE) ? pluginConfig.getString(SourceConfig.KEEP_ALIVE) : ScrollConfig.KEEP_ALIVE;
+                pitId = client.openPointInTime(index, keepAlive);
+            }
+            log.info("Read the index {} with {}", index, pitId != null ? "point in time" : "scroll");
+            return createSplits(sliceCount, pitId);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (pitId == null) {
+            return;
+        }
+        EsRestClient client = ElasticsearchSource.createClient(pluginConfig);
+        try {
+            client.closePointInTime(pitId);
+            log.info("Closed the point in time of the index {}", pluginConfig.getString(SourceConfig.INDEX));
+        } catch (RuntimeException e) {
+            // the point in time expires by itself keep_alive after the last search
+            log.warn("Failed to close the point in time of the index {}", pluginConfig.getString(SourceConfig.INDEX), e);
+        } finally {
+            pitId = null;
+            client.close();
+        }
+    }
+
+    static boolean supportsPointInTime(String clusterVersion) {
+        String[] versions = clusterVersion.split("\\.");
+        int major = Integer.parseInt(versions[0]);
+        int minor = versions.length > 1 ? Integer.parseInt(versions[1]) : 0;
+        return major > POINT_IN_TIME_MAJOR_VERSION || major == POINT_IN_TIME_MAJOR_VERSION && minor >= POINT_IN_TIME_MINOR_VERSION;
+    }
+
+    static List<ElasticsearchSourceSplit> createSplits(int sliceCount, String pitId) {
+        int maxSlices = Math.max(sliceCount, 1);
+        List<ElasticsearchSourceSplit> splits = new ArrayList<>(maxSlices);
+        for (int i = 0; i < maxSlices; i++) {
+            splits.add(new ElasticsearchSourceSplit(String.valueOf(i), i, maxSlices, pitId, null, false));
+        }
+        return splits;
+    }
+
+    @Override
+    protected ElasticsearchSourceState createState(List<ElasticsearchSourceSplit> splits, Set<String> assignedSplitIds) {
+        return new ElasticsearchSourceState(splits, assignedSplitIds);
+    }
+}
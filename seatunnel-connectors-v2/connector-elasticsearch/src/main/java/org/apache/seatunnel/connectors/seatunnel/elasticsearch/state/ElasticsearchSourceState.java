@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.state;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.source.ElasticsearchSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ElasticsearchSourceState implements Serializable {
+
+    private static final long serialVersionUID = 3271548123480745019L;
+
+    /**
+     * The discovered splits, null before the discovery or in a state saved before the splits were kept. They are
+     * kept because the slices are planned from the primary shard count, which may change after a restart.
+     */
+    private final List<ElasticsearchSourceSplit> splits;
+
+    /**
+     * The ids of the splits which were already assigned to a reader.
+     */
+    private final Set<String> assignedSplitIds;
+}
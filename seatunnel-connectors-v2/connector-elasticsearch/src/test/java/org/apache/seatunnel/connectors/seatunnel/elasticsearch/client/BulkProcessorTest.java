@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.client;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.BulkElasticsearchException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+class BulkProcessorTest {
+
+    @Test
+    void testSendByCountAndBytes() {
+        TestBulkProcessor processor = new TestBulkProcessor(3, 12, 2, body -> success(body.size()));
+        for (String document : Arrays.asList("a", "b", "c", "dddddddddddd", "e")) {
+            write(processor, document);
+        }
+        processor.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("a", "b", "c"), Collections.singletonList("dddddddddddd"),
+                Collections.singletonList("e")), sorted(processor.requests));
+        processor.close();
+    }
+
+    @Test
+    void testRetryRejectedDocuments() {
+        List<BulkResponse> responses = new ArrayList<>(Arrays.asList(
+                response(201, 429, 201, 429),
+                null,
+                response(429, 201),
+                success(1)));
+        TestBulkProcessor processor = new TestBulkProcessor(4, Long.MAX_VALUE, 1, body -> responses.remove(0));
+        for (String document : Arrays.asList("a", "b", "c", "d")) {
+            write(processor, document);
+        }
+        processor.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("a", "b", "c", "d"), Arrays.asList("b", "d"),
+                Arrays.asList("b", "d"), Collections.singletonList("b")), processor.requests);
+    }
+
+    @Test
+    void testRetryUnavailableDocuments() {
+        List<BulkResponse> responses = new ArrayList<>(Arrays.asList(response(201, 503), success(1)));
+        TestBulkProcessor processor = new TestBulkProcessor(2, Long.MAX_VALUE, 1, body -> responses.remove(0));
+        write(processor, "a");
+        write(processor, "b");
+        processor.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("b")),
+                processor.requests);
+    }
+
+    @Test
+    void testFailOnDocumentError() {
+        TestBulkProcessor processor = new TestBulkProcessor(2, Long.MAX_VALUE, 1, body -> {
+            BulkResponse response = response(201, 400);
+            response.getItemErrors()[1] = "mapper_parsing_exception";
+            return response;
+        });
+        write(processor, "a");
+        write(processor, "b");
+        BulkElasticsearchException exception = Assertions.assertThrows(BulkElasticsearchException.class, processor::flush);
+        Assertions.assertTrue(exception.getCause().getMessage().contains("mapper_parsing_exception"));
+        Assertions.assertThrows(BulkElasticsearchException.class, () -> write(processor, "c"));
+    }
+
+    @Test
+    void testFailAfterMaxRetries() {
+        TestBulkProcessor processor = new TestBulkProcessor(1, Long.MAX_VALUE, 1, body -> null);
+        write(processor, "a");
+        Assertions.assertThrows(BulkElasticsearchException.class, processor::flush);
+        Assertions.assertEquals(4, processor.requests.size());
+    }
+
+    private static void write(BulkProcessor processor, String document) {
+        byte[] bytes = (document + "\n").getBytes(StandardCharsets.UTF_8);
+        processor.startDocument().write(bytes, 0, bytes.length);
+        processor.endDocument();
+    }
+
+    private static List<List<String>> sorted(List<List<String>> requests) {
+        List<List<String>> result = new ArrayList<>(requests);
+        result.sort((left, right) -> left.get(0).compareTo(right.get(0)));
+        return result;
+    }
+
+    private static BulkResponse success(int documents) {
+        return new BulkResponse(false, 1, new int[documents], new String[documents]);
+    }
+
+    private static BulkResponse response(int... statuses) {
+        return new BulkResponse(true, 1, statuses, new String[statuses.length]);
+    }
+
+    /**
+     * Records the documents of every bulk request instead of sending them.
+     */
+    private static class TestBulkProcessor extends BulkProcessor {
+
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private final Function<List<String>, BulkResponse> responses;
+
+        TestBulkProcessor(int maxBatchSize, long maxBatchBytes, int maxConcurrentRequests,
+                          Function<List<String>, BulkResponse> responses) {
+            super(null, maxBatchSize, maxBatchBytes, 3, 1L, false, maxConcurrentRequests);
+            this.responses = responses;
+        }
+
+        @Override
+        synchronized BulkResponse executeBulk(byte[] body, int length) {
+            List<String> documents = Arrays.asList(new String(body, 0, length, StandardCharsets.UTF_8).split("\n"));
+            requests.add(documents);
+            return responses.apply(documents);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+class DefaultSeaTunnelRowDeserializerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void testDeserializeTypes() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(
+                new String[]{"b", "i", "l", "d", "dec", "s", "obj", "bytes", "date", "tags", "attrs", "user.name", "missing"},
+                new SeaTunnelDataType<?>[]{BasicType.BOOLEAN_TYPE, BasicType.INT_TYPE, BasicType.LONG_TYPE,
+                    BasicType.DOUBLE_TYPE, new DecimalType(10, 2), BasicType.STRING_TYPE, BasicType.STRING_TYPE,
+                    PrimitiveByteArrayType.INSTANCE, LocalTimeType.LOCAL_DATE_TYPE, ArrayType.STRING_ARRAY_TYPE,
+                    new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE), BasicType.STRING_TYPE, BasicType.INT_TYPE});
+        SeaTunnelRow row = new DefaultSeaTunnelRowDeserializer(rowType).deserialize(MAPPER.readTree(
+                "{\"b\": true, \"i\": \"12\", \"l\": 1234567890123, \"d\": 1.5, \"dec\": 3.14, \"s\": \"text\","
+                        + " \"obj\": {\"k\": 1}, \"bytes\": \"aGk=\", \"date\": \"2022-10-01T12:00:00Z\", \"tags\": [\"x\", \"y\"],"
+                        + " \"attrs\": {\"a\": 1, \"b\": 2}, \"user\": {\"name\": \"joe\"}}"));
+
+        Assertions.assertEquals(true, row.getField(0));
+        Assertions.assertEquals(12, row.getField(1));
+        Assertions.assertEquals(1234567890123L, row.getField(2));
+        Assertions.assertEquals(1.5d, row.getField(3));
+        Assertions.assertEquals(new BigDecimal("3.14"), row.getField(4));
+        Assertions.assertEquals("text", row.getField(5));
+        Assertions.assertEquals("{\"k\":1}", row.getField(6));
+        Assertions.assertArrayEquals("hi".getBytes(StandardCharsets.UTF_8), (byte[]) row.getField(7));
+        Assertions.assertEquals(LocalDate.of(2022, 10, 1), row.getField(8));
+        Assertions.assertArrayEquals(new String[]{"x", "y"}, (String[]) row.getField(9));
+        Map<String, Integer> attrs = new HashMap<>();
+        attrs.put("a", 1);
+        attrs.put("b", 2);
+        Assertions.assertEquals(attrs, row.getField(10));
+        Assertions.assertEquals("joe", row.getField(11));
+        Assertions.assertNull(row.getField(12));
+    }
+
+    @Test
+    void testDeserializeTimestampsAndSingleValueArrays() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"t"},
+                new SeaTunnelDataType<?>[]{LocalTimeType.LOCAL_DATE_TIME_TYPE});
+        DefaultSeaTunnelRowDeserializer deserializer = new DefaultSeaTunnelRowDeserializer(rowType);
+        LocalDateTime expected = LocalDateTime.of(2022, 10, 1, 12, 30, 15);
+        for (String value : new String[]{"\"2022-10-01T12:30:15\"", "\"2022-10-01 12:30:15\"", "\"2022-10-01T20:30:15+08:00\"",
+            "\"2022-10-01T12:30:15Z\"", "1664627415000"}) {
+            Assertions.assertEquals(expected, deserializer.deserialize(MAPPER.readTree("{\"t\": " + value + "}")).getField(0), value);
+        }
+        Assertions.assertEquals(LocalDateTime.of(2022, 10, 1, 0, 0),
+                deserializer.deserialize(MAPPER.readTree("{\"t\": \"2022-10-01\"}")).getField(0));
+
+        SeaTunnelRowType arrayType = new SeaTunnelRowType(new String[]{"ids"},
+                new SeaTunnelDataType<?>[]{ArrayType.INT_ARRAY_TYPE});
+        Assertions.assertArrayEquals(new Integer[]{7}, (Integer[]) new DefaultSeaTunnelRowDeserializer(arrayType)
+                .deserialize(MAPPER.readTree("{\"ids\": 7}")).getField(0));
+    }
+
+    @Test
+    void testFailOnInvalidValue() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"i"}, new SeaTunnelDataType<?>[]{BasicType.INT_TYPE});
+        DefaultSeaTunnelRowDeserializer deserializer = new DefaultSeaTunnelRowDeserializer(rowType);
+        JsonNode source = MAPPER.readTree("{\"i\": \"abc\"}");
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> deserializer.deserialize(source));
+        Assertions.assertTrue(exception.getMessage().contains("field i"));
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestEnumeratorContext;
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSourceState;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Reads from a mock Elasticsearch served by a local http server.
+ */
+class ElasticsearchSourceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(new String[]{"id", "name"},
+            new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<JsonNode> bodies = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private Function<String, String> responses;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String request = exchange.getRequestMethod() + " " + exchange.getRequestURI();
+        requests.add(request);
+        try (InputStream in = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            for (int n = in.read(buffer); n > 0; n = in.read(buffer)) {
+                body.write(buffer, 0, n);
+            }
+            if (body.size() > 0) {
+                bodies.add(MAPPER.readTree(body.toByteArray()));
+            }
+        }
+        String response = responses.apply(request);
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        boolean found = (response.startsWith("{") || response.startsWith("[")) && !response.contains("\"status\": 404");
+        exchange.sendResponseHeaders(found ? 200 : 404, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    void testReadSliceWithPointInTime() throws Exception {
+        responses = this::pointInTimeResponse;
+        List<SeaTunnelRow> rows = read(new ElasticsearchSourceSplit("1", 1, 2, "pit-1", null, false));
+
+        Assertions.assertEquals(Arrays.asList(new SeaTunnelRow(new Object[]{1, "a"}), new SeaTunnelRow(new Object[]{2, null})), rows);
+        // the point in time is shared with the other slices, so the reader does not close it
+        Assertions.assertEquals(Arrays.asList("POST /_search", "POST /_search"), requests);
+        JsonNode first = bodies.get(0);
+        Assertions.assertEquals("{\"id\":1,\"max\":2}", first.get("slice").toString());
+        Assertions.assertEquals("[\"id\",\"name\"]", first.get("_source").toString());
+        Assertions.assertEquals("pit-1", first.get("pit").get("id").asText());
+        Assertions.assertEquals("[{\"_shard_doc\":\"asc\"}]", first.get("sort").toString());
+        Assertions.assertEquals("{\"term\":{\"name\":\"a\"}}", first.get("query").toString());
+        JsonNode second = bodies.get(1);
+        Assertions.assertEquals("pit-2", second.get("pit").get("id").asText());
+        Assertions.assertEquals("[7]", second.get("search_after").toString());
+    }
+
+    @Test
+    void testRestoreAfterLastSortValues() throws Exception {
+        responses = this::pointInTimeResponse;
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        Collector<SeaTunnelRow> collector = collector(rows);
+        List<ElasticsearchSourceSplit> state;
+        try (ElasticsearchSourceReader reader = new ElasticsearchSourceReader(new TestReaderContext(), config(Collections.emptyMap()), ROW_TYPE)) {
+            reader.open();
+            reader.addSplits(Collections.singletonList(new ElasticsearchSourceSplit("1", 1, 2, "pit-1", null, false)));
+            reader.pollNext(collector);
+            state = reader.snapshotState(1);
+        }
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals("pit-2", state.get(0).getPitId());
+        Assertions.assertEquals("[7]", state.get(0).getSearchAfter());
+
+        bodies.clear();
+        try (ElasticsearchSourceReader reader = new ElasticsearchSourceReader(new TestReaderContext(), config(Collections.emptyMap()), ROW_TYPE)) {
+            reader.open();
+            reader.addSplits(state);
+            reader.pollNext(collector);
+        }
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals("pit-2", bodies.get(0).get("pit").get("id").asText());
+        Assertions.assertEquals("[7]", bodies.get(0).get("search_after").toString());
+    }
+
+    @Test
+    void testReadSplitAgainWhenPointInTimeExpired() throws Exception {
+        responses = request -> {
+            switch (request) {
+                case "POST /test/_pit?keep_alive=1m":
+                    return "{\"id\": \"pit-3\"}";
+                case "DELETE /_pit":
+                    return "{\"succeeded\": true, \"num_freed\": 1}";
+                case "POST /_search":
+                    JsonNode body = bodies.get(bodies.size() - 1);
+                    if ("pit-1".equals(body.get("pit").get("id").asText())) {
+                        return "{\"error\": {\"root_cause\": [{\"type\": \"search_context_missing_exception\"}]}, \"status\": 404}";
+                    }
+                    // the index changed since the checkpoint: the document 1 was deleted and the document 4 added,
+                    // the sort values of the new point in time don't match the old ones
+                    if (!body.has("search_after")) {
+                        return "{\"pit_id\": \"pit-3\", \"hits\": {\"hits\": ["
+                                + "{\"_source\": {\"id\": 2, \"name\": \"b\"}, \"sort\": [2]},"
+                                + "{\"_source\": {\"id\": 3, \"name\": \"c\"}, \"sort\": [5]}]}}";
+                    }
+                    if ("[5]".equals(body.get("search_after").toString())) {
+                        return "{\"pit_id\": \"pit-3\", \"hits\": {\"hits\": [{\"_source\": {\"id\": 4, \"name\": \"d\"}, \"sort\": [9]}]}}";
+                    }
+                    return "{\"pit_id\": \"pit-3\", \"hits\": {\"hits\": []}}";
+                default:
+                    return "not found";
+            }
+        };
+        // restored after the keep_alive of the point in time, the documents before [7] were read by the old one
+        List<SeaTunnelRow> rows = read(new ElasticsearchSourceSplit("1", 1, 2, "pit-1", "[7]", false));
+
+        // the split is read again from its start, the document 2 may have been read before the checkpoint too
+        Assertions.assertEquals(Arrays.asList(new SeaTunnelRow(new Object[]{2, "b"}), new SeaTunnelRow(new Object[]{3, "c"}),
+                new SeaTunnelRow(new Object[]{4, "d"})), rows);
+        Assertions.assertEquals(Arrays.asList("POST /_search", "POST /test/_pit?keep_alive=1m", "POST /_search",
+                "POST /_search", "POST /_search", "DELETE /_pit"), requests);
+        Assertions.assertEquals("pit-3", bodies.get(1).get("pit").get("id").asText());
+        Assertions.assertFalse(bodies.get(1).has("search_after"));
+        Assertions.assertEquals("[5]", bodies.get(2).get("search_after").toString());
+        // the reader closes the point in time it opened for the split
+        Assertions.assertEquals("pit-3", bodies.get(4).get("id").asText());
+    }
+
+    @Test
+    void testReadWithScroll() throws Exception {
+        responses = request -> {
+            switch (request) {
+                case "POST /test/_search?scroll=1m":
+                    return "{\"_scroll_id\": \"scroll-1\", \"hits\": {\"hits\": [{\"_source\": {\"id\": 1, \"name\": \"a\"}}]}}";
+                case "POST /_search/scroll":
+                    return "{\"_scroll_id\": \"scroll-2\", \"hits\": {\"hits\": []}}";
+                case "DELETE /_search/scroll":
+                    return "{\"succeeded\": true}";
+                default:
+                    return "not found";
+            }
+        };
+        List<SeaTunnelRow> rows = read(new ElasticsearchSourceSplit("0", 0, 1, null, null, false));
+
+        Assertions.assertEquals(Collections.singletonList(new SeaTunnelRow(new Object[]{1, "a"})), rows);
+        Assertions.assertEquals(Arrays.asList("POST /test/_search?scroll=1m", "POST /_search/scroll",
+                "DELETE /_search/scroll"), requests);
+        Assertions.assertFalse(bodies.get(0).has("slice"));
+        Assertions.assertEquals("[\"_doc\"]", bodies.get(0).get("sort").toString());
+        Assertions.assertEquals("scroll-1", bodies.get(1).get("scroll_id").asText());
+        Assertions.assertEquals("[\"scroll-2\"]", bodies.get(2).get("scroll_id").toString());
+    }
+
+    @Test
+    void testSupportsPointInTime() {
+        Assertions.assertFalse(ElasticsearchSourceSplitEnumerator.supportsPointInTime("6.8.23"));
+        Assertions.assertFalse(ElasticsearchSourceSplitEnumerator.supportsPointInTime("7.14.0"));
+        Assertions.assertTrue(ElasticsearchSourceSplitEnumerator.supportsPointInTime("7.15.0"));
+        Assertions.assertTrue(ElasticsearchSourceSplitEnumerator.supportsPointInTime("8.0.0"));
+    }
+
+    @Test
+    void testAssignOneSplitPerPrimaryShard() throws Exception {
+        responses = request -> {
+            switch (request) {
+                case "GET /":
+                    return version("7.10.2");
+                case "GET /_cat/shards/test?format=json&h=prirep":
+                    return "[{\"prirep\": \"p\"}, {\"prirep\": \"r\"}, {\"prirep\": \"p\"}, {\"prirep\": \"p\"}]";
+                default:
+                    return "not found";
+            }
+        };
+        TestEnumeratorContext<ElasticsearchSourceSplit> context = new TestEnumeratorContext<>(2);
+        ElasticsearchSourceSplitEnumerator enumerator = new ElasticsearchSourceSplitEnumerator(context, config(Collections.emptyMap()));
+        enumerator.run();
+
+        Assertions.assertEquals(Arrays.asList("0", "2"), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Collections.singletonList("1"), context.getAssignedSplitIds(1));
+        Assertions.assertEquals(3, context.getAssignedSplits(1).get(0).getMaxSlices());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.getNoMoreSplits());
+        Assertions.assertEquals(3, enumerator.snapshotState(1).getAssignedSplitIds().size());
+        Assertions.assertNull(context.getAssignedSplits(0).get(0).getPitId());
+    }
+
+    @Test
+    void testSharePointInTimeAcrossSlices() throws Exception {
+        responses = request -> {
+            switch (request) {
+                case "GET /":
+                    return version("8.4.1");
+                case "POST /test/_pit?keep_alive=1m":
+                    return "{\"id\": \"pit-1\"}";
+                case "DELETE /_pit":
+                    return "{\"succeeded\": true, \"num_freed\": 1}";
+                default:
+                    return "not found";
+            }
+        };
+        Map<String, Object> options = new HashMap<>();
+        options.put("slice_count", 3);
+        ElasticsearchSourceSplitEnumerator enumerator = new ElasticsearchSourceSplitEnumerator(new TestEnumeratorContext<>(1), config(options));
+        List<ElasticsearchSourceSplit> splits = enumerator.discoverSplits();
+
+        Assertions.assertEquals(3, splits.size());
+        for (ElasticsearchSourceSplit split : splits) {
+            Assertions.assertEquals("pit-1", split.getPitId());
+            Assertions.assertNull(split.getSearchAfter());
+        }
+        Assertions.assertEquals(Arrays.asList("GET /", "POST /test/_pit?keep_alive=1m"), requests);
+
+        // the enumerator is closed after its readers finished
+        enumerator.close();
+        Assertions.assertEquals("DELETE /_pit", requests.get(2));
+        Assertions.assertEquals("pit-1", bodies.get(0).get("id").asText());
+    }
+
+    @Test
+    void testCloseRestoredPointInTime() throws Exception {
+        // the point in time expired before the job was restored
+        responses = request -> "not found";
+        List<ElasticsearchSourceSplit> splits = ElasticsearchSourceSplitEnumerator.createSplits(2, "pit-1");
+        ElasticsearchSourceSplitEnumerator enumerator = new ElasticsearchSourceSplitEnumerator(new TestEnumeratorContext<>(1),
+                config(Collections.emptyMap()), new ElasticsearchSourceState(splits, new HashSet<>()));
+        enumerator.close();
+        Assertions.assertEquals(Collections.singletonList("DELETE /_pit"), requests);
+    }
+
+    @Test
+    void testSliceCount() throws Exception {
+        responses = request -> "GET /".equals(request) ? version("7.10.2") : "not found";
+        Map<String, Object> options = new HashMap<>();
+        options.put("slice_count", 4);
+        Assertions.assertEquals(4, new ElasticsearchSourceSplitEnumerator(new TestEnumeratorContext<>(1), config(options))
+                .discoverSplits().size());
+
+        // elasticsearch 2.x can not slice a search
+        responses = request -> "GET /".equals(request) ? version("2.4.6") : "not found";
+        Assertions.assertEquals(1, new ElasticsearchSourceSplitEnumerator(new TestEnumeratorContext<>(1), config(options))
+                .discoverSplits().size());
+    }
+
+    private List<SeaTunnelRow> read(ElasticsearchSourceSplit split) throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put("scroll_size", 2);
+        options.put("query", Collections.singletonMap("term", Collections.singletonMap("name", "a")));
+        TestReaderContext context = new TestReaderContext();
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        Collector<SeaTunnelRow> collector = collector(rows);
+        try (ElasticsearchSourceReader reader = new ElasticsearchSourceReader(context, config(options), ROW_TYPE)) {
+            reader.open();
+            reader.addSplits(Collections.singletonList(split));
+            reader.handleNoMoreSplits();
+            while (!context.isNoMoreElement()) {
+                reader.pollNext(collector);
+            }
+            Assertions.assertTrue(reader.snapshotState(1).isEmpty());
+        }
+        return rows;
+    }
+
+    private String pointInTimeResponse(String request) {
+        if (!"POST /_search".equals(request)) {
+            return "not found";
+        }
+        if (bodies.get(bodies.size() - 1).has("search_after")) {
+            return "{\"pit_id\": \"pit-2\", \"hits\": {\"hits\": []}}";
+        }
+        return "{\"pit_id\": \"pit-2\", \"hits\": {\"hits\": ["
+                + "{\"_source\": {\"id\": 1, \"name\": \"a\"}, \"sort\": [3]},"
+                + "{\"_source\": {\"id\": 2}, \"sort\": [7]}]}}";
+    }
+
+    private static Collector<SeaTunnelRow> collector(List<SeaTunnelRow> rows) {
+        return new Collector<SeaTunnelRow>() {
+            @Override
+            public void collect(SeaTunnelRow record) {
+                rows.add(record);
+            }
+
+            @Override
+            public Object getCheckpointLock() {
+                return this;
+            }
+        };
+    }
+
+    private Config config(Map<String, Object> options) {
+        Map<String, Object> config = new HashMap<>(options);
+        config.put("hosts", Collections.singletonList("localhost:" + server.getAddress().getPort()));
+        config.put("index", "test");
+        return ConfigFactory.parseMap(config);
+    }
+
+    private static String version(String number) {
+        return String.format("{\"version\": {\"number\": \"%s\"}}", number);
+    }
+}
@@ -34,6 +34,7 @@ public class FakeConfig implements Serializable {
     public static final String ARRAY_SIZE = "array.size";
     public static final String BYTES_LENGTH = "bytes.length";
     public static final String STRING_LENGTH = "string.length";
+    public static final String COLUMNAR_BATCH_SIZE = "columnar.batch-size";
     private static final int DEFAULT_ROW_NUM = 5;
     private static final int DEFAULT_MAP_SIZE = 5;
     private static final int DEFAULT_ARRAY_SIZE = 5;
@@ -53,6 +54,8 @@ public class FakeConfig implements Serializable {
     private int bytesLength = DEFAULT_BYTES_LENGTH;
     @Builder.Default
     private int stringLength = DEFAULT_STRING_LENGTH;
+    @Builder.Default
+    private int columnarBatchSize = 0;
 
     public static FakeConfig buildWithConfig(Config config) {
         FakeConfigBuilder builder = FakeConfig.builder();
@@ -77,6 +80,9 @@ public class FakeConfig implements Serializable {
         if (config.hasPath(STRING_LENGTH)) {
             builder.stringLength(config.getInt(STRING_LENGTH));
         }
+        if (config.hasPath(COLUMNAR_BATCH_SIZE)) {
+            builder.columnarBatchSize(config.getInt(COLUMNAR_BATCH_SIZE));
+        }
         return builder.build();
     }
 }
@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.seatunnel.fake.source;
 
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnVector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -66,6 +68,57 @@ public class FakeDataGenerator {
         return seaTunnelRows;
     }
 
+    /**
+     * Generates the rows column by column into batches of the batch size, the last batch may be smaller. The values of
+     * the numeric and boolean columns are set with the primitive setters, without boxing them.
+     */
+    public List<ColumnarBatch> generateFakedBatches(int rowNum, int batchSize) {
+        SeaTunnelRowType seaTunnelRowType = schema.getSeaTunnelRowType();
+        SeaTunnelDataType<?>[] fieldTypes = seaTunnelRowType.getFieldTypes();
+        List<ColumnarBatch> batches = new ArrayList<>();
+        for (int start = 0; start < rowNum; start += batchSize) {
+            int size = Math.min(batchSize, rowNum - start);
+            ColumnarBatch batch = new ColumnarBatch(seaTunnelRowType, size);
+            for (int i = 0; i < fieldTypes.length; i++) {
+                ColumnVector column = batch.getColumn(i);
+                for (int row = 0; row < size; row++) {
+                    setRandomColumnValue(column, row, fieldTypes[i]);
+                }
+            }
+            batch.setRowCount(size);
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void setRandomColumnValue(ColumnVector column, int row, SeaTunnelDataType<?> fieldType) {
+        switch (fieldType.getSqlType()) {
+            case BOOLEAN:
+                ((ColumnVector.BooleanVector) column).setBoolean(row, randomBoolean());
+                break;
+            case TINYINT:
+                ((ColumnVector.ByteVector) column).setByte(row, randomTinyint());
+                break;
+            case SMALLINT:
+                ((ColumnVector.ShortVector) column).setShort(row, randomSmallint());
+                break;
+            case INT:
+                ((ColumnVector.IntVector) column).setInt(row, randomInt());
+                break;
+            case BIGINT:
+                ((ColumnVector.LongVector) column).setLong(row, randomBigint());
+                break;
+            case FLOAT:
+                ((ColumnVector.FloatVector) column).setFloat(row, randomFloat());
+                break;
+            case DOUBLE:
+                ((ColumnVector.DoubleVector) column).setDouble(row, randomDouble());
+                break;
+            default:
+                column.setObject(row, randomColumnValue(fieldType));
+        }
+    }
+
     @SuppressWarnings("magicnumber")
     private Object randomColumnValue(SeaTunnelDataType<?> fieldType) {
         switch (fieldType.getSqlType()) {
@@ -94,19 +147,19 @@ public class FakeDataGenerator {
             case STRING:
                 return RandomStringUtils.randomAlphabetic(fakeConfig.getStringLength());
             case BOOLEAN:
-                return RandomUtils.nextInt(0, 2) == 1;
+                return randomBoolean();
             case TINYINT:
-                return (byte) RandomUtils.nextInt(0, 255);
+                return randomTinyint();
             case SMALLINT:
-                return (short) RandomUtils.nextInt(Byte.MAX_VALUE, Short.MAX_VALUE);
+                return randomSmallint();
             case INT:
-                return RandomUtils.nextInt(Short.MAX_VALUE, Integer.MAX_VALUE);
+                return randomInt();
             case BIGINT:
-                return RandomUtils.nextLong(Integer.MAX_VALUE, Long.MAX_VALUE);
+                return randomBigint();
             case FLOAT:
-                return RandomUtils.nextFloat(Float.MIN_VALUE, Float.MAX_VALUE);
+                return randomFloat();
             case DOUBLE:
-                return RandomUtils.nextDouble(Float.MAX_VALUE, Double.MAX_VALUE);
+                return randomDouble();
             case DECIMAL:
                 DecimalType decimalType = (DecimalType) fieldType;
                 return new BigDecimal(RandomStringUtils.randomNumeric(decimalType.getPrecision() - decimalType.getScale()) + "." +
@@ -135,6 +188,35 @@ public class FakeDataGenerator {
         }
     }
 
+    private static boolean randomBoolean() {
+        return RandomUtils.nextInt(0, 2) == 1;
+    }
+
+    @SuppressWarnings("magicnumber")
+    private static byte randomTinyint() {
+        return (byte) RandomUtils.nextInt(0, 255);
+    }
+
+    private static short randomSmallint() {
+        return (short) RandomUtils.nextInt(Byte.MAX_VALUE, Short.MAX_VALUE);
+    }
+
+    private static int randomInt() {
+        return RandomUtils.nextInt(Short.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static long randomBigint() {
+        return RandomUtils.nextLong(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private static float randomFloat() {
+        return RandomUtils.nextFloat(Float.MIN_VALUE, Float.MAX_VALUE);
+    }
+
+    private static double randomDouble() {
+        return RandomUtils.nextDouble(Float.MAX_VALUE, Double.MAX_VALUE);
+    }
+
     @SuppressWarnings("magicnumber")
     private LocalDateTime randomLocalDateTime() {
         return LocalDateTime.of(
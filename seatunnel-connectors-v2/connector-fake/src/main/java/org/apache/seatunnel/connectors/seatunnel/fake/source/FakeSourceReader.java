@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.fake.source;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
 import org.apache.seatunnel.connectors.seatunnel.fake.config.FakeConfig;
@@ -71,9 +72,16 @@ public class FakeSourceReader implements SourceReader<SeaTunnelRow, FakeSourceSp
             FakeSourceSplit split = splits.poll();
             if (null != split) {
                 // Generate a random number of rows to emit.
-                List<SeaTunnelRow> seaTunnelRows = fakeDataGenerator.generateFakedRows(split.getRowNum());
-                for (SeaTunnelRow seaTunnelRow : seaTunnelRows) {
-                    output.collect(seaTunnelRow);
+                if (config.getColumnarBatchSize() > 0) {
+                    for (ColumnarBatch batch : fakeDataGenerator.generateFakedBatches(split.getRowNum(),
+                        config.getColumnarBatchSize())) {
+                        output.collectBatch(batch);
+                    }
+                } else {
+                    List<SeaTunnelRow> seaTunnelRows = fakeDataGenerator.generateFakedRows(split.getRowNum());
+                    for (SeaTunnelRow seaTunnelRow : seaTunnelRows) {
+                        output.collect(seaTunnelRow);
+                    }
                 }
                 log.info("{} rows of data have been generated in split({}). Generation time: {}", split.getRowNum(), split.splitId(), latestTimestamp);
             } else {
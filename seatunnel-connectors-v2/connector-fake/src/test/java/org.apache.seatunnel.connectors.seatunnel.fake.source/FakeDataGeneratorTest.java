@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.fake.source;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
@@ -73,6 +74,21 @@ public class FakeDataGeneratorTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"complex.schema.conf", "simple.schema.conf"})
+    public void testGenerateBatches(String conf) throws FileNotFoundException, URISyntaxException {
+        Config testConfig = getTestConfigFile(conf);
+        SeaTunnelSchema seaTunnelSchema = SeaTunnelSchema.buildWithConfig(testConfig.getConfig(SeaTunnelSchema.SCHEMA));
+        FakeConfig fakeConfig = FakeConfig.buildWithConfig(testConfig);
+        FakeDataGenerator fakeDataGenerator = new FakeDataGenerator(seaTunnelSchema, fakeConfig);
+        List<ColumnarBatch> batches = fakeDataGenerator.generateFakedBatches(fakeConfig.getRowNum(), 4);
+        Assertions.assertEquals(3, batches.size());
+        Assertions.assertEquals(4, batches.get(0).getRowCount());
+        Assertions.assertEquals(2, batches.get(2).getRowCount());
+        SeaTunnelRow row = batches.get(2).getRow(1);
+        Assertions.assertEquals(seaTunnelSchema.getSeaTunnelRowType().getTotalFields(), row.getArity());
+    }
+
     private Config getTestConfigFile(String configFile) throws FileNotFoundException, URISyntaxException {
         if (!configFile.startsWith("/")) {
             configFile = "/" + configFile;
@@ -43,6 +43,8 @@ public class JdbcConfig implements Serializable {
 
     public static final String BATCH_INTERVAL_MS = "batch_interval_ms";
 
+    public static final String MAX_IN_FLIGHT_BATCHES = "max_in_flight_batches";
+
 
     public static final String IS_EXACTLY_ONCE = "is_exactly_once";
 
@@ -53,12 +55,21 @@ public class JdbcConfig implements Serializable {
 
     public static final String TRANSACTION_TIMEOUT_SEC = "transaction_timeout_sec";
 
+    public static final String TABLE = "table";
+
+    public static final String PRIMARY_KEYS = "primary_keys";
+
+    public static final String ROWS_PER_STATEMENT = "rows_per_statement";
+
+    public static final String BULK_LOAD = "bulk_load";
+
 
     //source config
     public static final String PARTITION_COLUMN = "partition_column";
     public static final String PARTITION_UPPER_BOUND = "partition_upper_bound";
     public static final String PARTITION_LOWER_BOUND = "partition_lower_bound";
     public static final String PARTITION_NUM = "partition_num";
+    public static final String FETCH_SIZE = "fetch_size";
 
     public static JdbcConnectionOptions buildJdbcConnectionOptions(Config config) {
 
@@ -71,7 +82,9 @@ public class JdbcConfig implements Serializable {
         if (config.hasPath(JdbcConfig.PASSWORD)) {
             jdbcOptions.password = config.getString(JdbcConfig.PASSWORD);
         }
-        jdbcOptions.query = config.getString(JdbcConfig.QUERY);
+        if (config.hasPath(JdbcConfig.QUERY)) {
+            jdbcOptions.query = config.getString(JdbcConfig.QUERY);
+        }
 
         if (config.hasPath(JdbcConfig.MAX_RETRIES)) {
             jdbcOptions.maxRetries = config.getInt(JdbcConfig.MAX_RETRIES);
@@ -85,6 +98,9 @@ public class JdbcConfig implements Serializable {
         if (config.hasPath(JdbcConfig.BATCH_INTERVAL_MS)) {
             jdbcOptions.batchIntervalMs = config.getInt(JdbcConfig.BATCH_INTERVAL_MS);
         }
+        if (config.hasPath(JdbcConfig.MAX_IN_FLIGHT_BATCHES)) {
+            jdbcOptions.maxInFlightBatches = config.getInt(JdbcConfig.MAX_IN_FLIGHT_BATCHES);
+        }
 
         if (config.hasPath(JdbcConfig.IS_EXACTLY_ONCE)) {
             jdbcOptions.xaDataSourceClassName = config.getString(JdbcConfig.XA_DATA_SOURCE_CLASS_NAME);
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.config;
 
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConfig.buildJdbcConnectionOptions;
+import static com.google.common.base.Preconditions.checkArgument;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
 
@@ -27,17 +28,42 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
 public class JdbcSinkOptions implements Serializable {
     private JdbcConnectionOptions jdbcConnectionOptions;
     private boolean isExactlyOnce;
+    /**
+     * The table the statements are generated for, instead of executing the configured query.
+     */
+    private String table;
+    private List<String> primaryKeys = Collections.emptyList();
+    private int rowsPerStatement = 1;
+    private boolean bulkLoad;
 
     public JdbcSinkOptions(Config config) {
         this.jdbcConnectionOptions = buildJdbcConnectionOptions(config);
         if (config.hasPath(JdbcConfig.IS_EXACTLY_ONCE) && config.getBoolean(JdbcConfig.IS_EXACTLY_ONCE)) {
             this.isExactlyOnce = true;
         }
+        if (config.hasPath(JdbcConfig.TABLE)) {
+            this.table = config.getString(JdbcConfig.TABLE);
+        }
+        if (config.hasPath(JdbcConfig.PRIMARY_KEYS)) {
+            this.primaryKeys = config.getStringList(JdbcConfig.PRIMARY_KEYS);
+        }
+        if (config.hasPath(JdbcConfig.ROWS_PER_STATEMENT)) {
+            this.rowsPerStatement = config.getInt(JdbcConfig.ROWS_PER_STATEMENT);
+        }
+        if (config.hasPath(JdbcConfig.BULK_LOAD)) {
+            this.bulkLoad = config.getBoolean(JdbcConfig.BULK_LOAD);
+        }
+        checkArgument(table == null ^ jdbcConnectionOptions.getQuery() == null,
+            "Exactly one of %s and %s must be set", JdbcConfig.QUERY, JdbcConfig.TABLE);
+        checkArgument(rowsPerStatement > 0, "%s must be positive", JdbcConfig.ROWS_PER_STATEMENT);
+        checkArgument(!bulkLoad || primaryKeys.isEmpty(), "%s only supports tables without %s", JdbcConfig.BULK_LOAD, JdbcConfig.PRIMARY_KEYS);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.config;
 
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConfig.buildJdbcConnectionOptions;
+import static com.google.common.base.Preconditions.checkArgument;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
 
@@ -37,9 +38,11 @@ public class JdbcSourceOptions implements Serializable {
     private Long partitionUpperBound;
     private Long partitionLowerBound;
     private Integer partitionNumber;
+    private int fetchSize;
 
     public JdbcSourceOptions(Config config) {
         this.jdbcConnectionOptions = buildJdbcConnectionOptions(config);
+        checkArgument(jdbcConnectionOptions.getQuery() != null, "The query of the jdbc source must be set");
         if (config.hasPath(JdbcConfig.PARTITION_COLUMN)) {
             this.partitionColumn = config.getString(JdbcConfig.PARTITION_COLUMN);
         }
@@ -52,6 +55,9 @@ public class JdbcSourceOptions implements Serializable {
         if (config.hasPath(JdbcConfig.PARTITION_NUM)) {
             this.partitionNumber = config.getInt(JdbcConfig.PARTITION_NUM);
         }
+        if (config.hasPath(JdbcConfig.FETCH_SIZE)) {
+            this.fetchSize = config.getInt(JdbcConfig.FETCH_SIZE);
+        }
     }
 
     public JdbcConnectionOptions getJdbcConnectionOptions() {
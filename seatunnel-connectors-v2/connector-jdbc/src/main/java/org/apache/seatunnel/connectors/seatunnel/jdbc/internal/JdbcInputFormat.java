@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
 
 import org.slf4j.Logger;
@@ -51,27 +52,35 @@ public class JdbcInputFormat implements Serializable {
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcInputFormat.class);
 
     protected JdbcConnectionProvider connectionProvider;
+    protected JdbcDialect jdbcDialect;
     protected JdbcRowConverter jdbcRowConverter;
     protected String queryTemplate;
     protected SeaTunnelRowType typeInfo;
+    /**
+     * The number of rows fetched per round trip, 0 to use the streaming default of the dialect.
+     */
     protected int fetchSize;
     // Boolean to distinguish between default value and explicitly set autoCommit mode.
     protected Boolean autoCommit;
+    // The auto commit mode to restore on close when it was disabled for the dialect to stream rows.
+    protected transient Boolean previousAutoCommit;
 
     protected transient PreparedStatement statement;
+    protected transient PreparedStatement splitStatement;
     protected transient ResultSet resultSet;
 
     protected boolean hasNext;
 
     public JdbcInputFormat(JdbcConnectionProvider connectionProvider,
-                           JdbcRowConverter jdbcRowConverter,
+                           JdbcDialect jdbcDialect,
                            SeaTunnelRowType typeInfo,
                            String queryTemplate,
                            int fetchSize,
                            Boolean autoCommit
     ) {
         this.connectionProvider = connectionProvider;
-        this.jdbcRowConverter = jdbcRowConverter;
+        this.jdbcDialect = jdbcDialect;
+        this.jdbcRowConverter = jdbcDialect.getRowConverter();
         this.typeInfo = typeInfo;
         this.queryTemplate = queryTemplate;
         this.fetchSize = fetchSize;
@@ -87,12 +96,12 @@ public class JdbcInputFormat implements Serializable {
             // keep connection default otherwise.
             if (autoCommit != null) {
                 dbConn.setAutoCommit(autoCommit);
+            } else if (!jdbcDialect.supportsStreamingInAutoCommit() && dbConn.getAutoCommit()) {
+                previousAutoCommit = true;
+                dbConn.setAutoCommit(false);
             }
 
-            statement = dbConn.prepareStatement(queryTemplate);
-            if (fetchSize == Integer.MIN_VALUE || fetchSize > 0) {
-                statement.setFetchSize(fetchSize);
-            }
+            statement = prepareStatement(dbConn, queryTemplate);
         } catch (SQLException se) {
             throw new IllegalArgumentException("open() failed." + se.getMessage(), se);
         } catch (ClassNotFoundException cnfe) {
@@ -101,6 +110,10 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    private PreparedStatement prepareStatement(Connection dbConn, String query) throws SQLException {
+        return jdbcDialect.createPreparedStatement(dbConn, query, fetchSize);
+    }
+
     public void closeInputFormat() {
         // called once per inputFormat (on close)
         try {
@@ -113,6 +126,16 @@ public class JdbcInputFormat implements Serializable {
             statement = null;
         }
 
+        try {
+            if (previousAutoCommit != null) {
+                connectionProvider.getConnection().setAutoCommit(previousAutoCommit);
+            }
+        } catch (SQLException se) {
+            LOG.info("Inputformat auto commit mode couldn't be restored - " + se.getMessage());
+        } finally {
+            previousAutoCommit = null;
+        }
+
         connectionProvider.closeConnection();
 
     }
@@ -126,36 +149,42 @@ public class JdbcInputFormat implements Serializable {
      */
     public void open(JdbcSourceSplit inputSplit) throws IOException {
         try {
+            PreparedStatement currentStatement = statement;
+            if (inputSplit.getSplitQuery() != null) {
+                // splits planned from sampled keys carry their own range predicates
+                splitStatement = prepareStatement(connectionProvider.getOrEstablishConnection(), inputSplit.getSplitQuery());
+                currentStatement = splitStatement;
+            }
             Object[] parameterValues = inputSplit.getParameterValues();
             if (parameterValues != null) {
                 for (int i = 0; i < parameterValues.length; i++) {
                     Object param = parameterValues[i];
                     if (param instanceof String) {
-                        statement.setString(i + 1, (String) param);
+                        currentStatement.setString(i + 1, (String) param);
                     } else if (param instanceof Long) {
-                        statement.setLong(i + 1, (Long) param);
+                        currentStatement.setLong(i + 1, (Long) param);
                     } else if (param instanceof Integer) {
-                        statement.setInt(i + 1, (Integer) param);
+                        currentStatement.setInt(i + 1, (Integer) param);
                     } else if (param instanceof Double) {
-                        statement.setDouble(i + 1, (Double) param);
+                        currentStatement.setDouble(i + 1, (Double) param);
                     } else if (param instanceof Boolean) {
-                        statement.setBoolean(i + 1, (Boolean) param);
+                        currentStatement.setBoolean(i + 1, (Boolean) param);
                     } else if (param instanceof Float) {
-                        statement.setFloat(i + 1, (Float) param);
+                        currentStatement.setFloat(i + 1, (Float) param);
                     } else if (param instanceof BigDecimal) {
-                        statement.setBigDecimal(i + 1, (BigDecimal) param);
+                        currentStatement.setBigDecimal(i + 1, (BigDecimal) param);
                     } else if (param instanceof Byte) {
-                        statement.setByte(i + 1, (Byte) param);
+                        currentStatement.setByte(i + 1, (Byte) param);
                     } else if (param instanceof Short) {
-                        statement.setShort(i + 1, (Short) param);
+                        currentStatement.setShort(i + 1, (Short) param);
                     } else if (param instanceof Date) {
-                        statement.setDate(i + 1, (Date) param);
+                        currentStatement.setDate(i + 1, (Date) param);
                     } else if (param instanceof Time) {
-                        statement.setTime(i + 1, (Time) param);
+                        currentStatement.setTime(i + 1, (Time) param);
                     } else if (param instanceof Timestamp) {
-                        statement.setTimestamp(i + 1, (Timestamp) param);
+                        currentStatement.setTimestamp(i + 1, (Timestamp) param);
                     } else if (param instanceof Array) {
-                        statement.setArray(i + 1, (Array) param);
+                        currentStatement.setArray(i + 1, (Array) param);
                     } else {
                         // extends with other types if needed
                         throw new IllegalArgumentException(
@@ -167,10 +196,13 @@ public class JdbcInputFormat implements Serializable {
                     }
                 }
             }
-            resultSet = statement.executeQuery();
+            resultSet = currentStatement.executeQuery();
             hasNext = resultSet.next();
         } catch (SQLException se) {
             throw new IllegalArgumentException("open() failed." + se.getMessage(), se);
+        } catch (ClassNotFoundException cnfe) {
+            throw new IllegalArgumentException(
+                "JDBC-Class not found. - " + cnfe.getMessage(), cnfe);
         }
     }
 
@@ -188,6 +220,15 @@ public class JdbcInputFormat implements Serializable {
         } catch (SQLException se) {
             LOG.info("Inputformat ResultSet couldn't be closed - " + se.getMessage());
         }
+        if (splitStatement != null) {
+            try {
+                splitStatement.close();
+            } catch (SQLException se) {
+                LOG.info("Inputformat split Statement couldn't be closed - " + se.getMessage());
+            } finally {
+                splitStatement = null;
+            }
+        }
     }
 
     /**
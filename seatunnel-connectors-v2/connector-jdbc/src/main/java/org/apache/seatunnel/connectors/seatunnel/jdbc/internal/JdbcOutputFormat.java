@@ -17,8 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.apache.seatunnel.connectors.seatunnel.common.sink.BatchFlusher;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
@@ -32,15 +34,21 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 /**
- * A JDBC outputFormat
+ * A JDBC outputFormat which buffers the records of the task thread and executes the full batches on a background
+ * flusher thread, so the task keeps filling the next batch while the previous one is written. At most
+ * {@link JdbcConnectionOptions#getMaxInFlightBatches()} batches are submitted and not yet written, the task thread is
+ * blocked when it completes another batch. The connection and the statement executor are only used by the flusher.
  */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
     implements Serializable {
@@ -55,12 +63,14 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
     private final StatementExecutorFactory<E> statementExecutorFactory;
 
     private transient E jdbcStatementExecutor;
-    private transient int batchCount = 0;
+    private transient List<I> buffer;
     private transient volatile boolean closed = false;
 
+    private transient BatchFlusher<I> flusher;
+    private transient FlushMetrics flushMetrics;
+
     private transient ScheduledExecutorService scheduler;
     private transient ScheduledFuture<?> scheduledFuture;
-    private transient volatile Exception flushException;
 
     public JdbcOutputFormat(
         JdbcConnectionProvider connectionProvider,
@@ -69,6 +79,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         this.connectionProvider = checkNotNull(connectionProvider);
         this.jdbcConnectionOptions = checkNotNull(jdbcConnectionOptions);
         this.statementExecutorFactory = checkNotNull(statementExecutorFactory);
+        checkArgument(jdbcConnectionOptions.getMaxInFlightBatches() > 0, "max_in_flight_batches must be positive");
     }
 
     /**
@@ -84,6 +95,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
             throw new IOException("unable to open JDBC writer", e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        buffer = new ArrayList<>();
+        flushMetrics = new FlushMetrics();
+        flusher = new BatchFlusher<>("jdbc-output-format-flusher", jdbcConnectionOptions.getMaxInFlightBatches(),
+            this::writeBatch);
 
         if (jdbcConnectionOptions.getBatchIntervalMs() != 0 && jdbcConnectionOptions.getBatchSize() != 1) {
             this.scheduler =
@@ -99,13 +114,9 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
                 this.scheduler.scheduleWithFixedDelay(
                     () -> {
                         synchronized (JdbcOutputFormat.this) {
-                            if (!closed) {
-                                try {
-                                    flush();
-                                }
-                                catch (Exception e) {
-                                    flushException = e;
-                                }
+                            // a busy flusher writes the buffer with the next full batch or tick instead
+                            if (!closed && !buffer.isEmpty() && flusher.trySubmit(buffer)) {
+                                buffer = new ArrayList<>();
                             }
                         }
                     },
@@ -129,24 +140,19 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
     }
 
     private void checkFlushException() {
-        if (flushException != null) {
-            throw new RuntimeException("Writing records to JDBC failed.", flushException);
+        if (flusher != null && flusher.getFlushException() != null) {
+            throw new RuntimeException("Writing records to JDBC failed.", flusher.getFlushException());
         }
     }
 
     public final synchronized void writeRecord(I record)
         throws IOException {
         checkFlushException();
-        try {
-            addToBatch(record);
-            batchCount++;
-            if (jdbcConnectionOptions.getBatchSize() > 0
-                && batchCount >= jdbcConnectionOptions.getBatchSize()) {
-                flush();
-            }
-        }
-        catch (Exception e) {
-            throw new IOException("Writing records to JDBC failed.", e);
+        buffer.add(record);
+        if (jdbcConnectionOptions.getBatchSize() > 0
+            && buffer.size() >= jdbcConnectionOptions.getBatchSize()) {
+            // keep the monitor while waiting, the batches must be submitted in the order of the records
+            submitBuffer();
         }
     }
 
@@ -155,14 +161,40 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         jdbcStatementExecutor.addToBatch(record);
     }
 
-    public synchronized void flush()
+    /**
+     * Submits the buffered records and waits until all submitted batches are written.
+     */
+    public void flush()
         throws IOException {
         checkFlushException();
+        synchronized (this) {
+            if (!buffer.isEmpty()) {
+                submitBuffer();
+            }
+        }
+        flusher.waitForBatches();
+        checkFlushException();
+    }
+
+    /**
+     * Hands the buffered records to the flusher, the caller holds the monitor.
+     */
+    private void submitBuffer()
+        throws IOException {
+        flusher.submit(buffer);
+        buffer = new ArrayList<>();
+    }
+
+    private void writeBatch(List<I> batch)
+        throws IOException, SQLException {
+        long start = System.nanoTime();
+        for (I record : batch) {
+            addToBatch(record);
+        }
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionOptions.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             }
             catch (SQLException e) {
@@ -191,6 +223,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
                 }
             }
         }
+        flushMetrics.record(batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     protected void attemptFlush()
@@ -210,14 +243,20 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
                 this.scheduler.shutdown();
             }
 
-            if (batchCount > 0) {
+            if (flusher != null) {
                 try {
-                    flush();
+                    if (flusher.getFlushException() == null) {
+                        flush();
+                    }
                 }
                 catch (Exception e) {
                     LOG.warn("Writing records to JDBC failed.", e);
                     throw new RuntimeException("Writing records to JDBC failed.", e);
                 }
+                finally {
+                    flusher.close();
+                }
+                LOG.info("Closed JDBC writer, {}", flushMetrics);
             }
 
             try {
@@ -245,6 +284,57 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         return connectionProvider.getConnection();
     }
 
+    public FlushMetrics getFlushMetrics() {
+        return flushMetrics;
+    }
+
+    /**
+     * The batch sizes and flush latencies of the batches written by the flusher.
+     */
+    public static class FlushMetrics {
+
+        private final AtomicLong flushedBatches = new AtomicLong();
+        private final AtomicLong flushedRecords = new AtomicLong();
+        private final AtomicLong totalFlushLatencyMs = new AtomicLong();
+        private final AtomicLong maxFlushLatencyMs = new AtomicLong();
+
+        void record(int batchSize, long flushLatencyMs) {
+            flushedBatches.incrementAndGet();
+            flushedRecords.addAndGet(batchSize);
+            totalFlushLatencyMs.addAndGet(flushLatencyMs);
+            maxFlushLatencyMs.accumulateAndGet(flushLatencyMs, Math::max);
+            LOG.debug("Flushed a batch of {} records in {} ms", batchSize, flushLatencyMs);
+        }
+
+        public long getFlushedBatches() {
+            return flushedBatches.get();
+        }
+
+        public long getFlushedRecords() {
+            return flushedRecords.get();
+        }
+
+        public long getAverageBatchSize() {
+            long batches = flushedBatches.get();
+            return batches == 0 ? 0 : flushedRecords.get() / batches;
+        }
+
+        public long getAverageFlushLatencyMs() {
+            long batches = flushedBatches.get();
+            return batches == 0 ? 0 : totalFlushLatencyMs.get() / batches;
+        }
+
+        public long getMaxFlushLatencyMs() {
+            return maxFlushLatencyMs.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("flushed %d records in %d batches, average batch size %d, average flush latency %d ms, max flush latency %d ms",
+                getFlushedRecords(), getFlushedBatches(), getAverageBatchSize(), getAverageFlushLatencyMs(), getMaxFlushLatencyMs());
+        }
+    }
+
     /**
      * A factory for creating {@link JdbcBatchStatementExecutor} instance.
      *
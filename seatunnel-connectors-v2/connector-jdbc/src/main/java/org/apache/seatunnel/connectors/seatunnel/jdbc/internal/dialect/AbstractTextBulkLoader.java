@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A {@link JdbcBulkLoader} which streams the rows from memory in the tab separated text format shared by the COPY
+ * command of PostgreSQL and LOAD DATA of MySQL: fields are separated by tabs, rows by newlines, NULL is written as
+ * {@code \N} and backslashes, tabs and newlines in values are escaped with a backslash.
+ */
+public abstract class AbstractTextBulkLoader implements JdbcBulkLoader {
+
+    private static final String NULL_VALUE = "\\N";
+
+    @Override
+    public long load(Connection connection, String tableName, String[] fieldNames, List<SeaTunnelRow> rows) throws SQLException {
+        return load(connection, tableName, fieldNames, new ByteArrayInputStream(encode(rows)));
+    }
+
+    /**
+     * Load the encoded rows into the table.
+     */
+    protected abstract long load(Connection connection, String tableName, String[] fieldNames, InputStream data) throws SQLException;
+
+    byte[] encode(List<SeaTunnelRow> rows) {
+        StringBuilder builder = new StringBuilder();
+        for (SeaTunnelRow row : rows) {
+            for (int i = 0; i < row.getArity(); i++) {
+                if (i > 0) {
+                    builder.append('\t');
+                }
+                appendValue(builder, row.getField(i));
+            }
+            builder.append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    protected void appendValue(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append(NULL_VALUE);
+        } else if (value instanceof Boolean) {
+            builder.append(formatBoolean((Boolean) value));
+        } else if (value instanceof byte[]) {
+            builder.append(formatBytes((byte[]) value));
+        } else if (value instanceof BigDecimal) {
+            builder.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof LocalDateTime) {
+            builder.append(value.toString().replace('T', ' '));
+        } else {
+            appendEscaped(builder, value.toString());
+        }
+    }
+
+    protected abstract String formatBoolean(boolean value);
+
+    protected abstract String formatBytes(byte[] value);
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+}
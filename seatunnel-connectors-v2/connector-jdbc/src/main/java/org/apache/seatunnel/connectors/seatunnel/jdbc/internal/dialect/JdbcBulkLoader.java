@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loads rows into a table through the native bulk load path of a database, e.g. COPY of PostgreSQL.
+ */
+public interface JdbcBulkLoader extends Serializable {
+
+    /**
+     * Load the rows into the table.
+     *
+     * @param connection the connection to the database
+     * @param tableName  the table to load into
+     * @param fieldNames the column names of the fields of the rows
+     * @param rows       the rows to load
+     * @return the number of loaded rows
+     */
+    long load(Connection connection, String tableName, String[] fieldNames, List<SeaTunnelRow> rows) throws SQLException;
+
+    /**
+     * Whether fields of the type can be bulk loaded, checked for every field before the first row is written.
+     */
+    default boolean supportsType(SeaTunnelDataType<?> type) {
+        return true;
+    }
+}
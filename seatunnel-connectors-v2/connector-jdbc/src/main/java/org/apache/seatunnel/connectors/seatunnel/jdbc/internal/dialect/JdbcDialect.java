@@ -20,6 +20,16 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
 
 /**
  * Represents a dialect of SQL implemented by a particular JDBC system. Dialects should be immutable
@@ -49,4 +59,144 @@ public interface JdbcDialect extends Serializable {
      */
     JdbcDialectTypeMapper getJdbcDialectTypeMapper();
 
+    /**
+     * Create a statement which streams the result of the query from the database instead of buffering the whole
+     * result set in memory. Dialects override it when their driver needs specific settings to stream rows.
+     *
+     * @param connection the connection to the database
+     * @param query      the query to prepare
+     * @param fetchSize  the number of rows to fetch per round trip, 0 to use the default of the dialect
+     * @return the prepared statement
+     */
+    default PreparedStatement createPreparedStatement(Connection connection, String query, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize == Integer.MIN_VALUE || fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
+
+    /**
+     * Whether the driver streams the rows of a query in auto commit mode. Callers disable auto commit while
+     * reading when it returns false and the user didn't configure the mode, and restore it afterwards.
+     *
+     * @return false if the driver only fetches rows with a cursor inside a transaction
+     */
+    default boolean supportsStreamingInAutoCommit() {
+        return true;
+    }
+
+    /**
+     * Estimate the number of rows returned by the query, used to size the sample taken for split planning.
+     * Dialects should use the statistics of the optimizer, counting the rows would scan the whole query once more.
+     *
+     * @param connection the connection to the database
+     * @param query      the query to estimate
+     * @return the estimated row count of the query, empty if the dialect has no estimate. Then the splits are cut
+     * into equal ranges between the MIN and MAX of the key instead of sampling it.
+     */
+    default OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Whether the database has a random function to sample the split keys with, see
+     * {@link #getRandomSamplingPredicate(double)}. Otherwise the splits are equally wide ranges between the MIN and
+     * MAX of the key.
+     */
+    default boolean supportsRandomSampling() {
+        return false;
+    }
+
+    /**
+     * Get a predicate which randomly keeps roughly the given fraction of the rows, used to sample the split keys
+     * on the database side. Only called if {@link #supportsRandomSampling()} returns true.
+     *
+     * @param samplingRate the fraction of rows to keep, between 0 and 1
+     * @return the predicate
+     */
+    default String getRandomSamplingPredicate(double samplingRate) {
+        throw new UnsupportedOperationException(dialectName() + " doesn't support random sampling");
+    }
+
+    /**
+     * Quote an identifier, e.g. a table or column name, so it can be used in generated statements.
+     */
+    default String quoteIdentifier(String identifier) {
+        return identifier;
+    }
+
+    /**
+     * Whether the database accepts several rows in the VALUES clause of one INSERT statement.
+     */
+    default boolean supportsMultiRowValues() {
+        return true;
+    }
+
+    /**
+     * Get the statement which inserts the given number of rows of the fields into the table.
+     */
+    default String getInsertIntoStatement(String tableName, String[] fieldNames, int rowCount) {
+        return String.format("INSERT INTO %s (%s) VALUES %s", quoteIdentifier(tableName),
+            quoteIdentifiers(fieldNames), valuesPlaceholders(fieldNames.length, rowCount));
+    }
+
+    /**
+     * Get the statement which inserts the given number of rows into the table, or updates the existing rows with the
+     * same unique key.
+     *
+     * @return the upsert statement, or empty if the dialect does not support upserts, in which case the existing rows
+     * are deleted before inserting the new ones
+     */
+    default Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        return Optional.empty();
+    }
+
+    /**
+     * Get the statement which deletes the row with the given key from the table.
+     */
+    default String getDeleteStatement(String tableName, String[] conditionFields) {
+        String condition = Arrays.stream(conditionFields)
+            .map(field -> quoteIdentifier(field) + " = ?")
+            .collect(Collectors.joining(" AND "));
+        return String.format("DELETE FROM %s WHERE %s", quoteIdentifier(tableName), condition);
+    }
+
+    /**
+     * Get the native bulk load path of the database, which is much faster than batched INSERT statements.
+     *
+     * @return the bulk loader, or empty if the database has no native bulk load path
+     */
+    default Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.empty();
+    }
+
+    default String quoteIdentifiers(String[] identifiers) {
+        return Arrays.stream(identifiers).map(this::quoteIdentifier).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Build the placeholders of a VALUES clause, e.g. {@code (?, ?), (?, ?)} for two rows of two fields.
+     */
+    static String valuesPlaceholders(int fieldCount, int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(fieldCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    /**
+     * Quote every part of a qualified identifier like {@code database.table} with the given quote characters.
+     */
+    static String quoteIdentifierParts(String identifier, String openQuote, String closeQuote) {
+        return Arrays.stream(identifier.split("\\."))
+            .map(part -> openQuote + part + closeQuote)
+            .collect(Collectors.joining("."));
+    }
+
+    /**
+     * Get the fields which are not part of the unique key, i.e. the fields an upsert updates.
+     */
+    static String[] nonKeyFields(String[] fieldNames, String[] uniqueKeyFields) {
+        List<String> keys = Arrays.asList(uniqueKeyFields);
+        return Arrays.stream(fieldNames).filter(field -> !keys.contains(field)).toArray(String[]::new);
+    }
 }
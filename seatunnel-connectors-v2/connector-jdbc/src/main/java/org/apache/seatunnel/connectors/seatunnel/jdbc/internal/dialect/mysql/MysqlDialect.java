@@ -18,9 +18,20 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
 public class MysqlDialect implements JdbcDialect {
     @Override
     public String dialectName() {
@@ -36,4 +47,57 @@ public class MysqlDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new MySqlTypeMapper();
     }
+
+    @Override
+    public OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+        // use the row estimate of the optimizer instead of counting the rows
+        long rows = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(String.format("EXPLAIN SELECT * FROM (%s) tt", query))) {
+            while (rs.next()) {
+                rows = Math.max(rows, rs.getLong("rows"));
+            }
+        }
+        return OptionalLong.of(rows);
+    }
+
+    @Override
+    public boolean supportsRandomSampling() {
+        return true;
+    }
+
+    @Override
+    public String getRandomSamplingPredicate(double samplingRate) {
+        return String.format("RAND() < %s", samplingRate);
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection, String query, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        // The driver buffers the whole result set for any other fetch size than Integer.MIN_VALUE,
+        // unless server side cursors are enabled with useCursorFetch=true
+        boolean cursorFetch = fetchSize > 0 && connection.getMetaData().getURL().contains("useCursorFetch=true");
+        statement.setFetchSize(cursorFetch ? fetchSize : Integer.MIN_VALUE);
+        return statement;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return JdbcDialect.quoteIdentifierParts(identifier, "`", "`");
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        String[] updateFields = JdbcDialect.nonKeyFields(fieldNames, uniqueKeyFields);
+        // with only key fields there is nothing to update, but the duplicated row must not fail the insert
+        String updateClause = Arrays.stream(updateFields.length > 0 ? updateFields : uniqueKeyFields)
+            .map(field -> String.format("%s = VALUES(%s)", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(", "));
+        return Optional.of(getInsertIntoStatement(tableName, fieldNames, rowCount) + " ON DUPLICATE KEY UPDATE " + updateClause);
+    }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.of(new MysqlLoadDataBulkLoader(this));
+    }
 }
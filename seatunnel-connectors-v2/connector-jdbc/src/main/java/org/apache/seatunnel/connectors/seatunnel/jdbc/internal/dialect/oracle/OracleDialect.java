@@ -21,7 +21,21 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
 public class OracleDialect implements JdbcDialect {
+    private static final int DEFAULT_FETCH_SIZE = 1024;
+    private static final String PLAN_STATEMENT_ID = "seatunnel_row_estimate";
+
     @Override
     public String dialectName() {
         return "Oracle";
@@ -36,4 +50,75 @@ public class OracleDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new OracleTypeMapper();
     }
+
+    @Override
+    public OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+        // the root of the plan carries the cardinality estimate of the whole query
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("EXPLAIN PLAN SET STATEMENT_ID = '%s' FOR SELECT * FROM (%s) tt",
+                PLAN_STATEMENT_ID, query));
+            try (ResultSet rs = statement.executeQuery(String.format(
+                "SELECT CARDINALITY FROM PLAN_TABLE WHERE STATEMENT_ID = '%s' AND ID = 0", PLAN_STATEMENT_ID))) {
+                if (rs.next()) {
+                    long rows = rs.getLong(1);
+                    return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(rows);
+                }
+            } finally {
+                statement.execute(String.format("DELETE FROM PLAN_TABLE WHERE STATEMENT_ID = '%s'", PLAN_STATEMENT_ID));
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public boolean supportsRandomSampling() {
+        return true;
+    }
+
+    @Override
+    public String getRandomSamplingPredicate(double samplingRate) {
+        return String.format("DBMS_RANDOM.VALUE < %s", samplingRate);
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection, String query, int fetchSize) throws SQLException {
+        // Oracle always reads with a cursor, but only fetches 10 rows per round trip by default
+        return JdbcDialect.super.createPreparedStatement(connection, query, fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE);
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return JdbcDialect.quoteIdentifierParts(identifier, "\"", "\"");
+    }
+
+    @Override
+    public String getInsertIntoStatement(String tableName, String[] fieldNames, int rowCount) {
+        if (rowCount == 1) {
+            return JdbcDialect.super.getInsertIntoStatement(tableName, fieldNames, rowCount);
+        }
+        // Oracle has no multi-row VALUES clause
+        String into = String.format("INTO %s (%s) VALUES %s", quoteIdentifier(tableName),
+            quoteIdentifiers(fieldNames), JdbcDialect.valuesPlaceholders(fieldNames.length, 1));
+        return "INSERT ALL " + String.join(" ", Collections.nCopies(rowCount, into)) + " SELECT 1 FROM DUAL";
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        String sourceRow = "SELECT " + Arrays.stream(fieldNames)
+            .map(field -> "? " + quoteIdentifier(field))
+            .collect(Collectors.joining(", ")) + " FROM DUAL";
+        String source = String.join(" UNION ALL ", Collections.nCopies(rowCount, sourceRow));
+        String onClause = Arrays.stream(uniqueKeyFields)
+            .map(field -> String.format("t.%s = s.%s", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(" AND "));
+        String[] updateFields = JdbcDialect.nonKeyFields(fieldNames, uniqueKeyFields);
+        String updateClause = updateFields.length == 0 ? "" : " WHEN MATCHED THEN UPDATE SET " + Arrays.stream(updateFields)
+            .map(field -> String.format("t.%s = s.%s", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(", "));
+        String insertValues = Arrays.stream(fieldNames)
+            .map(field -> "s." + quoteIdentifier(field))
+            .collect(Collectors.joining(", "));
+        return Optional.of(String.format("MERGE INTO %s t USING (%s) s ON (%s)%s WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)",
+            quoteIdentifier(tableName), source, onClause, updateClause, quoteIdentifiers(fieldNames), insertValues));
+    }
 }
@@ -21,6 +21,8 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.util.Optional;
+
 public class PhoenixDialect implements JdbcDialect {
     @Override
     public String dialectName() {
@@ -36,4 +38,21 @@ public class PhoenixDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new PhoenixTypeMapper();
     }
+
+    @Override
+    public boolean supportsMultiRowValues() {
+        return false;
+    }
+
+    @Override
+    public String getInsertIntoStatement(String tableName, String[] fieldNames, int rowCount) {
+        // Phoenix writes rows only with UPSERT
+        return String.format("UPSERT INTO %s (%s) VALUES %s", quoteIdentifier(tableName),
+            quoteIdentifiers(fieldNames), JdbcDialect.valuesPlaceholders(fieldNames.length, rowCount));
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        return Optional.of(getInsertIntoStatement(tableName, fieldNames, rowCount));
+    }
 }
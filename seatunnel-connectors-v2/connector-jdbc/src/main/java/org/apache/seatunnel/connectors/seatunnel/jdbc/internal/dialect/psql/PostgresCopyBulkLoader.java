@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.AbstractTextBulkLoader;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Loads rows with {@code COPY ... FROM STDIN} in the text format.
+ */
+public class PostgresCopyBulkLoader extends AbstractTextBulkLoader {
+
+    private final PostgresDialect dialect;
+
+    public PostgresCopyBulkLoader(PostgresDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    @Override
+    protected long load(Connection connection, String tableName, String[] fieldNames, InputStream data) throws SQLException {
+        String copy = String.format("COPY %s (%s) FROM STDIN", dialect.quoteIdentifier(tableName), dialect.quoteIdentifiers(fieldNames));
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, data);
+        } catch (IOException e) {
+            throw new SQLException("Failed to copy rows into " + tableName, e);
+        }
+    }
+
+    @Override
+    protected String formatBoolean(boolean value) {
+        return value ? "t" : "f";
+    }
+
+    @Override
+    protected String formatBytes(byte[] value) {
+        // the hex format of bytea, with the backslash escaped for the text format
+        StringBuilder builder = new StringBuilder("\\\\x");
+        for (byte b : value) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
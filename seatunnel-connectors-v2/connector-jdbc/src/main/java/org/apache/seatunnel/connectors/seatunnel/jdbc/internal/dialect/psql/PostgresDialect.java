@@ -18,10 +18,26 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 public class PostgresDialect implements JdbcDialect {
+    private static final int DEFAULT_FETCH_SIZE = 1024;
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
     @Override
     public String dialectName() {
         return "PostgreSQL";
@@ -36,4 +52,60 @@ public class PostgresDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new PostgresTypeMapper();
     }
+
+    @Override
+    public OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+        // the first line of the plan carries the row estimate of the whole query, e.g. "Seq Scan on t (cost=0.00..1.10 rows=10 width=4)"
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(String.format("EXPLAIN SELECT * FROM (%s) tt", query))) {
+            if (rs.next()) {
+                Matcher matcher = PLAN_ROWS.matcher(rs.getString(1));
+                if (matcher.find()) {
+                    return OptionalLong.of(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public boolean supportsRandomSampling() {
+        return true;
+    }
+
+    @Override
+    public String getRandomSamplingPredicate(double samplingRate) {
+        return String.format("random() < %s", samplingRate);
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection, String query, int fetchSize) throws SQLException {
+        return JdbcDialect.super.createPreparedStatement(connection, query, fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE);
+    }
+
+    @Override
+    public boolean supportsStreamingInAutoCommit() {
+        // The driver only fetches rows with a cursor outside of auto commit mode
+        return false;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return JdbcDialect.quoteIdentifierParts(identifier, "\"", "\"");
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        String[] updateFields = JdbcDialect.nonKeyFields(fieldNames, uniqueKeyFields);
+        String conflictAction = updateFields.length == 0 ? "DO NOTHING" : "DO UPDATE SET " + Arrays.stream(updateFields)
+            .map(field -> String.format("%s = EXCLUDED.%s", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(", "));
+        return Optional.of(String.format("%s ON CONFLICT (%s) %s",
+            getInsertIntoStatement(tableName, fieldNames, rowCount), quoteIdentifiers(uniqueKeyFields), conflictAction));
+    }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader() {
+        return Optional.of(new PostgresCopyBulkLoader(this));
+    }
 }
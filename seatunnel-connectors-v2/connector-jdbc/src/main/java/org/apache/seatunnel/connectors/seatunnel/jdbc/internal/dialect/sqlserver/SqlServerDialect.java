@@ -21,7 +21,20 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 public class SqlServerDialect implements JdbcDialect {
+    private static final Pattern PLAN_ROWS = Pattern.compile("StatementEstRows=\"([^\"]+)\"");
+
     @Override
     public String dialectName() {
         return "Sqlserver";
@@ -36,4 +49,57 @@ public class SqlServerDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new SqlserverTypeMapper();
     }
+
+    @Override
+    public OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+        // with SHOWPLAN_XML the query isn't executed but returns its estimated plan,
+        // e.g. <StmtSimple StatementEstRows="10" ...>
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SHOWPLAN_XML ON");
+            try (ResultSet rs = statement.executeQuery(String.format("SELECT * FROM (%s) tt", query))) {
+                if (rs.next()) {
+                    Matcher matcher = PLAN_ROWS.matcher(rs.getString(1));
+                    if (matcher.find()) {
+                        return OptionalLong.of((long) Double.parseDouble(matcher.group(1)));
+                    }
+                }
+            } finally {
+                statement.execute("SET SHOWPLAN_XML OFF");
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public boolean supportsRandomSampling() {
+        return true;
+    }
+
+    @Override
+    public String getRandomSamplingPredicate(double samplingRate) {
+        // RAND() is evaluated once per query in SQL Server, so seed it per row
+        return String.format("RAND(CHECKSUM(NEWID())) < %s", samplingRate);
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return JdbcDialect.quoteIdentifierParts(identifier, "[", "]");
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields, int rowCount) {
+        String onClause = Arrays.stream(uniqueKeyFields)
+            .map(field -> String.format("t.%s = s.%s", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(" AND "));
+        String[] updateFields = JdbcDialect.nonKeyFields(fieldNames, uniqueKeyFields);
+        String updateClause = updateFields.length == 0 ? "" : " WHEN MATCHED THEN UPDATE SET " + Arrays.stream(updateFields)
+            .map(field -> String.format("t.%s = s.%s", quoteIdentifier(field), quoteIdentifier(field)))
+            .collect(Collectors.joining(", "));
+        String insertValues = Arrays.stream(fieldNames)
+            .map(field -> "s." + quoteIdentifier(field))
+            .collect(Collectors.joining(", "));
+        return Optional.of(String.format("MERGE INTO %s AS t USING (VALUES %s) AS s (%s) ON %s%s WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s);",
+            quoteIdentifier(tableName), JdbcDialect.valuesPlaceholders(fieldNames.length, rowCount), quoteIdentifiers(fieldNames),
+            onClause, updateClause, quoteIdentifiers(fieldNames), insertValues));
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link JdbcBatchStatementExecutor} for tables without primary keys. Updates and deletes can't be applied without
+ * a key, so only INSERT rows are passed to the wrapped executor and the other rows are rejected instead of being
+ * appended as new rows.
+ */
+public class AppendOnlyBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> executor;
+    private final String tableName;
+
+    public AppendOnlyBatchStatementExecutor(JdbcBatchStatementExecutor<SeaTunnelRow> executor, String tableName) {
+        this.executor = executor;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        executor.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        checkArgument(record.getRowKind() == RowKind.INSERT,
+            "Only INSERT rows can be written to %s without primary_keys, got a %s row", tableName, record.getRowKind());
+        executor.addToBatch(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        executor.executeBatch();
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        executor.closeStatements();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link JdbcBatchStatementExecutor} for tables with a primary key. It buffers only the latest change of every key,
+ * and writes the inserted and updated rows with upserts and the deleted rows with deletes by key.
+ *
+ * <p>If the dialect can not upsert, the rows of the upserted keys are deleted before the rows are inserted again.
+ */
+public class BufferReducedBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final RowBatchStatementExecutor upsertExecutor;
+    private final RowBatchStatementExecutor deleteExecutor;
+    private final int[] keyIndexes;
+    private final boolean deleteBeforeUpsert;
+    private final Map<List<Object>, SeaTunnelRow> buffer;
+
+    public BufferReducedBatchStatementExecutor(RowBatchStatementExecutor upsertExecutor,
+                                               RowBatchStatementExecutor deleteExecutor,
+                                               int[] keyIndexes,
+                                               boolean deleteBeforeUpsert) {
+        this.upsertExecutor = upsertExecutor;
+        this.deleteExecutor = deleteExecutor;
+        this.keyIndexes = keyIndexes;
+        this.deleteBeforeUpsert = deleteBeforeUpsert;
+        this.buffer = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        upsertExecutor.prepareStatements(connection);
+        deleteExecutor.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        // the row of an UPDATE_BEFORE is replaced by its UPDATE_AFTER unless the key was changed by the update
+        buffer.put(key(record), record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<SeaTunnelRow> upserts = new ArrayList<>();
+        List<SeaTunnelRow> deletes = new ArrayList<>();
+        for (SeaTunnelRow row : buffer.values()) {
+            if (isDelete(row.getRowKind())) {
+                deletes.add(row);
+            } else {
+                upserts.add(row);
+                if (deleteBeforeUpsert) {
+                    deletes.add(row);
+                }
+            }
+        }
+        // Every key occurs once, so the order of deletes and upserts does not matter
+        // and retrying a failed attempt writes the same result
+        deleteExecutor.execute(deletes);
+        upsertExecutor.execute(upserts);
+        buffer.clear();
+    }
+
+    private List<Object> key(SeaTunnelRow row) {
+        Object[] key = new Object[keyIndexes.length];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            key[i] = row.getField(keyIndexes[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    private static boolean isDelete(RowKind rowKind) {
+        return rowKind == RowKind.DELETE || rowKind == RowKind.UPDATE_BEFORE;
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        upsertExecutor.closeStatements();
+        deleteExecutor.closeStatements();
+    }
+}
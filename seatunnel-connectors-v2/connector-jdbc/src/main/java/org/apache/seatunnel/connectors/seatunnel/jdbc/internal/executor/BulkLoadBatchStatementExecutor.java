@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link JdbcBatchStatementExecutor} which writes every batch with the native bulk load path of the database.
+ */
+public class BulkLoadBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final JdbcBulkLoader bulkLoader;
+    private final String tableName;
+    private final String[] fieldNames;
+    private final List<SeaTunnelRow> batch;
+
+    private transient Connection connection;
+
+    public BulkLoadBatchStatementExecutor(JdbcBulkLoader bulkLoader, String tableName, String[] fieldNames) {
+        this.bulkLoader = bulkLoader;
+        this.tableName = tableName;
+        this.fieldNames = fieldNames;
+        this.batch = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        batch.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (!batch.isEmpty()) {
+            bulkLoader.load(connection, tableName, fieldNames, batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void closeStatements() {
+        connection = null;
+    }
+}
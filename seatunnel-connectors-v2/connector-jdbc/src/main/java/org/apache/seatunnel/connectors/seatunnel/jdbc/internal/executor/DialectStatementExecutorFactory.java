@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Creates the executors writing the rows with the insert, upsert and delete statements generated by the
+ * {@link JdbcDialect} for the table, or with the native bulk load path of the dialect.
+ */
+public class DialectStatementExecutorFactory
+    implements JdbcOutputFormat.StatementExecutorFactory<JdbcBatchStatementExecutor<SeaTunnelRow>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JdbcDialect dialect;
+    private final String tableName;
+    private final String[] fieldNames;
+    private final String[] primaryKeys;
+    private final int rowsPerStatement;
+    private final boolean bulkLoad;
+
+    public DialectStatementExecutorFactory(JdbcDialect dialect, JdbcSinkOptions jdbcSinkOptions, SeaTunnelRowType rowType) {
+        this.dialect = dialect;
+        this.tableName = jdbcSinkOptions.getTable();
+        this.fieldNames = rowType.getFieldNames();
+        this.primaryKeys = jdbcSinkOptions.getPrimaryKeys().toArray(new String[0]);
+        this.rowsPerStatement = dialect.supportsMultiRowValues() ? jdbcSinkOptions.getRowsPerStatement() : 1;
+        this.bulkLoad = jdbcSinkOptions.isBulkLoad();
+        for (String primaryKey : primaryKeys) {
+            checkArgument(Arrays.asList(fieldNames).contains(primaryKey),
+                "The primary key %s is not a field of the rows %s", primaryKey, Arrays.toString(fieldNames));
+        }
+        checkArgument(!bulkLoad || dialect.getBulkLoader().isPresent(),
+            "%s is not supported by the %s dialect", JdbcConfig.BULK_LOAD, dialect.dialectName());
+        for (int i = 0; bulkLoad && i < fieldNames.length; i++) {
+            checkArgument(dialect.getBulkLoader().get().supportsType(rowType.getFieldType(i)),
+                "%s is not supported by the %s dialect for the field %s of type %s",
+                JdbcConfig.BULK_LOAD, dialect.dialectName(), fieldNames[i], rowType.getFieldType(i));
+        }
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> get() {
+        int[] fieldIndexes = IntStream.range(0, fieldNames.length).toArray();
+        if (primaryKeys.length == 0) {
+            if (bulkLoad) {
+                JdbcBulkLoader bulkLoader = dialect.getBulkLoader().get();
+                return new AppendOnlyBatchStatementExecutor(
+                    new BulkLoadBatchStatementExecutor(bulkLoader, tableName, fieldNames), tableName);
+            }
+            return new AppendOnlyBatchStatementExecutor(new RowBatchStatementExecutor(
+                rowCount -> dialect.getInsertIntoStatement(tableName, fieldNames, rowCount), fieldIndexes, rowsPerStatement),
+                tableName);
+        }
+
+        int[] keyIndexes = Arrays.stream(primaryKeys).mapToInt(Arrays.asList(fieldNames)::indexOf).toArray();
+        RowBatchStatementExecutor deleteExecutor = new RowBatchStatementExecutor(
+            rowCount -> dialect.getDeleteStatement(tableName, primaryKeys), keyIndexes, 1);
+        boolean supportsUpsert = dialect.getUpsertStatement(tableName, fieldNames, primaryKeys, 1).isPresent();
+        RowBatchStatementExecutor upsertExecutor = new RowBatchStatementExecutor(rowCount -> supportsUpsert ?
+            dialect.getUpsertStatement(tableName, fieldNames, primaryKeys, rowCount).get() :
+            dialect.getInsertIntoStatement(tableName, fieldNames, rowCount), fieldIndexes, rowsPerStatement);
+        return new BufferReducedBatchStatementExecutor(upsertExecutor, deleteExecutor, keyIndexes, !supportsUpsert);
+    }
+}
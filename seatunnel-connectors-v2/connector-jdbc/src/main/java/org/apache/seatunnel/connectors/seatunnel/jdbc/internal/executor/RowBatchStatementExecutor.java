@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link JdbcBatchStatementExecutor} for statements generated by a dialect. It binds the given fields of the rows
+ * and puts up to {@code rowsPerStatement} rows into the VALUES clause of every statement, which saves the round trips
+ * and statement overhead of writing one row per statement.
+ */
+public class RowBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final IntFunction<String> statementFactory;
+    private final int[] fieldIndexes;
+    private final int rowsPerStatement;
+    private final List<SeaTunnelRow> batch;
+
+    private transient Connection connection;
+    private transient PreparedStatement st;
+
+    /**
+     * @param statementFactory creates the statement for the given number of rows
+     * @param fieldIndexes     the indexes of the row fields bound to the parameters of one row in the statement
+     * @param rowsPerStatement the maximum number of rows written by one statement
+     */
+    public RowBatchStatementExecutor(IntFunction<String> statementFactory, int[] fieldIndexes, int rowsPerStatement) {
+        this.statementFactory = statementFactory;
+        this.fieldIndexes = fieldIndexes;
+        this.rowsPerStatement = rowsPerStatement;
+        this.batch = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.st = connection.prepareStatement(statementFactory.apply(rowsPerStatement));
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        batch.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        execute(batch);
+        batch.clear();
+    }
+
+    /**
+     * Write the rows, without buffering them in this executor.
+     */
+    public void execute(List<SeaTunnelRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int fullStatementRows = rows.size() / rowsPerStatement * rowsPerStatement;
+        if (fullStatementRows > 0) {
+            // drop what a failed attempt may have left in the batch
+            st.clearBatch();
+            for (int start = 0; start < fullStatementRows; start += rowsPerStatement) {
+                bind(st, rows, start, rowsPerStatement);
+                st.addBatch();
+            }
+            st.executeBatch();
+        }
+        int remainingRows = rows.size() - fullStatementRows;
+        if (remainingRows > 0) {
+            try (PreparedStatement remainingStatement = connection.prepareStatement(statementFactory.apply(remainingRows))) {
+                bind(remainingStatement, rows, fullStatementRows, remainingRows);
+                remainingStatement.executeUpdate();
+            }
+        }
+    }
+
+    private void bind(PreparedStatement statement, List<SeaTunnelRow> rows, int start, int count) throws SQLException {
+        int parameterIndex = 1;
+        for (int i = start; i < start + count; i++) {
+            SeaTunnelRow row = rows.get(i);
+            for (int fieldIndex : fieldIndexes) {
+                statement.setObject(parameterIndex++, row.getField(fieldIndex));
+            }
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        if (st != null) {
+            st.close();
+            st = null;
+        }
+    }
+}
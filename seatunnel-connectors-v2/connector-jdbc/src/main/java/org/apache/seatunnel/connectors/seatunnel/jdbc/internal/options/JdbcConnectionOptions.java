@@ -28,6 +28,7 @@ public class JdbcConnectionOptions
     private static final int DEFAULT_MAX_RETRIES = 3;
     private static final int DEFAULT_BATCH_SIZE = 300;
     private static final int DEFAULT_BATCH_INTERVAL_MS = 1000;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
     private static final int DEFAULT_MAX_COMMIT_ATTEMPTS = 3;
     private static final int DEFAULT_TRANSACTION_TIMEOUT_SEC = -1;
 
@@ -41,6 +42,7 @@ public class JdbcConnectionOptions
 
     public int batchSize = DEFAULT_BATCH_SIZE;
     public int batchIntervalMs = DEFAULT_BATCH_INTERVAL_MS;
+    public int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
 
     public String xaDataSourceClassName;
 
@@ -87,6 +89,10 @@ public class JdbcConnectionOptions
         return batchIntervalMs;
     }
 
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public String getXaDataSourceClassName() {
         return xaDataSourceClassName;
     }
@@ -113,6 +119,7 @@ public class JdbcConnectionOptions
         private String query;
         private int batchSize = DEFAULT_BATCH_SIZE;
         private int batchIntervalMs = DEFAULT_BATCH_INTERVAL_MS;
+        private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
         private String xaDataSourceClassName;
         private int maxCommitAttempts = DEFAULT_MAX_COMMIT_ATTEMPTS;
         private int transactionTimeoutSec = DEFAULT_TRANSACTION_TIMEOUT_SEC;
@@ -165,6 +172,11 @@ public class JdbcConnectionOptions
             return this;
         }
 
+        public JdbcConnectionOptionsBuilder withMaxInFlightBatches(int maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
         public JdbcConnectionOptionsBuilder withXaDataSourceClassName(String xaDataSourceClassName) {
             this.xaDataSourceClassName = xaDataSourceClassName;
             return this;
@@ -184,6 +196,7 @@ public class JdbcConnectionOptions
             JdbcConnectionOptions jdbcConnectionOptions = new JdbcConnectionOptions();
             jdbcConnectionOptions.batchSize = this.batchSize;
             jdbcConnectionOptions.batchIntervalMs = this.batchIntervalMs;
+            jdbcConnectionOptions.maxInFlightBatches = this.maxInFlightBatches;
             jdbcConnectionOptions.driverName = this.driverName;
             jdbcConnectionOptions.maxRetries = this.maxRetries;
             jdbcConnectionOptions.password = this.password;
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Plans splits holding roughly the same number of rows by cutting a sorted sample of the partition column at its
+ * quantiles. Unlike the equal-width ranges of {@link JdbcNumericBetweenParametersProvider}, the splits stay balanced
+ * for keys with large gaps or skew, and any orderable column can be used, e.g. DATE, TIMESTAMP, DECIMAL or strings.
+ *
+ * <p>The sample is sorted by the database, so the split boundaries follow the ordering (and collation) the database
+ * applies to the range predicates of the splits. Rows with a NULL partition column are read by an extra split.
+ *
+ * <p>The sample is only taken if the dialect has a random sampling predicate and an estimate of the row count to size
+ * it with, otherwise every key would be sorted and read. Then the splits are cut into equal ranges between the MIN and
+ * MAX of a numeric, date or timestamp column, and a column of another type is read by one split.
+ */
+public class JdbcSampledSplitPlanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcSampledSplitPlanner.class);
+
+    /**
+     * The number of sampled keys per split, more samples give more even splits.
+     */
+    static final int SAMPLES_PER_SPLIT = 100;
+    static final int MIN_SAMPLE_SIZE = 10000;
+
+    private final JdbcDialect jdbcDialect;
+    private final String query;
+    private final String partitionColumn;
+
+    public JdbcSampledSplitPlanner(JdbcDialect jdbcDialect, String query, String partitionColumn) {
+        this.jdbcDialect = jdbcDialect;
+        this.query = query;
+        this.partitionColumn = partitionColumn;
+    }
+
+    public List<JdbcSourceSplit> planSplits(Connection connection, int splitNumber) throws SQLException {
+        OptionalLong estimatedRowCount = jdbcDialect.supportsRandomSampling()
+            ? jdbcDialect.estimateRowCount(connection, query) : OptionalLong.empty();
+        if (!estimatedRowCount.isPresent()) {
+            List<Object> boundaries = rangeBoundaries(connection, splitNumber);
+            LOG.info("The dialect {} can't sample keys or estimate the row count, "
+                + "the split boundaries of column {} between MIN and MAX are {}",
+                jdbcDialect.dialectName(), partitionColumn, boundaries);
+            return createSplits(boundaries);
+        }
+        long rowCount = estimatedRowCount.getAsLong();
+        long sampleSize = Math.max((long) splitNumber * SAMPLES_PER_SPLIT, MIN_SAMPLE_SIZE);
+        double samplingRate = rowCount <= sampleSize ? 1.0 : (double) sampleSize / rowCount;
+        List<Object> samples = sampleKeys(connection, samplingRate);
+        List<Object> boundaries = selectBoundaries(samples, splitNumber);
+        LOG.info("Sampled {} keys of about {} rows, the split boundaries of column {} are {}",
+            samples.size(), rowCount, partitionColumn, boundaries);
+        return createSplits(boundaries);
+    }
+
+    private List<Object> sampleKeys(Connection connection, double samplingRate) throws SQLException {
+        String condition = partitionColumn + " IS NOT NULL";
+        if (samplingRate < 1.0) {
+            condition += " AND " + jdbcDialect.getRandomSamplingPredicate(samplingRate);
+        }
+        String sampleQuery = String.format("SELECT %s FROM (%s) tt WHERE %s ORDER BY %s",
+            partitionColumn, query, condition, partitionColumn);
+
+        List<Object> samples = new ArrayList<>();
+        boolean disableAutoCommit = !jdbcDialect.supportsStreamingInAutoCommit() && connection.getAutoCommit();
+        if (disableAutoCommit) {
+            connection.setAutoCommit(false);
+        }
+        // A small query is not sampled and every key is read, so the keys are streamed like the rows of a split
+        try (PreparedStatement statement = jdbcDialect.createPreparedStatement(connection, sampleQuery, 0);
+             ResultSet rs = statement.executeQuery()) {
+            int keyType = rs.getMetaData().getColumnType(1);
+            while (rs.next()) {
+                samples.add(readKey(rs, 1, keyType));
+            }
+        } finally {
+            if (disableAutoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+        return samples;
+    }
+
+    private List<Object> rangeBoundaries(Connection connection, int splitNumber) throws SQLException {
+        String boundQuery = String.format("SELECT MIN(%s), MAX(%s) FROM (%s) tt", partitionColumn, partitionColumn, query);
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(boundQuery)) {
+            if (!rs.next()) {
+                return new ArrayList<>();
+            }
+            int keyType = rs.getMetaData().getColumnType(1);
+            return interpolateBoundaries(readKey(rs, 1, keyType), readKey(rs, 2, keyType), splitNumber);
+        }
+    }
+
+    /**
+     * Cut the range between the minimal and maximal key into the given number of equally wide parts.
+     */
+    static List<Object> interpolateBoundaries(Object min, Object max, int splitNumber) {
+        List<Object> boundaries = new ArrayList<>();
+        if (min instanceof Long || min instanceof Integer || min instanceof Short || min instanceof Byte) {
+            Serializable[][] ranges = new JdbcNumericBetweenParametersProvider(((Number) min).longValue(),
+                ((Number) max).longValue()).ofBatchNum(splitNumber).getParameterValues();
+            for (int i = 1; i < ranges.length; i++) {
+                boundaries.add(ranges[i][0]);
+            }
+        } else if (min instanceof Number) {
+            BigDecimal lower = new BigDecimal(min.toString());
+            BigDecimal width = new BigDecimal(max.toString()).subtract(lower);
+            for (int i = 1; i < splitNumber; i++) {
+                addDistinct(boundaries, lower.add(width.multiply(BigDecimal.valueOf(i))
+                    .divide(BigDecimal.valueOf(splitNumber), lower.scale(), RoundingMode.FLOOR)));
+            }
+        } else if (min instanceof java.util.Date) {
+            long lower = ((java.util.Date) min).getTime();
+            long width = ((java.util.Date) max).getTime() - lower;
+            for (int i = 1; i < splitNumber; i++) {
+                long boundary = lower + (long) ((double) width * i / splitNumber);
+                addDistinct(boundaries, min instanceof Date ? new Date(boundary) :
+                    min instanceof Time ? new Time(boundary) : new Timestamp(boundary));
+            }
+        } else if (min != null) {
+            LOG.warn("The keys of type {} can't be cut into ranges, the query is read by one split",
+                min.getClass().getName());
+        }
+        return boundaries;
+    }
+
+    private static void addDistinct(List<Object> boundaries, Object boundary) {
+        if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+            boundaries.add(boundary);
+        }
+    }
+
+    /**
+     * Select the distinct keys which cut the sorted samples into the given number of equally sized parts.
+     */
+    static List<Object> selectBoundaries(List<Object> sortedSamples, int splitNumber) {
+        List<Object> boundaries = new ArrayList<>();
+        if (sortedSamples.isEmpty()) {
+            return boundaries;
+        }
+        Object previous = sortedSamples.get(0);
+        for (int i = 1; i < splitNumber; i++) {
+            int index = (int) ((long) i * sortedSamples.size() / splitNumber);
+            Object boundary = sortedSamples.get(index);
+            // Duplicated keys cannot be cut, so hot keys end up in a single split
+            if (!boundary.equals(previous)) {
+                boundaries.add(boundary);
+                previous = boundary;
+            }
+        }
+        return boundaries;
+    }
+
+    List<JdbcSourceSplit> createSplits(List<Object> boundaries) {
+        String splitQuery = String.format("SELECT * FROM (%s) tt WHERE ", query);
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        if (boundaries.isEmpty()) {
+            splits.add(new JdbcSourceSplit(null, splits.size(), splitQuery + partitionColumn + " IS NOT NULL"));
+        } else {
+            splits.add(new JdbcSourceSplit(new Object[]{boundaries.get(0)}, splits.size(),
+                splitQuery + partitionColumn + " < ?"));
+            for (int i = 1; i < boundaries.size(); i++) {
+                splits.add(new JdbcSourceSplit(new Object[]{boundaries.get(i - 1), boundaries.get(i)}, splits.size(),
+                    splitQuery + partitionColumn + " >= ? AND " + partitionColumn + " < ?"));
+            }
+            splits.add(new JdbcSourceSplit(new Object[]{boundaries.get(boundaries.size() - 1)}, splits.size(),
+                splitQuery + partitionColumn + " >= ?"));
+        }
+        splits.add(new JdbcSourceSplit(null, splits.size(), splitQuery + partitionColumn + " IS NULL"));
+        return splits;
+    }
+
+    /**
+     * Read a key with the getter of its JDBC type, so that vendor types such as {@code oracle.sql.TIMESTAMP} are
+     * converted to a serializable parameter type that {@code JdbcInputFormat} can bind.
+     */
+    private static Object readKey(ResultSet rs, int column, int keyType) throws SQLException {
+        switch (keyType) {
+            case Types.DATE:
+                return rs.getDate(column);
+            case Types.TIME:
+                return rs.getTime(column);
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return rs.getTimestamp(column);
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return rs.getBigDecimal(column);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return rs.getString(column);
+            default:
+                // integer and floating point keys are read as objects, which keeps NULL and unsigned BIGINT
+                return toParameter(rs.getObject(column));
+        }
+    }
+
+    /**
+     * Convert the key returned by the driver to a serializable parameter type that {@code JdbcInputFormat} can bind.
+     */
+    private static Object toParameter(Object key) {
+        if (key instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) key);
+        } else if (key instanceof LocalDate) {
+            return Date.valueOf((LocalDate) key);
+        } else if (key instanceof LocalTime) {
+            return Time.valueOf((LocalTime) key);
+        } else if (key instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) key).toInstant());
+        } else if (key instanceof BigInteger) {
+            return new BigDecimal((BigInteger) key);
+        }
+        return key;
+    }
+}
@@ -26,8 +26,6 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaFacade;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaGroupOps;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaGroupOpsImpl;
@@ -73,7 +71,7 @@ public class JdbcExactlyOnceSinkWriter
     public JdbcExactlyOnceSinkWriter(
         SinkWriter.Context sinkcontext,
         JobContext context,
-        JdbcStatementBuilder<SeaTunnelRow> statementBuilder,
+        JdbcOutputFormat.StatementExecutorFactory<JdbcBatchStatementExecutor<SeaTunnelRow>> statementExecutorFactory,
         JdbcSinkOptions jdbcSinkOptions,
         List<JdbcSinkState> states) {
         checkArgument(
@@ -92,7 +90,7 @@ public class JdbcExactlyOnceSinkWriter
         this.outputFormat = new JdbcOutputFormat<>(
             xaFacade,
             jdbcSinkOptions.getJdbcConnectionOptions(),
-            () -> new SimpleBatchStatementExecutor<>(jdbcSinkOptions.getJdbcConnectionOptions().getQuery(), statementBuilder));
+            statementExecutorFactory);
 
         this.xaGroupOps = new XaGroupOpsImpl(xaFacade);
     }
@@ -28,7 +28,13 @@ import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.DialectStatementExecutorFactory;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcAggregatedCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSinkState;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.XidInfo;
@@ -71,20 +77,19 @@ public class JdbcSink
     public SinkWriter<SeaTunnelRow, XidInfo, JdbcSinkState> createWriter(SinkWriter.Context context)
         throws IOException {
         SinkWriter<SeaTunnelRow, XidInfo, JdbcSinkState> sinkWriter;
-        // TODO SeatunnelTyoeInfo is not good enough to get typesArray
-        JdbcStatementBuilder<SeaTunnelRow> statementBuilder = (st, row) -> JdbcUtils.setRecordToStatement(st, null, row);
+        JdbcOutputFormat.StatementExecutorFactory<JdbcBatchStatementExecutor<SeaTunnelRow>> statementExecutorFactory = createStatementExecutorFactory();
         if (jdbcSinkOptions.isExactlyOnce()) {
             sinkWriter = new JdbcExactlyOnceSinkWriter(
                 context,
                 jobContext,
-                statementBuilder,
+                statementExecutorFactory,
                 jdbcSinkOptions,
                 new ArrayList<>()
             );
         } else {
             sinkWriter = new JdbcSinkWriter(
                 context,
-                statementBuilder,
+                statementExecutorFactory,
                 jdbcSinkOptions);
         }
 
@@ -95,11 +100,10 @@ public class JdbcSink
     public SinkWriter<SeaTunnelRow, XidInfo, JdbcSinkState> restoreWriter(SinkWriter.Context context, List<JdbcSinkState> states)
         throws IOException {
         if (jdbcSinkOptions.isExactlyOnce()) {
-            JdbcStatementBuilder<SeaTunnelRow> statementBuilder = (st, row) -> JdbcUtils.setRecordToStatement(st, null, row);
             return new JdbcExactlyOnceSinkWriter(
                 context,
                 jobContext,
-                statementBuilder,
+                createStatementExecutorFactory(),
                 jdbcSinkOptions,
                 states
             );
@@ -107,6 +111,17 @@ public class JdbcSink
         return SeaTunnelSink.super.restoreWriter(context, states);
     }
 
+    private JdbcOutputFormat.StatementExecutorFactory<JdbcBatchStatementExecutor<SeaTunnelRow>> createStatementExecutorFactory() {
+        if (jdbcSinkOptions.getTable() != null) {
+            JdbcDialect dialect = JdbcDialectLoader.load(jdbcSinkOptions.getJdbcConnectionOptions().getUrl());
+            return new DialectStatementExecutorFactory(dialect, jdbcSinkOptions, seaTunnelRowType);
+        }
+        // TODO SeatunnelTyoeInfo is not good enough to get typesArray
+        JdbcStatementBuilder<SeaTunnelRow> statementBuilder = (st, row) -> JdbcUtils.setRecordToStatement(st, null, row);
+        String query = jdbcSinkOptions.getJdbcConnectionOptions().getQuery();
+        return () -> new SimpleBatchStatementExecutor<>(query, statementBuilder);
+    }
+
     @Override
     public Optional<SinkAggregatedCommitter<XidInfo, JdbcAggregatedCommitInfo>> createAggregatedCommitter()
         throws IOException {
@@ -24,6 +24,8 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -86,11 +88,11 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
 
         inputFormat = new JdbcInputFormat(
             jdbcConnectionProvider,
-            jdbcDialect.getRowConverter(),
+            jdbcDialect,
             typeInfo,
             query,
-            0,
-            true
+            jdbcSourceOptions.getFetchSize(),
+            null
         );
     }
 
@@ -130,7 +132,7 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
 
     @Override
     public SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> restoreEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceState checkpointState) throws Exception {
-        return new JdbcSourceSplitEnumerator(enumeratorContext, jdbcSourceOptions, partitionParameter);
+        return new JdbcSourceSplitEnumerator(enumeratorContext, jdbcSourceOptions, partitionParameter, checkpointState);
     }
 
     private SeaTunnelRowType initTableField(Connection conn) {
@@ -182,6 +184,13 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
                     partitionColumn, query));
             }
             SeaTunnelDataType<?> partitionColumnType = fieldTypes.get(partitionColumn);
+            if (!jdbcSourceOptions.getPartitionLowerBound().isPresent() && !jdbcSourceOptions.getPartitionUpperBound().isPresent()) {
+                // Without configured bounds, the enumerator plans splits with an equal row count from sampled keys
+                if (!isSampleSplittableType(partitionColumnType)) {
+                    throw new IllegalArgumentException(String.format("%s is not a numeric, decimal, string, date or timestamp type", partitionColumn));
+                }
+                return new PartitionParameter(partitionColumn, null, null, jdbcSourceOptions.getPartitionNumber().orElse(null));
+            }
             if (!isNumericType(partitionColumnType)) {
                 throw new IllegalArgumentException(String.format("%s is not numeric type", partitionColumn));
             }
@@ -200,4 +209,11 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
         return type.equals(BasicType.INT_TYPE) || type.equals(BasicType.LONG_TYPE);
     }
 
+    private boolean isSampleSplittableType(SeaTunnelDataType<?> type) {
+        return type.equals(BasicType.BYTE_TYPE) || type.equals(BasicType.SHORT_TYPE) || isNumericType(type)
+            || type.equals(BasicType.FLOAT_TYPE) || type.equals(BasicType.DOUBLE_TYPE) || type instanceof DecimalType
+            || type.equals(BasicType.STRING_TYPE) || type.equals(LocalTimeType.LOCAL_DATE_TYPE)
+            || type.equals(LocalTimeType.LOCAL_DATE_TIME_TYPE);
+    }
+
 }
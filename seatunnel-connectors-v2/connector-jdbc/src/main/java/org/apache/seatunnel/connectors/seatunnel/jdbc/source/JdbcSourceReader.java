@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 
 import org.slf4j.Logger;
@@ -28,17 +29,23 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
 
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
 
     SourceReader.Context context;
-    Deque<JdbcSourceSplit> splits = new LinkedList<>();
+    Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     JdbcInputFormat inputFormat;
-    boolean noMoreSplit;
+    volatile boolean noMoreSplit;
+    /**
+     * Whether a split request has been sent and not been answered yet, to avoid flooding the enumerator.
+     */
+    volatile boolean splitRequested;
+    final SplitAvailability availability = new SplitAvailability();
 
     public JdbcSourceReader(JdbcInputFormat inputFormat, SourceReader.Context context) {
         this.inputFormat = inputFormat;
@@ -56,10 +63,10 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     }
 
     @Override
-    @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        JdbcSourceSplit split;
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
+            split = splits.poll();
             if (null != split) {
                 inputFormat.open(split);
                 while (!inputFormat.reachedEnd()) {
@@ -71,10 +78,21 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
                 // signal to the source that we have reached the end of the data.
                 LOG.info("Closed the bounded jdbc source");
                 context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
+                return;
             }
         }
+        if (splits.isEmpty() && !noMoreSplit && !splitRequested) {
+            // Pull the next split as soon as we run out of work, so with a coordinated enumerator the faster readers
+            // take over more of the splits
+            splitRequested = true;
+            context.sendSplitRequest();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        // the first poll requests a split
+        return availability.isAvailable(() -> !splits.isEmpty() || noMoreSplit || !splitRequested);
     }
 
     @Override
@@ -85,11 +103,15 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @Override
     public void addSplits(List<JdbcSourceSplit> splits) {
         this.splits.addAll(splits);
+        this.splitRequested = false;
+        availability.signal();
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        splitRequested = false;
+        availability.signal();
     }
 
     @Override
@@ -28,6 +28,14 @@ public class JdbcSourceSplit implements SourceSplit {
 
     Object[] parameterValues;
     Integer splitId;
+    /**
+     * The query of this split, or null if the split only binds its parameters to the query template of the source.
+     */
+    String splitQuery;
+
+    public JdbcSourceSplit(Object[] parameterValues, Integer splitId) {
+        this(parameterValues, splitId, null);
+    }
 
     @Override
     public String splitId() {
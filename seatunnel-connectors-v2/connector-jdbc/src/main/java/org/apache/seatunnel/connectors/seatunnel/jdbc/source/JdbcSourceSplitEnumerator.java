@@ -19,7 +19,12 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcNumericBetweenParametersProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcSampledSplitPlanner;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 
 import org.slf4j.Logger;
@@ -27,27 +32,58 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
+/**
+ * Hands out jdbc splits on demand: readers request the next split when they become idle instead of receiving all
+ * their splits at once, so any reader which requests a split takes the next pending one and the faster readers read
+ * more of the splits.
+ * <p>
+ * The source is not coordinated, so the Flink and Spark translations run one enumerator per subtask and every
+ * enumerator plans all the splits. There a split is only handed out to the reader which owns it,
+ * {@code splitId % parallelism == subtaskId}, which makes sure each split is read by exactly one of them.
+ */
 public class JdbcSourceSplitEnumerator implements SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceSplitEnumerator.class);
+
+    /**
+     * The number of splits created per reader when partition_num is not configured, which keeps every reader busy
+     * even when the data is skewed across the partition column range.
+     */
+    static final int DEFAULT_SPLITS_PER_READER = 4;
+
     private final SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext;
 
-    private final Map<Integer, Set<JdbcSourceSplit>> pendingSplits;
+    private final Deque<JdbcSourceSplit> pendingSplits;
+    private final Set<Integer> awaitingReaders;
+    private boolean splitsDiscovered;
 
     private JdbcSourceOptions jdbcSourceOptions;
     private final PartitionParameter partitionParameter;
 
     public JdbcSourceSplitEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceOptions jdbcSourceOptions, PartitionParameter partitionParameter) {
+        this(enumeratorContext, jdbcSourceOptions, partitionParameter, null);
+    }
+
+    public JdbcSourceSplitEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceOptions jdbcSourceOptions,
+                                     PartitionParameter partitionParameter, JdbcSourceState restoreState) {
         this.enumeratorContext = enumeratorContext;
         this.jdbcSourceOptions = jdbcSourceOptions;
         this.partitionParameter = partitionParameter;
-        this.pendingSplits = new HashMap<>();
+        this.pendingSplits = new ArrayDeque<>();
+        this.awaitingReaders = new LinkedHashSet<>();
+        if (restoreState != null) {
+            this.splitsDiscovered = restoreState.isSplitsDiscovered();
+            if (restoreState.getUnassignedSplits() != null) {
+                this.pendingSplits.addAll(restoreState.getUnassignedSplits());
+            }
+        }
     }
 
     @Override
@@ -57,16 +93,29 @@ public class JdbcSourceSplitEnumerator implements SourceSplitEnumerator<JdbcSour
 
     @Override
     public void run() throws Exception {
-        discoverySplits();
-        assignPendingSplits();
+        synchronized (pendingSplits) {
+            if (!splitsDiscovered) {
+                pendingSplits.addAll(discoverySplits());
+                splitsDiscovered = true;
+            } else {
+                LOG.info("Restored {} unassigned splits from checkpoint.", pendingSplits.size());
+            }
+            // Serve the readers that asked for work before the splits were calculated
+            List<Integer> readers = new ArrayList<>(awaitingReaders);
+            awaitingReaders.clear();
+            readers.forEach(this::assignNextSplit);
+        }
     }
 
-    private void discoverySplits() {
+    private List<JdbcSourceSplit> discoverySplits() throws Exception {
         List<JdbcSourceSplit> allSplit = new ArrayList<>();
         LOG.info("Starting to calculate splits.");
         if (null != partitionParameter) {
             int partitionNumber = partitionParameter.getPartitionNumber() != null ?
-                partitionParameter.getPartitionNumber() : enumeratorContext.currentParallelism();
+                partitionParameter.getPartitionNumber() : enumeratorContext.currentParallelism() * DEFAULT_SPLITS_PER_READER;
+            if (partitionParameter.isSampled()) {
+                return sampleSplits(partitionNumber);
+            }
             JdbcNumericBetweenParametersProvider jdbcNumericBetweenParametersProvider =
                 new JdbcNumericBetweenParametersProvider(partitionParameter.minValue, partitionParameter.maxValue)
                     .ofBatchNum(partitionNumber);
@@ -77,30 +126,55 @@ public class JdbcSourceSplitEnumerator implements SourceSplitEnumerator<JdbcSour
         } else {
             allSplit.add(new JdbcSourceSplit(null, 0));
         }
-        int numReaders = enumeratorContext.currentParallelism();
-        for (JdbcSourceSplit split : allSplit) {
-            int ownerReader = split.splitId % numReaders;
-            pendingSplits.computeIfAbsent(ownerReader, r -> new HashSet<>())
-                .add(split);
-        }
-        LOG.debug("Assigned {} to {} readers.", allSplit, numReaders);
+        LOG.debug("Calculated splits {}.", allSplit);
         LOG.info("Calculated splits successfully, the size of splits is {}.", allSplit.size());
+        return allSplit;
     }
 
-    private void assignPendingSplits() {
-        // Check if there's any pending splits for given readers
-        for (int pendingReader : enumeratorContext.registeredReaders()) {
-            // Remove pending assignment for the reader
-            final Set<JdbcSourceSplit> pendingAssignmentForReader =
-                pendingSplits.remove(pendingReader);
-
-            if (pendingAssignmentForReader != null && !pendingAssignmentForReader.isEmpty()) {
-                // Assign pending splits to reader
-                LOG.info("Assigning splits to readers {}", pendingAssignmentForReader);
-                enumeratorContext.assignSplit(pendingReader, new ArrayList<>(pendingAssignmentForReader));
-                enumeratorContext.signalNoMoreSplits(pendingReader);
+    private List<JdbcSourceSplit> sampleSplits(int partitionNumber) throws Exception {
+        JdbcConnectionOptions connectionOptions = jdbcSourceOptions.getJdbcConnectionOptions();
+        JdbcConnectionProvider connectionProvider = new SimpleJdbcConnectionProvider(connectionOptions);
+        try {
+            JdbcSampledSplitPlanner splitPlanner = new JdbcSampledSplitPlanner(JdbcDialectLoader.load(connectionOptions.getUrl()),
+                connectionOptions.getQuery(), partitionParameter.getPartitionColumnName());
+            List<JdbcSourceSplit> allSplit = splitPlanner.planSplits(connectionProvider.getOrEstablishConnection(), partitionNumber);
+            LOG.info("Calculated splits from sampled keys successfully, the size of splits is {}.", allSplit.size());
+            return allSplit;
+        } finally {
+            connectionProvider.closeConnection();
+        }
+    }
+
+    /**
+     * Assigns the next pending split to the reader, or tells it that no more splits will come. Must be called while
+     * holding the lock of {@link #pendingSplits}.
+     */
+    private void assignNextSplit(int subtaskId) {
+        JdbcSourceSplit split = enumeratorContext.isCoordinated() ? pendingSplits.poll() : pollOwnedSplit(subtaskId);
+        if (split != null) {
+            LOG.debug("Assigning split {} to reader {}", split, subtaskId);
+            enumeratorContext.assignSplit(subtaskId, split);
+        } else {
+            LOG.info("No more splits to assign, signal reader {}", subtaskId);
+            enumeratorContext.signalNoMoreSplits(subtaskId);
+        }
+    }
+
+    /**
+     * Polls the next pending split owned by the reader, only used by the enumerator of one subtask which plans the
+     * splits of the other subtasks too.
+     */
+    private JdbcSourceSplit pollOwnedSplit(int subtaskId) {
+        int parallelism = enumeratorContext.currentParallelism();
+        Iterator<JdbcSourceSplit> iterator = pendingSplits.iterator();
+        while (iterator.hasNext()) {
+            JdbcSourceSplit split = iterator.next();
+            if (split.getSplitId() % parallelism == subtaskId) {
+                iterator.remove();
+                return split;
             }
         }
+        return null;
     }
 
     @Override
@@ -110,26 +184,46 @@ public class JdbcSourceSplitEnumerator implements SourceSplitEnumerator<JdbcSour
 
     @Override
     public void addSplitsBack(List<JdbcSourceSplit> splits, int subtaskId) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        LOG.info("Add back {} splits of failed reader {}", splits.size(), subtaskId);
+        synchronized (pendingSplits) {
+            // Put them first so that the ranges of a failed reader are recovered before the remaining ones
+            for (int i = splits.size() - 1; i >= 0; i--) {
+                pendingSplits.addFirst(splits.get(i));
+            }
+        }
     }
 
     @Override
     public int currentUnassignedSplitSize() {
-        return 0;
+        synchronized (pendingSplits) {
+            return pendingSplits.size();
+        }
     }
 
     @Override
     public void handleSplitRequest(int subtaskId) {
-
+        synchronized (pendingSplits) {
+            if (!splitsDiscovered) {
+                awaitingReaders.add(subtaskId);
+                return;
+            }
+            assignNextSplit(subtaskId);
+        }
     }
 
     @Override
     public void registerReader(int subtaskId) {
-        // nothing
+        // nothing, readers pull their splits with split requests
     }
 
     @Override
     public JdbcSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
+        synchronized (pendingSplits) {
+            return new JdbcSourceState(splitsDiscovered, new ArrayList<>(pendingSplits));
+        }
     }
 
     @Override
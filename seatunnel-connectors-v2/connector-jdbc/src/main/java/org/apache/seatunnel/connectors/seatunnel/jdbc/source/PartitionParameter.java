@@ -22,6 +22,10 @@ import lombok.Data;
 
 import java.io.Serializable;
 
+/**
+ * Describes how the query is partitioned. Without a value range, the splits are planned from a sample of the
+ * partition column by the split enumerator.
+ */
 @Data
 @AllArgsConstructor
 public class PartitionParameter implements Serializable {
@@ -30,4 +34,8 @@ public class PartitionParameter implements Serializable {
     Long minValue;
     Long maxValue;
     Integer partitionNumber;
+
+    public boolean isSampled() {
+        return minValue == null || maxValue == null;
+    }
 }
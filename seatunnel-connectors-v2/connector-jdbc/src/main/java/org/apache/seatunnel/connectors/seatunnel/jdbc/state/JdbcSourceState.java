@@ -17,7 +17,26 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.state;
 
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
 import java.io.Serializable;
+import java.util.List;
 
+/**
+ * Checkpointed state of the jdbc split enumerator. Splits which are already assigned are part of the reader state,
+ * so only the splits that have not been handed out to any reader yet are kept here.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
 public class JdbcSourceState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean splitsDiscovered;
+    private final List<JdbcSourceSplit> unassignedSplits;
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlJdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class JdbcInputFormatTest {
+
+    @Test
+    void testStatementIsPreparedByTheDialect() throws SQLException {
+        JdbcConnectionOptions options = JdbcConnectionOptions.builder()
+            .withUrl("jdbc:h2:mem:streaming")
+            .withDriverName("org.h2.Driver")
+            .build();
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"id"},
+            new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE});
+        List<Boolean> autoCommitOnPrepare = new ArrayList<>();
+        TestDialect cursorDialect = new TestDialect() {
+            @Override
+            public boolean supportsStreamingInAutoCommit() {
+                return false;
+            }
+
+            @Override
+            public PreparedStatement createPreparedStatement(Connection connection, String query, int fetchSize)
+                throws SQLException {
+                autoCommitOnPrepare.add(connection.getAutoCommit());
+                return super.createPreparedStatement(connection, query, fetchSize);
+            }
+        };
+
+        // the rows are streamed with the configured fetch size, inside a transaction if the driver needs a cursor
+        JdbcInputFormat inputFormat = new JdbcInputFormat(new SimpleJdbcConnectionProvider(options), cursorDialect,
+            rowType, "SELECT 1", 1000, null);
+        inputFormat.openInputFormat();
+        try {
+            Assertions.assertEquals(1000, inputFormat.statement.getFetchSize());
+            Assertions.assertEquals(ResultSet.TYPE_FORWARD_ONLY, inputFormat.statement.getResultSetType());
+            Assertions.assertEquals(Collections.singletonList(false), autoCommitOnPrepare);
+        } finally {
+            inputFormat.closeInputFormat();
+        }
+    }
+
+    @Test
+    void testAutoCommitOnlyDisabledWhenNotConfigured() throws SQLException {
+        JdbcConnectionOptions options = JdbcConnectionOptions.builder()
+            .withUrl("jdbc:h2:mem:autocommit")
+            .withDriverName("org.h2.Driver")
+            .build();
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"id"},
+            new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE});
+        TestDialect cursorDialect = new TestDialect() {
+            @Override
+            public boolean supportsStreamingInAutoCommit() {
+                return false;
+            }
+        };
+
+        SimpleJdbcConnectionProvider connectionProvider = new SimpleJdbcConnectionProvider(options);
+        JdbcInputFormat inputFormat = new JdbcInputFormat(connectionProvider, cursorDialect, rowType, "SELECT 1", 0, null);
+        inputFormat.openInputFormat();
+        Assertions.assertFalse(connectionProvider.getConnection().getAutoCommit());
+        Connection connection = connectionProvider.getConnection();
+        inputFormat.closeInputFormat();
+        Assertions.assertNull(inputFormat.previousAutoCommit);
+        Assertions.assertTrue(connection.isClosed());
+
+        inputFormat = new JdbcInputFormat(connectionProvider, cursorDialect, rowType, "SELECT 1", 0, true);
+        inputFormat.openInputFormat();
+        Assertions.assertTrue(connectionProvider.getConnection().getAutoCommit());
+        inputFormat.closeInputFormat();
+    }
+
+    private static class TestDialect implements JdbcDialect {
+        @Override
+        public String dialectName() {
+            return "H2";
+        }
+
+        @Override
+        public JdbcRowConverter getRowConverter() {
+            return new MysqlJdbcRowConverter();
+        }
+
+        @Override
+        public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class JdbcOutputFormatTest {
+
+    private static final JdbcConnectionOptions OPTIONS = JdbcConnectionOptions.builder()
+        .withUrl("jdbc:h2:mem:output")
+        .withDriverName("org.h2.Driver")
+        .withBatchSize(2)
+        .withBatchIntervalMs(0)
+        .withMaxRetries(0)
+        .withMaxInFlightBatches(1)
+        .build();
+
+    @Test
+    void testFillNextBatchWhileFlushing() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingExecutor executor = new RecordingExecutor(release);
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat =
+            new JdbcOutputFormat<>(new SimpleJdbcConnectionProvider(OPTIONS), OPTIONS, () -> executor);
+        outputFormat.open();
+
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        // the first batch is blocked in the flusher, the task still fills the next one
+        outputFormat.writeRecord(3);
+        CompletableFuture<Void> secondBatch = CompletableFuture.runAsync(() -> {
+            try {
+                outputFormat.writeRecord(4);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // the second full batch waits for the only in flight batch
+        Assertions.assertThrows(TimeoutException.class, () -> secondBatch.get(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        secondBatch.get(10, TimeUnit.SECONDS);
+        outputFormat.writeRecord(5);
+        outputFormat.flush();
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), executor.batches);
+        Assertions.assertEquals("jdbc-output-format-flusher", executor.executingThread);
+        Assertions.assertEquals(3, outputFormat.getFlushMetrics().getFlushedBatches());
+        Assertions.assertEquals(5, outputFormat.getFlushMetrics().getFlushedRecords());
+        outputFormat.close();
+    }
+
+    @Test
+    void testFlushFailsWithFlusherException() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor(null);
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat =
+            new JdbcOutputFormat<>(new SimpleJdbcConnectionProvider(OPTIONS), OPTIONS, () -> executor);
+        outputFormat.open();
+
+        outputFormat.writeRecord(1);
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, outputFormat::flush);
+        Assertions.assertEquals("batch failed", exception.getCause().getMessage());
+        Assertions.assertThrows(RuntimeException.class, () -> outputFormat.writeRecord(2));
+    }
+
+    /**
+     * Records the executed batches, waits for the latch before executing a batch or fails without a latch.
+     */
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+
+        private final CountDownLatch release;
+        private final List<List<Integer>> batches = new ArrayList<>();
+        private List<Integer> batch = new ArrayList<>();
+        private volatile String executingThread;
+
+        RecordingExecutor(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {
+        }
+
+        @Override
+        public void addToBatch(Integer record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            executingThread = Thread.currentThread().getName();
+            if (release == null) {
+                throw new SQLException("batch failed");
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            batches.add(batch);
+            batch = new ArrayList<>();
+        }
+
+        @Override
+        public void closeStatements() {
+        }
+    }
+}
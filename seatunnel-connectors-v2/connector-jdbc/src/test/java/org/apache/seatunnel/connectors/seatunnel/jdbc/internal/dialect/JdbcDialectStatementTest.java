@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle.OracleDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.phoenix.PhoenixDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresCopyBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver.SqlServerDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+class JdbcDialectStatementTest {
+
+    private static final String[] FIELDS = {"id", "name"};
+    private static final String[] KEYS = {"id"};
+
+    @Test
+    void testMysqlStatements() {
+        MysqlDialect dialect = new MysqlDialect();
+        Assertions.assertEquals("INSERT INTO `db`.`t` (`id`, `name`) VALUES (?, ?), (?, ?)",
+            dialect.getInsertIntoStatement("db.t", FIELDS, 2));
+        Assertions.assertEquals("INSERT INTO `t` (`id`, `name`) VALUES (?, ?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)",
+            dialect.getUpsertStatement("t", FIELDS, KEYS, 1).get());
+        Assertions.assertEquals("DELETE FROM `t` WHERE `id` = ?", dialect.getDeleteStatement("t", KEYS));
+        Assertions.assertTrue(dialect.getBulkLoader().isPresent());
+    }
+
+    @Test
+    void testPostgresStatements() {
+        PostgresDialect dialect = new PostgresDialect();
+        Assertions.assertEquals("INSERT INTO \"t\" (\"id\", \"name\") VALUES (?, ?), (?, ?) ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\"",
+            dialect.getUpsertStatement("t", FIELDS, KEYS, 2).get());
+        Assertions.assertEquals("INSERT INTO \"t\" (\"id\") VALUES (?) ON CONFLICT (\"id\") DO NOTHING",
+            dialect.getUpsertStatement("t", KEYS, KEYS, 1).get());
+    }
+
+    @Test
+    void testMergeStatements() {
+        Assertions.assertEquals("MERGE INTO [t] AS t USING (VALUES (?, ?), (?, ?)) AS s ([id], [name]) ON t.[id] = s.[id]"
+                + " WHEN MATCHED THEN UPDATE SET t.[name] = s.[name] WHEN NOT MATCHED THEN INSERT ([id], [name]) VALUES (s.[id], s.[name]);",
+            new SqlServerDialect().getUpsertStatement("t", FIELDS, KEYS, 2).get());
+        Assertions.assertEquals("MERGE INTO \"t\" t USING (SELECT ? \"id\", ? \"name\" FROM DUAL UNION ALL SELECT ? \"id\", ? \"name\" FROM DUAL) s"
+                + " ON (t.\"id\" = s.\"id\") WHEN MATCHED THEN UPDATE SET t.\"name\" = s.\"name\""
+                + " WHEN NOT MATCHED THEN INSERT (\"id\", \"name\") VALUES (s.\"id\", s.\"name\")",
+            new OracleDialect().getUpsertStatement("t", FIELDS, KEYS, 2).get());
+        Assertions.assertEquals("INSERT ALL INTO \"t\" (\"id\", \"name\") VALUES (?, ?) INTO \"t\" (\"id\", \"name\") VALUES (?, ?) SELECT 1 FROM DUAL",
+            new OracleDialect().getInsertIntoStatement("t", FIELDS, 2));
+    }
+
+    @Test
+    void testPhoenixWritesSingleRowUpserts() {
+        PhoenixDialect dialect = new PhoenixDialect();
+        Assertions.assertFalse(dialect.supportsMultiRowValues());
+        Assertions.assertEquals("UPSERT INTO t (id, name) VALUES (?, ?)", dialect.getInsertIntoStatement("t", FIELDS, 1));
+    }
+
+    @Test
+    void testEncodeBulkLoadRows() {
+        AbstractTextBulkLoader loader = new PostgresCopyBulkLoader(new PostgresDialect());
+        SeaTunnelRow first = new SeaTunnelRow(new Object[]{1, "tab\there\\", null, true});
+        SeaTunnelRow second = new SeaTunnelRow(new Object[]{new BigDecimal("1E+3"), "new\nline",
+            LocalDateTime.of(2022, 1, 2, 3, 4, 5), new byte[]{0x0a, (byte) 0xff}});
+        Assertions.assertEquals("1\ttab\\there\\\\\t\\N\tt\n1000\tnew\\nline\t2022-01-02 03:04:05\t\\\\x0aff\n",
+            new String(loader.encode(Arrays.asList(first, second)), StandardCharsets.UTF_8));
+    }
+}
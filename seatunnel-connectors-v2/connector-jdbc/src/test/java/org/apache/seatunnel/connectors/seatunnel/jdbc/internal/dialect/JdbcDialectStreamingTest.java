@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle.OracleDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver.SqlServerDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+class JdbcDialectStreamingTest {
+
+    @Test
+    void testMysqlStreamsRowByRow() throws SQLException {
+        RecordingConnection connection = new RecordingConnection("jdbc:mysql://localhost:3306/test");
+        new MysqlDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 0);
+        Assertions.assertEquals(Integer.MIN_VALUE, connection.fetchSize);
+        Assertions.assertEquals(ResultSet.TYPE_FORWARD_ONLY, connection.resultSetType);
+
+        // a fetch size is only honored by the driver with server side cursors
+        connection = new RecordingConnection("jdbc:mysql://localhost:3306/test");
+        new MysqlDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 500);
+        Assertions.assertEquals(Integer.MIN_VALUE, connection.fetchSize);
+
+        connection = new RecordingConnection("jdbc:mysql://localhost:3306/test?useCursorFetch=true");
+        new MysqlDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 500);
+        Assertions.assertEquals(500, connection.fetchSize);
+    }
+
+    @Test
+    void testPostgresFetchesWithCursor() throws SQLException {
+        RecordingConnection connection = new RecordingConnection("jdbc:postgresql://localhost:5432/test");
+        new PostgresDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 0);
+        Assertions.assertTrue(connection.fetchSize > 0);
+        // the auto commit mode is left to the caller, which knows whether the user configured it
+        Assertions.assertTrue(connection.autoCommit);
+        Assertions.assertFalse(new PostgresDialect().supportsStreamingInAutoCommit());
+
+        connection = new RecordingConnection("jdbc:postgresql://localhost:5432/test");
+        new PostgresDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 200);
+        Assertions.assertEquals(200, connection.fetchSize);
+    }
+
+    @Test
+    void testFetchSize() throws SQLException {
+        RecordingConnection connection = new RecordingConnection("jdbc:oracle:thin:@localhost:1521/test");
+        new OracleDialect().createPreparedStatement(connection.proxy(), "SELECT 1 FROM DUAL", 0);
+        Assertions.assertTrue(connection.fetchSize > 10);
+        Assertions.assertTrue(connection.autoCommit);
+
+        // dialects without streaming settings keep the driver default unless a fetch size is configured
+        connection = new RecordingConnection("jdbc:sqlserver://localhost:1433");
+        new SqlServerDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 0);
+        Assertions.assertNull(connection.fetchSize);
+        new SqlServerDialect().createPreparedStatement(connection.proxy(), "SELECT 1", 100);
+        Assertions.assertEquals(100, connection.fetchSize);
+    }
+
+    private static class RecordingConnection {
+        private final String url;
+        private boolean autoCommit = true;
+        private Integer fetchSize;
+        private Integer resultSetType;
+
+        RecordingConnection(String url) {
+            this.url = url;
+        }
+
+        Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAutoCommit":
+                            return autoCommit;
+                        case "setAutoCommit":
+                            autoCommit = (Boolean) args[0];
+                            return null;
+                        case "getMetaData":
+                            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{DatabaseMetaData.class},
+                                (metaData, metaDataMethod, metaDataArgs) -> url);
+                        case "prepareStatement":
+                            resultSetType = args.length > 1 ? (Integer) args[1] : null;
+                            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{PreparedStatement.class},
+                                (statement, statementMethod, statementArgs) -> {
+                                    if ("setFetchSize".equals(statementMethod.getName())) {
+                                        fetchSize = (Integer) statementArgs[0];
+                                    }
+                                    return null;
+                                });
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+    }
+}
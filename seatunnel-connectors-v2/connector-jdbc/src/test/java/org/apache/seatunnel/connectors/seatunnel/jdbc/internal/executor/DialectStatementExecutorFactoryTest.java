@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class DialectStatementExecutorFactoryTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private Connection connection;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:upsert;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id INT PRIMARY KEY, name VARCHAR(32))");
+            statement.execute("INSERT INTO users VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+    }
+
+    @AfterEach
+    void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE users");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testAppendWithMultiRowStatements() throws SQLException {
+        JdbcBatchStatementExecutor<SeaTunnelRow> executor = createExecutor(new MysqlDialect(), Collections.emptyList());
+        executor.prepareStatements(connection);
+        for (int id = 4; id <= 8; id++) {
+            executor.addToBatch(row(RowKind.INSERT, id, "n" + id));
+        }
+        // two statements of two rows and one statement for the remaining row
+        executor.executeBatch();
+        executor.closeStatements();
+
+        Assertions.assertEquals(8, read().size());
+        Assertions.assertEquals("n8", read().get(8));
+    }
+
+    @Test
+    void testUpsert() throws SQLException {
+        assertChangelogApplied(new MysqlDialect());
+    }
+
+    @Test
+    void testDeleteBeforeInsertWithoutUpsertStatement() throws SQLException {
+        assertChangelogApplied(new GenericDialect());
+    }
+
+    @Test
+    void testRejectUnknownPrimaryKey() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> createExecutor(new MysqlDialect(), Collections.singletonList("missing")));
+    }
+
+    @Test
+    void testRejectChangelogWithoutPrimaryKeys() throws SQLException {
+        JdbcBatchStatementExecutor<SeaTunnelRow> executor = createExecutor(new MysqlDialect(), Collections.emptyList());
+        executor.prepareStatements(connection);
+        executor.addToBatch(row(RowKind.INSERT, 4, "d"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a1")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.addToBatch(row(RowKind.DELETE, 2, "b")));
+        executor.executeBatch();
+        executor.closeStatements();
+
+        Assertions.assertEquals(4, read().size());
+    }
+
+    @Test
+    void testRejectBulkLoadOfUnsupportedTypes() {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"id", "data"},
+            new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, PrimitiveByteArrayType.INSTANCE});
+        JdbcSinkOptions options = new JdbcSinkOptions(null, false, "users", Collections.emptyList(), 2, true);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new DialectStatementExecutorFactory(new MysqlDialect(), options, rowType));
+        Assertions.assertNotNull(new DialectStatementExecutorFactory(new PostgresDialect(), options, rowType).get());
+    }
+
+    private void assertChangelogApplied(JdbcDialect dialect) throws SQLException {
+        JdbcBatchStatementExecutor<SeaTunnelRow> executor = createExecutor(dialect, Collections.singletonList("id"));
+        executor.prepareStatements(connection);
+        executor.addToBatch(row(RowKind.UPDATE_BEFORE, 1, "a"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a1"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a2"));
+        executor.addToBatch(row(RowKind.DELETE, 2, "b"));
+        executor.addToBatch(row(RowKind.INSERT, 4, "d"));
+        executor.addToBatch(row(RowKind.INSERT, 5, "e"));
+        executor.addToBatch(row(RowKind.DELETE, 5, "e"));
+        executor.executeBatch();
+        executor.closeStatements();
+
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, "a2");
+        expected.put(3, "c");
+        expected.put(4, "d");
+        Assertions.assertEquals(expected, read());
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createExecutor(JdbcDialect dialect, List<String> primaryKeys) {
+        JdbcSinkOptions options = new JdbcSinkOptions(null, false, "users", primaryKeys, 2, false);
+        return new DialectStatementExecutorFactory(dialect, options, ROW_TYPE).get();
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private Map<Integer, String> read() throws SQLException {
+        Map<Integer, String> rows = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id, name FROM users")) {
+            while (resultSet.next()) {
+                rows.put(resultSet.getInt(1), resultSet.getString(2));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * A dialect with only the default statements, which has no upsert statement.
+     */
+    private static class GenericDialect implements JdbcDialect {
+
+        @Override
+        public String dialectName() {
+            return "Generic";
+        }
+
+        @Override
+        public JdbcRowConverter getRowConverter() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
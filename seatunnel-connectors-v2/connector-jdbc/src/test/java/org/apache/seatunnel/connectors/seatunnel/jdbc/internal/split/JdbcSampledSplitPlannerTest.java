@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+
+class JdbcSampledSplitPlannerTest {
+
+    private static final int ROWS = 20000;
+    private static final String QUERY = "SELECT * FROM test_table";
+
+    private static Connection CONNECTION;
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        CONNECTION = DriverManager.getConnection("jdbc:h2:mem:split_planner;DB_CLOSE_DELAY=-1");
+        try (Statement statement = CONNECTION.createStatement()) {
+            statement.execute("CREATE TABLE test_table (id BIGINT, name VARCHAR(32), amount DECIMAL(20, 2), " +
+                "created_at TIMESTAMP, dt DATE)");
+        }
+        try (PreparedStatement statement = CONNECTION.prepareStatement("INSERT INTO test_table VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                // ids grow quadratically, so equal-width ranges would put most rows in the first split
+                statement.setLong(1, (long) i * i);
+                statement.setString(2, String.format("name-%08d", i));
+                statement.setBigDecimal(3, BigDecimal.valueOf(i, 2));
+                statement.setTimestamp(4, new Timestamp(1_600_000_000_000L + (long) i * i * 1000L));
+                statement.setDate(5, new java.sql.Date(1_600_000_000_000L + (i / 100) * 86_400_000L));
+                statement.addBatch();
+            }
+            for (int i = 0; i < 10; i++) {
+                statement.setNull(1, java.sql.Types.BIGINT);
+                statement.setNull(2, java.sql.Types.VARCHAR);
+                statement.setNull(3, java.sql.Types.DECIMAL);
+                statement.setNull(4, java.sql.Types.TIMESTAMP);
+                statement.setNull(5, java.sql.Types.DATE);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        CONNECTION.close();
+    }
+
+    @Test
+    void testEqualRowCountSplits() throws SQLException {
+        // the predicate keeps every key, so the boundaries are the exact quantiles
+        TestDialect dialect = new TestDialect("%s > 0");
+        for (String column : Arrays.asList("id", "name", "amount", "created_at", "dt")) {
+            List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(dialect, QUERY, column)
+                .planSplits(CONNECTION, 8);
+            // 8 ranges plus the split of NULL keys
+            Assertions.assertEquals(9, splits.size(), column);
+            List<Integer> rowCounts = countRows(splits);
+            Assertions.assertEquals(ROWS + 10, rowCounts.stream().mapToInt(Integer::intValue).sum(), column);
+            Assertions.assertEquals(10, rowCounts.get(rowCounts.size() - 1), column);
+            for (int rowCount : rowCounts.subList(0, 8)) {
+                // the date column has 100 rows per distinct key, so the split sizes are only balanced up to a key
+                Assertions.assertEquals(ROWS / 8, rowCount, 100, column + " " + rowCounts);
+            }
+        }
+    }
+
+    @Test
+    void testSampledSplits() throws SQLException {
+        // 20000 rows are more than the minimal sample size for 40 splits, so only a sample of the keys is used
+        int splitNumber = 40;
+        Assertions.assertTrue((long) splitNumber * JdbcSampledSplitPlanner.SAMPLES_PER_SPLIT < ROWS);
+        List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(new TestDialect("RAND() < %s"), QUERY, "id")
+            .planSplits(CONNECTION, splitNumber);
+        Assertions.assertEquals(splitNumber + 1, splits.size());
+        List<Integer> rowCounts = countRows(splits);
+        Assertions.assertEquals(ROWS + 10, rowCounts.stream().mapToInt(Integer::intValue).sum());
+        for (int rowCount : rowCounts.subList(0, splitNumber)) {
+            Assertions.assertEquals(ROWS / splitNumber, rowCount, ROWS / splitNumber / 2, rowCounts.toString());
+        }
+    }
+
+    @Test
+    void testRangeSplitsWithoutSamplingPredicate() throws SQLException {
+        // the row count is not needed, the test dialect fails if it's counted
+        TestDialect dialect = new TestDialect(null);
+        for (String column : Arrays.asList("id", "amount", "created_at", "dt")) {
+            List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(dialect, QUERY, column).planSplits(CONNECTION, 8);
+            Assertions.assertEquals(9, splits.size(), column);
+            List<Integer> rowCounts = countRows(splits);
+            Assertions.assertEquals(ROWS + 10, rowCounts.stream().mapToInt(Integer::intValue).sum(), column);
+            Assertions.assertEquals(10, rowCounts.get(rowCounts.size() - 1), column);
+        }
+        // strings can't be cut into ranges
+        List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(dialect, QUERY, "name").planSplits(CONNECTION, 8);
+        Assertions.assertEquals(Arrays.asList(ROWS, 10), countRows(splits));
+    }
+
+    @Test
+    void testRangeSplitsWithoutRowCountEstimate() throws SQLException {
+        // the sample can't be sized without an estimate, so the dialect is not asked for its sampling predicate
+        TestDialect dialect = new TestDialect("RAND() < %s", false);
+        List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(dialect, QUERY, "id").planSplits(CONNECTION, 8);
+        Assertions.assertEquals(9, splits.size());
+        List<Integer> rowCounts = countRows(splits);
+        Assertions.assertEquals(ROWS + 10, rowCounts.stream().mapToInt(Integer::intValue).sum());
+        // the equally wide ranges of the quadratically growing ids put most rows in the first split
+        Assertions.assertTrue(rowCounts.get(0) > ROWS / 4, rowCounts.toString());
+    }
+
+    @Test
+    void testInterpolateBoundaries() {
+        Assertions.assertEquals(Arrays.asList(3L, 5L, 7L), JdbcSampledSplitPlanner.interpolateBoundaries(1, 8, 4));
+        Assertions.assertEquals(Arrays.asList(new BigDecimal("2.50"), new BigDecimal("5.00"), new BigDecimal("7.50")),
+            JdbcSampledSplitPlanner.interpolateBoundaries(new BigDecimal("0.00"), new BigDecimal("10.00"), 4));
+        Assertions.assertEquals(Collections.singletonList(new Timestamp(1000)),
+            JdbcSampledSplitPlanner.interpolateBoundaries(new Timestamp(0), new Timestamp(2000), 2));
+        Assertions.assertEquals(Collections.emptyList(), JdbcSampledSplitPlanner.interpolateBoundaries("a", "z", 4));
+        Assertions.assertEquals(Collections.emptyList(), JdbcSampledSplitPlanner.interpolateBoundaries(null, null, 4));
+    }
+
+    @Test
+    void testEmptyQuery() throws SQLException {
+        List<JdbcSourceSplit> splits = new JdbcSampledSplitPlanner(new TestDialect(null),
+            QUERY + " WHERE id < 0", "id").planSplits(CONNECTION, 4);
+        Assertions.assertEquals(2, splits.size());
+        Assertions.assertEquals(Arrays.asList(0, 0), countRows(splits));
+    }
+
+    @Test
+    void testSelectBoundaries() {
+        Assertions.assertEquals(Arrays.asList(3, 5, 7),
+            JdbcSampledSplitPlanner.selectBoundaries(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), 4));
+        // duplicated keys cannot be split
+        Assertions.assertEquals(Collections.singletonList(2),
+            JdbcSampledSplitPlanner.selectBoundaries(Arrays.asList(1, 1, 1, 1, 1, 1, 2, 2), 4));
+        Assertions.assertEquals(Collections.emptyList(),
+            JdbcSampledSplitPlanner.selectBoundaries(Arrays.asList(1, 1, 1, 1), 4));
+    }
+
+    private static List<Integer> countRows(List<JdbcSourceSplit> splits) throws SQLException {
+        List<Integer> rowCounts = new ArrayList<>();
+        for (JdbcSourceSplit split : splits) {
+            try (PreparedStatement statement = CONNECTION.prepareStatement(split.getSplitQuery())) {
+                Object[] parameterValues = split.getParameterValues();
+                for (int i = 0; parameterValues != null && i < parameterValues.length; i++) {
+                    statement.setObject(i + 1, parameterValues[i]);
+                }
+                int rowCount = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rowCount++;
+                    }
+                }
+                rowCounts.add(rowCount);
+            }
+        }
+        return rowCounts;
+    }
+
+    private static class TestDialect implements JdbcDialect {
+        private final String samplingPredicate;
+        private final boolean estimatesRowCount;
+
+        TestDialect(String samplingPredicate) {
+            this(samplingPredicate, true);
+        }
+
+        TestDialect(String samplingPredicate, boolean estimatesRowCount) {
+            this.samplingPredicate = samplingPredicate;
+            this.estimatesRowCount = estimatesRowCount;
+        }
+
+        @Override
+        public String dialectName() {
+            return "H2";
+        }
+
+        @Override
+        public JdbcRowConverter getRowConverter() {
+            return null;
+        }
+
+        @Override
+        public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
+            return null;
+        }
+
+        @Override
+        public OptionalLong estimateRowCount(Connection connection, String query) throws SQLException {
+            Assertions.assertNotNull(samplingPredicate, "the rows are only counted to sample the keys");
+            if (!estimatesRowCount) {
+                return OptionalLong.empty();
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(String.format("SELECT COUNT(*) FROM (%s) tt", query))) {
+                rs.next();
+                return OptionalLong.of(rs.getLong(1));
+            }
+        }
+
+        @Override
+        public boolean supportsRandomSampling() {
+            return samplingPredicate != null;
+        }
+
+        @Override
+        public String getRandomSamplingPredicate(double samplingRate) {
+            Assertions.assertNotNull(samplingPredicate, "the keys are only sampled if the dialect supports it");
+            Assertions.assertTrue(estimatesRowCount, "the keys are only sampled if the row count is estimated");
+            return String.format(samplingPredicate, samplingRate);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class JdbcSourceSplitEnumeratorTest {
+
+    @Test
+    void testFasterReaderTakesOverPendingSplits() throws Exception {
+        TestContext context = new TestContext(2, true);
+        JdbcSourceSplitEnumerator enumerator =
+            new JdbcSourceSplitEnumerator(context, null, new PartitionParameter("id", 1L, 800L, null));
+        // A request which arrives before the splits are calculated is served once they are
+        enumerator.handleSplitRequest(0);
+        enumerator.run();
+        Assertions.assertEquals(1, context.assigned.get(0).size());
+        Assertions.assertEquals(2 * JdbcSourceSplitEnumerator.DEFAULT_SPLITS_PER_READER - 1,
+            enumerator.currentUnassignedSplitSize());
+
+        // reader 0 is still reading its split, reader 1 drains all the other ones
+        while (!context.noMoreSplits.contains(1)) {
+            enumerator.handleSplitRequest(1);
+        }
+        Assertions.assertEquals(2 * JdbcSourceSplitEnumerator.DEFAULT_SPLITS_PER_READER - 1, context.assigned.get(1).size());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+
+        enumerator.handleSplitRequest(0);
+        Assertions.assertEquals(1, context.assigned.get(0).size());
+        Assertions.assertTrue(context.noMoreSplits.contains(0));
+    }
+
+    @Test
+    void testEnumeratorPerSubtaskReadsEverySplitOnce() throws Exception {
+        // the Flink and Spark translations run one enumerator per subtask, each only serves its own reader
+        PartitionParameter partitionParameter = new PartitionParameter("id", 1L, 100L, 10);
+        Set<Integer> splitIds = new HashSet<>();
+        for (int subtaskId = 0; subtaskId < 3; subtaskId++) {
+            TestContext context = new TestContext(3, false);
+            JdbcSourceSplitEnumerator enumerator = new JdbcSourceSplitEnumerator(context, null, partitionParameter);
+            enumerator.run();
+            while (!context.noMoreSplits.contains(subtaskId)) {
+                enumerator.handleSplitRequest(subtaskId);
+            }
+            for (JdbcSourceSplit split : context.assigned.getOrDefault(subtaskId, new ArrayList<>())) {
+                Assertions.assertTrue(splitIds.add(split.getSplitId()));
+            }
+        }
+        Assertions.assertEquals(10, splitIds.size());
+    }
+
+    @Test
+    void testRestoreDoesNotRecalculateSplits() throws Exception {
+        TestContext context = new TestContext(2, true);
+        PartitionParameter partitionParameter = new PartitionParameter("id", 1L, 100L, 10);
+        JdbcSourceSplitEnumerator enumerator = new JdbcSourceSplitEnumerator(context, null, partitionParameter);
+        enumerator.run();
+        for (int i = 0; i < 7; i++) {
+            enumerator.handleSplitRequest(i % 2);
+        }
+        JdbcSourceState state = enumerator.snapshotState(1L);
+        Assertions.assertTrue(state.isSplitsDiscovered());
+        Assertions.assertEquals(3, state.getUnassignedSplits().size());
+
+        TestContext restoredContext = new TestContext(2, true);
+        JdbcSourceSplitEnumerator restored =
+            new JdbcSourceSplitEnumerator(restoredContext, null, partitionParameter, state);
+        restored.run();
+        Assertions.assertEquals(3, restored.currentUnassignedSplitSize());
+
+        // splits of a failed reader are handed out again before the remaining ones
+        JdbcSourceSplit failed = context.assigned.get(0).get(0);
+        List<JdbcSourceSplit> failedSplits = new ArrayList<>();
+        failedSplits.add(failed);
+        restored.addSplitsBack(failedSplits, 0);
+        restored.handleSplitRequest(0);
+        Assertions.assertEquals(failed, restoredContext.assigned.get(0).get(0));
+        Assertions.assertEquals(3, restored.currentUnassignedSplitSize());
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<JdbcSourceSplit> {
+        private final int parallelism;
+        private final boolean coordinated;
+        private final Map<Integer, List<JdbcSourceSplit>> assigned = new HashMap<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        TestContext(int parallelism, boolean coordinated) {
+            this.parallelism = parallelism;
+            this.coordinated = coordinated;
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public boolean isCoordinated() {
+            return coordinated;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            Set<Integer> readers = new HashSet<>();
+            for (int i = 0; i < parallelism; i++) {
+                readers.add(i);
+            }
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<JdbcSourceSplit> splits) {
+            assigned.computeIfAbsent(subtaskId, id -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {
+        }
+    }
+}
@@ -45,6 +45,27 @@ public class Config {
      */
     public static final String COMMIT_ON_CHECKPOINT = "commit_on_checkpoint";
 
+    /**
+     * The number of polled record batches buffered for the source reader.
+     */
+    public static final String HANDOVER_CAPACITY = "handover.capacity";
+
+    /**
+     * The default number of buffered record batches.
+     */
+    public static final int DEFAULT_HANDOVER_CAPACITY = 4;
+
+    /**
+     * The interval in milliseconds to discover the new partitions of the topics, a non-positive value disables the
+     * discovery after the start.
+     */
+    public static final String PARTITION_DISCOVERY_INTERVAL_MILLIS = "partition-discovery.interval-millis";
+
+    /**
+     * The partition discovery is disabled by default.
+     */
+    public static final long DEFAULT_PARTITION_DISCOVERY_INTERVAL_MILLIS = -1L;
+
     /**
      * The prefix of kafka's transactionId, make sure different job use different prefix.
      */
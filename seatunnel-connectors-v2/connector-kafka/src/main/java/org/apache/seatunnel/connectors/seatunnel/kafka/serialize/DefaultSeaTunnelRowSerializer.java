@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.serialize;
 
+import org.apache.seatunnel.api.serialization.SerializationSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.format.json.JsonSerializationSchema;
@@ -27,11 +28,10 @@ public class DefaultSeaTunnelRowSerializer implements SeaTunnelRowSerializer<byt
 
     private int partation = -1;
     private final String topic;
-    private final JsonSerializationSchema jsonSerializationSchema;
+    private final SerializationSchema serializationSchema;
 
     public DefaultSeaTunnelRowSerializer(String topic, SeaTunnelRowType seaTunnelRowType) {
-        this.topic = topic;
-        this.jsonSerializationSchema = new JsonSerializationSchema(seaTunnelRowType);
+        this(topic, new JsonSerializationSchema(seaTunnelRowType));
     }
 
     public DefaultSeaTunnelRowSerializer(String topic, int partation, SeaTunnelRowType seaTunnelRowType) {
@@ -39,20 +39,30 @@ public class DefaultSeaTunnelRowSerializer implements SeaTunnelRowSerializer<byt
         this.partation = partation;
     }
 
+    public DefaultSeaTunnelRowSerializer(String topic, SerializationSchema serializationSchema) {
+        this.topic = topic;
+        this.serializationSchema = serializationSchema;
+    }
+
+    public DefaultSeaTunnelRowSerializer(String topic, int partation, SerializationSchema serializationSchema) {
+        this(topic, serializationSchema);
+        this.partation = partation;
+    }
+
     @Override
     public ProducerRecord<byte[], byte[]> serializeRow(SeaTunnelRow row) {
         if (this.partation != -1) {
-            return new ProducerRecord<>(topic, this.partation, null, jsonSerializationSchema.serialize(row));
+            return new ProducerRecord<>(topic, this.partation, null, serializationSchema.serialize(row));
         }
         else {
-            return new ProducerRecord<>(topic, null, jsonSerializationSchema.serialize(row));
+            return new ProducerRecord<>(topic, null, serializationSchema.serialize(row));
         }
     }
 
     @Override
     public ProducerRecord<byte[], byte[]> serializeRowByKey(String key, SeaTunnelRow row) {
         //if the key is null, kafka will send message to a random partition
-        return new ProducerRecord<>(topic, key == null ? null : key.getBytes(), jsonSerializationSchema.serialize(row));
+        return new ProducerRecord<>(topic, key == null ? null : key.getBytes(), serializationSchema.serialize(row));
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.serialize;
+
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_FIELD_DELIMITER;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_FORMAT;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FIELD_DELIMITER;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FORMAT;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.TOPIC;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.Column;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.factory.DeserializationFormatFactory;
+import org.apache.seatunnel.api.table.factory.FactoryUtil;
+import org.apache.seatunnel.api.table.factory.SerializationFormatFactory;
+import org.apache.seatunnel.api.table.factory.TableFactoryContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.text.TextDeserializationSchema;
+import org.apache.seatunnel.format.text.TextSerializationSchema;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates the serialization and deserialization schemas of the {@code format} option. The json and text formats are
+ * built in, any other format is looked up by its identifier among the {@link SerializationFormatFactory} and
+ * {@link DeserializationFormatFactory} services, e.g. {@code avro} and {@code protobuf}.
+ */
+public class KafkaFormatUtils {
+
+    private static final String TEXT_FORMAT = "text";
+    private static final String CATALOG_NAME = "kafka";
+    private static final String DEFAULT_DATABASE = "default";
+
+    private KafkaFormatUtils() {
+    }
+
+    public static SerializationSchema createSerializationSchema(Config pluginConfig, SeaTunnelRowType rowType) {
+        String format = getFormat(pluginConfig);
+        if (DEFAULT_FORMAT.equals(format)) {
+            return new JsonSerializationSchema(rowType);
+        }
+        if (TEXT_FORMAT.equals(format)) {
+            return TextSerializationSchema.builder()
+                .seaTunnelRowType(rowType)
+                .delimiter(getFieldDelimiter(pluginConfig))
+                .build();
+        }
+        return FactoryUtil.discoverFactory(getClassLoader(), SerializationFormatFactory.class, format)
+            .createSerializationFormat(createContext(pluginConfig, rowType))
+            .createSerializationSchema();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static DeserializationSchema<SeaTunnelRow> createDeserializationSchema(Config pluginConfig, SeaTunnelRowType rowType) {
+        String format = getFormat(pluginConfig);
+        if (DEFAULT_FORMAT.equals(format)) {
+            return new JsonDeserializationSchema(false, false, rowType);
+        }
+        if (TEXT_FORMAT.equals(format)) {
+            return TextDeserializationSchema.builder()
+                .seaTunnelRowType(rowType)
+                .delimiter(getFieldDelimiter(pluginConfig))
+                .build();
+        }
+        return FactoryUtil.discoverFactory(getClassLoader(), DeserializationFormatFactory.class, format)
+            .createDeserializationFormat(createContext(pluginConfig, rowType))
+            .createDeserializationSchema();
+    }
+
+    private static String getFormat(Config pluginConfig) {
+        return pluginConfig.hasPath(FORMAT) ? pluginConfig.getString(FORMAT) : DEFAULT_FORMAT;
+    }
+
+    private static String getFieldDelimiter(Config pluginConfig) {
+        return pluginConfig.hasPath(FIELD_DELIMITER) ? pluginConfig.getString(FIELD_DELIMITER) : DEFAULT_FIELD_DELIMITER;
+    }
+
+    private static ClassLoader getClassLoader() {
+        return Thread.currentThread().getContextClassLoader();
+    }
+
+    private static TableFactoryContext createContext(Config pluginConfig, SeaTunnelRowType rowType) {
+        TableSchema.Builder schema = TableSchema.builder();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            schema.column(Column.physical(rowType.getFieldName(i), rowType.getFieldType(i)));
+        }
+        Map<String, String> options = new HashMap<>();
+        pluginConfig.entrySet().forEach(entry -> options.put(entry.getKey(), String.valueOf(entry.getValue().unwrapped())));
+        CatalogTable table = CatalogTable.of(
+            TableIdentifier.of(CATALOG_NAME, DEFAULT_DATABASE, pluginConfig.getString(TOPIC)),
+            schema.build(),
+            options,
+            Collections.emptyList(),
+            "");
+        return new TableFactoryContext(Collections.singletonList(table), options, getClassLoader());
+    }
+}
@@ -17,55 +17,177 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
+import org.apache.seatunnel.common.Handover;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
+/**
+ * The fetch loop of a {@link KafkaSourceReader}: a single consumer is assigned to all the splits of the reader and
+ * polls them continuously into the bounded {@link Handover}, so a slow reader throttles the fetching. The consumer is
+ * not thread safe, the reader changes the assignment and commits the offsets with tasks run by this thread between the polls.
+ */
+@Slf4j
 public class KafkaConsumerThread implements Runnable {
 
-    private final KafkaConsumer<byte[], byte[]> consumer;
     private static final String CLIENT_ID_PREFIX = "seatunnel";
-    private final ConsumerMetadata metadata;
+    private static final long IDLE_WAIT_MS = 100L;
 
-    private final LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> tasks;
+    private final Consumer<byte[], byte[]> consumer;
+    private final Handover<ConsumerRecords<byte[], byte[]>> handover;
+    private final long pollTimeoutMs;
+    private final LinkedBlockingQueue<Runnable> tasks;
 
-    public KafkaConsumerThread(ConsumerMetadata metadata) {
-        this.metadata = metadata;
+    private volatile boolean running;
+
+    public KafkaConsumerThread(Consumer<byte[], byte[]> consumer,
+                               Handover<ConsumerRecords<byte[], byte[]>> handover, long pollTimeoutMs) {
+        this.consumer = consumer;
+        this.handover = handover;
+        this.pollTimeoutMs = pollTimeoutMs;
         this.tasks = new LinkedBlockingQueue<>();
-        this.consumer = initConsumer(this.metadata.getBootstrapServers(), this.metadata.getConsumerGroup(),
-            this.metadata.getProperties(), !this.metadata.isCommitOnCheckpoint());
+        this.running = true;
     }
 
     @Override
     public void run() {
-        while (!Thread.currentThread().isInterrupted()) {
+        try {
+            while (running) {
+                runTasks();
+                if (consumer.assignment().isEmpty()) {
+                    Runnable task = tasks.poll(IDLE_WAIT_MS, TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        task.run();
+                    }
+                    continue;
+                }
+                ConsumerRecords<byte[], byte[]> records;
+                try {
+                    records = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+                } catch (WakeupException e) {
+                    // woken up to run the new tasks
+                    continue;
+                }
+                if (!records.isEmpty()) {
+                    handover.produce(records);
+                }
+            }
+        } catch (Handover.ClosedException e) {
+            // the reader is closed
+        } catch (Throwable t) {
+            handover.reportError(t);
+        } finally {
             try {
-                Consumer<KafkaConsumer<byte[], byte[]>> task = tasks.poll(1, TimeUnit.SECONDS);
-                if (task != null) {
-                    task.accept(consumer);
+                consumer.close();
+            } catch (Throwable t) {
+                log.warn("Error while closing kafka consumer", t);
+            }
+        }
+    }
+
+    /**
+     * Adds the partitions to the assignment, the partitions with a start offset are read from it, the other
+     * partitions from the committed offset of the consumer group.
+     *
+     * @return the offsets of the next records read from the partitions
+     */
+    public CompletableFuture<Map<TopicPartition, Long>> assign(Map<TopicPartition, Long> startOffsets) {
+        CompletableFuture<Map<TopicPartition, Long>> positions = new CompletableFuture<>();
+        submit(() -> {
+            Set<TopicPartition> assignment = new HashSet<>(consumer.assignment());
+            assignment.addAll(startOffsets.keySet());
+            consumer.assign(assignment);
+            Map<TopicPartition, Long> resolved = new HashMap<>();
+            startOffsets.forEach((partition, offset) -> {
+                if (offset >= 0) {
+                    consumer.seek(partition, offset);
+                    resolved.put(partition, offset);
+                } else {
+                    resolved.put(partition, position(partition));
                 }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+            });
+            positions.complete(resolved);
+        });
+        return positions;
+    }
+
+    private long position(TopicPartition partition) {
+        while (true) {
+            try {
+                return consumer.position(partition);
+            } catch (WakeupException e) {
+                // woken up by another task, which runs after this one
+            }
+        }
+    }
+
+    /**
+     * Removes the finished partitions from the assignment.
+     */
+    public void unassign(Collection<TopicPartition> partitions) {
+        submit(() -> {
+            Set<TopicPartition> assignment = new HashSet<>(consumer.assignment());
+            assignment.removeAll(partitions);
+            consumer.assign(assignment);
+        });
+    }
+
+    public void commit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        submit(() -> consumer.commitAsync(offsets, (committed, e) -> {
+            if (e != null) {
+                log.warn("Failed to commit the offsets {} to kafka", committed, e);
             }
+        }));
+    }
+
+    public void close() {
+        running = false;
+        consumer.wakeup();
+    }
+
+    private void submit(Runnable task) {
+        tasks.add(task);
+        // interrupt the running poll, the tasks run before the next one
+        consumer.wakeup();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
         }
     }
 
-    public LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> getTasks() {
-        return tasks;
+    public static KafkaConsumer<byte[], byte[]> initConsumer(ConsumerMetadata metadata, int subtaskId) {
+        return initConsumer(metadata.getBootstrapServers(), metadata.getConsumerGroup(), metadata.getProperties(),
+            !metadata.isCommitOnCheckpoint(), subtaskId);
     }
 
-    private KafkaConsumer<byte[], byte[]> initConsumer(String bootstrapServer, String consumerGroup,
-                                                       Properties properties, boolean autoCommit) {
+    private static KafkaConsumer<byte[], byte[]> initConsumer(String bootstrapServer, String consumerGroup,
+                                                              Properties properties, boolean autoCommit, int subtaskId) {
         Properties props = new Properties();
         properties.forEach((key, value) -> props.setProperty(String.valueOf(key), String.valueOf(value)));
         props.setProperty(ConsumerConfig.GROUP_ID_CONFIG, consumerGroup);
         props.setProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServer);
-        props.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, CLIENT_ID_PREFIX + "-enumerator-consumer-" + this.hashCode());
+        props.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, CLIENT_ID_PREFIX + "-source-reader-" + subtaskId);
 
         props.setProperty(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
             ByteArrayDeserializer.class.getName());
@@ -20,10 +20,10 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.BOOTSTRAP_SERVERS;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.COMMIT_ON_CHECKPOINT;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.CONSUMER_GROUP;
-import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_FIELD_DELIMITER;
-import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_FORMAT;
-import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FIELD_DELIMITER;
-import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FORMAT;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_HANDOVER_CAPACITY;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEFAULT_PARTITION_DISCOVERY_INTERVAL_MILLIS;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.HANDOVER_CAPACITY;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.PARTITION_DISCOVERY_INTERVAL_MILLIS;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.PATTERN;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.SCHEMA;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.TOPIC;
@@ -43,8 +43,8 @@ import org.apache.seatunnel.common.config.TypesafeConfigUtils;
 import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
+import org.apache.seatunnel.connectors.seatunnel.kafka.serialize.KafkaFormatUtils;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
-import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
@@ -62,6 +62,8 @@ public class KafkaSource implements SeaTunnelSource<SeaTunnelRow, KafkaSourceSpl
     private DeserializationSchema<SeaTunnelRow> deserializationSchema;
     private SeaTunnelRowType typeInfo;
     private JobContext jobContext;
+    private int handoverCapacity = DEFAULT_HANDOVER_CAPACITY;
+    private long partitionDiscoveryIntervalMs = DEFAULT_PARTITION_DISCOVERY_INTERVAL_MILLIS;
 
     @Override
     public Boundedness getBoundedness() {
@@ -96,6 +98,14 @@ public class KafkaSource implements SeaTunnelSource<SeaTunnelRow, KafkaSourceSpl
             this.metadata.setCommitOnCheckpoint(config.getBoolean(COMMIT_ON_CHECKPOINT));
         }
 
+        if (config.hasPath(HANDOVER_CAPACITY)) {
+            this.handoverCapacity = config.getInt(HANDOVER_CAPACITY);
+        }
+
+        if (config.hasPath(PARTITION_DISCOVERY_INTERVAL_MILLIS)) {
+            this.partitionDiscoveryIntervalMs = config.getLong(PARTITION_DISCOVERY_INTERVAL_MILLIS);
+        }
+
         TypesafeConfigUtils.extractSubConfig(config, "kafka.", false).entrySet().forEach(e -> {
             this.metadata.getProperties().put(e.getKey(), String.valueOf(e.getValue().unwrapped()));
         });
@@ -110,17 +120,17 @@ public class KafkaSource implements SeaTunnelSource<SeaTunnelRow, KafkaSourceSpl
 
     @Override
     public SourceReader<SeaTunnelRow, KafkaSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
-        return new KafkaSourceReader(this.metadata, deserializationSchema, readerContext);
+        return new KafkaSourceReader(this.metadata, deserializationSchema, readerContext, handoverCapacity);
     }
 
     @Override
     public SourceSplitEnumerator<KafkaSourceSplit, KafkaSourceState> createEnumerator(SourceSplitEnumerator.Context<KafkaSourceSplit> enumeratorContext) throws Exception {
-        return new KafkaSourceSplitEnumerator(this.metadata, enumeratorContext);
+        return new KafkaSourceSplitEnumerator(this.metadata, enumeratorContext, getBoundedness(), partitionDiscoveryIntervalMs);
     }
 
     @Override
     public SourceSplitEnumerator<KafkaSourceSplit, KafkaSourceState> restoreEnumerator(SourceSplitEnumerator.Context<KafkaSourceSplit> enumeratorContext, KafkaSourceState checkpointState) throws Exception {
-        return new KafkaSourceSplitEnumerator(this.metadata, enumeratorContext, checkpointState);
+        return new KafkaSourceSplitEnumerator(this.metadata, enumeratorContext, getBoundedness(), partitionDiscoveryIntervalMs, checkpointState);
     }
 
     @Override
@@ -132,25 +142,7 @@ public class KafkaSource implements SeaTunnelSource<SeaTunnelRow, KafkaSourceSpl
         if (config.hasPath(SCHEMA)) {
             Config schema = config.getConfig(SCHEMA);
             typeInfo = SeaTunnelSchema.buildWithConfig(schema).getSeaTunnelRowType();
-            String format = DEFAULT_FORMAT;
-            if (config.hasPath(FORMAT)) {
-                format = config.getString(FORMAT);
-            }
-            if (DEFAULT_FORMAT.equals(format)) {
-                deserializationSchema = new JsonDeserializationSchema(false, false, typeInfo);
-            } else if ("text".equals(format)) {
-                String delimiter = DEFAULT_FIELD_DELIMITER;
-                if (config.hasPath(FIELD_DELIMITER)) {
-                    delimiter = config.getString(FIELD_DELIMITER);
-                }
-                deserializationSchema = TextDeserializationSchema.builder()
-                        .seaTunnelRowType(typeInfo)
-                        .delimiter(delimiter)
-                        .build();
-            } else {
-                // TODO: use format SPI
-                throw new UnsupportedOperationException("Unsupported format: " + format);
-            }
+            deserializationSchema = KafkaFormatUtils.createDeserializationSchema(config, typeInfo);
         } else {
             typeInfo = SeaTunnelSchema.buildSimpleTextSchema();
             this.deserializationSchema = TextDeserializationSchema.builder()
@@ -22,26 +22,25 @@ import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.Handover;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.serialization.StringDeserializer;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
@@ -49,144 +48,179 @@ import java.util.stream.Collectors;
 @Slf4j
 public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSourceSplit> {
 
-    private static final long THREAD_WAIT_TIME = 500L;
     private static final long POLL_TIMEOUT = 10000L;
 
     private final SourceReader.Context context;
     private final ConsumerMetadata metadata;
-    private final Set<KafkaSourceSplit> sourceSplits;
     private final Map<Long, Map<TopicPartition, Long>> checkpointOffsetMap;
-    private final ConcurrentMap<TopicPartition, KafkaSourceSplit> sourceSplitMap;
-    private final Map<TopicPartition, KafkaConsumerThread> consumerThreadMap;
-    private final ExecutorService executorService;
+    private final Map<TopicPartition, KafkaSourceSplit> sourceSplitMap;
+    private final Set<TopicPartition> finishedSplits;
+    private final List<CompletableFuture<Map<TopicPartition, Long>>> pendingAssignments;
+    private final Handover<ConsumerRecords<byte[], byte[]>> handover;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    /**
+     * Completed when the first splits are assigned, the reader has nothing to do before that.
+     */
+    private final CompletableFuture<Void> splitsAvailable;
+
+    private volatile boolean noMoreSplits;
+
+    private ExecutorService executorService;
+    private KafkaConsumerThread consumerThread;
 
     KafkaSourceReader(ConsumerMetadata metadata,
                       DeserializationSchema<SeaTunnelRow> deserializationSchema,
-                      SourceReader.Context context) {
+                      SourceReader.Context context,
+                      int handoverCapacity) {
         this.metadata = metadata;
         this.context = context;
-        this.sourceSplits = new HashSet<>();
         this.deserializationSchema = deserializationSchema;
-        this.consumerThreadMap = new ConcurrentHashMap<>();
         this.sourceSplitMap = new ConcurrentHashMap<>();
+        this.finishedSplits = ConcurrentHashMap.newKeySet();
+        this.pendingAssignments = new CopyOnWriteArrayList<>();
         this.checkpointOffsetMap = new ConcurrentHashMap<>();
-        this.executorService = Executors.newCachedThreadPool(
-            r -> new Thread(r, "Kafka Source Data Consumer"));
+        this.splitsAvailable = new CompletableFuture<>();
+        this.handover = new Handover<>(handoverCapacity);
     }
 
     @Override
     public void open() {
+        open(KafkaConsumerThread.initConsumer(metadata, context.getIndexOfSubtask()));
+    }
+
+    void open(Consumer<byte[], byte[]> consumer) {
+        this.consumerThread = new KafkaConsumerThread(consumer, handover, POLL_TIMEOUT);
+        this.executorService = Executors.newSingleThreadExecutor(
+            r -> new Thread(r, "Kafka Source Data Consumer-" + context.getIndexOfSubtask()));
+        executorService.submit(consumerThread);
     }
 
     @Override
     public void close() throws IOException {
+        // wake up the consumer thread blocked by the full handover
+        handover.close();
+        if (consumerThread != null) {
+            consumerThread.close();
+        }
         if (executorService != null) {
-            executorService.shutdownNow();
+            executorService.shutdown();
         }
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        if (sourceSplitMap.isEmpty()) {
-            Thread.sleep(THREAD_WAIT_TIME);
-            return;
-        }
-        sourceSplits.forEach(sourceSplit -> consumerThreadMap.computeIfAbsent(sourceSplit.getTopicPartition(), s -> {
-            KafkaConsumerThread thread = new KafkaConsumerThread(metadata);
-            executorService.submit(thread);
-            return thread;
-        }));
-        sourceSplits.forEach(sourceSplit -> {
-            CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-            try {
-                consumerThreadMap.get(sourceSplit.getTopicPartition()).getTasks().put(consumer -> {
-                    try {
-                        Set<TopicPartition> partitions = Sets.newHashSet(sourceSplit.getTopicPartition());
-                        StringDeserializer stringDeserializer = new StringDeserializer();
-                        stringDeserializer.configure(Maps.fromProperties(this.metadata.getProperties()), false);
-                        consumer.assign(partitions);
-                        if (sourceSplit.getStartOffset() >= 0) {
-                            consumer.seek(sourceSplit.getTopicPartition(), sourceSplit.getStartOffset());
-                        }
-                        ConsumerRecords<byte[], byte[]> records = consumer.poll(Duration.ofMillis(POLL_TIMEOUT));
-                        for (TopicPartition partition : partitions) {
-                            List<ConsumerRecord<byte[], byte[]>> recordList = records.records(partition);
-                            for (ConsumerRecord<byte[], byte[]> record : recordList) {
-
-                                deserializationSchema.deserialize(record.value(), output);
-
-                                if (Boundedness.BOUNDED.equals(context.getBoundedness()) &&
-                                    record.offset() >= sourceSplit.getEndOffset()) {
-                                    break;
-                                }
-                            }
-                            long lastOffset = -1;
-                            if (!recordList.isEmpty()) {
-                                lastOffset = recordList.get(recordList.size() - 1).offset();
-                                sourceSplit.setStartOffset(lastOffset + 1);
-                            }
-
-                            if (lastOffset >= sourceSplit.getEndOffset()) {
-                                sourceSplit.setEndOffset(lastOffset);
-                            }
+        checkAssignedPositions();
+        Optional<ConsumerRecords<byte[], byte[]>> records = handover.pollNext();
+        if (records.isPresent()) {
+            List<TopicPartition> reachedEnd = new ArrayList<>();
+            synchronized (output.getCheckpointLock()) {
+                for (TopicPartition partition : records.get().partitions()) {
+                    KafkaSourceSplit split = sourceSplitMap.get(partition);
+                    if (split == null || finishedSplits.contains(partition)) {
+                        continue;
+                    }
+                    for (ConsumerRecord<byte[], byte[]> record : records.get().records(partition)) {
+                        if (isEndReached(split, record.offset())) {
+                            break;
                         }
-                    } catch (Exception e) {
-                        completableFuture.completeExceptionally(e);
+                        deserializationSchema.deserialize(record.value(), output);
+                        split.setStartOffset(record.offset() + 1);
                     }
-                    completableFuture.complete(null);
-                });
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                    if (isEndReached(split, split.getStartOffset())) {
+                        reachedEnd.add(partition);
+                    }
+                }
             }
-            completableFuture.join();
-        });
-
-        if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
+            finishSplits(reachedEnd);
+        }
+        if (Boundedness.BOUNDED.equals(context.getBoundedness())
+            && (noMoreSplits || !sourceSplitMap.isEmpty()) && finishedSplits.size() == sourceSplitMap.size()) {
             // signal to the source that we have reached the end of the data.
             context.signalNoMoreElement();
         }
     }
 
+    /**
+     * Finishes the bounded splits which are read from the committed offset and have nothing to read, no record would
+     * reach their end.
+     */
+    private void checkAssignedPositions() {
+        List<TopicPartition> reachedEnd = new ArrayList<>();
+        for (CompletableFuture<Map<TopicPartition, Long>> assignment : pendingAssignments) {
+            if (assignment.isDone()) {
+                pendingAssignments.remove(assignment);
+                assignment.join().forEach((partition, position) -> {
+                    if (isEndReached(sourceSplitMap.get(partition), position)) {
+                        reachedEnd.add(partition);
+                    }
+                });
+            }
+        }
+        finishSplits(reachedEnd);
+    }
+
+    private boolean isEndReached(KafkaSourceSplit split, long offset) {
+        return Boundedness.BOUNDED.equals(context.getBoundedness()) && offset >= split.getEndOffset();
+    }
+
+    private void finishSplits(List<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            finishedSplits.addAll(partitions);
+            consumerThread.unassign(partitions);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return sourceSplitMap.isEmpty() && !noMoreSplits ? splitsAvailable : CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public List<KafkaSourceSplit> snapshotState(long checkpointId) {
-        checkpointOffsetMap.put(checkpointId, sourceSplits.stream()
-            .collect(Collectors.toMap(KafkaSourceSplit::getTopicPartition, KafkaSourceSplit::getEndOffset)));
-        return sourceSplits.stream().map(KafkaSourceSplit::copy).collect(Collectors.toList());
+        List<KafkaSourceSplit> splits = sourceSplitMap.values().stream()
+            .map(KafkaSourceSplit::copy)
+            .collect(Collectors.toList());
+        // the committed offset is the offset of the next record to read
+        checkpointOffsetMap.put(checkpointId, splits.stream()
+            .filter(split -> split.getStartOffset() >= 0)
+            .collect(Collectors.toMap(KafkaSourceSplit::getTopicPartition, KafkaSourceSplit::getStartOffset)));
+        return splits;
     }
 
     @Override
     public void addSplits(List<KafkaSourceSplit> splits) {
-        sourceSplits.addAll(splits);
-        sourceSplits.forEach(split -> {
+        Map<TopicPartition, Long> startOffsets = new HashMap<>();
+        List<TopicPartition> reachedEnd = new ArrayList<>();
+        splits.forEach(split -> {
             sourceSplitMap.put(split.getTopicPartition(), split);
+            if (split.getStartOffset() >= 0 && isEndReached(split, split.getStartOffset())) {
+                reachedEnd.add(split.getTopicPartition());
+            } else {
+                startOffsets.put(split.getTopicPartition(), split.getStartOffset());
+            }
         });
+        finishedSplits.addAll(reachedEnd);
+        if (!startOffsets.isEmpty()) {
+            pendingAssignments.add(consumerThread.assign(startOffsets));
+        }
+        splitsAvailable.complete(null);
     }
 
     @Override
     public void handleNoMoreSplits() {
         log.info("receive no more splits message, this reader will not add new split.");
+        noMoreSplits = true;
+        splitsAvailable.complete(null);
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) {
-        if (!checkpointOffsetMap.containsKey(checkpointId)) {
+        Map<TopicPartition, Long> offsets = checkpointOffsetMap.remove(checkpointId);
+        if (offsets == null) {
             log.warn("checkpoint {} do not exist or have already been committed.", checkpointId);
-        } else {
-            checkpointOffsetMap.remove(checkpointId).forEach((topicPartition, offset) -> {
-                try {
-                    consumerThreadMap.get(topicPartition)
-                        .getTasks().put(consumer -> {
-                            if (this.metadata.isCommitOnCheckpoint()) {
-                                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
-                                offsets.put(topicPartition, new OffsetAndMetadata(offset));
-                                consumer.commitSync(offsets);
-                            }
-                        });
-                } catch (InterruptedException e) {
-                    log.error("commit offset to kafka failed", e);
-                }
-            });
+        } else if (this.metadata.isCommitOnCheckpoint() && !offsets.isEmpty()) {
+            consumerThread.commit(offsets.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new OffsetAndMetadata(entry.getValue()))));
         }
     }
 
@@ -17,13 +17,12 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
+import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
-import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.ListOffsetsResult;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
@@ -32,6 +31,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +40,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -47,23 +50,54 @@ public class KafkaSourceSplitEnumerator implements SourceSplitEnumerator<KafkaSo
 
     private static final String CLIENT_ID_PREFIX = "seatunnel";
 
+    private static final Comparator<TopicPartition> PARTITION_ORDER =
+        Comparator.comparing(TopicPartition::topic).thenComparingInt(TopicPartition::partition);
+
     private final ConsumerMetadata metadata;
     private final Context<KafkaSourceSplit> context;
+    private final Boundedness boundedness;
+    private final long partitionDiscoveryIntervalMs;
     private AdminClient adminClient;
 
-    private Set<KafkaSourceSplit> pendingSplit;
-    private final Set<KafkaSourceSplit> assignedSplit;
+    /**
+     * The partitions assigned to the readers, mapped to the owner reader.
+     */
+    private final Map<TopicPartition, Integer> assignedPartitions;
+    /**
+     * The splits waiting for the owner reader to be registered.
+     */
+    private final Map<Integer, Set<KafkaSourceSplit>> pendingSplits;
 
-    KafkaSourceSplitEnumerator(ConsumerMetadata metadata, Context<KafkaSourceSplit> context) {
-        this.metadata = metadata;
-        this.context = context;
-        this.assignedSplit = new HashSet<>();
-        this.pendingSplit = new HashSet<>();
+    // This flag will be marked as true if periodically partition discovery is disabled AND the
+    // initializing partition discovery has finished.
+    private boolean noMoreNewPartitionSplits = false;
+    /**
+     * Whether the partitions of the job were discovered before. The partitions of the first discovery are read from
+     * the committed offsets of the consumer group, while later partitions were created during the job and are read
+     * from the earliest offset, so the records written before their discovery aren't skipped by a latest reset.
+     */
+    private boolean initialDiscoveryFinished;
+
+    private ScheduledThreadPoolExecutor executor;
+
+    KafkaSourceSplitEnumerator(ConsumerMetadata metadata, Context<KafkaSourceSplit> context,
+                               Boundedness boundedness, long partitionDiscoveryIntervalMs) {
+        this(metadata, context, boundedness, partitionDiscoveryIntervalMs, new KafkaSourceState(Collections.emptyMap()));
     }
 
     KafkaSourceSplitEnumerator(ConsumerMetadata metadata, Context<KafkaSourceSplit> context,
+                               Boundedness boundedness, long partitionDiscoveryIntervalMs,
                                KafkaSourceState sourceState) {
-        this(metadata, context);
+        if (partitionDiscoveryIntervalMs > 0 && Boundedness.BOUNDED == boundedness) {
+            throw new IllegalArgumentException("Bounded streams do not support dynamic partition discovery.");
+        }
+        this.metadata = metadata;
+        this.context = context;
+        this.boundedness = boundedness;
+        this.partitionDiscoveryIntervalMs = partitionDiscoveryIntervalMs;
+        this.assignedPartitions = new HashMap<>(sourceState.getAssignedPartitions());
+        this.pendingSplits = new HashMap<>();
+        this.initialDiscoveryFinished = !sourceState.getAssignedPartitions().isEmpty();
     }
 
     @Override
@@ -73,46 +107,66 @@ public class KafkaSourceSplitEnumerator implements SourceSplitEnumerator<KafkaSo
 
     @Override
     public void run() throws ExecutionException, InterruptedException {
-        getTopicInfo().forEach(split -> {
-            if (!assignedSplit.contains(split)) {
-                pendingSplit.add(split);
-            }
-        });
-        assignSplit();
+        if (partitionDiscoveryIntervalMs > 0) {
+            executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                thread.setName("kafka-partition-discovery-executor");
+                return thread;
+            });
+            executor.scheduleAtFixedRate(() -> {
+                try {
+                    discoverSplits();
+                } catch (Exception e) {
+                    // the next discovery retries, the assigned splits are still read
+                    log.warn("Failed to discover the kafka partitions", e);
+                }
+            }, 0, partitionDiscoveryIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            discoverSplits();
+        }
+    }
+
+    synchronized void discoverSplits() throws ExecutionException, InterruptedException {
+        Set<TopicPartition> partitions = getTopicPartitions();
+        partitions.removeAll(assignedPartitions.keySet());
+        pendingSplits.values().forEach(splits -> splits.forEach(split -> partitions.remove(split.getTopicPartition())));
+        if (partitionDiscoveryIntervalMs <= 0) {
+            noMoreNewPartitionSplits = true;
+        }
+        if (!partitions.isEmpty()) {
+            log.info("Discovered new partitions: {}", partitions);
+            addToPendingSplits(createSplits(partitions));
+        }
+        initialDiscoveryFinished = true;
+        assignPendingSplits(context.registeredReaders());
     }
 
     @Override
     public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         if (this.adminClient != null) {
             adminClient.close();
         }
     }
 
     @Override
-    public void addSplitsBack(List<KafkaSourceSplit> splits, int subtaskId) {
+    public synchronized void addSplitsBack(List<KafkaSourceSplit> splits, int subtaskId) {
         if (!splits.isEmpty()) {
-            pendingSplit.addAll(convertToNextSplit(splits));
-            assignSplit();
-        }
-    }
-
-    private Collection<? extends KafkaSourceSplit> convertToNextSplit(List<KafkaSourceSplit> splits) {
-        try {
-            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> listOffsets =
-                getKafkaPartitionLatestOffset(splits.stream().map(KafkaSourceSplit::getTopicPartition).collect(Collectors.toList()));
-            splits.forEach(split -> {
-                split.setStartOffset(split.getEndOffset() + 1);
-                split.setEndOffset(listOffsets.get(split.getTopicPartition()).offset());
-            });
-            return splits;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            // the restarted reader takes its splits back, so the load of the readers doesn't change
+            splits.forEach(split -> assignedPartitions.remove(split.getTopicPartition()));
+            pendingSplits.computeIfAbsent(subtaskId, id -> new HashSet<>()).addAll(splits);
+            if (context.registeredReaders().contains(subtaskId)) {
+                assignPendingSplits(Collections.singleton(subtaskId));
+            }
         }
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
-        return pendingSplit.size();
+    public synchronized int currentUnassignedSplitSize() {
+        return pendingSplits.values().stream().mapToInt(Set::size).sum();
     }
 
     @Override
@@ -121,15 +175,13 @@ public class KafkaSourceSplitEnumerator implements SourceSplitEnumerator<KafkaSo
     }
 
     @Override
-    public void registerReader(int subtaskId) {
-        if (!pendingSplit.isEmpty()) {
-            assignSplit();
-        }
+    public synchronized void registerReader(int subtaskId) {
+        assignPendingSplits(Collections.singleton(subtaskId));
     }
 
     @Override
-    public KafkaSourceState snapshotState(long checkpointId) throws Exception {
-        return new KafkaSourceState(assignedSplit);
+    public synchronized KafkaSourceState snapshotState(long checkpointId) throws Exception {
+        return new KafkaSourceState(new HashMap<>(assignedPartitions));
     }
 
     @Override
@@ -144,7 +196,7 @@ public class KafkaSourceSplitEnumerator implements SourceSplitEnumerator<KafkaSo
         return AdminClient.create(props);
     }
 
-    private Set<KafkaSourceSplit> getTopicInfo() throws ExecutionException, InterruptedException {
+    Set<TopicPartition> getTopicPartitions() throws ExecutionException, InterruptedException {
         Collection<String> topics;
         if (this.metadata.isPattern()) {
             Pattern pattern = Pattern.compile(this.metadata.getTopic());
@@ -153,46 +205,75 @@ public class KafkaSourceSplitEnumerator implements SourceSplitEnumerator<KafkaSo
         } else {
             topics = Arrays.asList(this.metadata.getTopic().split(","));
         }
-        log.info("Discovered topics: {}", topics);
-
-        Collection<TopicPartition> partitions =
-            adminClient.describeTopics(topics).all().get().values().stream().flatMap(t -> t.partitions().stream()
-                .map(p -> new TopicPartition(t.name(), p.partition()))).collect(Collectors.toSet());
-        return getKafkaPartitionLatestOffset(partitions).entrySet().stream().map(partition -> {
-            KafkaSourceSplit split = new KafkaSourceSplit(partition.getKey());
-            split.setEndOffset(partition.getValue().offset());
-            return split;
-        }).collect(Collectors.toSet());
+        log.debug("Discovered topics: {}", topics);
+
+        return adminClient.describeTopics(topics).all().get().values().stream().flatMap(t -> t.partitions().stream()
+            .map(p -> new TopicPartition(t.name(), p.partition()))).collect(Collectors.toSet());
     }
 
-    private Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> getKafkaPartitionLatestOffset(Collection<TopicPartition> partitions) throws InterruptedException, ExecutionException {
-        return adminClient.listOffsets(partitions.stream().collect(Collectors.toMap(p -> p, p -> OffsetSpec.latest())))
-            .all().get();
+    private List<KafkaSourceSplit> createSplits(Collection<TopicPartition> partitions) throws ExecutionException, InterruptedException {
+        Map<TopicPartition, Long> latestOffsets = getKafkaPartitionOffsets(partitions, OffsetSpec.latest());
+        Map<TopicPartition, Long> earliestOffsets = initialDiscoveryFinished ?
+            getKafkaPartitionOffsets(partitions, OffsetSpec.earliest()) : Collections.emptyMap();
+        return partitions.stream().sorted(PARTITION_ORDER).map(partition -> {
+            KafkaSourceSplit split = new KafkaSourceSplit(partition);
+            split.setStartOffset(earliestOffsets.getOrDefault(partition, -1L));
+            split.setEndOffset(latestOffsets.get(partition));
+            return split;
+        }).collect(Collectors.toList());
     }
 
-    private void assignSplit() {
-        Map<Integer, List<KafkaSourceSplit>> readySplit = new HashMap<>(Common.COLLECTION_SIZE);
-        for (int taskID = 0; taskID < context.currentParallelism(); taskID++) {
-            readySplit.computeIfAbsent(taskID, id -> new ArrayList<>());
-        }
+    Map<TopicPartition, Long> getKafkaPartitionOffsets(Collection<TopicPartition> partitions, OffsetSpec offsetSpec)
+        throws InterruptedException, ExecutionException {
+        return adminClient.listOffsets(partitions.stream().collect(Collectors.toMap(p -> p, p -> offsetSpec)))
+            .all().get().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().offset()));
+    }
 
-        pendingSplit.forEach(s -> {
-            if (!assignedSplit.contains(s)) {
-                readySplit.get(getSplitOwner(s.getTopicPartition(), context.currentParallelism()))
-                    .add(s);
+    /**
+     * Gives every new split to the reader with the fewest assigned and pending splits. The splits are sorted, so the
+     * enumerators of the parallel subtasks choose the same owners for the same discovered partitions.
+     */
+    private void addToPendingSplits(List<KafkaSourceSplit> splits) {
+        int[] loads = new int[context.currentParallelism()];
+        assignedPartitions.values().forEach(reader -> {
+            if (reader < loads.length) {
+                loads[reader]++;
             }
         });
+        pendingSplits.forEach((reader, readerSplits) -> {
+            if (reader < loads.length) {
+                loads[reader] += readerSplits.size();
+            }
+        });
+        for (KafkaSourceSplit split : splits) {
+            int owner = leastLoadedReader(loads);
+            loads[owner]++;
+            pendingSplits.computeIfAbsent(owner, id -> new HashSet<>()).add(split);
+        }
+    }
 
-        readySplit.forEach(context::assignSplit);
-
-        assignedSplit.addAll(pendingSplit);
-        pendingSplit.clear();
+    static int leastLoadedReader(int[] loads) {
+        int owner = 0;
+        for (int reader = 1; reader < loads.length; reader++) {
+            if (loads[reader] < loads[owner]) {
+                owner = reader;
+            }
+        }
+        return owner;
     }
 
-    @SuppressWarnings("checkstyle:MagicNumber")
-    private static int getSplitOwner(TopicPartition tp, int numReaders) {
-        int startIndex = ((tp.topic().hashCode() * 31) & 0x7FFFFFFF) % numReaders;
-        return (startIndex + tp.partition()) % numReaders;
+    private void assignPendingSplits(Set<Integer> readers) {
+        for (int reader : readers) {
+            Set<KafkaSourceSplit> splits = pendingSplits.remove(reader);
+            if (splits != null && !splits.isEmpty()) {
+                splits.forEach(split -> assignedPartitions.put(split.getTopicPartition(), reader));
+                log.info("Assigning splits {} to reader {}", splits, reader);
+                context.assignSplit(reader, new ArrayList<>(splits));
+            }
+        }
+        if (noMoreNewPartitionSplits && Boundedness.BOUNDED == boundedness) {
+            readers.forEach(context::signalNoMoreSplits);
+        }
     }
 
 }
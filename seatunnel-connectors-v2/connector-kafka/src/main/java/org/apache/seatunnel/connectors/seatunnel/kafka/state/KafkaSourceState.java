@@ -17,24 +17,27 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.state;
 
-import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaSourceSplit;
+import org.apache.kafka.common.TopicPartition;
 
 import java.io.Serializable;
-import java.util.Set;
+import java.util.Map;
 
 public class KafkaSourceState implements Serializable {
 
-    private Set<KafkaSourceSplit> assignedSplit;
+    /**
+     * The partitions assigned to the readers, mapped to the owner reader.
+     */
+    private Map<TopicPartition, Integer> assignedPartitions;
 
-    public KafkaSourceState(Set<KafkaSourceSplit> assignedSplit) {
-        this.assignedSplit = assignedSplit;
+    public KafkaSourceState(Map<TopicPartition, Integer> assignedPartitions) {
+        this.assignedPartitions = assignedPartitions;
     }
 
-    public Set<KafkaSourceSplit> getAssignedSplit() {
-        return assignedSplit;
+    public Map<TopicPartition, Integer> getAssignedPartitions() {
+        return assignedPartitions;
     }
 
-    public void setAssignedSplit(Set<KafkaSourceSplit> assignedSplit) {
-        this.assignedSplit = assignedSplit;
+    public void setAssignedPartitions(Map<TopicPartition, Integer> assignedPartitions) {
+        this.assignedPartitions = assignedPartitions;
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.serialize;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.avro.AvroSerializationSchema;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.protobuf.ProtobufSerializationSchema;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class KafkaFormatUtilsTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name", "amount", "created_at"},
+        new SeaTunnelDataType<?>[]{
+            BasicType.LONG_TYPE,
+            BasicType.STRING_TYPE,
+            new DecimalType(10, 2),
+            LocalTimeType.LOCAL_DATE_TIME_TYPE});
+
+    private static final SeaTunnelRow ROW = new SeaTunnelRow(new Object[]{
+        1L, "seatunnel", new BigDecimal("12.34"), LocalDateTime.of(2022, 10, 20, 12, 0)});
+
+    @ParameterizedTest
+    @ValueSource(strings = {"avro", "protobuf"})
+    public void testBinaryFormatsAreSmallerThanJson(String format) throws IOException {
+        Config config = ConfigFactory.parseString("topic = test\nformat = " + format);
+        SerializationSchema serializationSchema = KafkaFormatUtils.createSerializationSchema(config, ROW_TYPE);
+        Assertions.assertTrue(serializationSchema instanceof AvroSerializationSchema
+            || serializationSchema instanceof ProtobufSerializationSchema);
+
+        byte[] bytes = serializationSchema.serialize(ROW);
+        byte[] json = new JsonSerializationSchema(ROW_TYPE).serialize(ROW);
+        Assertions.assertTrue(bytes.length * 2 < json.length,
+            String.format("%s encoded %d bytes, json %d bytes", format, bytes.length, json.length));
+
+        DeserializationSchema<SeaTunnelRow> deserializationSchema = KafkaFormatUtils.createDeserializationSchema(config, ROW_TYPE);
+        SeaTunnelRow row = deserializationSchema.deserialize(bytes);
+        Assertions.assertArrayEquals(ROW.getFields(), row.getFields());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"json", "text"})
+    public void testBuiltInFormats(String format) throws IOException {
+        Config config = ConfigFactory.parseString("topic = test\nformat = " + format);
+        byte[] bytes = KafkaFormatUtils.createSerializationSchema(config, ROW_TYPE).serialize(ROW);
+        SeaTunnelRow row = KafkaFormatUtils.createDeserializationSchema(config, ROW_TYPE).deserialize(bytes);
+        Assertions.assertEquals(ROW.getField(1), row.getField(1));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+class KafkaSourceReaderTest {
+
+    private static final String TOPIC = "test";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final TopicPartition PARTITION_2 = new TopicPartition(TOPIC, 2);
+
+    @Test
+    void testReadBoundedSplitsWithOneConsumer() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(PARTITION_0, 0L);
+        beginningOffsets.put(PARTITION_1, 0L);
+        beginningOffsets.put(PARTITION_2, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+        TestContext context = new TestContext(Boundedness.BOUNDED);
+        KafkaSourceReader reader = new KafkaSourceReader(new ConsumerMetadata(), new ValueDeserializationSchema(), context, 2);
+        reader.open(consumer);
+        reader.addSplits(Arrays.asList(
+            new KafkaSourceSplit(PARTITION_0, -1, 3),
+            new KafkaSourceSplit(PARTITION_1, 2, 4),
+            // an empty partition is finished without reading any record
+            new KafkaSourceSplit(PARTITION_2, -1, 0)));
+        waitUntil(() -> consumer.assignment().size() == 3);
+        addRecords(consumer, PARTITION_0, 0, 5);
+        addRecords(consumer, PARTITION_1, 2, 4);
+
+        TestCollector output = new TestCollector();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!context.noMoreElement && System.nanoTime() < deadline) {
+            reader.pollNext(output);
+        }
+        reader.close();
+
+        Assertions.assertTrue(context.noMoreElement);
+        Assertions.assertEquals(Arrays.asList("0-0", "0-1", "0-2", "1-2", "1-3"),
+            output.values.stream().sorted().collect(Collectors.toList()));
+        Map<TopicPartition, Long> offsets = reader.snapshotState(1).stream()
+            .collect(Collectors.toMap(KafkaSourceSplit::getTopicPartition, KafkaSourceSplit::getStartOffset));
+        Assertions.assertEquals(3L, offsets.get(PARTITION_0));
+        Assertions.assertEquals(4L, offsets.get(PARTITION_1));
+    }
+
+    @Test
+    void testCommitOffsetsOnCheckpoint() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION_0, 0L));
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setCommitOnCheckpoint(true);
+        KafkaSourceReader reader = new KafkaSourceReader(metadata, new ValueDeserializationSchema(),
+            new TestContext(Boundedness.UNBOUNDED), 2);
+        reader.open(consumer);
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_0)));
+        waitUntil(() -> !consumer.assignment().isEmpty());
+        addRecords(consumer, PARTITION_0, 0, 3);
+
+        TestCollector output = new TestCollector();
+        waitUntil(() -> {
+            try {
+                reader.pollNext(output);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return output.values.size() == 3;
+        });
+        reader.snapshotState(1);
+        reader.notifyCheckpointComplete(1);
+        waitUntil(() -> consumer.committed(Collections.singleton(PARTITION_0)).get(PARTITION_0) != null);
+        reader.close();
+
+        Assertions.assertEquals(new OffsetAndMetadata(3),
+            consumer.committed(Collections.singleton(PARTITION_0)).get(PARTITION_0));
+    }
+
+    private static void addRecords(MockConsumer<byte[], byte[]> consumer, TopicPartition partition, long from, long to) {
+        for (long offset = from; offset < to; offset++) {
+            byte[] value = (partition.partition() + "-" + offset).getBytes(StandardCharsets.UTF_8);
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, null, value));
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Timed out waiting for the condition");
+            Thread.sleep(10);
+        }
+    }
+
+    private static class ValueDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
+
+        @Override
+        public SeaTunnelRow deserialize(byte[] message) {
+            return new SeaTunnelRow(new Object[]{new String(message, StandardCharsets.UTF_8)});
+        }
+
+        @Override
+        public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+            return new SeaTunnelRowType(new String[]{"value"}, new SeaTunnelDataType<?>[]{BasicType.STRING_TYPE});
+        }
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+
+        private final List<String> values = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            values.add((String) record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestContext implements SourceReader.Context {
+
+        private final Boundedness boundedness;
+        private volatile boolean noMoreElement;
+
+        TestContext(Boundedness boundedness) {
+            this.boundedness = boundedness;
+        }
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return boundedness;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {
+        }
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
+
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class KafkaSourceSplitEnumeratorTest {
+
+    private static final long EARLIEST_OFFSET = 10L;
+    private static final long LATEST_OFFSET = 100L;
+
+    @Test
+    void testAssignDiscoveredPartitionsToLeastLoadedReaders() throws Exception {
+        TestContext context = new TestContext(3);
+        TestEnumerator enumerator = new TestEnumerator(context, Boundedness.UNBOUNDED, new KafkaSourceState(new HashMap<>()));
+        enumerator.partitions = partitions(4);
+        enumerator.run();
+        Assertions.assertEquals(Arrays.asList(2, 1, 1), context.loads());
+        // the partitions of the first discovery are read from the committed offsets
+        Assertions.assertTrue(context.assignedSplits().stream().allMatch(split -> split.getStartOffset() == -1L));
+
+        enumerator.partitions = partitions(6);
+        enumerator.discoverSplits();
+        Assertions.assertEquals(Arrays.asList(2, 2, 2), context.loads());
+        Assertions.assertEquals(6, context.assignedPartitions().size());
+        Assertions.assertTrue(context.noMoreSplits.isEmpty());
+        // the partitions created during the job are read from the earliest offset
+        Assertions.assertEquals(2, context.assignedSplits().stream().filter(split -> split.getStartOffset() == EARLIEST_OFFSET).count());
+
+        // the restored enumerator only assigns the partitions discovered after the checkpoint
+        TestContext restoredContext = new TestContext(3);
+        TestEnumerator restored = new TestEnumerator(restoredContext, Boundedness.UNBOUNDED, enumerator.snapshotState(1));
+        restored.partitions = partitions(7);
+        restored.run();
+        Assertions.assertEquals(Arrays.asList(new TopicPartition("test", 6)), restoredContext.assignedPartitions());
+        Assertions.assertEquals(Arrays.asList(1, 0, 0), restoredContext.loads());
+        Assertions.assertEquals(EARLIEST_OFFSET, restoredContext.assignedSplits().get(0).getStartOffset());
+    }
+
+    @Test
+    void testSignalNoMoreSplitsWhenBounded() throws Exception {
+        TestContext context = new TestContext(3);
+        TestEnumerator enumerator = new TestEnumerator(context, Boundedness.BOUNDED, new KafkaSourceState(new HashMap<>()));
+        enumerator.partitions = partitions(2);
+        enumerator.run();
+        Assertions.assertEquals(Arrays.asList(1, 1, 0), context.loads());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), context.noMoreSplits);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new KafkaSourceSplitEnumerator(new ConsumerMetadata(), context, Boundedness.BOUNDED, 1000L));
+    }
+
+    private static Set<TopicPartition> partitions(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new TopicPartition("test", i)).collect(Collectors.toSet());
+    }
+
+    /**
+     * Discovers the given partitions instead of asking the brokers.
+     */
+    private static class TestEnumerator extends KafkaSourceSplitEnumerator {
+
+        private Set<TopicPartition> partitions;
+
+        TestEnumerator(Context<KafkaSourceSplit> context, Boundedness boundedness, KafkaSourceState state) {
+            super(new ConsumerMetadata(), context, boundedness, -1L, state);
+        }
+
+        @Override
+        Set<TopicPartition> getTopicPartitions() {
+            return new HashSet<>(partitions);
+        }
+
+        @Override
+        Map<TopicPartition, Long> getKafkaPartitionOffsets(Collection<TopicPartition> partitions, OffsetSpec offsetSpec) {
+            long offset = offsetSpec instanceof OffsetSpec.EarliestSpec ? EARLIEST_OFFSET : LATEST_OFFSET;
+            return partitions.stream().collect(Collectors.toMap(Function.identity(), partition -> offset));
+        }
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<KafkaSourceSplit> {
+
+        private final int parallelism;
+        private final Map<Integer, List<KafkaSourceSplit>> assignments = new HashMap<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        TestContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        List<Integer> loads() {
+            return IntStream.range(0, parallelism)
+                .mapToObj(reader -> assignments.getOrDefault(reader, new ArrayList<>()).size())
+                .collect(Collectors.toList());
+        }
+
+        List<KafkaSourceSplit> assignedSplits() {
+            return assignments.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+
+        List<TopicPartition> assignedPartitions() {
+            return assignedSplits().stream().map(KafkaSourceSplit::getTopicPartition).collect(Collectors.toList());
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return IntStream.range(0, parallelism).boxed().collect(Collectors.toSet());
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<KafkaSourceSplit> splits) {
+            assignments.computeIfAbsent(subtaskId, id -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {
+        }
+    }
+}
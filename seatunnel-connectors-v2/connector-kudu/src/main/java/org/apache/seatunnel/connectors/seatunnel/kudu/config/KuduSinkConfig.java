@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import lombok.Data;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kudu.client.SessionConfiguration;
 
 @Data
 public class KuduSinkConfig {
@@ -29,9 +30,27 @@ public class KuduSinkConfig {
     private static final String KUDU_SAVE_MODE = "save_mode";
     private static final String KUDU_MASTER = "kudu_master";
     private static final String KUDU_TABLE_NAME = "kudu_table";
+    private static final String KUDU_FLUSH_MODE = "flush_mode";
+    private static final String KUDU_BUFFER_SIZE = "buffer_size";
+    private static final String KUDU_FLUSH_INTERVAL = "flush_interval";
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+    private static final int DEFAULT_FLUSH_INTERVAL = 1000;
 
     private SaveMode saveMode = SaveMode.APPEND;
 
+    private SessionConfiguration.FlushMode flushMode = SessionConfiguration.FlushMode.AUTO_FLUSH_BACKGROUND;
+
+    /**
+     * The maximum number of operations buffered by the session
+     */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * The interval in milliseconds of the background flushes
+     */
+    private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+
     private String kuduMaster;
 
     /**
@@ -57,6 +76,15 @@ public class KuduSinkConfig {
             this.saveMode = StringUtils.isBlank(pluginConfig.getString(KUDU_SAVE_MODE)) ? SaveMode.APPEND : SaveMode.fromStr(pluginConfig.getString(KUDU_SAVE_MODE));
             this.kuduMaster = pluginConfig.getString(KUDU_MASTER);
             this.kuduTableName = pluginConfig.getString(KUDU_TABLE_NAME);
+            if (pluginConfig.hasPath(KUDU_FLUSH_MODE)) {
+                this.flushMode = SessionConfiguration.FlushMode.valueOf(pluginConfig.getString(KUDU_FLUSH_MODE).toUpperCase());
+            }
+            if (pluginConfig.hasPath(KUDU_BUFFER_SIZE)) {
+                this.bufferSize = pluginConfig.getInt(KUDU_BUFFER_SIZE);
+            }
+            if (pluginConfig.hasPath(KUDU_FLUSH_INTERVAL)) {
+                this.flushInterval = pluginConfig.getInt(KUDU_FLUSH_INTERVAL);
+            }
         } else {
             throw new RuntimeException("Missing Sink configuration parameters");
         }
@@ -31,10 +31,12 @@ import org.apache.kudu.ColumnSchema;
 import org.apache.kudu.Schema;
 import org.apache.kudu.client.KuduClient;
 import org.apache.kudu.client.KuduException;
-import org.apache.kudu.client.KuduPredicate;
+import org.apache.kudu.client.KuduScanToken;
 import org.apache.kudu.client.KuduScanner;
+import org.apache.kudu.client.ReplicaSelection;
 import org.apache.kudu.client.RowResult;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -64,7 +66,6 @@ public class KuduInputFormat implements Serializable {
     public String kuduMaster;
     public List<String> columnsList;
     public Schema schema;
-    public String keyColumn;
     public static final int TIMEOUTMS = 18000;
 
     /**
@@ -72,12 +73,16 @@ public class KuduInputFormat implements Serializable {
      */
     public String tableName;
 
+    /**
+     * @return The schemas of the projected columns in the order of the columns list
+     */
     public List<ColumnSchema> getColumnsSchemas() {
-        List<ColumnSchema> columns = null;
+        List<ColumnSchema> columns = new ArrayList<>(columnsList.size());
         try {
             schema = kuduClient.openTable(tableName).getSchema();
-            keyColumn = schema.getPrimaryKeyColumns().get(0).getName();
-            columns = schema.getColumns();
+            for (String column : columnsList) {
+                columns.add(schema.getColumn(column));
+            }
         } catch (KuduException e) {
             log.warn("get table Columns Schemas Fail.", e);
             throw new RuntimeException("get table Columns Schemas Fail..", e);
@@ -153,36 +158,33 @@ public class KuduInputFormat implements Serializable {
     }
 
     /**
-     * @param lowerBound The beginning of each slice
-     * @param upperBound End of each slice
-     * @return Get the kuduScanner object for each slice
+     * @return The serialized scan tokens of the projected columns, one for every tablet of the table. The scanner of a
+     * token reads from the closest replica of its tablet, which is local when the reader runs on a tablet server.
      */
-
-    public KuduScanner getKuduBuildSplit(int lowerBound, int upperBound) {
-        KuduScanner kuduScanner = null;
+    public List<byte[]> getSerializedScanTokens() {
         try {
-            KuduScanner.KuduScannerBuilder kuduScannerBuilder =
-                    kuduClient.newScannerBuilder(kuduClient.openTable(tableName));
-
-            kuduScannerBuilder.setProjectedColumnNames(columnsList);
-
-            KuduPredicate lowerPred = KuduPredicate.newComparisonPredicate(
-                    schema.getColumn("" + keyColumn),
-                    KuduPredicate.ComparisonOp.GREATER_EQUAL,
-                    lowerBound);
-
-            KuduPredicate upperPred = KuduPredicate.newComparisonPredicate(
-                    schema.getColumn("" + keyColumn),
-                    KuduPredicate.ComparisonOp.LESS,
-                    upperBound);
+            List<KuduScanToken> scanTokens = kuduClient.newScanTokenBuilder(kuduClient.openTable(tableName))
+                    .setProjectedColumnNames(columnsList)
+                    .replicaSelection(ReplicaSelection.CLOSEST_REPLICA)
+                    .build();
+            List<byte[]> serializedScanTokens = new ArrayList<>(scanTokens.size());
+            for (KuduScanToken scanToken : scanTokens) {
+                serializedScanTokens.add(scanToken.serialize());
+            }
+            return serializedScanTokens;
+        } catch (IOException e) {
+            log.warn("get the scan tokens of the table exception", e);
+            throw new RuntimeException("get the scan tokens of the table exception.", e);
+        }
+    }
 
-            kuduScanner = kuduScannerBuilder.addPredicate(lowerPred)
-                    .addPredicate(upperPred).build();
-        } catch (KuduException e) {
-            log.warn("get the Kuduscan object for each splice exception", e);
-            throw new RuntimeException("get the Kuduscan object for each splice exception.", e);
+    public KuduScanner getKuduScanner(byte[] serializedScanToken) {
+        try {
+            return KuduScanToken.deserializeIntoScanner(serializedScanToken, kuduClient);
+        } catch (IOException e) {
+            log.warn("get the Kuduscan object of the scan token exception", e);
+            throw new RuntimeException("get the Kuduscan object of the scan token exception.", e);
         }
-        return kuduScanner;
     }
 
     public void closeInputFormat() {
@@ -28,7 +28,11 @@ import org.apache.kudu.client.KuduClient;
 import org.apache.kudu.client.KuduException;
 import org.apache.kudu.client.KuduSession;
 import org.apache.kudu.client.KuduTable;
+import org.apache.kudu.client.Operation;
+import org.apache.kudu.client.OperationResponse;
 import org.apache.kudu.client.PartialRow;
+import org.apache.kudu.client.RowError;
+import org.apache.kudu.client.RowErrorsAndOverflowStatus;
 import org.apache.kudu.client.SessionConfiguration;
 import org.apache.kudu.client.Upsert;
 
@@ -36,6 +40,9 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * A Kudu outputFormat
@@ -50,6 +57,10 @@ public class KuduOutputFormat
     private final String kuduMaster;
     private final String kuduTableName;
     private final KuduSinkConfig.SaveMode saveMode;
+    private final SessionConfiguration.FlushMode flushMode;
+    private final int bufferSize;
+    private final int flushInterval;
+    private int pendingOperations;
     private KuduClient kuduClient;
     private KuduSession kuduSession;
     private KuduTable kuduTable;
@@ -58,6 +69,9 @@ public class KuduOutputFormat
         this.kuduMaster = kuduSinkConfig.getKuduMaster();
         this.kuduTableName = kuduSinkConfig.getKuduTableName();
         this.saveMode = kuduSinkConfig.getSaveMode();
+        this.flushMode = kuduSinkConfig.getFlushMode();
+        this.bufferSize = kuduSinkConfig.getBufferSize();
+        this.flushInterval = kuduSinkConfig.getFlushInterval();
         init();
     }
 
@@ -125,12 +139,7 @@ public class KuduOutputFormat
         Schema schema = kuduTable.getSchema();
         PartialRow row = upsert.getRow();
         transform(row, element, schema);
-        try {
-            kuduSession.apply(upsert);
-        } catch (KuduException e) {
-            log.error("Failed to upsert.", e);
-            throw new RuntimeException("Failed to upsert.", e);
-        }
+        apply(upsert);
     }
 
     private void insert(SeaTunnelRow element) {
@@ -138,11 +147,67 @@ public class KuduOutputFormat
         Schema schema = kuduTable.getSchema();
         PartialRow row = insert.getRow();
         transform(row, element, schema);
+        apply(insert);
+    }
+
+    /**
+     * Applies the operation to the session, which sends it right away in AUTO_FLUSH_SYNC mode and buffers it in the
+     * other modes. The buffer is flushed once it holds {@code bufferSize} operations in MANUAL_FLUSH mode, by the
+     * background flusher in AUTO_FLUSH_BACKGROUND mode.
+     */
+    private void apply(Operation operation) {
+        try {
+            OperationResponse response = kuduSession.apply(operation);
+            if (response != null && response.hasRowError()) {
+                throw new RuntimeException("Failed to write the row: " + response.getRowError());
+            }
+            pendingOperations++;
+            if (flushMode == SessionConfiguration.FlushMode.MANUAL_FLUSH && pendingOperations >= bufferSize) {
+                flush();
+            } else {
+                checkPendingErrors(new ArrayList<>());
+            }
+        } catch (KuduException e) {
+            log.error("Failed to apply the operation.", e);
+            throw new RuntimeException("Failed to apply the operation.", e);
+        }
+    }
+
+    /**
+     * Sends the buffered operations and fails if any of them, or of the operations sent in the background since the
+     * last check, was rejected.
+     */
+    public void flush() {
+        if (pendingOperations == 0) {
+            return;
+        }
+        List<RowError> rowErrors = new ArrayList<>();
         try {
-            kuduSession.apply(insert);
+            for (OperationResponse response : kuduSession.flush()) {
+                if (response.hasRowError()) {
+                    rowErrors.add(response.getRowError());
+                }
+            }
         } catch (KuduException e) {
-            log.error("Failed to insert.", e);
-            throw new RuntimeException("Failed to insert.", e);
+            log.error("Failed to flush the session.", e);
+            throw new RuntimeException("Failed to flush the session.", e);
+        }
+        pendingOperations = 0;
+        checkPendingErrors(rowErrors);
+    }
+
+    private void checkPendingErrors(List<RowError> rowErrors) {
+        boolean overflowed = false;
+        if (kuduSession.countPendingErrors() > 0) {
+            RowErrorsAndOverflowStatus pendingErrors = kuduSession.getPendingErrors();
+            rowErrors.addAll(Arrays.asList(pendingErrors.getRowErrors()));
+            overflowed = pendingErrors.isOverflowed();
+        }
+        if (!rowErrors.isEmpty()) {
+            String message = String.format("Failed to write %s%d rows to the table %s, the first error is: %s",
+                    overflowed ? "more than " : "", rowErrors.size(), kuduTableName, rowErrors.get(0));
+            log.error(message);
+            throw new RuntimeException(message);
         }
     }
 
@@ -166,7 +231,9 @@ public class KuduOutputFormat
         this.kuduClient = kuduClientBuilder.build();
         this.kuduSession = kuduClient.newSession();
         this.kuduSession.setTimeoutMillis(SESSIONTIMEOUTMS);
-        this.kuduSession.setFlushMode(SessionConfiguration.FlushMode.AUTO_FLUSH_SYNC);
+        this.kuduSession.setFlushMode(flushMode);
+        this.kuduSession.setMutationBufferSpace(bufferSize);
+        this.kuduSession.setFlushInterval(flushInterval);
         try {
             kuduTable = kuduClient.openTable(kuduTableName);
         } catch (KuduException e) {
@@ -179,13 +246,17 @@ public class KuduOutputFormat
     public void closeOutputFormat() {
         if (kuduClient != null) {
             try {
-                kuduClient.close();
-                kuduSession.close();
-            } catch (KuduException ignored) {
-                log.warn("Failed to close Kudu Client.", ignored);
+                flush();
             } finally {
-                kuduClient = null;
-                kuduSession = null;
+                try {
+                    kuduSession.close();
+                    kuduClient.close();
+                } catch (KuduException ignored) {
+                    log.warn("Failed to close Kudu Client.", ignored);
+                } finally {
+                    kuduClient = null;
+                    kuduSession = null;
+                }
             }
         }
     }
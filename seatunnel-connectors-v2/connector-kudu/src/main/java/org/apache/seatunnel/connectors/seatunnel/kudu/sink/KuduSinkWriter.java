@@ -29,6 +29,7 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 public class KuduSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
@@ -53,6 +54,12 @@ public class KuduSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
         fileWriter.write(element);
     }
 
+    @Override
+    public Optional<Void> prepareCommit() {
+        fileWriter.flush();
+        return Optional.empty();
+    }
+
     @Override
     public void close() throws IOException {
         fileWriter.closeOutputFormat();
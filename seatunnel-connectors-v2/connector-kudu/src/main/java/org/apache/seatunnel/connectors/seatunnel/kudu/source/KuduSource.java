@@ -38,11 +38,6 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import com.google.auto.service.AutoService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kudu.ColumnSchema;
-import org.apache.kudu.client.KuduClient;
-import org.apache.kudu.client.KuduException;
-import org.apache.kudu.client.KuduScanner;
-import org.apache.kudu.client.RowResult;
-import org.apache.kudu.client.RowResultIterator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,8 +47,9 @@ import java.util.List;
 public class KuduSource implements SeaTunnelSource<SeaTunnelRow, KuduSourceSplit, KuduSourceState> {
     private SeaTunnelRowType rowTypeInfo;
     private KuduInputFormat kuduInputFormat;
-    private PartitionParameter partitionParameter;
-    public static final int TIMEOUTMS = 18000;
+    private String kuduMaster;
+    private String tableName;
+    private String columnsList;
 
     @Override
     public Boundedness getBoundedness() {
@@ -78,14 +74,13 @@ public class KuduSource implements SeaTunnelSource<SeaTunnelRow, KuduSourceSplit
     @Override
     public SourceSplitEnumerator<KuduSourceSplit, KuduSourceState> createEnumerator(
             SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext) {
-        return new KuduSourceSplitEnumerator(enumeratorContext, partitionParameter);
+        return new KuduSourceSplitEnumerator(enumeratorContext, new KuduInputFormat(kuduMaster, tableName, columnsList));
     }
 
     @Override
     public SourceSplitEnumerator<KuduSourceSplit, KuduSourceState> restoreEnumerator(
            SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext, KuduSourceState checkpointState) {
-        // todo:
-        return new KuduSourceSplitEnumerator(enumeratorContext, partitionParameter);
+        return new KuduSourceSplitEnumerator(enumeratorContext, new KuduInputFormat(kuduMaster, tableName, columnsList), checkpointState);
     }
 
     @Override
@@ -100,69 +95,22 @@ public class KuduSource implements SeaTunnelSource<SeaTunnelRow, KuduSourceSplit
 
     @Override
     public void prepare(Config config) {
-        String kudumaster = "";
-        String tableName = "";
-        String columnslist = "";
-        if (config.hasPath(KuduSourceConfig.KUDUMASTER) && config.hasPath(KuduSourceConfig.KUDUMASTER) && config.hasPath(KuduSourceConfig.KUDUMASTER)) {
-            kudumaster = config.getString(KuduSourceConfig.KUDUMASTER);
+        if (config.hasPath(KuduSourceConfig.KUDUMASTER) && config.hasPath(KuduSourceConfig.TABLENAME) && config.hasPath(KuduSourceConfig.COLUMNSLIST)) {
+            kuduMaster = config.getString(KuduSourceConfig.KUDUMASTER);
             tableName = config.getString(KuduSourceConfig.TABLENAME);
-            columnslist = config.getString(KuduSourceConfig.COLUMNSLIST);
-            kuduInputFormat = new KuduInputFormat(kudumaster, tableName, columnslist);
+            columnsList = config.getString(KuduSourceConfig.COLUMNSLIST);
+            kuduInputFormat = new KuduInputFormat(kuduMaster, tableName, columnsList);
         } else {
             throw new RuntimeException("Missing Source configuration parameters");
         }
+        kuduInputFormat.openInputFormat();
         try {
-            KuduClient.KuduClientBuilder kuduClientBuilder = new
-                    KuduClient.KuduClientBuilder(kudumaster);
-            kuduClientBuilder.defaultOperationTimeoutMs(TIMEOUTMS);
-
-            KuduClient kuduClient = kuduClientBuilder.build();
-            partitionParameter = initPartitionParameter(kuduClient, tableName);
-            SeaTunnelRowType seaTunnelRowType = getSeaTunnelRowType(kuduClient.openTable(tableName).getSchema().getColumns());
-            rowTypeInfo = seaTunnelRowType;
-        } catch (KuduException e) {
-            throw new RuntimeException("Parameters in the preparation phase fail to be generated", e);
+            rowTypeInfo = getSeaTunnelRowType(kuduInputFormat.getColumnsSchemas());
+        } finally {
+            kuduInputFormat.closeInputFormat();
         }
     }
 
-    private PartitionParameter initPartitionParameter(KuduClient kuduClient, String tableName) {
-        String keyColumn = null;
-        int maxKey = 0;
-        int minKey = 0;
-        boolean flag = true;
-        try {
-            KuduScanner.KuduScannerBuilder kuduScannerBuilder =
-                    kuduClient.newScannerBuilder(kuduClient.openTable(tableName));
-            ArrayList<String> columnsList = new ArrayList<String>();
-            keyColumn = kuduClient.openTable(tableName).getSchema().getPrimaryKeyColumns().get(0).getName();
-            columnsList.add("" + keyColumn);
-            kuduScannerBuilder.setProjectedColumnNames(columnsList);
-            KuduScanner kuduScanner = kuduScannerBuilder.build();
-            while (kuduScanner.hasMoreRows()) {
-                RowResultIterator rowResults = kuduScanner.nextRows();
-                while (rowResults.hasNext()) {
-                    RowResult row = rowResults.next();
-                    int id = row.getInt("" + keyColumn);
-                    if (flag) {
-                        maxKey = id;
-                        minKey = id;
-                        flag = false;
-                    } else {
-                        if (id >= maxKey) {
-                            maxKey = id;
-                        }
-                        if (id <= minKey) {
-                            minKey = id;
-                        }
-                    }
-                }
-            }
-        } catch (KuduException e) {
-            throw new RuntimeException("Failed to generate upper and lower limits for each partition", e);
-        }
-        return new PartitionParameter(keyColumn, Long.parseLong(minKey + ""), Long.parseLong(maxKey + ""));
-    }
-
     public SeaTunnelRowType getSeaTunnelRowType(List<ColumnSchema> columnSchemaList) {
         ArrayList<SeaTunnelDataType<?>> seaTunnelDataTypes = new ArrayList<>();
         ArrayList<String> fieldNames = new ArrayList<>();
@@ -17,21 +17,25 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kudu.source;
 
-import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
 import org.apache.seatunnel.connectors.seatunnel.kudu.kuduclient.KuduInputFormat;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.client.KuduException;
 import org.apache.kudu.client.KuduScanner;
 import org.apache.kudu.client.RowResult;
 import org.apache.kudu.client.RowResultIterator;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class KuduSourceReader implements SourceReader<SeaTunnelRow, KuduSourceSplit> {
@@ -39,9 +43,20 @@ public class KuduSourceReader implements SourceReader<SeaTunnelRow, KuduSourceSp
     private final SourceReader.Context context;
 
     private final KuduInputFormat kuduInputFormat;
-    Deque<KuduSourceSplit> splits = new LinkedList<>();
+    Deque<KuduSourceSplit> splits = new ConcurrentLinkedDeque<>();
 
-    boolean noMoreSplit;
+    volatile boolean noMoreSplit;
+
+    private final SplitAvailability availability = new SplitAvailability();
+
+    private SeaTunnelRowType rowType;
+
+    /**
+     * The split being read and its scanner. A scan token can't resume a scan, so a restored split is read again from
+     * the beginning of its tablet.
+     */
+    private KuduSourceSplit currentSplit;
+    private KuduScanner currentScanner;
 
     public KuduSourceReader(KuduInputFormat kuduInputFormat, SourceReader.Context context) {
         this.context = context;
@@ -51,51 +66,92 @@ public class KuduSourceReader implements SourceReader<SeaTunnelRow, KuduSourceSp
     @Override
     public void open() {
         kuduInputFormat.openInputFormat();
+        rowType = kuduInputFormat.getSeaTunnelRowType(kuduInputFormat.getColumnsSchemas());
     }
 
     @Override
-    public void close() {
-        kuduInputFormat.closeInputFormat();
+    public void close() throws IOException {
+        try {
+            if (currentScanner != null) {
+                closeCurrentScanner();
+            }
+        } finally {
+            kuduInputFormat.closeInputFormat();
+        }
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        KuduSourceSplit split = splits.poll();
-        Object[] parameterValues = split.parameterValues;
-        int lowerBound = Integer.parseInt(parameterValues[0].toString());
-        int upperBound = Integer.parseInt(parameterValues[1].toString());
-        List<ColumnSchema> columnSchemaList = kuduInputFormat.getColumnsSchemas();
-        KuduScanner kuduScanner = kuduInputFormat.getKuduBuildSplit(lowerBound, upperBound);
-        //
-        while (kuduScanner.hasMoreRows()) {
-            RowResultIterator rowResults = kuduScanner.nextRows();
+        synchronized (output.getCheckpointLock()) {
+            if (currentScanner == null) {
+                currentSplit = splits.poll();
+                if (currentSplit != null) {
+                    currentScanner = kuduInputFormat.getKuduScanner(currentSplit.getScanToken());
+                }
+            }
+            if (currentScanner != null) {
+                readNextRows(output);
+                return;
+            }
+            if (noMoreSplit) {
+                // signal to the source that we have reached the end of the data.
+                log.info("Closed the bounded kudu source");
+                context.signalNoMoreElement();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return availability.isAvailable(() -> currentScanner != null || !splits.isEmpty() || noMoreSplit);
+    }
+
+    /**
+     * Reads one batch of rows of the current split, so a checkpoint can be taken between the batches of a tablet.
+     */
+    private void readNextRows(Collector<SeaTunnelRow> output) throws Exception {
+        if (currentScanner.hasMoreRows()) {
+            RowResultIterator rowResults = currentScanner.nextRows();
             while (rowResults.hasNext()) {
                 RowResult rowResult = rowResults.next();
-                SeaTunnelRow seaTunnelRow = KuduInputFormat.getSeaTunnelRowData(rowResult, kuduInputFormat.getSeaTunnelRowType(columnSchemaList));
-                output.collect(seaTunnelRow);
+                output.collect(KuduInputFormat.getSeaTunnelRowData(rowResult, rowType));
             }
         }
-        if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
-            // signal to the source that we have reached the end of the data.
-            log.info("Closed the bounded fake source");
-            context.signalNoMoreElement();
+        if (!currentScanner.hasMoreRows()) {
+            closeCurrentScanner();
+            log.info("Finished reading the split {}", currentSplit.splitId());
+            currentSplit = null;
         }
+    }
 
+    private void closeCurrentScanner() throws KuduException {
+        try {
+            currentScanner.close();
+        } finally {
+            currentScanner = null;
+        }
     }
 
     @Override
     public List<KuduSourceSplit> snapshotState(long checkpointId) {
-        return null;
+        List<KuduSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
     public void addSplits(List<KuduSourceSplit> splits) {
         this.splits.addAll(splits);
+        availability.signal();
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        availability.signal();
     }
 
     @Override
@@ -28,7 +28,10 @@ public class KuduSourceSplit implements SourceSplit {
 
     private static final long serialVersionUID = -1L;
 
-    Object[] parameterValues;
+    /**
+     * The serialized scan token of the tablet read by this split
+     */
+    byte[] scanToken;
     public final Integer splitId;
 
     @Override
@@ -18,114 +18,51 @@
 package org.apache.seatunnel.connectors.seatunnel.kudu.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractStaticSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.kudu.kuduclient.KuduInputFormat;
 import org.apache.seatunnel.connectors.seatunnel.kudu.state.KuduSourceState;
 
-import java.io.IOException;
-import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class KuduSourceSplitEnumerator implements SourceSplitEnumerator<KuduSourceSplit, KuduSourceState> {
-
-    private final SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext;
-    private PartitionParameter partitionParameter;
-    List<KuduSourceSplit> allSplit = new ArrayList<>();
-    private Long maxVal;
-    private Long minVal;
-    private Long batchSize;
-    private Integer batchNum;
-
-    public KuduSourceSplitEnumerator(SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext, PartitionParameter partitionParameter) {
-        this.enumeratorContext = enumeratorContext;
-        this.partitionParameter = partitionParameter;
-    }
-
-    @Override
-    public void open() {
-
-    }
-
-    @Override
-    public void run() {
-
-    }
-
-    @Override
-    public void close() throws IOException {
-
-    }
-
-    @Override
-    public void addSplitsBack(List<KuduSourceSplit> splits, int subtaskId) {
+/**
+ * Plans the splits of the source, one split for the scan token of every tablet.
+ */
+public class KuduSourceSplitEnumerator extends AbstractStaticSplitEnumerator<KuduSourceSplit, KuduSourceState> {
 
-    }
+    private final KuduInputFormat kuduInputFormat;
 
-    @Override
-    public int currentUnassignedSplitSize() {
-        return 0;
+    public KuduSourceSplitEnumerator(SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext, KuduInputFormat kuduInputFormat) {
+        this(enumeratorContext, kuduInputFormat, new KuduSourceState(null, new HashSet<>()));
     }
 
-    @Override
-    public void handleSplitRequest(int subtaskId) {
-
+    public KuduSourceSplitEnumerator(SourceSplitEnumerator.Context<KuduSourceSplit> enumeratorContext, KuduInputFormat kuduInputFormat,
+                                     KuduSourceState state) {
+        super(enumeratorContext, state.getSplits(),
+            state.getAssignedSplitIds().stream().map(String::valueOf).collect(Collectors.toSet()));
+        this.kuduInputFormat = kuduInputFormat;
     }
 
     @Override
-    public void registerReader(int subtaskId) {
-        int parallelism = enumeratorContext.currentParallelism();
-        if (allSplit.isEmpty()) {
-            if (null != partitionParameter) {
-                Serializable[][] parameterValues = getParameterValues(partitionParameter.minValue, partitionParameter.maxValue, parallelism);
-                for (int i = 0; i < parameterValues.length; i++) {
-                    allSplit.add(new KuduSourceSplit(parameterValues[i], i));
-                }
-            } else {
-                allSplit.add(new KuduSourceSplit(null, 0));
+    protected List<KuduSourceSplit> discoverSplits() {
+        kuduInputFormat.openInputFormat();
+        try {
+            List<byte[]> scanTokens = kuduInputFormat.getSerializedScanTokens();
+            List<KuduSourceSplit> splits = new ArrayList<>(scanTokens.size());
+            for (int i = 0; i < scanTokens.size(); i++) {
+                splits.add(new KuduSourceSplit(scanTokens.get(i), i));
             }
+            return splits;
+        } finally {
+            kuduInputFormat.closeInputFormat();
         }
-        // Filter the split that the current task needs to run
-        List<KuduSourceSplit> splits = allSplit.stream().filter(p -> p.splitId % parallelism == subtaskId).collect(Collectors.toList());
-        enumeratorContext.assignSplit(subtaskId, splits);
-        enumeratorContext.signalNoMoreSplits(subtaskId);
-    }
-
-    private Serializable[][] getParameterValues(Long minVal, Long maxVal, int parallelism) {
-        this.maxVal = maxVal;
-        this.minVal = minVal;
-        long maxElemCount = (maxVal - minVal) + 1;
-        batchNum = parallelism;
-        getBatchSizeAndBatchNum(parallelism);
-        long bigBatchNum = maxElemCount - (batchSize - 1) * batchNum;
-
-        Serializable[][] parameters = new Serializable[batchNum][2];
-        long start = minVal;
-        for (int i = 0; i < batchNum; i++) {
-            long end = start + batchSize - 1 - (i >= bigBatchNum ? 1 : 0);
-            parameters[i] = new Long[]{start, end};
-            start = end + 1;
-        }
-        return parameters;
-
-    }
-
-    private void getBatchSizeAndBatchNum(int parallelism) {
-        batchNum = parallelism;
-        long maxElemCount = (maxVal - minVal) + 1;
-        if (batchNum > maxElemCount) {
-            batchNum = (int) maxElemCount;
-        }
-        this.batchNum = batchNum;
-        this.batchSize = new Double(Math.ceil((double) maxElemCount / batchNum)).longValue();
     }
 
     @Override
-    public KuduSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
-    }
-
-    @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
+    protected KuduSourceState createState(List<KuduSourceSplit> splits, Set<String> assignedSplitIds) {
+        return new KuduSourceState(splits, assignedSplitIds.stream().map(Integer::valueOf).collect(Collectors.toSet()));
     }
 }
@@ -17,7 +17,29 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kudu.state;
 
+import org.apache.seatunnel.connectors.seatunnel.kudu.source.KuduSourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
 
+@Getter
+@AllArgsConstructor
 public class KuduSourceState implements Serializable {
+
+    private static final long serialVersionUID = 2573628414397402918L;
+
+    /**
+     * The splits of the tablets, null before they are created. They are kept because the tablets of the table may
+     * change after a restart.
+     */
+    private final List<KuduSourceSplit> splits;
+
+    /**
+     * The ids of the splits which were already assigned to a reader.
+     */
+    private final Set<Integer> assignedSplitIds;
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kudu.source;
+
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestEnumeratorContext;
+import org.apache.seatunnel.connectors.seatunnel.kudu.kuduclient.KuduInputFormat;
+import org.apache.seatunnel.connectors.seatunnel.kudu.state.KuduSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class KuduSourceSplitEnumeratorTest {
+
+    @Test
+    void testAssignTabletSplitsFromState() throws Exception {
+        List<KuduSourceSplit> splits = IntStream.range(0, 5)
+            .mapToObj(i -> new KuduSourceSplit(new byte[]{(byte) i}, i))
+            .collect(Collectors.toList());
+        KuduSourceState state = new KuduSourceState(splits, new HashSet<>(Collections.singletonList(2)));
+        TestEnumeratorContext<KuduSourceSplit> context = new TestEnumeratorContext<>(2);
+        KuduSourceSplitEnumerator enumerator = new KuduSourceSplitEnumerator(context,
+            new KuduInputFormat("127.0.0.1:7051", "test", "id,name"), state);
+        enumerator.run();
+
+        Assertions.assertEquals(Arrays.asList("0", "4"), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Arrays.asList("1", "3"), context.getAssignedSplitIds(1));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.getNoMoreSplits());
+        Assertions.assertEquals(0, enumerator.currentUnassignedSplitSize());
+
+        enumerator.addSplitsBack(context.removeAssignedSplits(1), 1);
+        KuduSourceState snapshot = enumerator.snapshotState(1);
+        Assertions.assertEquals(splits, snapshot.getSplits());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 2, 4)), snapshot.getAssignedSplitIds());
+
+        enumerator.registerReader(1);
+        Assertions.assertEquals(Arrays.asList("1", "3"), context.getAssignedSplitIds(1));
+    }
+}
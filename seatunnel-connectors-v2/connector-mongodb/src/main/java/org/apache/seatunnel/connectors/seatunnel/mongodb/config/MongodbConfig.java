@@ -36,4 +36,16 @@ public class MongodbConfig implements Serializable {
 
     public static final String DEFAULT_FORMAT = "json";
 
+    public static final String BATCH_SIZE = "batch_size";
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final String ORDERED = "ordered";
+
+    public static final boolean DEFAULT_ORDERED = false;
+
+    public static final String UPSERT_KEY = "upsert_key";
+
+    public static final String SPLIT_COUNT = "split_count";
+
 }
@@ -17,8 +17,13 @@
 
 package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
 
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.BATCH_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.COLLECTION;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.DATABASE;
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.DEFAULT_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.DEFAULT_ORDERED;
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.ORDERED;
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.UPSERT_KEY;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.URI;
 
 import org.apache.seatunnel.api.common.PrepareFailException;
@@ -41,6 +46,8 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigBeanFactory;
 import com.google.auto.service.AutoService;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 @AutoService(SeaTunnelSink.class)
 public class MongodbSink extends AbstractSimpleSink<SeaTunnelRow, Void> {
@@ -49,6 +56,12 @@ public class MongodbSink extends AbstractSimpleSink<SeaTunnelRow, Void> {
 
     private MongodbParameters params;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private boolean ordered = DEFAULT_ORDERED;
+
+    private List<String> upsertKey = Collections.emptyList();
+
     @Override
     public String getPluginName() {
         return "MongoDB";
@@ -62,6 +75,15 @@ public class MongodbSink extends AbstractSimpleSink<SeaTunnelRow, Void> {
         }
 
         this.params = ConfigBeanFactory.create(config, MongodbParameters.class);
+        if (config.hasPath(BATCH_SIZE)) {
+            this.batchSize = config.getInt(BATCH_SIZE);
+        }
+        if (config.hasPath(ORDERED)) {
+            this.ordered = config.getBoolean(ORDERED);
+        }
+        if (config.hasPath(UPSERT_KEY)) {
+            this.upsertKey = config.getStringList(UPSERT_KEY);
+        }
     }
 
     @Override
@@ -77,6 +99,6 @@ public class MongodbSink extends AbstractSimpleSink<SeaTunnelRow, Void> {
     @Override
     public AbstractSinkWriter<SeaTunnelRow, Void> createWriter(SinkWriter.Context context) throws IOException {
         boolean useSimpleTextSchema = SeaTunnelSchema.buildSimpleTextSchema().equals(rowType);
-        return new MongodbSinkWriter(rowType, useSimpleTextSchema, params);
+        return new MongodbSinkWriter(rowType, useSimpleTextSchema, params, batchSize, ordered, upsertKey);
     }
 }
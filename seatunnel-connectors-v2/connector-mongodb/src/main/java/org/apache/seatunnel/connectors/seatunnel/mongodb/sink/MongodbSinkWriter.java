@@ -27,9 +27,20 @@ import org.apache.seatunnel.connectors.seatunnel.mongodb.data.Serializer;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 public class MongodbSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
 
@@ -47,9 +58,33 @@ public class MongodbSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
 
     private final boolean useSimpleTextSchema;
 
+    private final int batchSize;
+
+    private final BulkWriteOptions bulkWriteOptions;
+
+    /**
+     * The fields identifying a document, the rows replace the matching documents or are inserted when empty.
+     */
+    private final List<String> upsertKey;
+
+    private final ReplaceOptions replaceOptions = new ReplaceOptions().upsert(true);
+
+    private final List<WriteModel<Document>> writeModels;
+
     public MongodbSinkWriter(SeaTunnelRowType rowType,
                              boolean useSimpleTextSchema,
-                             MongodbParameters params) {
+                             MongodbParameters params,
+                             int batchSize,
+                             boolean ordered,
+                             List<String> upsertKey) {
+        if (!useSimpleTextSchema) {
+            List<String> fieldNames = Arrays.asList(rowType.getFieldNames());
+            for (String field : upsertKey) {
+                if (!fieldNames.contains(field)) {
+                    throw new IllegalArgumentException("The upsert key field " + field + " is not in the schema");
+                }
+            }
+        }
         this.rowType = rowType;
         this.database = params.getDatabase();
         this.collection = params.getCollection();
@@ -57,10 +92,22 @@ public class MongodbSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
         this.mongoCollection = this.client.getDatabase(database).getCollection(collection);
         this.useSimpleTextSchema = useSimpleTextSchema;
         this.serializer = useSimpleTextSchema ? null : new DefaultSerializer(rowType);
+        this.batchSize = batchSize;
+        // an unordered bulk write may apply an older row of a key after a newer one
+        this.bulkWriteOptions = new BulkWriteOptions().ordered(ordered || !upsertKey.isEmpty());
+        this.upsertKey = upsertKey;
+        this.writeModels = new ArrayList<>(batchSize);
     }
 
     @Override
     public void write(SeaTunnelRow row) throws IOException {
+        writeModels.add(toWriteModel(row));
+        if (writeModels.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    WriteModel<Document> toWriteModel(SeaTunnelRow row) {
         Document document;
         if (useSimpleTextSchema) {
             String simpleText = row.getField(0).toString();
@@ -68,13 +115,43 @@ public class MongodbSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
         } else {
             document = serializer.serialize(row);
         }
-        mongoCollection.insertOne(document);
+        if (upsertKey.isEmpty()) {
+            return new InsertOneModel<>(document);
+        }
+        List<Bson> filters = new ArrayList<>(upsertKey.size());
+        for (String field : upsertKey) {
+            filters.add(Filters.eq(field, document.get(field)));
+        }
+        Bson filter = filters.size() == 1 ? filters.get(0) : Filters.and(filters);
+        return new ReplaceOneModel<>(filter, document, replaceOptions);
+    }
+
+    boolean isOrdered() {
+        return bulkWriteOptions.isOrdered();
+    }
+
+    @Override
+    public Optional<Void> prepareCommit() {
+        flush();
+        return Optional.empty();
+    }
+
+    private void flush() {
+        if (writeModels.isEmpty()) {
+            return;
+        }
+        mongoCollection.bulkWrite(writeModels, bulkWriteOptions);
+        writeModels.clear();
     }
 
     @Override
     public void close() throws IOException {
-        if (client != null) {
-            client.close();
+        try {
+            flush();
+        } finally {
+            if (client != null) {
+                client.close();
+            }
         }
     }
 }
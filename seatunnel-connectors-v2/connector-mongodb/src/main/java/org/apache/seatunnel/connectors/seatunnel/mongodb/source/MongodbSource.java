@@ -20,11 +20,14 @@ package org.apache.seatunnel.connectors.seatunnel.mongodb.source;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.COLLECTION;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.SCHEMA;
+import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.SPLIT_COUNT;
 import static org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig.URI;
 
 import org.apache.seatunnel.api.common.PrepareFailException;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -32,10 +35,8 @@ import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitSource;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbParameters;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.state.MongodbSourceState;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigBeanFactory;
@@ -43,12 +44,17 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigBeanFactory;
 import com.google.auto.service.AutoService;
 
 @AutoService(SeaTunnelSource.class)
-public class MongodbSource extends AbstractSingleSplitSource<SeaTunnelRow> {
+public class MongodbSource implements SeaTunnelSource<SeaTunnelRow, MongodbSourceSplit, MongodbSourceState> {
 
     private SeaTunnelRowType rowType;
 
     private MongodbParameters params;
 
+    /**
+     * The number of splits, 0 for one split per reader.
+     */
+    private int splitCount;
+
     @Override
     public String getPluginName() {
         return "MongoDB";
@@ -69,6 +75,9 @@ public class MongodbSource extends AbstractSingleSplitSource<SeaTunnelRow> {
         } else {
             this.rowType = SeaTunnelSchema.buildSimpleTextSchema();
         }
+        if (config.hasPath(SPLIT_COUNT)) {
+            this.splitCount = config.getInt(SPLIT_COUNT);
+        }
     }
 
     @Override
@@ -82,8 +91,18 @@ public class MongodbSource extends AbstractSingleSplitSource<SeaTunnelRow> {
     }
 
     @Override
-    public AbstractSingleSplitReader<SeaTunnelRow> createReader(SingleSplitReaderContext context) throws Exception {
+    public SourceReader<SeaTunnelRow, MongodbSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
         boolean useSimpleTextSchema = SeaTunnelSchema.buildSimpleTextSchema().equals(rowType);
-        return new MongodbSourceReader(context, this.params, rowType, useSimpleTextSchema);
+        return new MongodbSourceReader(readerContext, this.params, rowType, useSimpleTextSchema);
+    }
+
+    @Override
+    public SourceSplitEnumerator<MongodbSourceSplit, MongodbSourceState> createEnumerator(SourceSplitEnumerator.Context<MongodbSourceSplit> enumeratorContext) throws Exception {
+        return new MongodbSourceSplitEnumerator(enumeratorContext, this.params, splitCount);
+    }
+
+    @Override
+    public SourceSplitEnumerator<MongodbSourceSplit, MongodbSourceState> restoreEnumerator(SourceSplitEnumerator.Context<MongodbSourceSplit> enumeratorContext, MongodbSourceState checkpointState) throws Exception {
+        return new MongodbSourceSplitEnumerator(enumeratorContext, this.params, splitCount, checkpointState);
     }
 }
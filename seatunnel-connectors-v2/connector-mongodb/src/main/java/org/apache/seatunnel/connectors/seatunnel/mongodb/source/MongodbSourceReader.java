@@ -17,33 +17,51 @@
 
 package org.apache.seatunnel.connectors.seatunnel.mongodb.source;
 
-import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbParameters;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.data.DefaultDeserializer;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.data.Deserializer;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
-public class MongodbSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+public class MongodbSourceReader implements SourceReader<SeaTunnelRow, MongodbSourceSplit> {
 
-    private final SingleSplitReaderContext context;
+    /**
+     * The number of documents read by one poll, a checkpoint can be taken between the batches of a split.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String ID_FIELD = "_id";
+
+    private final SourceReader.Context context;
 
     private MongoClient client;
 
+    private MongoCollection<Document> collection;
+
     private final MongodbParameters params;
 
     private final Deserializer deserializer;
@@ -52,7 +70,24 @@ public class MongodbSourceReader extends AbstractSingleSplitReader<SeaTunnelRow>
 
     private final boolean useSimpleTextSchema;
 
-    MongodbSourceReader(SingleSplitReaderContext context,
+    /**
+     * Whether the id is only projected to keep the position in the split, and not a field of the schema.
+     */
+    private final boolean projectedId;
+
+    private final Deque<MongodbSourceSplit> splits = new ConcurrentLinkedDeque<>();
+
+    private volatile boolean noMoreSplit;
+
+    private final SplitAvailability availability = new SplitAvailability();
+
+    /**
+     * The split being read and its cursor, sorted by id.
+     */
+    private MongodbSourceSplit currentSplit;
+    private MongoCursor<Document> currentCursor;
+
+    MongodbSourceReader(SourceReader.Context context,
                         MongodbParameters params,
                         SeaTunnelRowType rowType,
                         boolean useSimpleTextSchema) {
@@ -62,43 +97,52 @@ public class MongodbSourceReader extends AbstractSingleSplitReader<SeaTunnelRow>
         if (useSimpleTextSchema) {
             this.deserializer = null;
             this.projectionFields = null;
+            this.projectedId = false;
         } else {
             this.deserializer = new DefaultDeserializer(rowType);
-            this.projectionFields = Projections.fields(
-                Projections.include(rowType.getFieldNames()),
-                Projections.excludeId());
+            // the id is included by default
+            this.projectionFields = Projections.include(rowType.getFieldNames());
+            this.projectedId = !Arrays.asList(rowType.getFieldNames()).contains(ID_FIELD);
         }
     }
 
     @Override
     public void open() throws Exception {
         client = MongoClients.create(params.getUri());
+        collection = client.getDatabase(params.getDatabase()).getCollection(params.getCollection());
     }
 
     @Override
     public void close() throws IOException {
-        if (client != null) {
-            client.close();
+        try {
+            if (currentCursor != null) {
+                currentCursor.close();
+            }
+        } finally {
+            if (client != null) {
+                client.close();
+            }
         }
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        try (MongoCursor<Document> mongoCursor = client.getDatabase(params.getDatabase())
-            .getCollection(params.getCollection())
-            .find()
-            .projection(projectionFields)
-            .iterator()) {
-            while (mongoCursor.hasNext()) {
-                Document document = mongoCursor.next();
-                if (useSimpleTextSchema) {
-                    output.collect(new SeaTunnelRow(new Object[]{document.toJson()}));
-                } else {
-                    output.collect(deserializer.deserialize(document));
+        synchronized (output.getCheckpointLock()) {
+            if (currentCursor == null) {
+                currentSplit = splits.poll();
+                if (currentSplit != null) {
+                    currentCursor = collection.find(currentSplit.toFilter())
+                        .projection(projectionFields)
+                        .sort(Sorts.ascending(ID_FIELD))
+                        .batchSize(BATCH_SIZE)
+                        .iterator();
                 }
             }
-        } finally {
-            if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
+            if (currentCursor != null) {
+                readNextBatch(output);
+                return;
+            }
+            if (noMoreSplit) {
                 // signal to the source that we have reached the end of the data.
                 log.info("Closed the bounded mongodb source");
                 context.signalNoMoreElement();
@@ -106,4 +150,65 @@ public class MongodbSourceReader extends AbstractSingleSplitReader<SeaTunnelRow>
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return availability.isAvailable(() -> currentCursor != null || !splits.isEmpty() || noMoreSplit);
+    }
+
+    /**
+     * Reads one batch of documents of the current split and keeps the id of the last one in the split.
+     */
+    private void readNextBatch(Collector<SeaTunnelRow> output) {
+        Object lastId = null;
+        for (int i = 0; i < BATCH_SIZE && currentCursor.hasNext(); i++) {
+            Document document = currentCursor.next();
+            lastId = document.get(ID_FIELD);
+            if (useSimpleTextSchema) {
+                output.collect(new SeaTunnelRow(new Object[]{document.toJson()}));
+            } else {
+                if (projectedId) {
+                    document.remove(ID_FIELD);
+                }
+                output.collect(deserializer.deserialize(document));
+            }
+        }
+        if (lastId != null) {
+            BsonDocument id = new Document(ID_FIELD, lastId)
+                .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+            currentSplit.setLastId(MongodbSourceSplit.toBound(id.get(ID_FIELD)));
+        }
+        if (!currentCursor.hasNext()) {
+            currentCursor.close();
+            currentCursor = null;
+            log.info("Finished reading the split {}", currentSplit);
+            currentSplit = null;
+        }
+    }
+
+    @Override
+    public List<MongodbSourceSplit> snapshotState(long checkpointId) throws Exception {
+        List<MongodbSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit);
+        }
+        state.addAll(splits);
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<MongodbSourceSplit> splits) {
+        this.splits.addAll(splits);
+        availability.signal();
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+        availability.signal();
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import com.mongodb.client.model.Filters;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import java.util.Arrays;
+
+/**
+ * A range of the {@code _id} of the collection, the bounds are kept as the extended JSON of {@code {"_id": value}}
+ * since the BSON values are not serializable.
+ *
+ * <p>The comparison operators of a query only match values of the type of the bound, so the first split, which has no
+ * lower bound, matches every id which is not at least its upper bound. It also reads the documents whose id is of
+ * another type than the bounds, which were not in the sample.
+ *
+ * <p>The documents of a split are read in the order of their ids, the split keeps the id of the last document read so
+ * that a restored split goes on after it.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MongodbSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = -1237413562137938563L;
+
+    private static final String ID_FIELD = "_id";
+
+    private final String splitId;
+
+    /**
+     * The inclusive lower bound, null for an unbounded range.
+     */
+    private final String lowerBound;
+
+    /**
+     * The exclusive upper bound, null for an unbounded range.
+     */
+    private final String upperBound;
+
+    /**
+     * The id of the last document read, as the extended JSON of {@code {"_id": value}}, null before the first one.
+     */
+    @Setter
+    private String lastId;
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    public static String toBound(BsonValue id) {
+        return new BsonDocument(ID_FIELD, id).toJson();
+    }
+
+    public Bson toFilter() {
+        if (lowerBound == null) {
+            Bson range = upperBound == null ? new BsonDocument()
+                : Filters.not(Filters.gte(ID_FIELD, parseId(upperBound)));
+            if (lastId == null) {
+                return range;
+            }
+            // the ids of other types are sorted before or after the last id by their type, which only $expr compares
+            BsonValue after = new BsonDocument("$gt",
+                new BsonArray(Arrays.asList(new BsonString("$" + ID_FIELD), parseId(lastId))));
+            return Filters.and(range, Filters.expr(after));
+        }
+        Bson lower = lastId == null ? Filters.gte(ID_FIELD, parseId(lowerBound))
+            : Filters.gt(ID_FIELD, parseId(lastId));
+        if (upperBound == null) {
+            return lower;
+        }
+        return Filters.and(lower, Filters.lt(ID_FIELD, parseId(upperBound)));
+    }
+
+    private static BsonValue parseId(String bound) {
+        return BsonDocument.parse(bound).get(ID_FIELD);
+    }
+}
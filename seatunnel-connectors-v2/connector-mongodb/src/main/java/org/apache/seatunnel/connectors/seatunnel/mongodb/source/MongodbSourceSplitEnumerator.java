@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractStaticSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbParameters;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.state.MongodbSourceState;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans the splits of the source, ranges of {@code _id} of about the same number of documents.
+ */
+public class MongodbSourceSplitEnumerator extends AbstractStaticSplitEnumerator<MongodbSourceSplit, MongodbSourceState> {
+
+    /**
+     * The number of ids sampled for every split, more samples give more even splits.
+     */
+    static final int SAMPLES_PER_SPLIT = 10;
+
+    private static final String ID_FIELD = "_id";
+
+    private final MongodbParameters params;
+    private final int splitCount;
+
+    MongodbSourceSplitEnumerator(SourceSplitEnumerator.Context<MongodbSourceSplit> enumeratorContext,
+                                 MongodbParameters params, int splitCount) {
+        this(enumeratorContext, params, splitCount, new MongodbSourceState(null, new HashSet<>()));
+    }
+
+    MongodbSourceSplitEnumerator(SourceSplitEnumerator.Context<MongodbSourceSplit> enumeratorContext,
+                                 MongodbParameters params, int splitCount,
+                                 MongodbSourceState state) {
+        super(enumeratorContext, state.getSplits(), state.getAssignedSplitIds());
+        this.params = params;
+        this.splitCount = splitCount;
+    }
+
+    /**
+     * Samples the ids of the collection with $sample and takes every {@link #SAMPLES_PER_SPLIT}-th of the sorted ids as
+     * a split boundary, which is what splitVector does on the index without requiring the privileges of the command.
+     */
+    @Override
+    protected List<MongodbSourceSplit> discoverSplits() {
+        int count = splitCount > 0 ? splitCount : context.currentParallelism();
+        if (count <= 1) {
+            return createSplits(Collections.emptyList(), count);
+        }
+        try (MongoClient client = MongoClients.create(params.getUri())) {
+            MongoCollection<BsonDocument> collection = client.getDatabase(params.getDatabase())
+                .getCollection(params.getCollection(), BsonDocument.class);
+            long sampleSize = Math.min(collection.estimatedDocumentCount(), (long) count * SAMPLES_PER_SPLIT);
+            List<BsonValue> ids = new ArrayList<>();
+            if (sampleSize > 0) {
+                List<Bson> pipeline = Arrays.asList(
+                    Aggregates.sample((int) sampleSize),
+                    Aggregates.project(Projections.include(ID_FIELD)),
+                    Aggregates.sort(Sorts.ascending(ID_FIELD)));
+                for (BsonDocument document : collection.aggregate(pipeline)) {
+                    ids.add(document.get(ID_FIELD));
+                }
+            }
+            return createSplits(ids, count);
+        }
+    }
+
+    /**
+     * Divides the sorted sample of the ids into ranges of about the same number of documents. The collection is read as
+     * a single split when the sampled ids are not all of the same type, the ids of other types which were not sampled
+     * are read by the first split.
+     */
+    static List<MongodbSourceSplit> createSplits(List<BsonValue> sortedIds, int splitCount) {
+        if (splitCount <= 1 || sortedIds.isEmpty() || !isSameType(sortedIds)) {
+            return Collections.singletonList(new MongodbSourceSplit("0", null, null));
+        }
+        List<BsonValue> boundaries = new ArrayList<>(splitCount - 1);
+        for (int i = 1; i < splitCount; i++) {
+            BsonValue boundary = sortedIds.get(sortedIds.size() * i / splitCount);
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        List<MongodbSourceSplit> splits = new ArrayList<>(boundaries.size() + 1);
+        String lowerBound = null;
+        for (BsonValue boundary : boundaries) {
+            String upperBound = MongodbSourceSplit.toBound(boundary);
+            splits.add(new MongodbSourceSplit(String.valueOf(splits.size()), lowerBound, upperBound));
+            lowerBound = upperBound;
+        }
+        splits.add(new MongodbSourceSplit(String.valueOf(splits.size()), lowerBound, null));
+        return splits;
+    }
+
+    private static boolean isSameType(List<BsonValue> ids) {
+        BsonValue first = ids.get(0);
+        for (BsonValue id : ids) {
+            boolean sameType = first.isNumber() ? id.isNumber() : first.getBsonType() == id.getBsonType();
+            if (!sameType) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected MongodbSourceState createState(List<MongodbSourceSplit> splits, Set<String> assignedSplitIds) {
+        return new MongodbSourceState(splits, assignedSplitIds);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbParameters;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class MongodbSinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "region", "name"},
+        new SeaTunnelDataType[]{BasicType.INT_TYPE, BasicType.STRING_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    void testInsertWithoutUpsertKey() throws Exception {
+        MongodbSinkWriter writer = createWriter(ROW_TYPE, Collections.emptyList());
+        try {
+            WriteModel<Document> model = writer.toWriteModel(new SeaTunnelRow(new Object[]{1, "eu", "a"}));
+
+            Assertions.assertTrue(model instanceof InsertOneModel);
+            Assertions.assertEquals(new Document("id", 1).append("region", "eu").append("name", "a"),
+                ((InsertOneModel<Document>) model).getDocument());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testUpsertByKey() throws Exception {
+        MongodbSinkWriter writer = createWriter(ROW_TYPE, Arrays.asList("id", "region"));
+        try {
+            WriteModel<Document> model = writer.toWriteModel(new SeaTunnelRow(new Object[]{1, "eu", "a"}));
+
+            Assertions.assertTrue(model instanceof ReplaceOneModel);
+            ReplaceOneModel<Document> replace = (ReplaceOneModel<Document>) model;
+            Assertions.assertTrue(replace.getReplaceOptions().isUpsert());
+            Assertions.assertEquals(BsonDocument.parse("{\"id\": 1, \"region\": \"eu\"}"),
+                replace.getFilter().toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+        } finally {
+            writer.close();
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> createWriter(ROW_TYPE, Collections.singletonList("missing")));
+    }
+
+    @Test
+    void testUpsertIsOrdered() throws Exception {
+        MongodbSinkWriter writer = createWriter(ROW_TYPE, Collections.emptyList());
+        try {
+            Assertions.assertFalse(writer.isOrdered());
+        } finally {
+            writer.close();
+        }
+        // the last row of a key must win, even if the writes are configured unordered
+        writer = createWriter(ROW_TYPE, Collections.singletonList("id"));
+        try {
+            Assertions.assertTrue(writer.isOrdered());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void testUpsertSimpleTextByKey() throws Exception {
+        MongodbSinkWriter writer = createWriter(SeaTunnelSchema.buildSimpleTextSchema(), Collections.singletonList("id"));
+        try {
+            ReplaceOneModel<Document> replace = (ReplaceOneModel<Document>) writer.toWriteModel(
+                new SeaTunnelRow(new Object[]{"{\"id\": 7, \"name\": \"a\"}"}));
+            Assertions.assertEquals(BsonDocument.parse("{\"id\": 7}"),
+                replace.getFilter().toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static MongodbSinkWriter createWriter(SeaTunnelRowType rowType, List<String> upsertKey) {
+        MongodbParameters params = new MongodbParameters();
+        params.setUri("mongodb://127.0.0.1:27017");
+        params.setDatabase("test");
+        params.setCollection("test");
+        boolean useSimpleTextSchema = SeaTunnelSchema.buildSimpleTextSchema().equals(rowType);
+        return new MongodbSinkWriter(rowType, useSimpleTextSchema, params, 10, false, upsertKey);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.source;
+
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestEnumeratorContext;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbParameters;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.state.MongodbSourceState;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class MongodbSourceSplitEnumeratorTest {
+
+    @Test
+    void testCreateSplitsFromSampledIds() {
+        List<BsonValue> ids = IntStream.range(0, 30).mapToObj(BsonInt32::new).collect(Collectors.toList());
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 3);
+
+        Assertions.assertEquals(3, splits.size());
+        Assertions.assertNull(splits.get(0).getLowerBound());
+        Assertions.assertEquals(splits.get(0).getUpperBound(), splits.get(1).getLowerBound());
+        Assertions.assertEquals(splits.get(1).getUpperBound(), splits.get(2).getLowerBound());
+        Assertions.assertNull(splits.get(2).getUpperBound());
+        Assertions.assertEquals(BsonDocument.parse("{\"_id\": {\"$not\": {\"$gte\": 10}}}"), toDocument(splits.get(0)));
+        Assertions.assertEquals(BsonDocument.parse("{\"_id\": {\"$gte\": 10, \"$lt\": 20}}"), toDocument(splits.get(1)));
+        Assertions.assertEquals(BsonDocument.parse("{\"_id\": {\"$gte\": 20}}"), toDocument(splits.get(2)));
+    }
+
+    @Test
+    void testReadIdsOfOtherTypesInFirstSplit() {
+        List<BsonValue> ids = IntStream.range(0, 30).mapToObj(BsonInt32::new).collect(Collectors.toList());
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 3);
+        List<BsonValue> documentIds = Arrays.asList(new BsonInt32(-1), new BsonDouble(9.5), new BsonInt64(15L),
+            new BsonInt32(29), new BsonInt64(100L), new BsonString("a"), new BsonObjectId(new ObjectId()));
+        List<Integer> expectedSplits = Arrays.asList(0, 0, 1, 2, 2, 0, 0);
+
+        for (int i = 0; i < documentIds.size(); i++) {
+            BsonValue id = documentIds.get(i);
+            List<Integer> matchingSplits = IntStream.range(0, splits.size())
+                .filter(split -> matches(toDocument(splits.get(split)).getDocument("_id"), id))
+                .boxed()
+                .collect(Collectors.toList());
+            Assertions.assertEquals(Collections.singletonList(expectedSplits.get(i)), matchingSplits, id.toString());
+        }
+    }
+
+    @Test
+    void testCreateSplitsKeepsObjectIds() {
+        ObjectId first = new ObjectId();
+        ObjectId second = new ObjectId();
+        List<BsonValue> ids = Arrays.asList(new BsonObjectId(first), new BsonObjectId(second));
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 2);
+
+        Assertions.assertEquals(2, splits.size());
+        Assertions.assertEquals(new BsonObjectId(second),
+            toDocument(splits.get(1)).getDocument("_id").get("$gte"));
+    }
+
+    @Test
+    void testCreateSplitsMergesDuplicatedBoundaries() {
+        List<BsonValue> ids = Arrays.asList(new BsonInt32(1), new BsonInt32(1), new BsonInt32(1), new BsonInt32(2));
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 4);
+
+        Assertions.assertEquals(Arrays.asList("0", "1", "2"),
+            splits.stream().map(MongodbSourceSplit::splitId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testCreateSingleSplitForMixedIdTypes() {
+        List<BsonValue> ids = Arrays.asList(new BsonInt32(1), new BsonString("a"), new BsonString("b"));
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 3);
+
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertEquals(new BsonDocument(), toDocument(splits.get(0)));
+        Assertions.assertEquals(1, MongodbSourceSplitEnumerator.createSplits(Collections.emptyList(), 3).size());
+    }
+
+    @Test
+    void testReadSplitAfterLastId() {
+        List<BsonValue> ids = IntStream.range(0, 30).mapToObj(BsonInt32::new).collect(Collectors.toList());
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 3);
+        splits.get(1).setLastId(MongodbSourceSplit.toBound(new BsonInt32(15)));
+        splits.get(2).setLastId(MongodbSourceSplit.toBound(new BsonInt32(25)));
+        Assertions.assertEquals(BsonDocument.parse("{\"_id\": {\"$gt\": 15, \"$lt\": 20}}"), toDocument(splits.get(1)));
+        Assertions.assertEquals(BsonDocument.parse("{\"_id\": {\"$gt\": 25}}"), toDocument(splits.get(2)));
+
+        // the first split also reads the ids of other types, which are compared by their type
+        splits.get(0).setLastId(MongodbSourceSplit.toBound(new BsonInt32(5)));
+        Assertions.assertEquals(
+            BsonDocument.parse("{\"_id\": {\"$not\": {\"$gte\": 10}}, \"$expr\": {\"$gt\": [\"$_id\", 5]}}"),
+            toDocument(splits.get(0)));
+    }
+
+    @Test
+    void testRestoreKeepsDiscoveredSplits() throws Exception {
+        List<BsonValue> ids = IntStream.range(0, 30).mapToObj(BsonInt32::new).collect(Collectors.toList());
+        List<MongodbSourceSplit> splits = MongodbSourceSplitEnumerator.createSplits(ids, 3);
+        MongodbSourceState state = new MongodbSourceState(splits, new HashSet<>(Collections.singletonList("0")));
+        TestEnumeratorContext<MongodbSourceSplit> context = new TestEnumeratorContext<>(2);
+        MongodbSourceSplitEnumerator enumerator = new MongodbSourceSplitEnumerator(context, new MongodbParameters(), 3, state);
+        enumerator.run();
+
+        Assertions.assertEquals(Collections.singletonList("2"), context.getAssignedSplitIds(0));
+        Assertions.assertEquals(Collections.singletonList("1"), context.getAssignedSplitIds(1));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.getNoMoreSplits());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("0", "1", "2")),
+            enumerator.snapshotState(1).getAssignedSplitIds());
+    }
+
+    /**
+     * Evaluates the operators of a split filter on an id, the comparison operators only match values of the same type
+     * or numbers as in a MongoDB query.
+     */
+    private static boolean matches(BsonDocument operators, BsonValue id) {
+        for (String operator : operators.keySet()) {
+            BsonValue bound = operators.get(operator);
+            boolean comparable = id.isNumber() ? bound.isNumber() : id.getBsonType() == bound.getBsonType();
+            boolean matched;
+            switch (operator) {
+                case "$not":
+                    matched = !matches(bound.asDocument(), id);
+                    break;
+                case "$gte":
+                    matched = comparable && compare(id, bound) >= 0;
+                    break;
+                case "$lt":
+                    matched = comparable && compare(id, bound) < 0;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected operator " + operator);
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compare(BsonValue id, BsonValue bound) {
+        if (id.isNumber()) {
+            return Double.compare(id.asNumber().doubleValue(), bound.asNumber().doubleValue());
+        }
+        if (id.isString()) {
+            return id.asString().getValue().compareTo(bound.asString().getValue());
+        }
+        return id.asObjectId().getValue().compareTo(bound.asObjectId().getValue());
+    }
+
+    private static BsonDocument toDocument(MongodbSourceSplit split) {
+        return split.toFilter().toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+}
@@ -52,6 +52,8 @@ public class SourceProperties {
     public static final String POLL_TIMEOUT = "poll.timeout";
     public static final String POLL_INTERVAL = "poll.interval";
     public static final String POLL_BATCH_SIZE = "poll.batch.size";
+    public static final String HANDOVER_CAPACITY = "handover.capacity";
+    public static final String HANDOVER_CAPACITY_BYTES = "handover.capacity.bytes";
     public static final String CURSOR_STARTUP_MODE = "cursor.startup.mode";
     public static final String CURSOR_RESET_MODE = "cursor.reset.mode";
     public static final String CURSOR_STARTUP_TIMESTAMP = "cursor.startup.timestamp";
@@ -28,6 +28,8 @@ import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProp
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.CURSOR_STARTUP_TIMESTAMP;
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.CURSOR_STOP_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.CURSOR_STOP_TIMESTAMP;
+import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.HANDOVER_CAPACITY;
+import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.HANDOVER_CAPACITY_BYTES;
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.POLL_BATCH_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.POLL_INTERVAL;
 import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProperties.POLL_TIMEOUT;
@@ -92,6 +94,8 @@ public class PulsarSource<T> implements SeaTunnelSource<T, PulsarPartitionSplit,
     protected int pollTimeout;
     protected long pollInterval;
     protected int batchSize;
+    protected int handoverCapacity;
+    protected long handoverCapacityBytes;
 
     @Override
     public String getPluginName() {
@@ -146,6 +150,16 @@ public class PulsarSource<T> implements SeaTunnelSource<T, PulsarPartitionSplit,
             500,
             config::getInt,
             v -> this.batchSize = v);
+        setOption(config,
+            HANDOVER_CAPACITY,
+            2000,
+            config::getInt,
+            v -> this.handoverCapacity = v);
+        setOption(config,
+            HANDOVER_CAPACITY_BYTES,
+            64L * 1024 * 1024,
+            config::getLong,
+            v -> this.handoverCapacityBytes = v);
 
         setStartCursor(config);
         setStopCursor(config);
@@ -249,7 +263,9 @@ public class PulsarSource<T> implements SeaTunnelSource<T, PulsarPartitionSplit,
             deserialization,
             pollTimeout,
             pollInterval,
-            batchSize);
+            batchSize,
+            handoverCapacity,
+            handoverCapacityBytes);
     }
 
     @Override
@@ -39,7 +39,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -82,7 +81,9 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
                               DeserializationSchema<T> deserialization,
                               int pollTimeout,
                               long pollInterval,
-                              int batchSize) {
+                              int batchSize,
+                              int handoverCapacity,
+                              long handoverCapacityBytes) {
         this.context = context;
         this.clientConfig = clientConfig;
         this.consumerConfig = consumerConfig;
@@ -96,7 +97,8 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
         this.pendingCursorsToCommit = Collections.synchronizedSortedMap(new TreeMap<>());
         this.pendingCursorsToFinish = Collections.synchronizedSortedMap(new TreeMap<>());
         this.finishedSplits = new TreeSet<>();
-        this.handover = new Handover<>();
+        this.handover = new Handover<>(handoverCapacity, handoverCapacityBytes,
+            record -> record.getMessage().size());
     }
 
     @Override
@@ -106,6 +108,8 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
 
     @Override
     public void close() throws IOException {
+        // wake up the split reader threads blocked by the full handover
+        handover.close();
         if (pulsarClient != null) {
             pulsarClient.close();
         }
@@ -120,25 +124,29 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
 
     @Override
     public void pollNext(Collector<T> output) throws Exception {
-        for (int i = 0; i < batchSize; i++) {
-            Optional<RecordWithSplitId> recordWithSplitId = handover.pollNext();
-            if (recordWithSplitId.isPresent()) {
-                final String splitId = recordWithSplitId.get().getSplitId();
-                final Message<byte[]> message = recordWithSplitId.get().getMessage();
-                synchronized (output.getCheckpointLock()) {
-                    splitStates.get(splitId).setLatestConsumedId(message.getMessageId());
+        List<RecordWithSplitId> records = handover.drain(batchSize);
+        if (!records.isEmpty()) {
+            synchronized (output.getCheckpointLock()) {
+                for (RecordWithSplitId record : records) {
+                    final Message<byte[]> message = record.getMessage();
+                    splitStates.get(record.getSplitId()).setLatestConsumedId(message.getMessageId());
                     deserialization.deserialize(message.getData(), output);
                 }
             }
-            if (noMoreSplitsAssignment && finishedSplits.size() == splitStates.size()) {
-                context.signalNoMoreElement();
-                break;
-            }
+        }
+        if (noMoreSplitsAssignment && finishedSplits.size() == splitStates.size()) {
+            context.signalNoMoreElement();
         }
     }
 
     @Override
     public List<PulsarPartitionSplit> snapshotState(long checkpointId) throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Handover of checkpoint {}: {} records, {} bytes, fill ratio {}", checkpointId,
+                handover.size(), handover.sizeInBytes(), handover.fillRatio());
+            splitReaders.forEach((splitId, reader) -> LOG.debug("Split {} is blocked by backpressure for {} ms",
+                splitId, reader.getBackpressureMillis()));
+        }
         List<PulsarPartitionSplit> pendingSplit = splitStates.values().stream()
             .map(PulsarPartitionSplit::copy)
             .collect(Collectors.toList());
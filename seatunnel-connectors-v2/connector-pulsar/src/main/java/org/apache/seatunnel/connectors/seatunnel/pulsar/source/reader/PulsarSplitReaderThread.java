@@ -57,6 +57,11 @@ public class PulsarSplitReaderThread extends Thread implements Closeable {
      */
     private volatile boolean running;
 
+    /**
+     * The total time blocked by the full handover, it grows when the consumer can't keep up with this split.
+     */
+    private volatile long backpressureNanos;
+
     public PulsarSplitReaderThread(PulsarSourceReader sourceReader,
                                    PulsarPartitionSplit split,
                                    PulsarClient pulsarClient,
@@ -76,6 +81,7 @@ public class PulsarSplitReaderThread extends Thread implements Closeable {
     }
 
     public void open() throws PulsarClientException {
+        this.running = true;
         this.consumer = createPulsarConsumer(split);
         if (split.getLatestConsumedId() == null) {
             startCursor.seekPosition(consumer);
@@ -89,7 +95,9 @@ public class PulsarSplitReaderThread extends Thread implements Closeable {
             while (running) {
                 Message<byte[]> message = consumer.receive(pollTimeout, TimeUnit.MILLISECONDS);
                 if (message != null) {
+                    long start = System.nanoTime();
                     handover.produce(new RecordWithSplitId(message, split.splitId()));
+                    backpressureNanos += System.nanoTime() - start;
                     if (stopCursor.shouldStop(message)) {
                         sourceReader.handleNoMoreElements(split.splitId(), message.getMessageId());
                         break;
@@ -117,6 +125,10 @@ public class PulsarSplitReaderThread extends Thread implements Closeable {
         }
     }
 
+    public long getBackpressureMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(backpressureNanos);
+    }
+
     public void committingCursor(MessageId offsetsToCommit) {
         if (consumer == null) {
             consumer = createPulsarConsumer(split);
@@ -25,4 +25,7 @@ public class RedisConfig {
     public static final String KEY = "key";
     public static final String DATA_TYPE = "data_type";
     public static final String FORMAT = "format";
+    public static final String MODE = "mode";
+    public static final String BATCH_SIZE = "batch_size";
+    public static final String SCAN_COUNT = "scan_count";
 }
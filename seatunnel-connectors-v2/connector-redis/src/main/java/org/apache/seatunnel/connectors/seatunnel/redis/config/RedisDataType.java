@@ -19,80 +19,102 @@ package org.apache.seatunnel.connectors.seatunnel.redis.config;
 
 import org.apache.seatunnel.common.utils.JsonUtils;
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.PipelineCommands;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * The commands of every data type. The commands are queued into a pipeline, the value of a get is available after the
+ * pipeline is synced.
+ */
 public enum RedisDataType {
     KEY {
         @Override
-        public void set(Jedis jedis, String key, String value) {
-            jedis.set(key, value);
+        public Response<?> set(PipelineCommands pipeline, String key, String value) {
+            return pipeline.set(key, value);
         }
 
         @Override
-        public List<String> get(Jedis jedis, String key) {
-            return Collections.singletonList(jedis.get(key));
+        public Supplier<List<String>> get(PipelineCommands pipeline, String key) {
+            Response<String> response = pipeline.get(key);
+            return () -> {
+                String value = response.get();
+                // the key may be deleted after it was scanned
+                return value == null ? Collections.emptyList() : Collections.singletonList(value);
+            };
         }
     },
     HASH {
         @Override
-        public void set(Jedis jedis, String key, String value) {
+        public Response<?> set(PipelineCommands pipeline, String key, String value) {
             Map<String, String> fieldsMap = JsonUtils.toMap(value);
-            jedis.hset(key, fieldsMap);
+            return pipeline.hset(key, fieldsMap);
         }
 
         @Override
-        public List<String> get(Jedis jedis, String key) {
-            Map<String, String> kvMap = jedis.hgetAll(key);
-            return Collections.singletonList(JsonUtils.toJsonString(kvMap));
+        public Supplier<List<String>> get(PipelineCommands pipeline, String key) {
+            Response<Map<String, String>> response = pipeline.hgetAll(key);
+            return () -> {
+                Map<String, String> kvMap = response.get();
+                return kvMap.isEmpty() ? Collections.emptyList() : Collections.singletonList(JsonUtils.toJsonString(kvMap));
+            };
         }
 
     },
     LIST {
         @Override
-        public void set(Jedis jedis, String key, String value) {
-            jedis.lpush(key, value);
+        public Response<?> set(PipelineCommands pipeline, String key, String value) {
+            return pipeline.lpush(key, value);
         }
 
         @Override
-        public List<String> get(Jedis jedis, String key) {
-            return jedis.lrange(key, 0, -1);
+        public Supplier<List<String>> get(PipelineCommands pipeline, String key) {
+            Response<List<String>> response = pipeline.lrange(key, 0, -1);
+            return response::get;
         }
     },
     SET {
         @Override
-        public void set(Jedis jedis, String key, String value) {
-            jedis.sadd(key, value);
+        public Response<?> set(PipelineCommands pipeline, String key, String value) {
+            return pipeline.sadd(key, value);
         }
 
         @Override
-        public List<String> get(Jedis jedis, String key) {
-            Set<String> members = jedis.smembers(key);
-            return new ArrayList<>(members);
+        public Supplier<List<String>> get(PipelineCommands pipeline, String key) {
+            Response<Set<String>> response = pipeline.smembers(key);
+            return () -> new ArrayList<>(response.get());
         }
     },
     ZSET {
         @Override
-        public void set(Jedis jedis, String key, String value) {
-            jedis.zadd(key, 1, value);
+        public Response<?> set(PipelineCommands pipeline, String key, String value) {
+            return pipeline.zadd(key, 1, value);
         }
 
         @Override
-        public List<String> get(Jedis jedis, String key) {
-            return jedis.zrange(key, 0, -1);
+        public Supplier<List<String>> get(PipelineCommands pipeline, String key) {
+            Response<List<String>> response = pipeline.zrange(key, 0, -1);
+            return response::get;
         }
     };
 
-    public List<String> get(Jedis jedis, String key) {
-        return Collections.emptyList();
-    }
+    /**
+     * Queue the command reading the values of the key.
+     *
+     * @return the values of the key, which can only be called after the pipeline is synced.
+     */
+    public abstract Supplier<List<String>> get(PipelineCommands pipeline, String key);
 
-    public void set(Jedis jedis, String key, String value) {
-        // do nothing
-    }
+    /**
+     * Queue the command writing the value to the key.
+     *
+     * @return the response of the command, which holds the error of the command after the pipeline is synced.
+     */
+    public abstract Response<?> set(PipelineCommands pipeline, String key, String value);
 }
@@ -21,18 +21,28 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 
 import java.io.Serializable;
+import java.util.Collections;
 
 @Data
 public class RedisParameters implements Serializable {
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_SCAN_COUNT = 100;
+
     private String host;
     private int port;
     private String auth = "";
     private String keysPattern;
     private String keyField;
     private RedisDataType redisDataType;
+    private RedisMode mode = RedisMode.SINGLE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int scanCount = DEFAULT_SCAN_COUNT;
 
     public void buildWithConfig(Config config) {
         // set host
@@ -58,13 +68,47 @@ public class RedisParameters implements Serializable {
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Redis source connector only support these data types [key, hash, list, set, zset]", e);
         }
+        // set mode
+        if (config.hasPath(RedisConfig.MODE)) {
+            try {
+                this.mode = RedisMode.valueOf(config.getString(RedisConfig.MODE).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Redis connector only support these modes [single, cluster]", e);
+            }
+        }
+        // set batch size
+        if (config.hasPath(RedisConfig.BATCH_SIZE)) {
+            this.batchSize = config.getInt(RedisConfig.BATCH_SIZE);
+        }
+        // set scan count
+        if (config.hasPath(RedisConfig.SCAN_COUNT)) {
+            this.scanCount = config.getInt(RedisConfig.SCAN_COUNT);
+        }
     }
 
     public Jedis buildJedis() {
-        Jedis jedis = new Jedis(host, port);
+        return buildJedis(host, port);
+    }
+
+    /**
+     * Connect to one node of the cluster, or to the server in single mode.
+     */
+    public Jedis buildJedis(String nodeHost, int nodePort) {
+        Jedis jedis = new Jedis(nodeHost, nodePort);
         if (StringUtils.isNotBlank(auth)) {
             jedis.auth(auth);
         }
         return jedis;
     }
+
+    /**
+     * Build a pipeline which sends every command to the node serving the slot of its key.
+     */
+    public ClusterPipeline buildClusterPipeline() {
+        DefaultJedisClientConfig.Builder clientConfig = DefaultJedisClientConfig.builder();
+        if (StringUtils.isNotBlank(auth)) {
+            clientConfig.password(auth);
+        }
+        return new ClusterPipeline(Collections.singleton(new HostAndPort(host, port)), clientConfig.build());
+    }
 }
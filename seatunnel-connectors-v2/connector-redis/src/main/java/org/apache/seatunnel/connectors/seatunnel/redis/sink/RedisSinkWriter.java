@@ -22,50 +22,111 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSinkWriter;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisMode;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 import org.apache.seatunnel.format.json.JsonSerializationSchema;
 
+import redis.clients.jedis.ClusterPipeline;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.PipelineCommands;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * Writes the rows with a pipeline, which is synced every batch size rows and before every checkpoint.
+ *
+ * <p>In cluster mode the commands are queued per node by the slot of their key and every node receives its commands in
+ * one pipelined round trip.
+ */
 public class RedisSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
-    private final SeaTunnelRowType seaTunnelRowType;
     private final RedisParameters redisParameters;
     private final SerializationSchema serializationSchema;
+    private final RedisDataType redisDataType;
+    /**
+     * The index of the key field in the row, or -1 if the key is a fixed value.
+     */
+    private final int keyFieldIndex;
     private final Jedis jedis;
+    private final Pipeline pipeline;
+    private final ClusterPipeline clusterPipeline;
+    private final List<Response<?>> responses = new ArrayList<>();
 
     public RedisSinkWriter(SeaTunnelRowType seaTunnelRowType, RedisParameters redisParameters) {
-        this.seaTunnelRowType = seaTunnelRowType;
         this.redisParameters = redisParameters;
         // TODO according to format to initialize serializationSchema
         // Now temporary using json serializationSchema
         this.serializationSchema = new JsonSerializationSchema(seaTunnelRowType);
-        this.jedis = redisParameters.buildJedis();
+        this.redisDataType = redisParameters.getRedisDataType();
+        this.keyFieldIndex = Arrays.asList(seaTunnelRowType.getFieldNames()).indexOf(redisParameters.getKeyField());
+        if (redisParameters.getMode() == RedisMode.CLUSTER) {
+            this.jedis = null;
+            this.pipeline = null;
+            this.clusterPipeline = redisParameters.buildClusterPipeline();
+        } else {
+            this.jedis = redisParameters.buildJedis();
+            this.pipeline = jedis.pipelined();
+            this.clusterPipeline = null;
+        }
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
-        String data = new String(serializationSchema.serialize(element));
-        RedisDataType redisDataType = redisParameters.getRedisDataType();
-        String keyField = redisParameters.getKeyField();
-        List<String> fields = Arrays.asList(seaTunnelRowType.getFieldNames());
+        String data = new String(serializationSchema.serialize(element), StandardCharsets.UTF_8);
         String key;
-        if (fields.contains(keyField)) {
-            key = element.getField(fields.indexOf(keyField)).toString();
+        if (keyFieldIndex >= 0) {
+            key = String.valueOf(element.getField(keyFieldIndex));
+        } else {
+            key = redisParameters.getKeyField();
+        }
+        PipelineCommands commands = clusterPipeline != null ? clusterPipeline : pipeline;
+        responses.add(redisDataType.set(commands, key, data));
+        if (responses.size() >= redisParameters.getBatchSize()) {
+            flush();
+        }
+    }
+
+    @Override
+    public Optional<Void> prepareCommit() {
+        flush();
+        return Optional.empty();
+    }
+
+    private void flush() {
+        if (responses.isEmpty()) {
+            return;
+        }
+        if (clusterPipeline != null) {
+            clusterPipeline.sync();
         } else {
-            key = keyField;
+            pipeline.sync();
+        }
+        try {
+            // rethrows the error of a failed command
+            responses.forEach(Response::get);
+        } finally {
+            responses.clear();
         }
-        redisDataType.set(jedis, key, data);
     }
 
     @Override
     public void close() throws IOException {
-        if (Objects.nonNull(jedis)) {
-            jedis.close();
+        try {
+            flush();
+        } finally {
+            if (Objects.nonNull(clusterPipeline)) {
+                clusterPipeline.close();
+            }
+            if (Objects.nonNull(jedis)) {
+                jedis.close();
+            }
         }
     }
 }
@@ -21,6 +21,8 @@ import org.apache.seatunnel.api.common.PrepareFailException;
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -28,11 +30,9 @@ import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.common.schema.SeaTunnelSchema;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitSource;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
@@ -40,7 +40,7 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import com.google.auto.service.AutoService;
 
 @AutoService(SeaTunnelSource.class)
-public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
+public class RedisSource implements SeaTunnelSource<SeaTunnelRow, RedisSourceSplit, RedisSourceState> {
     private final RedisParameters redisParameters = new RedisParameters();
     private SeaTunnelRowType seaTunnelRowType;
     private DeserializationSchema<SeaTunnelRow> deserializationSchema;
@@ -86,7 +86,17 @@ public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
     }
 
     @Override
-    public AbstractSingleSplitReader<SeaTunnelRow> createReader(SingleSplitReaderContext readerContext) throws Exception {
+    public SourceReader<SeaTunnelRow, RedisSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
         return new RedisSourceReader(redisParameters, readerContext, deserializationSchema);
     }
+
+    @Override
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> createEnumerator(SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext) throws Exception {
+        return new RedisSourceSplitEnumerator(enumeratorContext, redisParameters);
+    }
+
+    @Override
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> restoreEnumerator(SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext, RedisSourceState checkpointState) throws Exception {
+        return new RedisSourceSplitEnumerator(enumeratorContext, redisParameters, checkpointState);
+    }
 }
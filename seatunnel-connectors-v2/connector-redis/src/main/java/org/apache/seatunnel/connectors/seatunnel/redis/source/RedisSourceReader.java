@@ -19,34 +19,62 @@ package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.common.source.SplitAvailability;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+/**
+ * Scans the keys of the splits with a cursor, one scan per poll, and reads the values of the scanned keys with one
+ * pipelined round trip. The cursor is kept in the checkpoint, so a restored split continues from its last scan.
+ *
+ * <p>The source is at-least-once: SCAN returns a key more than once when the keyspace is rehashed during the
+ * iteration, and such a key is read again. The scanned keys are not kept to remove the duplicates, which would hold
+ * every key of the node in memory and in the checkpoint.
+ */
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final SourceReader.Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final ScanParams scanParams;
+    private final Deque<RedisSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    private volatile boolean noMoreSplit;
+    private final SplitAvailability availability = new SplitAvailability();
+
+    private RedisSourceSplit currentSplit;
+    private String cursor;
     private Jedis jedis;
+    private Pipeline pipeline;
 
-    public RedisSourceReader(RedisParameters redisParameters, SingleSplitReaderContext context, DeserializationSchema<SeaTunnelRow> deserializationSchema) {
+    public RedisSourceReader(RedisParameters redisParameters, SourceReader.Context context, DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
         this.deserializationSchema = deserializationSchema;
+        this.scanParams = new ScanParams().match(redisParameters.getKeysPattern()).count(redisParameters.getScanCount());
     }
 
     @Override
     public void open() throws Exception {
-        this.jedis = redisParameters.buildJedis();
+
     }
 
     @Override
@@ -58,18 +86,84 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        Set<String> keys = jedis.keys(redisParameters.getKeysPattern());
+        synchronized (output.getCheckpointLock()) {
+            if (currentSplit == null) {
+                currentSplit = splits.poll();
+                if (currentSplit == null && noMoreSplit) {
+                    log.info("Closed the bounded redis source");
+                    context.signalNoMoreElement();
+                    return;
+                }
+                if (currentSplit != null) {
+                    cursor = currentSplit.getCursor();
+                    jedis = redisParameters.buildJedis(currentSplit.getHost(), currentSplit.getPort());
+                    pipeline = jedis.pipelined();
+                }
+            }
+            if (currentSplit != null) {
+                scan(output);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return availability.isAvailable(() -> currentSplit != null || !splits.isEmpty() || noMoreSplit);
+    }
+
+    private void scan(Collector<SeaTunnelRow> output) throws IOException {
+        ScanResult<String> result = jedis.scan(cursor, scanParams);
         RedisDataType redisDataType = redisParameters.getRedisDataType();
-        for (String key : keys) {
-            List<String> values = redisDataType.get(jedis, key);
-            for (String value : values) {
+        List<Supplier<List<String>>> responses = new ArrayList<>(result.getResult().size());
+        for (String key : result.getResult()) {
+            if (currentSplit.containsSlot(JedisClusterCRC16.getSlot(key))) {
+                responses.add(redisDataType.get(pipeline, key));
+            }
+        }
+        pipeline.sync();
+        for (Supplier<List<String>> response : responses) {
+            for (String value : response.get()) {
                 if (deserializationSchema == null) {
                     output.collect(new SeaTunnelRow(new Object[]{value}));
                 } else {
-                    deserializationSchema.deserialize(value.getBytes(), output);
+                    deserializationSchema.deserialize(value.getBytes(StandardCharsets.UTF_8), output);
                 }
             }
         }
-        context.signalNoMoreElement();
+        cursor = result.getCursor();
+        if (result.isCompleteIteration()) {
+            log.info("Finished scanning the split {}", currentSplit);
+            currentSplit = null;
+            jedis.close();
+            jedis = null;
+        }
+    }
+
+    @Override
+    public List<RedisSourceSplit> snapshotState(long checkpointId) throws Exception {
+        List<RedisSourceSplit> state = new ArrayList<>();
+        if (currentSplit != null) {
+            state.add(new RedisSourceSplit(currentSplit.getSplitId(), currentSplit.getHost(), currentSplit.getPort(),
+                    currentSplit.getSlotRanges(), cursor));
+        }
+        state.addAll(splits);
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        this.splits.addAll(splits);
+        availability.signal();
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+        availability.signal();
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The keys of some hash slots on one node, which are scanned from the cursor. In single mode the node is the server
+ * with all slots, in cluster mode the node is the master serving the slots.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RedisSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = 4406127331542896376L;
+
+    private final String splitId;
+
+    private final String host;
+
+    private final int port;
+
+    private final List<SlotRange> slotRanges;
+
+    /**
+     * The cursor of the next scan, {@code 0} before the first scan.
+     */
+    private final String cursor;
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    public boolean containsSlot(int slot) {
+        for (SlotRange range : slotRanges) {
+            if (slot >= range.getStart() && slot <= range.getEnd()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A range of hash slots including both ends.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class SlotRange implements Serializable {
+
+        private static final long serialVersionUID = -3514838563434851093L;
+
+        private final int start;
+
+        private final int end;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractStaticSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisMode;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Plans the splits of the source.
+ *
+ * <p>In cluster mode every master node is a split with the slots it serves, so the nodes are scanned in parallel. In
+ * single mode the server is one split with all slots, one SCAN iteration can't be divided among several readers
+ * without every reader scanning all keys.
+ */
+public class RedisSourceSplitEnumerator extends AbstractStaticSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+
+    private static final String INITIAL_CURSOR = "0";
+
+    private final RedisParameters redisParameters;
+
+    RedisSourceSplitEnumerator(SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext,
+                               RedisParameters redisParameters) {
+        this(enumeratorContext, redisParameters, new RedisSourceState(null, new HashSet<>()));
+    }
+
+    RedisSourceSplitEnumerator(SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext,
+                               RedisParameters redisParameters, RedisSourceState state) {
+        super(enumeratorContext, state.getSplits(), state.getAssignedSplitIds());
+        this.redisParameters = redisParameters;
+    }
+
+    @Override
+    protected List<RedisSourceSplit> discoverSplits() {
+        if (redisParameters.getMode() != RedisMode.CLUSTER) {
+            return Collections.singletonList(createServerSplit(redisParameters.getHost(), redisParameters.getPort()));
+        }
+        try (Jedis jedis = redisParameters.buildJedis()) {
+            return createNodeSplits(jedis.clusterSlots());
+        }
+    }
+
+    /**
+     * Creates the split of all hash slots of a single server.
+     */
+    static RedisSourceSplit createServerSplit(String host, int port) {
+        return new RedisSourceSplit(host + ":" + port, host, port,
+                Collections.singletonList(new RedisSourceSplit.SlotRange(0, Protocol.CLUSTER_HASHSLOTS - 1)), INITIAL_CURSOR);
+    }
+
+    /**
+     * Creates one split per master node from the reply of CLUSTER SLOTS, every entry of which is the start slot, the
+     * end slot, the master node and its replicas, a node being its host, port and id.
+     */
+    static List<RedisSourceSplit> createNodeSplits(List<Object> clusterSlots) {
+        Map<String, List<RedisSourceSplit.SlotRange>> nodeSlots = new TreeMap<>();
+        for (Object entry : clusterSlots) {
+            List<?> slots = (List<?>) entry;
+            List<?> master = (List<?>) slots.get(2);
+            String node = SafeEncoder.encode((byte[]) master.get(0)) + ":" + master.get(1);
+            nodeSlots.computeIfAbsent(node, key -> new ArrayList<>()).add(new RedisSourceSplit.SlotRange(
+                    ((Long) slots.get(0)).intValue(), ((Long) slots.get(1)).intValue()));
+        }
+        List<RedisSourceSplit> splits = new ArrayList<>(nodeSlots.size());
+        for (Map.Entry<String, List<RedisSourceSplit.SlotRange>> entry : nodeSlots.entrySet()) {
+            int separator = entry.getKey().lastIndexOf(':');
+            splits.add(new RedisSourceSplit(entry.getKey(), entry.getKey().substring(0, separator),
+                    Integer.parseInt(entry.getKey().substring(separator + 1)), entry.getValue(), INITIAL_CURSOR));
+        }
+        return splits;
+    }
+
+    @Override
+    protected RedisSourceState createState(List<RedisSourceSplit> splits, Set<String> assignedSplitIds) {
+        return new RedisSourceState(splits, assignedSplitIds);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * An in memory stand-in of a redis server speaking the RESP protocol, which supports the commands used by the
+ * connector. SCAN iterates the keys in their natural order and the cursor is the index of the next key.
+ */
+public class MockRedisServer implements Closeable {
+
+    private static final int DEFAULT_SCAN_COUNT = 10;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Object> data = new TreeMap<>();
+    private final AtomicInteger commandCount = new AtomicInteger();
+
+    public MockRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getCommandCount() {
+        return commandCount.get();
+    }
+
+    public synchronized Map<String, Object> getData() {
+        return new HashMap<>(data);
+    }
+
+    public synchronized void put(String key, Object value) {
+        data.put(key, value);
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket client = socket;
+             InputStream in = new BufferedInputStream(client.getInputStream());
+             OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+            while (true) {
+                List<String> command = readCommand(in);
+                commandCount.incrementAndGet();
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        }
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        int size = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = new byte[length];
+            for (int read = 0; read < length; ) {
+                int n = in.read(bytes, read, length - read);
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            command.add(new String(bytes, StandardCharsets.UTF_8));
+            readLine(in);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized String execute(List<String> command) {
+        String key = command.size() > 1 ? command.get(1) : null;
+        Object value = key == null ? null : data.get(key);
+        switch (command.get(0).toUpperCase()) {
+            case "PING":
+                return "+PONG\r\n";
+            case "AUTH":
+                return "+OK\r\n";
+            case "SET":
+                data.put(key, command.get(2));
+                return "+OK\r\n";
+            case "GET":
+                return value == null ? "$-1\r\n" : bulk((String) value);
+            case "HSET": {
+                Map<String, String> hash = (Map<String, String>) data.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                for (int i = 2; i < command.size(); i += 2) {
+                    hash.put(command.get(i), command.get(i + 1));
+                }
+                return ":" + (command.size() - 2) / 2 + "\r\n";
+            }
+            case "HGETALL": {
+                List<String> fields = new ArrayList<>();
+                if (value != null) {
+                    ((Map<String, String>) value).forEach((field, fieldValue) -> {
+                        fields.add(field);
+                        fields.add(fieldValue);
+                    });
+                }
+                return array(fields);
+            }
+            case "LPUSH": {
+                if (value != null && !(value instanceof LinkedList)) {
+                    return "-WRONGTYPE Operation against a key holding the wrong kind of value\r\n";
+                }
+                LinkedList<String> list = (LinkedList<String>) data.computeIfAbsent(key, k -> new LinkedList<>());
+                for (int i = 2; i < command.size(); i++) {
+                    list.addFirst(command.get(i));
+                }
+                return ":" + list.size() + "\r\n";
+            }
+            case "SADD":
+            case "ZADD": {
+                LinkedHashSet<String> set = (LinkedHashSet<String>) data.computeIfAbsent(key, k -> new LinkedHashSet<>());
+                set.add(command.get(command.size() - 1));
+                return ":1\r\n";
+            }
+            case "LRANGE":
+            case "SMEMBERS":
+            case "ZRANGE":
+                return array(value == null ? new ArrayList<>() : (Collection<String>) value);
+            case "SCAN":
+                return scan(command);
+            default:
+                return "-ERR unknown command '" + command.get(0) + "'\r\n";
+        }
+    }
+
+    private String scan(List<String> command) {
+        int cursor = Integer.parseInt(command.get(1));
+        int count = DEFAULT_SCAN_COUNT;
+        Pattern pattern = null;
+        for (int i = 2; i < command.size(); i += 2) {
+            if ("MATCH".equalsIgnoreCase(command.get(i))) {
+                pattern = Pattern.compile(command.get(i + 1).replace("?", ".").replace("*", ".*"));
+            } else if ("COUNT".equalsIgnoreCase(command.get(i))) {
+                count = Integer.parseInt(command.get(i + 1));
+            }
+        }
+        List<String> keys = new ArrayList<>(data.keySet());
+        int end = Math.min(cursor + count, keys.size());
+        List<String> matched = new ArrayList<>();
+        for (String key : keys.subList(Math.min(cursor, keys.size()), end)) {
+            if (pattern == null || pattern.matcher(key).matches()) {
+                matched.add(key);
+            }
+        }
+        String next = end >= keys.size() ? "0" : String.valueOf(end);
+        return "*2\r\n" + bulk(next) + array(matched);
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    private static String array(Collection<String> values) {
+        StringBuilder builder = new StringBuilder("*").append(values.size()).append("\r\n");
+        values.forEach(value -> builder.append(bulk(value)));
+        return builder.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
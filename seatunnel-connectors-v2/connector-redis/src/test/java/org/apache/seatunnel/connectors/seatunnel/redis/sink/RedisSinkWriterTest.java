@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.sink;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.redis.MockRedisServer;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+class RedisSinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(new String[]{"id", "name"},
+            new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private MockRedisServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MockRedisServer();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testWriteInPipelinedBatches() throws IOException {
+        RedisSinkWriter writer = new RedisSinkWriter(ROW_TYPE, parameters("id", "key"));
+        writer.write(row(1, "a"));
+        writer.write(row(2, "b"));
+        Assertions.assertEquals(0, server.getCommandCount());
+
+        writer.write(row(3, "c"));
+        Assertions.assertEquals(3, server.getCommandCount());
+        Assertions.assertEquals("{\"id\":2,\"name\":\"b\"}", server.getData().get("2"));
+
+        writer.write(row(4, "d"));
+        writer.prepareCommit();
+        Assertions.assertEquals(4, server.getData().size());
+        writer.close();
+    }
+
+    @Test
+    void testWriteToFixedKey() throws IOException {
+        RedisSinkWriter writer = new RedisSinkWriter(ROW_TYPE, parameters("names", "list"));
+        writer.write(row(1, "a"));
+        writer.write(row(2, "b"));
+        writer.close();
+        Assertions.assertEquals(new LinkedList<>(Arrays.asList("{\"id\":2,\"name\":\"b\"}", "{\"id\":1,\"name\":\"a\"}")),
+                server.getData().get("names"));
+    }
+
+    @Test
+    void testFailOnCommandError() throws IOException {
+        server.put("names", "not a list");
+        RedisSinkWriter writer = new RedisSinkWriter(ROW_TYPE, parameters("names", "list"));
+        writer.write(row(1, "a"));
+        Assertions.assertThrows(JedisDataException.class, writer::prepareCommit);
+        writer.close();
+    }
+
+    private RedisParameters parameters(String key, String dataType) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("host", server.getHost());
+        config.put("port", server.getPort());
+        config.put("key", key);
+        config.put("data_type", dataType);
+        config.put("batch_size", 3);
+        RedisParameters parameters = new RedisParameters();
+        parameters.buildWithConfig(ConfigFactory.parseMap(config));
+        return parameters;
+    }
+
+    private static SeaTunnelRow row(int id, String name) {
+        return new SeaTunnelRow(new Object[]{id, name});
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestEnumeratorContext;
+import org.apache.seatunnel.connectors.seatunnel.common.source.TestReaderContext;
+import org.apache.seatunnel.connectors.seatunnel.redis.MockRedisServer;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class RedisSourceTest {
+
+    private static final int KEY_COUNT = 50;
+
+    private MockRedisServer server;
+    private RedisParameters parameters;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MockRedisServer();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            server.put("key_" + i, "value_" + i);
+            server.put("other_" + i, "other");
+        }
+        Map<String, Object> config = new HashMap<>();
+        config.put("host", server.getHost());
+        config.put("port", server.getPort());
+        config.put("keys", "key_*");
+        config.put("data_type", "key");
+        config.put("scan_count", 7);
+        parameters = new RedisParameters();
+        parameters.buildWithConfig(ConfigFactory.parseMap(config));
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testScanServerSplit() throws Exception {
+        TestEnumeratorContext<RedisSourceSplit> context = new TestEnumeratorContext<>(3);
+        new RedisSourceSplitEnumerator(context, parameters).run();
+        Assertions.assertEquals(1, context.getAssignedSplits().size());
+        RedisSourceSplit split = context.getAssignedSplits(0).get(0);
+        Assertions.assertTrue(split.containsSlot(0));
+        Assertions.assertTrue(split.containsSlot(16383));
+
+        List<String> values = read(Collections.singletonList(split));
+        Assertions.assertEquals(expectedValues(), new HashSet<>(values));
+        Assertions.assertEquals(KEY_COUNT, values.size());
+    }
+
+    @Test
+    void testContinueFromCheckpointedCursor() throws Exception {
+        RedisSourceSplit split = RedisSourceSplitEnumerator.createServerSplit(server.getHost(), server.getPort());
+        TestReaderContext context = new TestReaderContext();
+        List<String> values = new ArrayList<>();
+        List<RedisSourceSplit> state;
+        try (RedisSourceReader reader = new RedisSourceReader(parameters, context, null)) {
+            reader.addSplits(Collections.singletonList(split));
+            reader.pollNext(collector(values));
+            reader.pollNext(collector(values));
+            state = reader.snapshotState(1);
+        }
+        Assertions.assertEquals("14", state.get(0).getCursor());
+
+        values.addAll(read(state));
+        Assertions.assertEquals(expectedValues(), new HashSet<>(values));
+        Assertions.assertEquals(KEY_COUNT, values.size());
+    }
+
+    @Test
+    void testCreateNodeSplitsFromClusterSlots() {
+        List<Object> clusterSlots = Arrays.asList(
+                slots(0, 5460, "10.0.0.1"),
+                slots(5461, 10922, "10.0.0.2"),
+                slots(10923, 16383, "10.0.0.1"));
+        List<RedisSourceSplit> splits = RedisSourceSplitEnumerator.createNodeSplits(clusterSlots);
+
+        Assertions.assertEquals(Arrays.asList("10.0.0.1:7000", "10.0.0.2:7000"),
+                splits.stream().map(RedisSourceSplit::splitId).collect(Collectors.toList()));
+        RedisSourceSplit first = splits.get(0);
+        Assertions.assertEquals("10.0.0.1", first.getHost());
+        Assertions.assertEquals(7000, first.getPort());
+        Assertions.assertTrue(first.containsSlot(0));
+        Assertions.assertTrue(first.containsSlot(16383));
+        Assertions.assertFalse(first.containsSlot(5461));
+    }
+
+    private List<String> read(List<RedisSourceSplit> splits) throws Exception {
+        TestReaderContext context = new TestReaderContext();
+        List<String> values = new ArrayList<>();
+        try (RedisSourceReader reader = new RedisSourceReader(parameters, context, null)) {
+            reader.open();
+            reader.addSplits(splits);
+            reader.handleNoMoreSplits();
+            while (!context.isNoMoreElement()) {
+                reader.pollNext(collector(values));
+            }
+        }
+        return values;
+    }
+
+    private static Collector<SeaTunnelRow> collector(List<String> values) {
+        return new Collector<SeaTunnelRow>() {
+            @Override
+            public void collect(SeaTunnelRow record) {
+                values.add((String) record.getField(0));
+            }
+
+            @Override
+            public Object getCheckpointLock() {
+                return this;
+            }
+        };
+    }
+
+    private static Set<String> expectedValues() {
+        return IntStream.range(0, KEY_COUNT).mapToObj(i -> "value_" + i).collect(Collectors.toSet());
+    }
+
+    private static List<Object> slots(long start, long end, String host) {
+        return Arrays.asList(start, end, Arrays.asList(SafeEncoder.encode(host), 7000L, SafeEncoder.encode("id")));
+    }
+}
@@ -49,4 +49,8 @@ public class Constant {
     public static final String IMAP_OWNED_SLOT_PROFILES = "ownedSlotProfilesIMap";
 
     public static final String IMAP_RESOURCE_MANAGER_REGISTER_WORKER = "ResourceManager_RegisterWorker";
+
+    public static final String IMAP_PARTITION_CONSUMED_SEQUENCE = "partitionConsumedSequence";
+
+    public static final String RINGBUFFER_PARTITION_PREFIX = "partition";
 }
@@ -24,6 +24,8 @@ import static com.hazelcast.internal.config.DomConfigHelper.getIntegerValue;
 
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
+import org.apache.seatunnel.engine.common.config.server.QueueConfig;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 
@@ -99,12 +101,29 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
                 engineConfig.setCheckpointConfig(parseCheckpointConfig(node));
+            } else if (ServerConfigOptions.QUEUE.key().equals(name)) {
+                engineConfig.setQueueConfig(parseQueueConfig(node));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
         }
     }
 
+    private QueueConfig parseQueueConfig(Node queueNode) {
+        QueueConfig queueConfig = new QueueConfig();
+        for (Node node : childElements(queueNode)) {
+            String name = cleanNodeName(node);
+            if (ServerConfigOptions.QUEUE_TYPE.key().equals(name)) {
+                queueConfig.setQueueType(QueueType.valueOf(getTextContent(node).toUpperCase()));
+            } else if (ServerConfigOptions.QUEUE_CAPACITY.key().equals(name)) {
+                queueConfig.setCapacity(getIntegerValue(ServerConfigOptions.QUEUE_CAPACITY.key(), getTextContent(node)));
+            } else {
+                LOGGER.warning("Unrecognized element: " + name);
+            }
+        }
+        return queueConfig;
+    }
+
     private CheckpointConfig parseCheckpointConfig(Node checkpointNode) {
         CheckpointConfig checkpointConfig = new CheckpointConfig();
         for (Node node : childElements(checkpointNode)) {
@@ -122,6 +141,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.CHECKPOINT_TOLERABLE_FAILURE.key().equals(name)) {
                 checkpointConfig.setTolerableFailureCheckpoints(getIntegerValue(ServerConfigOptions.CHECKPOINT_TOLERABLE_FAILURE.key(),
                     getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_UNALIGNED.key().equals(name)) {
+                checkpointConfig.setUnaligned(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
@@ -141,6 +162,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key().equals(name)) {
                 checkpointStorageConfig.setMaxRetainedCheckpoints(getIntegerValue(ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.key(),
                     getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.key().equals(name)) {
+                checkpointStorageConfig.setIncremental(getBooleanValue(getTextContent(node)));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
@@ -25,4 +25,6 @@ public class CheckpointStorageConfig {
     private String storage = ServerConfigOptions.CHECKPOINT_STORAGE_TYPE.defaultValue();
 
     private int maxRetainedCheckpoints = ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.defaultValue();
+
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.defaultValue();
 }
@@ -41,16 +41,27 @@ public class ServerConfigOptions {
 
     public static final Option<Integer> CHECKPOINT_TOLERABLE_FAILURE = Options.key("tolerable-failure").intType().defaultValue(0).withDescription("The tolerable failure number of a checkpoint.");
 
+    public static final Option<Boolean> CHECKPOINT_UNALIGNED = Options.key("unaligned").booleanType().defaultValue(false).withDescription("Whether the checkpoint barriers overtake the records buffered in the intermediate queues, the overtaken records are stored as part of the task state.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE = Options.key("type").stringType().defaultValue("localfile").withDescription("The checkpoint storage type.");
 
     public static final Option<Integer> CHECKPOINT_STORAGE_MAX_RETAINED = Options.key("max-retained").intType().defaultValue(1).withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL = Options.key("incremental").booleanType().defaultValue(false).withDescription("Whether only store the subtask states changed since the previous checkpoint, the unchanged states are referenced from the previous checkpoint.");
+
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE = Options.key("storage").type(new TypeReference<CheckpointStorageConfig>() {
     }).defaultValue(new CheckpointStorageConfig()).withDescription("The checkpoint storage configuration.");
 
     public static final Option<SlotServiceConfig> SLOT_SERVICE = Options.key("slot-service").type(new TypeReference<SlotServiceConfig>() {
     }).defaultValue(new SlotServiceConfig()).withDescription("The slot service configuration.");
 
+    public static final Option<QueueType> QUEUE_TYPE = Options.key("type").enumType(QueueType.class).defaultValue(QueueType.BLOCKINGQUEUE).withDescription("The type of the intermediate queue between chained tasks.");
+
+    public static final Option<Integer> QUEUE_CAPACITY = Options.key("capacity").intType().defaultValue(1000).withDescription("The max number of records the intermediate queue can hold.");
+
+    public static final Option<QueueConfig> QUEUE = Options.key("intermediate-queue").type(new TypeReference<QueueConfig>() {
+    }).defaultValue(new QueueConfig()).withDescription("The intermediate queue configuration.");
+
     public static final Option<CheckpointConfig> CHECKPOINT = Options.key("checkpoint").type(new TypeReference<CheckpointConfig>() {
     }).defaultValue(new CheckpointConfig()).withDescription("The checkpoint configuration.");
 }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.QueueType;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -50,10 +52,18 @@ public class YamlSeaTunnelConfigParserTest {
 
         Assertions.assertEquals(config.getEngineConfig().getCheckpointConfig().getTolerableFailureCheckpoints(), 2);
 
+        Assertions.assertTrue(config.getEngineConfig().getCheckpointConfig().isUnaligned());
+
         Assertions.assertEquals(config.getEngineConfig().getCheckpointConfig().getStorage().getStorage(), "test");
 
         Assertions.assertEquals(config.getEngineConfig().getCheckpointConfig().getStorage().getMaxRetainedCheckpoints(), 3);
 
+        Assertions.assertTrue(config.getEngineConfig().getCheckpointConfig().getStorage().isIncremental());
+
+        Assertions.assertEquals(config.getEngineConfig().getQueueConfig().getQueueType(), QueueType.RINGBUFFER);
+
+        Assertions.assertEquals(config.getEngineConfig().getQueueConfig().getCapacity(), 2048);
+
     }
 
 }
@@ -68,6 +68,10 @@ public class SeaTunnelServer implements ManagedService, MembershipAwareService,
         LOGGER.info("SeaTunnel server start...");
     }
 
+    public SeaTunnelConfig getSeaTunnelConfig() {
+        return seaTunnelConfig;
+    }
+
     /**
      * Lazy load for Slot Service
      */
@@ -213,5 +217,6 @@ public class SeaTunnelServer implements ManagedService, MembershipAwareService,
 
     private void printExecutionInfo() {
         coordinatorService.printExecutionInfo();
+        taskExecutionService.printExecutionInfo();
     }
 }
@@ -19,8 +19,9 @@ package org.apache.seatunnel.engine.server;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
-import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
@@ -30,7 +31,6 @@ import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
-import org.apache.seatunnel.engine.server.execution.TaskCallTimer;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
@@ -42,6 +42,8 @@ import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 
 import com.google.common.collect.Lists;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
@@ -49,39 +51,59 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This class is responsible for the execution of the Task
  */
 public class TaskExecutionService {
 
+    private static final long WORKER_MIN_IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long WORKER_MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+    private static final long BLOCKING_CALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    /**
+     * A thread share task is moved to a blocking thread after this many continuous calls longer than
+     * {@link #BLOCKING_CALL_THRESHOLD_NANOS}.
+     */
+    private static final int MAX_BLOCKING_CALLS = 3;
+    private static final String COOPERATIVE_WORKER_METRIC_PREFIX = "seatunnel.cooperativeWorker";
+
     private final String hzInstanceName;
     private final NodeEngineImpl nodeEngine;
     private final ILogger logger;
     private volatile boolean isRunning = true;
-    private final LinkedBlockingDeque<TaskTracker> threadShareTaskQueue = new LinkedBlockingDeque<>();
     private final ExecutorService executorService = newCachedThreadPool(new BlockingTaskThreadFactory());
-    private final RunBusWorkSupplier runBusWorkSupplier = new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    private final CooperativeTaskWorker[] cooperativeTaskWorkers;
+    private final ExecutorService cooperativeExecutorService;
+    private final AtomicInteger nextCooperativeWorker = new AtomicInteger();
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts = new ConcurrentHashMap<>();
     private final ConcurrentMap<TaskGroupLocation, CompletableFuture<Void>> cancellationFutures =
@@ -91,15 +113,40 @@ public class TaskExecutionService {
         this.hzInstanceName = nodeEngine.getHazelcastInstance().getName();
         this.nodeEngine = nodeEngine;
         this.logger = nodeEngine.getLoggingService().getLogger(TaskExecutionService.class);
+        int cooperativeThreadCount = Runtime.getRuntime().availableProcessors();
+        this.cooperativeTaskWorkers = new CooperativeTaskWorker[cooperativeThreadCount];
+        MetricsRegistry metricsRegistry = nodeEngine.getMetricsRegistry();
+        for (int i = 0; i < cooperativeThreadCount; i++) {
+            cooperativeTaskWorkers[i] = new CooperativeTaskWorker(i);
+            metricsRegistry.registerStaticMetrics(metricsRegistry.newMetricDescriptor()
+                .withPrefix(COOPERATIVE_WORKER_METRIC_PREFIX)
+                .withDiscriminator("worker", String.valueOf(i)), cooperativeTaskWorkers[i]);
+        }
+        this.cooperativeExecutorService =
+            newFixedThreadPool(cooperativeThreadCount, new CooperativeTaskThreadFactory());
     }
 
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        for (CooperativeTaskWorker worker : cooperativeTaskWorkers) {
+            cooperativeExecutorService.submit(worker);
+        }
     }
 
     public void shutdown() {
+        // the static worker metrics can't be deregistered, they are released with the registry of the node
         isRunning = false;
         executorService.shutdownNow();
+        cooperativeExecutorService.shutdownNow();
+    }
+
+    public void printExecutionInfo() {
+        logger.info(Arrays.stream(cooperativeTaskWorkers)
+            .map(CooperativeTaskWorker::toString)
+            .collect(joining("\n")));
+    }
+
+    public List<CooperativeTaskWorker> getCooperativeTaskWorkers() {
+        return Arrays.asList(cooperativeTaskWorkers);
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -109,17 +156,19 @@ public class TaskExecutionService {
     private void submitThreadShareTask(TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
         tasks.stream()
             .map(t -> new TaskTracker(t, taskGroupExecutionTracker))
-            .forEach(threadShareTaskQueue::add);
+            .forEach(tracker -> cooperativeTaskWorkers[
+                Math.floorMod(nextCooperativeWorker.getAndIncrement(), cooperativeTaskWorkers.length)]
+                .submit(tracker));
     }
 
     private void submitBlockingTask(TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
-        taskGroupExecutionTracker.blockingFutures = tasks
+        taskGroupExecutionTracker.blockingFutures.addAll(tasks
             .stream()
             .map(t -> new BlockingWorker(new TaskTracker(t, taskGroupExecutionTracker), startedLatch))
             .map(executorService::submit)
-            .collect(toList());
+            .collect(toList()));
 
         // Do not return from this method until all workers have started. Otherwise
         // on cancellation there is a race where the executor might not have started
@@ -128,6 +177,14 @@ public class TaskExecutionService {
         uncheckRun(startedLatch::await);
     }
 
+    /**
+     * Move a thread share task which blocks its cooperative worker to a blocking thread, the task has been started.
+     */
+    private void submitBlockingTask(TaskTracker taskTracker) {
+        taskTracker.taskGroupExecutionTracker.blockingFutures.add(
+            executorService.submit(new BlockingWorker(taskTracker, null)));
+    }
+
     public PassiveCompletableFuture<TaskExecutionState> deployTask(@NonNull Data taskImmutableInformation) {
         TaskGroupImmutableInformation taskImmutableInfo =
             nodeEngine.getSerializationService().toObject(taskImmutableInformation);
@@ -263,6 +320,9 @@ public class TaskExecutionService {
     private final class BlockingWorker implements Runnable {
 
         private final TaskTracker tracker;
+        /**
+         * null if the task has been started by a cooperative worker.
+         */
         private final CountDownLatch startedLatch;
 
         private BlockingWorker(TaskTracker tracker, CountDownLatch startedLatch) {
@@ -277,11 +337,18 @@ public class TaskExecutionService {
             Thread.currentThread().setContextClassLoader(classLoader);
             final Task t = tracker.task;
             try {
-                startedLatch.countDown();
-                t.init();
+                if (startedLatch != null) {
+                    startedLatch.countDown();
+                    t.init();
+                }
                 ProgressState result;
                 do {
                     result = t.call();
+                    if (result.isMadeProgress()) {
+                        tracker.resetIdle();
+                    } else if (!result.isDone()) {
+                        awaitAvailable();
+                    }
                 } while (!result.isDone() && isRunning &&
                     !tracker.taskGroupExecutionTracker.executionCompletedExceptionally());
             } catch (Throwable e) {
@@ -292,6 +359,28 @@ public class TaskExecutionService {
             }
             Thread.currentThread().setContextClassLoader(oldClassLoader);
         }
+
+        /**
+         * Wait until the task signals that it can make progress, but no longer than the backoff time of the task.
+         */
+        private void awaitAvailable() throws InterruptedException {
+            CompletableFuture<?> availableFuture = tracker.task.getAvailableFuture();
+            if (availableFuture == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            tracker.idle(now);
+            long parkNanos = tracker.getWakeUpTime() - now;
+            if (availableFuture.isDone()) {
+                LockSupport.parkNanos(this, parkNanos);
+                return;
+            }
+            try {
+                availableFuture.get(parkNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException ignored) {
+                // the failure of the future will be thrown by the task itself when it is called
+            }
+        }
     }
 
     private final class BlockingTaskThreadFactory implements ThreadFactory {
@@ -304,106 +393,232 @@ public class TaskExecutionService {
         }
     }
 
+    private final class CooperativeTaskThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable r) {
+            return new Thread(r,
+                String.format("hz.%s.seaTunnel.cooperative.thread-%d", hzInstanceName, seq.getAndIncrement()));
+        }
+    }
+
     /**
-     * CooperativeTaskWorker is used to poll the task call method,
-     * When a task times out, a new BusWork will be created to take over the execution of the task
+     * CooperativeTaskWorker runs the thread share tasks, there is one worker per core.
+     * <p>
+     * Each worker owns a local deque, takes tasks from the head of it and puts them back to the tail after each call.
+     * When the local deque is empty, the worker steals a task from the tail of other workers, so a worker blocked by a
+     * slow task call doesn't hold up the other tasks assigned to it. Tasks that report {@link ProgressState#NO_PROGRESS}
+     * are parked by the worker with an exponential backoff instead of being called again immediately, the parked tasks
+     * which can be called again are stolen as well. A task whose calls keep blocking the worker is moved to a blocking
+     * thread of its own.
+     * <p>
+     * The counters of the workers are registered to the metrics registry of the node with the
+     * {@code seatunnel.cooperativeWorker} prefix.
      */
     public final class CooperativeTaskWorker implements Runnable {
 
-        AtomicBoolean keep = new AtomicBoolean(true);
-        public AtomicReference<TaskTracker> exclusiveTaskTracker = new AtomicReference<>();
-        final TaskCallTimer timer;
-        public LinkedBlockingDeque<TaskTracker> taskqueue;
-
-        @SuppressWarnings("checkstyle:MagicNumber")
-        public CooperativeTaskWorker(LinkedBlockingDeque<TaskTracker> taskqueue,
-                                     RunBusWorkSupplier runBusWorkSupplier) {
-            logger.info(String.format("Created new BusWork : %s", this.hashCode()));
-            this.taskqueue = taskqueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
+        private final int index;
+
+        private final ConcurrentLinkedDeque<TaskTracker> localQueue = new ConcurrentLinkedDeque<>();
+
+        /**
+         * Ordered by the time the task can be called again, guarded by itself as other workers steal from it.
+         */
+        private final PriorityQueue<TaskTracker> parkedTasks =
+            new PriorityQueue<>(Comparator.comparingLong(TaskTracker::getWakeUpTime));
+
+        private final AtomicInteger parkedTaskCount = new AtomicInteger();
+
+        @Probe(name = "stealCount")
+        private final AtomicLong stealCount = new AtomicLong();
+
+        @Probe(name = "blockingTaskCount")
+        private final AtomicLong blockingTaskCount = new AtomicLong();
+
+        /**
+         * The number of the available signals sent by the parked tasks and not handled yet.
+         */
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+
+        private final Runnable signalListener = this::signal;
+
+        private volatile Thread workerThread;
+
+        private int idleTimes = 0;
+
+        public CooperativeTaskWorker(int index) {
+            this.index = index;
+        }
+
+        void submit(TaskTracker taskTracker) {
+            localQueue.addLast(taskTracker);
+            LockSupport.unpark(workerThread);
         }
 
-        @SneakyThrows
         @Override
         public void run() {
-            while (keep.get() && isRunning) {
-                TaskTracker taskTracker = null != exclusiveTaskTracker.get() ?
-                    exclusiveTaskTracker.get() :
-                    taskqueue.takeFirst();
-                TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
-                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
-                    taskGroupExecutionTracker.taskDone();
-                    if (null != exclusiveTaskTracker.get()) {
-                        // If it's exclusive need to end the work
-                        break;
-                    } else {
-                        // No action required and don't put back
-                        continue;
-                    }
+            workerThread = Thread.currentThread();
+            while (isRunning) {
+                wakeUpSignaledTasks();
+                TaskTracker taskTracker = pollParkedTask();
+                if (taskTracker == null) {
+                    taskTracker = localQueue.pollFirst();
                 }
-                //start timer, if it's exclusive, don't need to start
-                if (null == exclusiveTaskTracker.get()) {
-                    timer.timerStart(taskTracker);
+                if (taskTracker == null) {
+                    taskTracker = steal();
                 }
-                ProgressState call = null;
-                try {
-                    //run task
-                    call = taskTracker.task.call();
-                    synchronized (timer) {
-                        timer.timerStop();
-                    }
-                } catch (Throwable e) {
-                    //task Failure and complete
-                    taskGroupExecutionTracker.exception(e);
-                    taskGroupExecutionTracker.taskDone();
-                    //If it's exclusive need to end the work
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } finally {
-                    //stop timer
-                    timer.timerStop();
+                if (taskTracker == null) {
+                    idle();
+                    continue;
                 }
-                //task call finished
-                if (null != call) {
-                    if (call.isDone()) {
-                        //If it's exclusive, you need to end the work
-                        taskGroupExecutionTracker.taskDone();
-                        if (null != exclusiveTaskTracker.get()) {
-                            break;
-                        }
-                    } else {
-                        //Task is not completed. Put task to the end of the queue
-                        //If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
-                            taskqueue.offer(taskTracker);
-                        }
-                    }
+                idleTimes = 0;
+                runTask(taskTracker);
+            }
+        }
+
+        private void runTask(TaskTracker taskTracker) {
+            TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+            if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                // No action required and don't put back
+                taskGroupExecutionTracker.taskDone();
+                return;
+            }
+            ProgressState call;
+            long start = System.nanoTime();
+            try {
+                call = taskTracker.task.call();
+            } catch (Throwable e) {
+                //task Failure and complete
+                logger.warning("Exception in " + taskTracker.task, e);
+                taskGroupExecutionTracker.exception(e);
+                taskGroupExecutionTracker.taskDone();
+                return;
+            }
+            if (call.isDone()) {
+                taskGroupExecutionTracker.taskDone();
+            } else if (taskTracker.blockingCall(System.nanoTime() - start > BLOCKING_CALL_THRESHOLD_NANOS)
+                >= MAX_BLOCKING_CALLS) {
+                logger.warning(String.format("%s blocks the cooperative worker, move it to a blocking thread",
+                    taskTracker.task));
+                blockingTaskCount.incrementAndGet();
+                submitBlockingTask(taskTracker);
+            } else if (call.isMadeProgress()) {
+                taskTracker.resetIdle();
+                localQueue.addLast(taskTracker);
+            } else {
+                // back off the idle task instead of calling it again immediately, the task will be waked up
+                // earlier if it signals that it can make progress
+                taskTracker.idle(System.nanoTime());
+                // listen before the task is visible to the other workers, a signal sent in between is handled
+                // by the next wake up
+                taskTracker.park(signalListener);
+                synchronized (parkedTasks) {
+                    parkedTasks.add(taskTracker);
+                    parkedTaskCount.incrementAndGet();
+                }
+                if (taskTracker.isSignaled()) {
+                    signal();
                 }
             }
         }
-    }
 
-    /**
-     * Used to create a new BusWork and run
-     */
-    public final class RunBusWorkSupplier {
+        private void signal() {
+            pendingSignals.incrementAndGet();
+            LockSupport.unpark(workerThread);
+        }
+
+        /**
+         * Move the signaled parked tasks to the local deque, also called by the other workers so the signaled tasks
+         * can be stolen while this worker is busy.
+         */
+        private void wakeUpSignaledTasks() {
+            if (pendingSignals.getAndSet(0) == 0) {
+                return;
+            }
+            synchronized (parkedTasks) {
+                parkedTasks.removeIf(taskTracker -> {
+                    if (!taskTracker.isSignaled()) {
+                        return false;
+                    }
+                    taskTracker.resetIdle();
+                    parkedTaskCount.decrementAndGet();
+                    localQueue.addLast(taskTracker);
+                    return true;
+                });
+            }
+        }
 
-        ExecutorService executorService;
-        LinkedBlockingDeque<TaskTracker> taskQueue;
+        private TaskTracker pollParkedTask() {
+            synchronized (parkedTasks) {
+                TaskTracker taskTracker = parkedTasks.peek();
+                if (taskTracker != null && taskTracker.getWakeUpTime() - System.nanoTime() <= 0) {
+                    parkedTaskCount.decrementAndGet();
+                    return parkedTasks.poll();
+                }
+            }
+            return null;
+        }
 
-        public RunBusWorkSupplier(ExecutorService executorService, LinkedBlockingDeque<TaskTracker> taskqueue) {
-            this.executorService = executorService;
-            this.taskQueue = taskqueue;
+        private TaskTracker steal() {
+            int workerNum = cooperativeTaskWorkers.length;
+            int start = ThreadLocalRandom.current().nextInt(workerNum);
+            for (int i = 0; i < workerNum; i++) {
+                CooperativeTaskWorker victim = cooperativeTaskWorkers[(start + i) % workerNum];
+                if (victim == this) {
+                    continue;
+                }
+                victim.wakeUpSignaledTasks();
+                TaskTracker taskTracker = victim.localQueue.pollLast();
+                if (taskTracker == null) {
+                    taskTracker = victim.pollParkedTask();
+                }
+                if (taskTracker != null) {
+                    stealCount.incrementAndGet();
+                    return taskTracker;
+                }
+            }
+            return null;
         }
 
-        public boolean runNewBusWork(boolean checkTaskQueue) {
-            if (!checkTaskQueue || taskQueue.size() > 0) {
-                executorService.submit(new CooperativeTaskWorker(taskQueue, this));
-                return true;
+        private void idle() {
+            long parkNanos = Math.min(WORKER_MIN_IDLE_NANOS << Math.min(idleTimes++, MAX_BACKOFF_SHIFT),
+                WORKER_MAX_IDLE_NANOS);
+            TaskTracker parked;
+            synchronized (parkedTasks) {
+                parked = parkedTasks.peek();
+            }
+            if (parked != null) {
+                parkNanos = Math.min(parkNanos, parked.getWakeUpTime() - System.nanoTime());
             }
-            return false;
+            if (parkNanos > 0) {
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        }
+
+        @Probe(name = "queueDepth")
+        public int getQueueDepth() {
+            return localQueue.size();
+        }
+
+        @Probe(name = "parkedTaskCount")
+        public int getParkedTaskCount() {
+            return parkedTaskCount.get();
+        }
+
+        public long getStealCount() {
+            return stealCount.get();
+        }
+
+        public long getBlockingTaskCount() {
+            return blockingTaskCount.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "CooperativeTaskWorker-%s{queueDepth=%s, parkedTasks=%s, stealCount=%s, blockingTasks=%s}",
+                index, getQueueDepth(), getParkedTaskCount(), getStealCount(), getBlockingTaskCount());
         }
     }
 
@@ -415,7 +630,7 @@ public class TaskExecutionService {
 
         private final TaskGroup taskGroup;
         final CompletableFuture<TaskExecutionState> future;
-        volatile List<Future<?>> blockingFutures = emptyList();
+        final List<Future<?>> blockingFutures = new CopyOnWriteArrayList<>();
 
         private final AtomicInteger completionLatch;
         private final AtomicReference<Throwable> executionException = new AtomicReference<>();
@@ -28,4 +28,26 @@ public class ActionSubtaskState implements Serializable {
     private final long actionId;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * The id of the checkpoint which stores the state, only set when the state is unchanged since that checkpoint
+     * and the incremental checkpoint doesn't store it again.
+     */
+    private Long referencedCheckpointId;
+
+    /**
+     * The serialized records which are buffered in the input queue of the subtask and overtaken by the barrier, only
+     * set in unaligned checkpoint mode. They are replayed before the new records of the queue on restore.
+     */
+    private List<byte[]> channelState;
+
+    public static ActionSubtaskState reference(long actionId, int index, long referencedCheckpointId) {
+        ActionSubtaskState reference = new ActionSubtaskState(actionId, index, null);
+        reference.setReferencedCheckpointId(referencedCheckpointId);
+        return reference;
+    }
+
+    public boolean isReference() {
+        return referencedCheckpointId != null;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+
+import com.hazelcast.internal.metrics.Probe;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * The time spent in each phase after a checkpoint has been acknowledged by all tasks, published as the metrics of the
+ * pipeline by the {@link CheckpointManager}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CheckpointCompletionStatistics implements Serializable {
+
+    private static final long serialVersionUID = -2871393462207328187L;
+
+    @Probe(name = "checkpointId")
+    private final long checkpointId;
+
+    /**
+     * Milliseconds spent serializing the completed checkpoint.
+     */
+    @Probe(name = "serializeDuration", unit = MS)
+    private final long serializeDuration;
+
+    /**
+     * Milliseconds spent waiting for the checkpoint storage, including the time queued behind the previous checkpoint.
+     */
+    @Probe(name = "storeDuration", unit = MS)
+    private final long storeDuration;
+
+    /**
+     * Milliseconds spent notifying all tasks that the checkpoint completed.
+     */
+    @Probe(name = "notifyDuration", unit = MS)
+    private final long notifyDuration;
+
+    /**
+     * Size of the serialized checkpoint in bytes.
+     */
+    @Probe(name = "stateSize", unit = BYTES)
+    private final long stateSize;
+}
@@ -52,15 +52,17 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -103,14 +105,47 @@ public class CheckpointCoordinator {
 
     private final ConcurrentHashMap<Long, PendingCheckpoint> pendingCheckpoints;
 
-    private final ArrayDeque<CompletedCheckpoint> completedCheckpoints;
+    /**
+     * Appended by the storage thread after the checkpoint is stored, so it's a concurrent deque.
+     */
+    private final Deque<CompletedCheckpoint> completedCheckpoints;
 
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
+    /**
+     * The store and notification of the completed checkpoints are chained on this future, so the checkpoints are
+     * persisted and notified one by one in order, without blocking the thread which completes the checkpoint.
+     */
+    private CompletableFuture<Void> completionChain = CompletableFuture.completedFuture(null);
+
+    private final Object completionLock = new Object();
+
+    /**
+     * Only accessed by the completion chain.
+     */
+    private long latestStoredCheckpointId = -1;
+
+    @Getter
+    private volatile CheckpointCompletionStatistics latestCompletionStatistics;
+
+    /**
+     * Only accessed by the completion chain, except when the coordinator is restored.
+     */
+    private final IncrementalCheckpointTracker incrementalTracker = new IncrementalCheckpointTracker();
+
     private final CheckpointConfig coordinatorConfig;
 
     private int tolerableFailureCheckpoints;
-    private transient ScheduledExecutorService scheduler;
+
+    /**
+     * Replaced when the pending checkpoints are cleaned, so the tasks read it when they are submitted.
+     */
+    private transient volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Runs the completion of the checkpoints on the current scheduler instead of the common pool.
+     */
+    private final Executor coordinatorExecutor = command -> scheduler.execute(command);
 
     private final AtomicLong latestTriggerTimestamp = new AtomicLong(0);
 
@@ -141,20 +176,50 @@ public class CheckpointCoordinator {
         this.coordinatorConfig = checkpointConfig;
         this.tolerableFailureCheckpoints = coordinatorConfig.getTolerableFailureCheckpoints();
         this.pendingCheckpoints = new ConcurrentHashMap<>();
-        this.completedCheckpoints = new ArrayDeque<>(coordinatorConfig.getStorage().getMaxRetainedCheckpoints() + 1);
-        this.scheduler = Executors.newScheduledThreadPool(
+        this.completedCheckpoints = new ConcurrentLinkedDeque<>();
+        this.scheduler = createScheduler();
+        this.serializer = new ProtoStuffSerializer();
+        this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
+        this.pipelineTaskStatus = new ConcurrentHashMap<>();
+        this.checkpointIdCounter = checkpointIdCounter;
+        if (pipelineState != null) {
+            this.latestCompletedCheckpoint = incrementalTracker.restore(
+                serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class),
+                this::readCompletedCheckpoint);
+            this.latestStoredCheckpointId = latestCompletedCheckpoint.getCheckpointId();
+            // the following checkpoints may reference it, so it's released like the other retained checkpoints
+            this.completedCheckpoints.addLast(latestCompletedCheckpoint);
+            deleteUnreferencedCheckpoints();
+        }
+    }
+
+    private ScheduledExecutorService createScheduler() {
+        return Executors.newScheduledThreadPool(
             1, runnable -> {
                 Thread thread = new Thread(runnable);
                 thread.setDaemon(true);
                 thread.setName(String.format("checkpoint-coordinator-%s/%s", pipelineId, jobId));
                 return thread;
             });
-        this.serializer = new ProtoStuffSerializer();
-        this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
-        this.pipelineTaskStatus = new ConcurrentHashMap<>();
-        this.checkpointIdCounter = checkpointIdCounter;
-        if (pipelineState != null) {
-            this.latestCompletedCheckpoint = serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+    }
+
+    /**
+     * The checkpoints retained before the restore are not in {@link #completedCheckpoints}, delete the ones the
+     * restored checkpoint doesn't reference, otherwise they are never deleted.
+     */
+    private void deleteUnreferencedCheckpoints() {
+        try {
+            List<Long> storedCheckpointIds = checkpointStorage.getCheckpointsByJobIdAndPipelineId(
+                    String.valueOf(jobId), String.valueOf(pipelineId))
+                .stream()
+                .map(PipelineState::getCheckpointId)
+                .collect(Collectors.toList());
+            for (Long unreferenced : incrementalTracker.unreferenced(storedCheckpointIds)) {
+                checkpointStorage.deleteCheckpoint(String.valueOf(jobId), String.valueOf(pipelineId),
+                    String.valueOf(unreferenced));
+            }
+        } catch (CheckpointStorageException e) {
+            LOG.warn(String.format("delete the unreferenced checkpoints of pipeline(%s@%s) failed", pipelineId, jobId), e);
         }
     }
 
@@ -381,14 +446,10 @@ public class CheckpointCoordinator {
             );
             // TODO: clear related future & scheduler task
             pendingCheckpoints.clear();
-            scheduler.shutdownNow();
-            scheduler = Executors.newScheduledThreadPool(
-                1, runnable -> {
-                    Thread thread = new Thread(runnable);
-                    thread.setDaemon(true);
-                    thread.setName(String.format("checkpoint-coordinator-%s/%s", pipelineId, jobId));
-                    return thread;
-                });
+            // replace the scheduler before shutting it down, so the completions submitted meanwhile aren't rejected
+            ScheduledExecutorService previousScheduler = scheduler;
+            scheduler = createScheduler();
+            previousScheduler.shutdownNow();
             isAllTaskReady = false;
         }
     }
@@ -434,32 +495,113 @@ public class CheckpointCoordinator {
             // latest checkpoint completed time > checkpoint interval
             tryTriggerPendingCheckpoint();
         }
+        synchronized (completionLock) {
+            completionChain = completionChain
+                .thenCompose(v -> storeAndNotifyCheckpoint(completedCheckpoint))
+                .exceptionally(e -> {
+                    LOG.error(String.format("complete checkpoint(%s/%s@%s) failed", checkpointId, pipelineId, jobId), e);
+                    handleCoordinatorError(CheckpointFailureReason.CHECKPOINT_COMPLETION_FAILED);
+                    return null;
+                });
+        }
+    }
+
+    private CompletableFuture<Void> storeAndNotifyCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        final long serializeStart = System.currentTimeMillis();
+        final boolean store = checkpointId >= latestStoredCheckpointId;
+        byte[] states = new byte[0];
+        if (store) {
+            try {
+                // the incremental checkpoint depends on the previous one, so it's built in the completion chain
+                states = serializer.serialize(coordinatorConfig.getStorage().isIncremental() ?
+                    incrementalTracker.toIncremental(completedCheckpoint) : completedCheckpoint);
+            } catch (IOException e) {
+                sneakyThrow(e);
+            }
+        }
+        final long stateSize = states.length;
+        final long storeStart = System.currentTimeMillis();
+        final long serializeDuration = storeStart - serializeStart;
+        CompletableFuture<Void> storeFuture;
+        if (!store) {
+            // an older checkpoint must not overwrite the latest checkpoint in the storage
+            LOG.warn("checkpoint({}/{}@{}) is subsumed by checkpoint({}), skip to store it.",
+                checkpointId, pipelineId, jobId, latestStoredCheckpointId);
+            storeFuture = CompletableFuture.completedFuture(null);
+        } else {
+            latestStoredCheckpointId = checkpointId;
+            storeFuture = checkpointStorage.asyncStoreCheckPoint(PipelineState.builder()
+                    .checkpointId(checkpointId)
+                    .jobId(String.valueOf(jobId))
+                    .pipelineId(pipelineId)
+                    .states(states)
+                    .build())
+                .thenRun(() -> retainCompletedCheckpoint(completedCheckpoint));
+        }
+        return storeFuture.thenCompose(v -> {
+            final long notifyStart = System.currentTimeMillis();
+            final long storeDuration = notifyStart - storeStart;
+            return CompletableFuture.allOf(notifyCheckpointCompleted(checkpointId))
+                .<Void>handleAsync((r, e) -> {
+                    if (e != null) {
+                        // the checkpoint has been stored, the tasks which missed the notification commit it after
+                        // the pipeline is restored from it, so the pipeline is failed over instead of retrying
+                        LOG.error(String.format("notify checkpoint(%s/%s@%s) completed failed",
+                            checkpointId, pipelineId, jobId), e);
+                        handleCoordinatorError(CheckpointFailureReason.CHECKPOINT_NOTIFY_FAILED);
+                        return null;
+                    }
+                    latestCompletionStatistics = new CheckpointCompletionStatistics(checkpointId, serializeDuration,
+                        storeDuration, System.currentTimeMillis() - notifyStart, stateSize);
+                    LOG.info("pending checkpoint({}/{}@{}) notify finished! {}", checkpointId, pipelineId, jobId,
+                        latestCompletionStatistics);
+                    if (latestCompletedCheckpoint == null || latestCompletedCheckpoint.getCheckpointId() <= checkpointId) {
+                        latestCompletedCheckpoint = completedCheckpoint;
+                    }
+                    if (isCompleted()) {
+                        cleanPendingCheckpoint(CheckpointFailureReason.CHECKPOINT_COORDINATOR_COMPLETED);
+                    }
+                    return null;
+                }, coordinatorExecutor);
+        });
+    }
+
+    /**
+     * The completed checkpoint can't be stored or notified, the job can't be restored from it. So the pending
+     * checkpoints are aborted and the pipeline is failed instead of waiting for the next checkpoint.
+     */
+    private void handleCoordinatorError(CheckpointFailureReason failureReason) {
+        cleanPendingCheckpoint(failureReason);
+        checkpointManager.handleCheckpointError(pipelineId);
+    }
+
+    private void retainCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        incrementalTracker.commit(completedCheckpoint.getCheckpointId());
         completedCheckpoints.addLast(completedCheckpoint);
-        try {
-            byte[] states = serializer.serialize(completedCheckpoint);
-            checkpointStorage.storeCheckPoint(PipelineState.builder()
-                .checkpointId(checkpointId)
-                .jobId(String.valueOf(jobId))
-                .pipelineId(pipelineId)
-                .states(states)
-                .build());
-            if (completedCheckpoints.size() > coordinatorConfig.getStorage().getMaxRetainedCheckpoints()) {
-                CompletedCheckpoint superfluous = completedCheckpoints.removeFirst();
-                checkpointStorage.deleteCheckpoint(
-                    String.valueOf(superfluous.getJobId()),
-                    String.valueOf(superfluous.getPipelineId()),
-                    String.valueOf(superfluous.getCheckpointId()));
+        if (completedCheckpoints.size() > coordinatorConfig.getStorage().getMaxRetainedCheckpoints()) {
+            CompletedCheckpoint superfluous = completedCheckpoints.removeFirst();
+            // the incremental checkpoint can be deleted only when it's not referenced by the retained checkpoints
+            for (Long unreferenced : incrementalTracker.release(superfluous.getCheckpointId())) {
+                try {
+                    checkpointStorage.deleteCheckpoint(
+                        String.valueOf(superfluous.getJobId()),
+                        String.valueOf(superfluous.getPipelineId()),
+                        String.valueOf(unreferenced));
+                } catch (CheckpointStorageException e) {
+                    throw new CompletionException(e);
+                }
             }
-        } catch (IOException | CheckpointStorageException e) {
-            sneakyThrow(e);
         }
-        LOG.info("pending checkpoint({}/{}@{}) notify finished!", completedCheckpoint.getCheckpointId(), completedCheckpoint.getPipelineId(), completedCheckpoint.getJobId());
-        InvocationFuture<?>[] invocationFutures = notifyCheckpointCompleted(checkpointId);
-        CompletableFuture.allOf(invocationFutures).join();
-        // TODO: notifyCheckpointCompleted fail
-        latestCompletedCheckpoint = completedCheckpoint;
-        if (isCompleted()) {
-            cleanPendingCheckpoint(CheckpointFailureReason.CHECKPOINT_COORDINATOR_COMPLETED);
+    }
+
+    private CompletedCheckpoint readCompletedCheckpoint(long checkpointId) {
+        try {
+            PipelineState pipelineState = checkpointStorage.getCheckpoint(String.valueOf(jobId),
+                String.valueOf(pipelineId), String.valueOf(checkpointId));
+            return serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        } catch (IOException | CheckpointStorageException e) {
+            throw new CompletionException(e);
         }
     }
 
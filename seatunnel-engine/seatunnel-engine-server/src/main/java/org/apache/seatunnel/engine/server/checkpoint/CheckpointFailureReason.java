@@ -22,6 +22,8 @@ public enum CheckpointFailureReason {
     PIPELINE_END("Pipeline turn to end state."),
     CHECKPOINT_EXPIRED("Checkpoint expired before completing."),
     CHECKPOINT_COORDINATOR_COMPLETED("CheckpointCoordinator completed."),
+    CHECKPOINT_COMPLETION_FAILED("Completed checkpoint failed to be stored."),
+    CHECKPOINT_NOTIFY_FAILED("Completed checkpoint failed to be notified to the tasks."),
     CHECKPOINT_COORDINATOR_SHUTDOWN("CheckpointCoordinator shutdown.");
 
     private final String message;
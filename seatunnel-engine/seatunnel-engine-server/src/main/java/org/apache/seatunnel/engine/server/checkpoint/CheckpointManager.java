@@ -42,8 +42,12 @@ import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,7 +64,9 @@ import java.util.stream.Collectors;
  * </p>
  */
 @Slf4j
-public class CheckpointManager {
+public class CheckpointManager implements DynamicMetricsProvider {
+
+    private static final String CHECKPOINT_METRIC_PREFIX = "seatunnel.checkpoint";
 
     private final Long jobId;
 
@@ -114,6 +120,24 @@ public class CheckpointManager {
                 }
                 throw new RuntimeException("Never throw here.");
             }).collect(Collectors.toMap(CheckpointCoordinator::getPipelineId, Function.identity()));
+        // the coordinators end with the job, so their metrics are provided dynamically and deregistered on shutdown
+        ((NodeEngineImpl) nodeEngine).getMetricsRegistry().registerDynamicMetricsProvider(this);
+    }
+
+    /**
+     * Publishes the phase durations of the latest completed checkpoint of each pipeline.
+     */
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        coordinatorMap.values().forEach(coordinator -> {
+            CheckpointCompletionStatistics statistics = coordinator.getLatestCompletionStatistics();
+            if (statistics != null) {
+                context.collect(descriptor.copy()
+                    .withPrefix(CHECKPOINT_METRIC_PREFIX)
+                    .withDiscriminator("pipeline", String.valueOf(coordinator.getPipelineId()))
+                    .withTag("job", String.valueOf(jobId)), statistics);
+            }
+        });
     }
 
     /**
@@ -145,6 +169,10 @@ public class CheckpointManager {
         jobMaster.handleCheckpointTimeout(pipelineId);
     }
 
+    protected void handleCheckpointError(int pipelineId) {
+        jobMaster.handleCheckpointError(pipelineId);
+    }
+
     private CheckpointCoordinator getCheckpointCoordinator(TaskLocation taskLocation) {
         return getCheckpointCoordinator(taskLocation.getPipelineId());
     }
@@ -190,6 +218,7 @@ public class CheckpointManager {
      * <br> Listen to the {@link JobStatus} of the {@link Job}.
      */
     public CompletableFuture<Void> shutdown(JobStatus jobStatus) {
+        ((NodeEngineImpl) nodeEngine).getMetricsRegistry().deregisterDynamicMetricsProvider(this);
         if (jobStatus == JobStatus.FINISHED) {
             checkpointStorage.deleteCheckpoint(jobId + "");
         }
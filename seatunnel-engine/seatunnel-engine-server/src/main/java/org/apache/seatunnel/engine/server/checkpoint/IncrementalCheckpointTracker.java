@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks where the subtask states of the retained checkpoints are stored, used to build incremental checkpoints.
+ * <p>
+ * The subtask state which is the same as the one in the previous checkpoint is not stored again, it is replaced by a
+ * reference to the checkpoint which stores it. A checkpoint can be deleted from the storage only when no retained
+ * checkpoint references it, so the referenced checkpoints are reference counted.
+ * </p>
+ * Not thread safe, the checkpoints must be stored one by one.
+ */
+public class IncrementalCheckpointTracker {
+
+    /**
+     * The latest stored checkpoint, with the full states.
+     */
+    private CompletedCheckpoint latestCheckpoint;
+
+    /**
+     * The id of the checkpoint which stores the state of each subtask of the latest checkpoint.
+     * <br> key: the action id;
+     * <br> value: subtask index (or the coordinator index) -> checkpoint id;
+     */
+    private Map<Long, Map<Integer, Long>> latestStateLocations = Collections.emptyMap();
+
+    /**
+     * The checkpoint being stored, only be committed after it has been stored successfully.
+     */
+    private CompletedCheckpoint pendingCheckpoint;
+
+    private Map<Long, Map<Integer, Long>> pendingStateLocations;
+
+    /**
+     * The checkpoints (including itself) whose data is needed to restore the retained checkpoint.
+     */
+    private final Map<Long, Set<Long>> checkpointReferences = new HashMap<>();
+
+    /**
+     * The number of retained checkpoints which need the data of the checkpoint.
+     */
+    private final Map<Long, Integer> referenceCounts = new HashMap<>();
+
+    /**
+     * Build the checkpoint to store, the unchanged subtask states since the latest checkpoint are replaced by
+     * references. {@link #commit(long)} must be called after the returned checkpoint has been stored.
+     */
+    public CompletedCheckpoint toIncremental(CompletedCheckpoint checkpoint) {
+        final long checkpointId = checkpoint.getCheckpointId();
+        Map<Long, ActionState> incrementalStates = new HashMap<>(checkpoint.getTaskStates().size());
+        Map<Long, Map<Integer, Long>> stateLocations = new HashMap<>(checkpoint.getTaskStates().size());
+        checkpoint.getTaskStates().forEach((actionId, actionState) -> {
+            ActionState previous = latestCheckpoint == null ? null : latestCheckpoint.getTaskStates().get(actionId);
+            Map<Integer, Long> previousLocations = latestStateLocations.getOrDefault(actionId, Collections.emptyMap());
+            Map<Integer, Long> locations = new HashMap<>();
+            ActionState incremental = new ActionState(actionState.getActionId(), actionState.getParallelism());
+            incremental.reportState(COORDINATOR_INDEX, toIncremental(checkpointId, COORDINATOR_INDEX,
+                actionState.getCoordinatorState(), previous == null ? null : previous.getCoordinatorState(),
+                previousLocations, locations));
+            for (int i = 0; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState previousState = previous == null || previous.getParallelism() != actionState.getParallelism() ?
+                    null : previous.getSubtaskStates().get(i);
+                incremental.reportState(i, toIncremental(checkpointId, i, actionState.getSubtaskStates().get(i),
+                    previousState, previousLocations, locations));
+            }
+            incrementalStates.put(actionId, incremental);
+            stateLocations.put(actionId, locations);
+        });
+        pendingCheckpoint = checkpoint;
+        pendingStateLocations = stateLocations;
+        return new CompletedCheckpoint(checkpoint.getJobId(),
+            checkpoint.getPipelineId(),
+            checkpointId,
+            checkpoint.getCheckpointTimestamp(),
+            checkpoint.getCheckpointType(),
+            checkpoint.getCompletedTimestamp(),
+            incrementalStates,
+            checkpoint.getTaskStatistics());
+    }
+
+    private static ActionSubtaskState toIncremental(long checkpointId,
+                                                    int index,
+                                                    ActionSubtaskState state,
+                                                    ActionSubtaskState previousState,
+                                                    Map<Integer, Long> previousLocations,
+                                                    Map<Integer, Long> locations) {
+        if (state == null) {
+            return null;
+        }
+        Long previousLocation = previousLocations.get(index);
+        if (previousLocation != null && previousState != null && isSameState(state, previousState)) {
+            locations.put(index, previousLocation);
+            return ActionSubtaskState.reference(state.getActionId(), state.getIndex(), previousLocation);
+        }
+        locations.put(index, checkpointId);
+        return state;
+    }
+
+    private static boolean isSameState(ActionSubtaskState state, ActionSubtaskState other) {
+        if (state.getChannelState() != null || other.getChannelState() != null) {
+            // the in-flight records are never the same records
+            return false;
+        }
+        List<byte[]> bytes = state.getState();
+        List<byte[]> otherBytes = other.getState();
+        if (bytes == null || otherBytes == null || bytes.size() != otherBytes.size()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.size(); i++) {
+            if (!Arrays.equals(bytes.get(i), otherBytes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The checkpoint returned by {@link #toIncremental(CompletedCheckpoint)} has been stored, the following
+     * checkpoints can reference it.
+     */
+    public void commit(long checkpointId) {
+        if (pendingCheckpoint == null || pendingCheckpoint.getCheckpointId() != checkpointId) {
+            return;
+        }
+        latestCheckpoint = pendingCheckpoint;
+        latestStateLocations = pendingStateLocations;
+        pendingCheckpoint = null;
+        pendingStateLocations = null;
+        retain(checkpointId, latestStateLocations);
+    }
+
+    private void retain(long checkpointId, Map<Long, Map<Integer, Long>> stateLocations) {
+        Set<Long> references = new HashSet<>();
+        references.add(checkpointId);
+        stateLocations.values().forEach(locations -> references.addAll(locations.values()));
+        checkpointReferences.put(checkpointId, references);
+        references.forEach(reference -> referenceCounts.merge(reference, 1, Integer::sum));
+    }
+
+    /**
+     * The checkpoint is no longer retained.
+     *
+     * @return the ids of the checkpoints which are not referenced any more and can be deleted from the storage.
+     */
+    public List<Long> release(long checkpointId) {
+        Set<Long> references = checkpointReferences.remove(checkpointId);
+        if (references == null) {
+            // not an incremental checkpoint, only the checkpoint itself
+            return Collections.singletonList(checkpointId);
+        }
+        List<Long> unreferenced = new ArrayList<>();
+        for (Long reference : references) {
+            Integer count = referenceCounts.merge(reference, -1, Integer::sum);
+            if (count != null && count <= 0) {
+                referenceCounts.remove(reference);
+                unreferenced.add(reference);
+            }
+        }
+        return unreferenced;
+    }
+
+    /**
+     * Resolve the references of the restored checkpoint, the following checkpoints continue to reference the
+     * restored checkpoint and the checkpoints referenced by it.
+     *
+     * @param checkpoint the checkpoint read from the storage.
+     * @param loader     read the referenced checkpoint from the storage by id.
+     * @return the checkpoint with the full states.
+     */
+    public CompletedCheckpoint restore(CompletedCheckpoint checkpoint, Function<Long, CompletedCheckpoint> loader) {
+        final long checkpointId = checkpoint.getCheckpointId();
+        Map<Long, CompletedCheckpoint> referencedCheckpoints = new HashMap<>();
+        Map<Long, Map<Integer, Long>> stateLocations = new HashMap<>(checkpoint.getTaskStates().size());
+        checkpoint.getTaskStates().forEach((actionId, actionState) -> {
+            Map<Integer, Long> locations = new HashMap<>();
+            actionState.reportState(COORDINATOR_INDEX, resolve(checkpointId, actionId, COORDINATOR_INDEX,
+                actionState.getCoordinatorState(), referencedCheckpoints, loader, locations));
+            for (int i = 0; i < actionState.getParallelism(); i++) {
+                actionState.reportState(i, resolve(checkpointId, actionId, i, actionState.getSubtaskStates().get(i),
+                    referencedCheckpoints, loader, locations));
+            }
+            stateLocations.put(actionId, locations);
+        });
+        latestCheckpoint = checkpoint;
+        latestStateLocations = stateLocations;
+        retain(checkpointId, stateLocations);
+        return checkpoint;
+    }
+
+    /**
+     * The checkpoints retained before the restore are not released by anyone after {@link #restore}, the ones which
+     * the restored checkpoint doesn't reference can be deleted.
+     *
+     * @param storedCheckpointIds the ids of the checkpoints of the pipeline in the storage.
+     * @return the ids of the stored checkpoints older than the restored checkpoint and not referenced by it.
+     */
+    public List<Long> unreferenced(Collection<Long> storedCheckpointIds) {
+        if (latestCheckpoint == null) {
+            return Collections.emptyList();
+        }
+        return storedCheckpointIds.stream()
+            .filter(id -> id < latestCheckpoint.getCheckpointId() && !referenceCounts.containsKey(id))
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private static ActionSubtaskState resolve(long checkpointId,
+                                              long actionId,
+                                              int index,
+                                              ActionSubtaskState state,
+                                              Map<Long, CompletedCheckpoint> referencedCheckpoints,
+                                              Function<Long, CompletedCheckpoint> loader,
+                                              Map<Integer, Long> locations) {
+        if (state == null) {
+            return null;
+        }
+        if (!state.isReference()) {
+            locations.put(index, checkpointId);
+            return state;
+        }
+        long referencedCheckpointId = state.getReferencedCheckpointId();
+        ActionState referencedState = referencedCheckpoints
+            .computeIfAbsent(referencedCheckpointId, loader)
+            .getTaskStates()
+            .get(actionId);
+        ActionSubtaskState resolved = COORDINATOR_INDEX.equals(index) ?
+            referencedState.getCoordinatorState() : referencedState.getSubtaskStates().get(index);
+        if (resolved == null || resolved.isReference()) {
+            throw new IllegalStateException(String.format("The state of action %s, subtask %s is not found in the checkpoint %s",
+                actionId, index, referencedCheckpointId));
+        }
+        locations.put(index, referencedCheckpointId);
+        return resolved;
+    }
+}
@@ -127,6 +127,9 @@ public class PendingCheckpoint implements Checkpoint {
                 return;
             }
             stateSize += state.getState().stream().filter(Objects::nonNull).map(s -> s.length).count();
+            if (state.getChannelState() != null) {
+                stateSize += state.getChannelState().stream().map(s -> s.length).count();
+            }
             actionState.reportState(state.getIndex(), state);
         }
         statistics.reportSubtaskStatistics(new SubtaskStatistics(
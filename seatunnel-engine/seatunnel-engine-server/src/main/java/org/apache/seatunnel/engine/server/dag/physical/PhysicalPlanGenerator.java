@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.dag.physical;
 
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
+import org.apache.seatunnel.engine.common.config.server.QueueConfig;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
@@ -27,6 +28,7 @@ import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.core.dag.internal.IntermediateQueue;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan;
 import org.apache.seatunnel.engine.server.dag.execution.ExecutionEdge;
 import org.apache.seatunnel.engine.server.dag.execution.ExecutionPlan;
@@ -121,6 +123,10 @@ public class PhysicalPlanGenerator {
 
     private final IMap<Object, Object> runningJobStateTimestampsIMap;
 
+    private final QueueConfig queueConfig;
+
+    private final boolean unalignedCheckpoint;
+
     public PhysicalPlanGenerator(@NonNull ExecutionPlan executionPlan,
                                  @NonNull NodeEngine nodeEngine,
                                  @NonNull JobImmutableInformation jobImmutableInformation,
@@ -141,6 +147,9 @@ public class PhysicalPlanGenerator {
         this.subtaskActions = new HashMap<>();
         this.runningJobStateIMap = runningJobStateIMap;
         this.runningJobStateTimestampsIMap = runningJobStateTimestampsIMap;
+        SeaTunnelServer server = nodeEngine.getService(SeaTunnelServer.SERVICE_NAME);
+        this.queueConfig = server.getSeaTunnelConfig().getEngineConfig().getQueueConfig();
+        this.unalignedCheckpoint = server.getSeaTunnelConfig().getEngineConfig().getCheckpointConfig().isUnaligned();
     }
 
     public Tuple2<PhysicalPlan, Map<Integer, CheckpointPlan>> generate() {
@@ -187,6 +196,7 @@ public class PhysicalPlanGenerator {
                 initializationTimestamp,
                 physicalVertexList,
                 coordinatorVertexList,
+                findPartitionTransformAction(edges),
                 jobImmutableInformation,
                 executorService,
                 runningJobStateIMap,
@@ -259,6 +269,13 @@ public class PhysicalPlanGenerator {
             }).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
+    private List<PartitionTransformAction> findPartitionTransformAction(List<ExecutionEdge> edges) {
+        return edges.stream().filter(s -> s.getLeftVertex().getAction() instanceof PartitionTransformAction)
+            .map(s -> (PartitionTransformAction) s.getLeftVertex().getAction())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
     private List<PhysicalVertex> getPartitionTask(List<ExecutionEdge> edges,
                                                   int pipelineIndex,
                                                   int totalPipelineNum) {
@@ -457,7 +474,8 @@ public class PhysicalPlanGenerator {
             }
         } else if (f instanceof IntermediateExecutionFlow) {
             ((IntermediateExecutionFlow<IntermediateQueueConfig>) f)
-                .setConfig(new IntermediateQueueConfig(((IntermediateExecutionFlow<?>) f).getQueue().getId()));
+                .setConfig(new IntermediateQueueConfig(((IntermediateExecutionFlow<?>) f).getQueue().getId(),
+                    queueConfig.getQueueType(), queueConfig.getCapacity(), unalignedCheckpoint));
         } else {
             throw new UnknownFlowException(f);
         }
@@ -19,12 +19,15 @@ package org.apache.seatunnel.engine.server.dag.physical;
 
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
+import org.apache.seatunnel.engine.core.dag.actions.PartitionTransformAction;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
 import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.task.flow.PartitionTransformSinkFlowLifeCycle;
 
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.map.IMap;
@@ -45,6 +48,11 @@ public class SubPlan {
 
     private final int pipelineId;
 
+    /**
+     * The partition transforms of the pipeline, their ringbuffers are destroyed before the pipeline is restored.
+     */
+    private final List<PartitionTransformAction> partitionTransformActions;
+
     private final int totalPipelineNum;
 
     private final JobImmutableInformation jobImmutableInformation;
@@ -88,6 +96,7 @@ public class SubPlan {
                    long initializationTimestamp,
                    @NonNull List<PhysicalVertex> physicalVertexList,
                    @NonNull List<PhysicalVertex> coordinatorVertexList,
+                   @NonNull List<PartitionTransformAction> partitionTransformActions,
                    @NonNull JobImmutableInformation jobImmutableInformation,
                    @NonNull ExecutorService executorService,
                    @NonNull IMap runningJobStateIMap,
@@ -98,6 +107,7 @@ public class SubPlan {
         this.totalPipelineNum = totalPipelineNum;
         this.physicalVertexList = physicalVertexList;
         this.coordinatorVertexList = coordinatorVertexList;
+        this.partitionTransformActions = partitionTransformActions;
         pipelineRestoreNum = 0;
 
         Long[] stateTimestamps = new Long[PipelineStatus.values().length];
@@ -304,6 +314,19 @@ public class SubPlan {
         physicalVertexList.forEach(task -> {
             task.reset();
         });
+
+        destroyPartitionRingbuffers();
+    }
+
+    /**
+     * The ringbuffers of the partition transforms may still hold the records written by the failed attempt, and the
+     * readers of the new attempt start from the head of the ringbuffers, so they are destroyed before the tasks are
+     * deployed again.
+     */
+    private void destroyPartitionRingbuffers() {
+        HazelcastInstance instance = jobMaster.getNodeEngine().getHazelcastInstance();
+        partitionTransformActions.forEach(action -> PartitionTransformSinkFlowLifeCycle.destroyRingbuffers(instance,
+            jobImmutableInformation.getJobId(), action));
     }
 
     private void updateStateTimestamps(@NonNull PipelineStatus targetState) {
@@ -17,15 +17,38 @@
 
 package org.apache.seatunnel.engine.server.dag.physical.config;
 
+import org.apache.seatunnel.engine.common.config.server.QueueType;
+
 public class IntermediateQueueConfig implements FlowConfig {
 
     private final long queueID;
 
-    public IntermediateQueueConfig(long queueID) {
+    private final QueueType queueType;
+
+    private final int capacity;
+
+    private final boolean unaligned;
+
+    public IntermediateQueueConfig(long queueID, QueueType queueType, int capacity, boolean unaligned) {
         this.queueID = queueID;
+        this.queueType = queueType;
+        this.capacity = capacity;
+        this.unaligned = unaligned;
     }
 
     public long getQueueID() {
         return queueID;
     }
+
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isUnaligned() {
+        return unaligned;
+    }
 }
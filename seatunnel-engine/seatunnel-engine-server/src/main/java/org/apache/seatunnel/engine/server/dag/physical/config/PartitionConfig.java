@@ -19,10 +19,19 @@ package org.apache.seatunnel.engine.server.dag.physical.config;
 
 public class PartitionConfig implements FlowConfig {
 
+    /**
+     * The number of upstream subtasks which write records into the partition transform.
+     */
     private final int partitionCount;
 
+    /**
+     * The number of downstream subtasks which read records from the partition transform.
+     */
     private final int targetCount;
 
+    /**
+     * The index of current subtask, it's the upstream index in writer side and the downstream index in reader side.
+     */
     private final int parallelismIndex;
 
     public PartitionConfig(int partitionCount, int targetCount, int parallelismIndex) {
@@ -27,6 +27,7 @@ import lombok.NonNull;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface Task extends InternalCheckpointListener, Stateful, Serializable {
 
@@ -43,6 +44,17 @@ public interface Task extends InternalCheckpointListener, Stateful, Serializable
         return false;
     }
 
+    /**
+     * The future which will be completed when the task can make progress again, the executor waits for it
+     * (bounded by an exponential backoff) after {@link #call()} made no progress, instead of calling the task
+     * again immediately.
+     *
+     * @return null if the task does not know when it can make progress, the task will be called without waiting.
+     */
+    default CompletableFuture<?> getAvailableFuture() {
+        return null;
+    }
+
     default void close() throws IOException {
     }
 
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server.execution;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.Operation;
@@ -47,6 +48,10 @@ public class TaskExecutionContext {
         return nodeEngine.getLogger(task.getClass());
     }
 
+    public HazelcastInstance getInstance() {
+        return nodeEngine.getHazelcastInstance();
+    }
+
     public <T> T getTask() {
         return (T) task;
     }
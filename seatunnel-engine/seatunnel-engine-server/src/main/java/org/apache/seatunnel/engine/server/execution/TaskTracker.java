@@ -19,18 +19,99 @@ package org.apache.seatunnel.engine.server.execution;
 
 import org.apache.seatunnel.engine.server.TaskExecutionService;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public class TaskTracker {
-    public final AtomicInteger expiredTimes = new AtomicInteger(0);
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
     public final TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker;
     public final Task task;
 
+    /**
+     * The number of continuous calls of the task which made no progress.
+     */
+    private int idleTimes = 0;
+
+    /**
+     * The number of continuous calls of the task which blocked the cooperative worker.
+     */
+    private int blockingCalls = 0;
+
+    /**
+     * The {@link System#nanoTime()} after which the parked task can be called again.
+     */
+    private long wakeUpTime = 0;
+
+    /**
+     * Notified when the parked task signals that it can make progress, so it doesn't need to wait until wakeUpTime.
+     */
+    private volatile Runnable availableListener;
+
+    private volatile boolean signaled;
+
+    /**
+     * The available future which has been listened, a future is only listened once even if the task is parked
+     * many times before it is completed.
+     */
+    private CompletableFuture<?> listenedFuture;
+
     public TaskTracker(Task task, TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker) {
         this.task = task;
         this.taskGroupExecutionTracker = taskGroupExecutionTracker;
     }
 
+    /**
+     * The task made no progress, park it with exponential backoff.
+     */
+    public void idle(long now) {
+        long parkNanos = Math.min(MIN_PARK_NANOS << Math.min(idleTimes++, MAX_BACKOFF_SHIFT), MAX_PARK_NANOS);
+        wakeUpTime = now + parkNanos;
+    }
+
+    public void resetIdle() {
+        idleTimes = 0;
+    }
+
+    /**
+     * Record whether the last call of the task blocked the worker, return the number of continuous blocking calls.
+     */
+    public int blockingCall(boolean blocking) {
+        blockingCalls = blocking ? blockingCalls + 1 : 0;
+        return blockingCalls;
+    }
+
+    /**
+     * The task is parked, listen to the available future of the task if it has one.
+     */
+    public void park(Runnable listener) {
+        signaled = false;
+        availableListener = listener;
+        CompletableFuture<?> availableFuture = task.getAvailableFuture();
+        if (availableFuture != null && !availableFuture.isDone() && availableFuture != listenedFuture) {
+            listenedFuture = availableFuture;
+            availableFuture.whenComplete((r, e) -> signal());
+        }
+    }
+
+    private void signal() {
+        signaled = true;
+        Runnable listener = availableListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    public boolean isSignaled() {
+        return signaled;
+    }
+
+    public long getWakeUpTime() {
+        return wakeUpTime;
+    }
+
     @Override
     public String toString() {
         return "Tracking " + task;
@@ -169,9 +169,11 @@ public class JobMaster extends Thread {
         checkpointConfig.setCheckpointTimeout(engine.getCheckpointTimeout());
         checkpointConfig.setTolerableFailureCheckpoints(engine.getTolerableFailureCheckpoints());
         checkpointConfig.setMaxConcurrentCheckpoints(engine.getMaxConcurrentCheckpoints());
+        checkpointConfig.setUnaligned(engine.isUnaligned());
         CheckpointStorageConfig storageConfig = new CheckpointStorageConfig();
         storageConfig.setMaxRetainedCheckpoints(engine.getStorage().getMaxRetainedCheckpoints());
         storageConfig.setStorage(engine.getStorage().getStorage());
+        storageConfig.setIncremental(engine.getStorage().isIncremental());
         checkpointConfig.setStorage(storageConfig);
         return checkpointConfig;
     }
@@ -221,6 +223,16 @@ public class JobMaster extends Thread {
         });
     }
 
+    public void handleCheckpointError(long pipelineId) {
+        this.physicalPlan.getPipelineList().forEach(pipeline -> {
+            if (pipeline.getPipelineLocation().getPipelineId() == pipelineId) {
+                LOGGER.warning(
+                    String.format("%s checkpoint failed, cancel the pipeline", pipeline.getPipelineFullName()));
+                pipeline.cancelPipeline();
+            }
+        });
+    }
+
     public PassiveCompletableFuture<Void> reSchedulerPipeline(SubPlan subPlan) {
         if (jobScheduler == null) {
             jobScheduler = new PipelineBaseScheduler(physicalPlan, this);
@@ -279,6 +291,10 @@ public class JobMaster extends Thread {
         return physicalPlan;
     }
 
+    public NodeEngine getNodeEngine() {
+        return nodeEngine;
+    }
+
     public void updateTaskExecutionState(TaskExecutionState taskExecutionState) {
         this.physicalPlan.getPipelineList().forEach(pipeline -> {
             if (pipeline.getPipelineLocation().getPipelineId() !=
@@ -17,58 +17,456 @@
 
 package org.apache.seatunnel.engine.server.persistence;
 
+import org.apache.seatunnel.engine.common.config.SeaTunnelProperties;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
 import com.hazelcast.map.MapStore;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Persists an IMap to a {@link LogStructuredKvStore}, one log per map and member in
+ * {@code <path>/<cluster name>/<member host>_<member port>/<map name>.log}, so the members and the clusters sharing
+ * the path don't write the same log. The keys and values are stored in the Hazelcast serialized form, so the map is
+ * restored after a full cluster restart.
+ * <p>
+ * Hazelcast loads the keys of a map on one member only, then every member loads the values of the keys in its
+ * partitions, which may have been stored by another member. So the keys and values are loaded from the logs of all
+ * the members of the cluster, the path must be shared by the members, e.g. they run on the same host or the path is a
+ * shared mount. The logs of the other members are only read for the initial load, the snapshot is dropped once the
+ * map is written. The logs of the other members are the ones in the cluster directory when the store is opened, which
+ * include the members of the previous runs, and the ones of the members joining the cluster later.
+ * <p>
+ * A key is in the logs of several members if its partition migrated. Every value is stored with a per key version,
+ * one higher than the versions of the key in the logs of all the members, and the highest version wins, so the order
+ * doesn't depend on the clocks of the hosts. The versions in the logs of the other members are followed by reading
+ * the entries appended to them before every write, the logs stay open so only the new entries are read. A deleted
+ * key is kept as a tombstone only while an older value of it is in the log of another member, and a value is dropped
+ * from the log once another member stored a higher version of the key, both when the log is compacted.
+ * <p>
+ * Properties:
+ * <ul>
+ *     <li>{@code path}: the base directory of the logs, default {@code <seatunnel.home>/imap}</li>
+ *     <li>{@code fsync}: whether every write is forced to the disk, default false</li>
+ *     <li>{@code compaction-min-size}: the log is never compacted before it grows to this size in bytes, default 64MB</li>
+ *     <li>{@code compaction-garbage-ratio}: the log is compacted when the ratio of the overwritten and deleted
+ *     entries exceeds it, default 0.5</li>
+ * </ul>
+ */
+@Slf4j
 public class FileMapStore implements MapStore<Object, Object>, MapLoaderLifecycleSupport {
-    //TODO Wait for the file Kv storage development to complete
+
+    public static final String PATH = "path";
+
+    public static final String FSYNC = "fsync";
+
+    public static final String COMPACTION_MIN_SIZE = "compaction-min-size";
+
+    public static final String COMPACTION_GARBAGE_RATIO = "compaction-garbage-ratio";
+
+    private static final String DEFAULT_DIRECTORY = "imap";
+
+    private static final String LOG_SUFFIX = ".log";
+
+    private static final long DEFAULT_COMPACTION_MIN_SIZE = 64 * 1024 * 1024;
+
+    private static final double DEFAULT_COMPACTION_GARBAGE_RATIO = 0.5;
+
+    /**
+     * A tombstone only has the version.
+     */
+    private static final int VERSION_SIZE = Long.BYTES;
+
+    private SerializationService serializationService;
+
+    private LogStructuredKvStore kvStore;
+
+    private File clusterDirectory;
+
+    private File memberDirectory;
+
+    private String mapName;
+
+    private MemberLogVersions memberVersions;
+
+    private HazelcastInstance hazelcastInstance;
+
+    private UUID membershipListenerId;
+
+    /**
+     * The latest entries of the logs of the other members, read by the initial load and dropped by the first write.
+     * After it a key is only loaded from the other logs if they have a higher version of it.
+     */
+    private volatile Map<ByteBuffer, byte[]> memberEntries;
 
     @Override
     public void init(HazelcastInstance hazelcastInstance, Properties properties, String mapName) {
+        String path = properties.getProperty(PATH, new File(System.getProperty(
+            SeaTunnelProperties.SEATUNNEL_HOME.getName(), ""), DEFAULT_DIRECTORY).getPath());
+        open(((SerializationServiceSupport) hazelcastInstance).getSerializationService(),
+            new File(path, hazelcastInstance.getConfig().getClusterName()),
+            memberName(hazelcastInstance.getCluster().getLocalMember().getAddress()), mapName, properties);
+        this.hazelcastInstance = hazelcastInstance;
+        membershipListenerId = hazelcastInstance.getCluster().addMembershipListener(new MembershipListener() {
+            @Override
+            public void memberAdded(MembershipEvent event) {
+                addMember(memberName(event.getMember().getAddress()));
+            }
+
+            @Override
+            public void memberRemoved(MembershipEvent event) {
+                // the log of a removed member is still followed, its partitions may be stored in it
+            }
+        });
+        hazelcastInstance.getCluster().getMembers().forEach(member -> addMember(memberName(member.getAddress())));
+    }
+
+    private static String memberName(Address address) {
+        return address.getHost() + "_" + address.getPort();
+    }
+
+    void open(SerializationService serializationService, File clusterDirectory, String memberName, String mapName,
+              Properties properties) {
+        this.serializationService = serializationService;
+        this.clusterDirectory = clusterDirectory;
+        this.memberDirectory = new File(clusterDirectory, memberName);
+        this.mapName = mapName;
+        this.memberVersions = new MemberLogVersions();
+        // the members of the previous runs, their logs may have the latest version of a key
+        File[] directories = clusterDirectory.listFiles(File::isDirectory);
+        if (directories != null) {
+            for (File directory : directories) {
+                addMember(directory.getName());
+            }
+        }
+        File file = new File(memberDirectory, mapName + LOG_SUFFIX);
+        long start = System.currentTimeMillis();
+        try {
+            kvStore = new LogStructuredKvStore(file,
+                Boolean.parseBoolean(properties.getProperty(FSYNC, "false")),
+                Long.parseLong(properties.getProperty(COMPACTION_MIN_SIZE, String.valueOf(DEFAULT_COMPACTION_MIN_SIZE))),
+                Double.parseDouble(properties.getProperty(COMPACTION_GARBAGE_RATIO,
+                    String.valueOf(DEFAULT_COMPACTION_GARBAGE_RATIO))),
+                this::isObsolete);
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException("Failed to open the map store " + file, e);
+        }
+        log.info("Recovered {} entries of the map {} from {} in {} ms", kvStore.size(), mapName, file,
+            System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Follows the log of a member of the cluster, nothing is read before the next write or load.
+     */
+    void addMember(String memberName) {
+        if (!memberName.equals(memberDirectory.getName())) {
+            memberVersions.add(new File(new File(clusterDirectory, memberName), mapName + LOG_SUFFIX));
+        }
     }
 
     @Override
     public void destroy() {
+        if (hazelcastInstance != null) {
+            hazelcastInstance.getCluster().removeMembershipListener(membershipListenerId);
+        }
+        try {
+            memberVersions.close();
+            kvStore.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the map store", e);
+        }
+    }
 
+    /**
+     * Compacts the log now instead of waiting for it to grow, only used by the tests.
+     */
+    synchronized void compact() throws IOException {
+        memberVersions.refresh();
+        kvStore.compact();
     }
 
     @Override
     public void store(Object key, Object value) {
+        storeAll(Collections.singletonMap(key, value));
     }
 
     @Override
-    public void storeAll(Map<Object, Object> map) {
-
+    public synchronized void storeAll(Map<Object, Object> map) {
+        memberEntries = null;
+        try {
+            memberVersions.refresh();
+            Map<byte[], byte[]> entries = new HashMap<>(map.size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                byte[] key = toBytes(entry.getKey());
+                entries.put(key, withVersion(nextVersion(key), toBytes(entry.getValue())));
+            }
+            kvStore.putAll(entries);
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException("Failed to store " + map.size() + " entries", e);
+        }
     }
 
     @Override
     public void delete(Object key) {
-
+        deleteAll(Collections.singletonList(key));
     }
 
     @Override
-    public void deleteAll(Collection<Object> keys) {
-
+    public synchronized void deleteAll(Collection<Object> keys) {
+        memberEntries = null;
+        try {
+            memberVersions.refresh();
+            Map<byte[], byte[]> tombstones = new HashMap<>();
+            List<byte[]> deleted = new ArrayList<>();
+            for (Object object : keys) {
+                byte[] key = toBytes(object);
+                long version = nextVersion(key);
+                if (memberVersions.hasOlderValue(key, version)) {
+                    // the older value in the log of another member must not be loaded again
+                    tombstones.put(key, withVersion(version, new byte[0]));
+                } else {
+                    deleted.add(key);
+                }
+            }
+            kvStore.putAll(tombstones);
+            kvStore.deleteAll(deleted);
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException("Failed to delete " + keys.size() + " keys", e);
+        }
     }
 
     @Override
-    public String load(Object key) {
-        return null;
+    public Object load(Object key) {
+        return load(key, false);
     }
 
     @Override
     public Map<Object, Object> loadAll(Collection<Object> keys) {
-        return null;
+        Map<Object, Object> result = new HashMap<>(keys.size());
+        for (Object key : keys) {
+            Object value = load(key, true);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private Object load(Object key, boolean initialLoad) {
+        try {
+            byte[] value = loadLatest(toBytes(key), initialLoad);
+            return value == null || value.length == VERSION_SIZE ? null :
+                toObject(Arrays.copyOfRange(value, VERSION_SIZE, value.length));
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException("Failed to load the key " + key, e);
+        }
     }
 
     @Override
     public Iterable<Object> loadAllKeys() {
-        return null;
+        Set<ByteBuffer> keys = new HashSet<>(getMemberEntries().keySet());
+        kvStore.keys().forEach(key -> keys.add(ByteBuffer.wrap(key)));
+        List<Object> liveKeys = new ArrayList<>(keys.size());
+        try {
+            for (ByteBuffer key : keys) {
+                byte[] value = loadLatest(key.array(), true);
+                if (value != null && value.length > VERSION_SIZE) {
+                    liveKeys.add(toObject(key.array()));
+                }
+            }
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException("Failed to load the keys of the map " + mapName, e);
+        }
+        return liveKeys;
     }
 
+    private byte[] loadLatest(byte[] key, boolean initialLoad) throws IOException {
+        byte[] value = kvStore.get(key);
+        Map<ByteBuffer, byte[]> entries = initialLoad ? getMemberEntries() : memberEntries;
+        if (entries == null) {
+            memberVersions.refresh();
+            if (memberVersions.maxVersion(key) <= (value == null ? 0 : versionOf(value))) {
+                return value;
+            }
+            // a newer value or tombstone of the key is in the log of another member
+            entries = getMemberEntries();
+        }
+        return latest(value, entries.get(ByteBuffer.wrap(key)));
+    }
+
+    private synchronized Map<ByteBuffer, byte[]> getMemberEntries() {
+        if (memberEntries == null) {
+            Map<ByteBuffer, byte[]> entries = new HashMap<>();
+            for (File file : memberVersions.files()) {
+                try {
+                    LogStructuredKvStore.read(file).forEach((key, value) -> entries.merge(key, value, FileMapStore::latest));
+                } catch (IOException e) {
+                    throw new SeaTunnelEngineException("Failed to read the map store " + file, e);
+                }
+            }
+            memberEntries = entries;
+        }
+        return memberEntries;
+    }
+
+    private long nextVersion(byte[] key) throws IOException {
+        byte[] value = kvStore.get(key);
+        long version = value == null ? 0 : versionOf(value);
+        return Math.max(version, memberVersions.maxVersion(key)) + 1;
+    }
+
+    /**
+     * A value or tombstone is obsolete once another member stored a higher version of the key, a tombstone is also
+     * obsolete when no other member has an older value of the key.
+     */
+    private boolean isObsolete(byte[] key, byte[] value) {
+        long version = versionOf(value);
+        if (memberVersions.maxVersion(key) > version) {
+            return true;
+        }
+        return value.length == VERSION_SIZE && !memberVersions.hasOlderValue(key, version);
+    }
+
+    /**
+     * Returns the value with the higher version, the first one if they have the same version.
+     */
+    private static byte[] latest(byte[] first, byte[] second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return versionOf(second) > versionOf(first) ? second : first;
+    }
+
+    private static long versionOf(byte[] value) {
+        return ByteBuffer.wrap(value).getLong();
+    }
+
+    private static byte[] withVersion(long version, byte[] value) {
+        return ByteBuffer.allocate(VERSION_SIZE + value.length)
+            .putLong(version)
+            .put(value)
+            .array();
+    }
+
+    private byte[] toBytes(Object object) {
+        return serializationService.toData(object).toByteArray();
+    }
+
+    private Object toObject(byte[] bytes) {
+        return serializationService.toObject(new HeapData(bytes));
+    }
+
+    /**
+     * The versions of the keys in the logs of the other members. Only the entries appended since the previous
+     * refresh are read, a log is read again from the beginning after it has been compacted.
+     */
+    private static final class MemberLogVersions implements Closeable {
+
+        private final Map<File, MemberLog> logs = new HashMap<>();
+
+        synchronized void add(File file) {
+            logs.computeIfAbsent(file, MemberLog::new);
+        }
+
+        synchronized List<File> files() {
+            return new ArrayList<>(logs.keySet());
+        }
+
+        synchronized void refresh() throws IOException {
+            for (MemberLog memberLog : logs.values()) {
+                memberLog.refresh();
+            }
+        }
+
+        /**
+         * Returns the highest version of the key in the logs of the other members, 0 if they don't have the key.
+         */
+        synchronized long maxVersion(byte[] key) {
+            ByteBuffer wrapped = ByteBuffer.wrap(key);
+            long max = 0;
+            for (MemberLog memberLog : logs.values()) {
+                Long version = memberLog.versions.get(wrapped);
+                if (version != null) {
+                    max = Math.max(max, Math.abs(version));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Whether the log of another member has a value of the key older than the version.
+         */
+        synchronized boolean hasOlderValue(byte[] key, long version) {
+            ByteBuffer wrapped = ByteBuffer.wrap(key);
+            for (MemberLog memberLog : logs.values()) {
+                Long memberVersion = memberLog.versions.get(wrapped);
+                if (memberVersion != null && memberVersion > 0 && memberVersion < version) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            for (MemberLog memberLog : logs.values()) {
+                memberLog.follower.close();
+            }
+        }
+    }
+
+    private static final class MemberLog implements LogStructuredKvStore.EntryListener {
+
+        private final LogStructuredKvStore.LogFollower follower;
+
+        /**
+         * The version of every key in the log, negative for the tombstones.
+         */
+        private final Map<ByteBuffer, Long> versions = new HashMap<>();
+
+        MemberLog(File file) {
+            this.follower = new LogStructuredKvStore.LogFollower(file);
+        }
+
+        void refresh() throws IOException {
+            follower.read(this);
+        }
+
+        @Override
+        public void accept(byte[] key, byte[] value) {
+            if (value == null) {
+                versions.remove(ByteBuffer.wrap(key));
+            } else {
+                versions.put(ByteBuffer.wrap(key), value.length == VERSION_SIZE ? -versionOf(value) : versionOf(value));
+            }
+        }
+
+        @Override
+        public void reset() {
+            versions.clear();
+        }
+    }
 }
@@ -0,0 +1,538 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, log-structured key value store in a single local file.
+ * <p>
+ * Every put or delete appends an entry to the log, an in memory index keeps the position of the latest entry of
+ * every live key, so a value is read with one positional read. On open the log is replayed to rebuild the index, an
+ * incomplete or corrupted entry at the tail, which is left by a crash during the write, is truncated.
+ * <p>
+ * The log is compacted when the entries which are overwritten or deleted take most of the file: the live entries are
+ * copied to a new file which then atomically replaces the log. The live entries rejected by the
+ * {@link CompactionFilter} are dropped by the compaction too. A replaced entry is appended to the old file before it
+ * is replaced, so a {@link LogFollower} which reads it knows to open the log again.
+ * <p>
+ * Entry layout: {@code crc(int) | type(byte) | keyLength(int) | valueLength(int) | key | value}, the crc covers all
+ * the fields after it.
+ */
+@Slf4j
+public class LogStructuredKvStore implements Closeable {
+
+    private static final byte PUT = 1;
+
+    private static final byte DELETE = 2;
+
+    /**
+     * The last entry of a log which a compaction replaces, it has an empty key and value.
+     */
+    private static final byte REPLACED = 3;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private final File file;
+
+    private final boolean fsync;
+
+    private final long minCompactionSize;
+
+    private final double maxGarbageRatio;
+
+    private final CompactionFilter compactionFilter;
+
+    private final Map<Key, Location> index = new HashMap<>();
+
+    private FileChannel channel;
+
+    private long fileSize;
+
+    private long liveSize;
+
+    /**
+     * @param fsync             whether every write is forced to the disk before returning, otherwise it is only
+     *                          written to the file system cache and survives a process crash but not an OS crash
+     * @param minCompactionSize the log is never compacted before it grows to this size in bytes
+     * @param maxGarbageRatio   the log is compacted when the ratio of the overwritten and deleted entries exceeds it
+     */
+    public LogStructuredKvStore(File file, boolean fsync, long minCompactionSize, double maxGarbageRatio) throws IOException {
+        this(file, fsync, minCompactionSize, maxGarbageRatio, (key, value) -> false);
+    }
+
+    /**
+     * @param compactionFilter decides which live entries are dropped when the log is compacted
+     */
+    public LogStructuredKvStore(File file, boolean fsync, long minCompactionSize, double maxGarbageRatio,
+                                CompactionFilter compactionFilter) throws IOException {
+        this.file = file;
+        this.fsync = fsync;
+        this.minCompactionSize = minCompactionSize;
+        this.maxGarbageRatio = maxGarbageRatio;
+        this.compactionFilter = compactionFilter;
+        open();
+    }
+
+    private void open() throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        // an unfinished compaction, the log is still complete
+        Files.deleteIfExists(compactFile().toPath());
+        long validSize = recover();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        if (channel.size() > validSize) {
+            log.warn("Truncate the incomplete tail of the log {} from {} to {} bytes", file, channel.size(), validSize);
+            channel.truncate(validSize);
+        }
+        fileSize = validSize;
+    }
+
+    /**
+     * Replays the log to rebuild the index, returns the size of the valid prefix of the log.
+     */
+    private long recover() throws IOException {
+        index.clear();
+        liveSize = 0;
+        return replay(file, (type, key, value, offset, length) -> {
+            if (type == PUT) {
+                putIndex(new Key(key), new Location(offset, length));
+            } else if (type == DELETE) {
+                removeIndex(new Key(key));
+            }
+        });
+    }
+
+    /**
+     * Reads the live entries of a log without opening it for write, the log may be written by another process at the
+     * same time, the entries after its valid prefix are ignored.
+     */
+    public static Map<ByteBuffer, byte[]> read(File file) throws IOException {
+        Map<ByteBuffer, byte[]> entries = new HashMap<>();
+        replay(file, (type, key, value, offset, length) -> {
+            if (type == PUT) {
+                entries.put(ByteBuffer.wrap(key), value);
+            } else if (type == DELETE) {
+                entries.remove(ByteBuffer.wrap(key));
+            }
+        });
+        return entries;
+    }
+
+    private static long replay(File file, EntryConsumer consumer) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return replay(channel, 0, consumer);
+        }
+    }
+
+    /**
+     * Replays the entries from the start up to the end of the valid prefix or a replaced entry, and leaves the channel
+     * open.
+     */
+    private static long replay(FileChannel channel, long start, EntryConsumer consumer) throws IOException {
+        long offset = start;
+        CRC32 crc = new CRC32();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(start))));
+        while (true) {
+            int checksum;
+            byte type;
+            byte[] key;
+            byte[] value;
+            try {
+                checksum = in.readInt();
+                type = in.readByte();
+                int keyLength = in.readInt();
+                int valueLength = in.readInt();
+                if ((type != PUT && type != DELETE && type != REPLACED) || keyLength < 0 || valueLength < 0) {
+                    break;
+                }
+                key = new byte[keyLength];
+                in.readFully(key);
+                value = new byte[valueLength];
+                in.readFully(value);
+            } catch (EOFException e) {
+                break;
+            }
+            crc.reset();
+            crc.update(type);
+            crc.update(intToBytes(key.length));
+            crc.update(intToBytes(value.length));
+            crc.update(key);
+            crc.update(value);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            int length = HEADER_SIZE + key.length + value.length;
+            consumer.accept(type, key, value, offset, length);
+            if (type == REPLACED) {
+                // nothing is appended after it, a crash before the compaction replaced the log leaves it at the tail
+                break;
+            }
+            offset += length;
+        }
+        return offset;
+    }
+
+    public synchronized void put(byte[] key, byte[] value) throws IOException {
+        putAll(Collections.singletonMap(key, value));
+    }
+
+    /**
+     * Appends all the entries with one write.
+     */
+    public synchronized void putAll(Map<byte[], byte[]> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        int size = 0;
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            size += HEADER_SIZE + entry.getKey().length + entry.getValue().length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        List<Location> locations = new ArrayList<>(entries.size());
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            locations.add(new Location(fileSize + buffer.position(), HEADER_SIZE + entry.getKey().length + entry.getValue().length));
+            writeEntry(buffer, PUT, entry.getKey(), entry.getValue());
+        }
+        append(buffer);
+        int i = 0;
+        for (byte[] key : entries.keySet()) {
+            putIndex(new Key(key), locations.get(i++));
+        }
+        compactIfNeeded();
+    }
+
+    public synchronized void delete(byte[] key) throws IOException {
+        deleteAll(Collections.singletonList(key));
+    }
+
+    public synchronized void deleteAll(Collection<byte[]> keys) throws IOException {
+        List<byte[]> deleted = new ArrayList<>(keys.size());
+        int size = 0;
+        for (byte[] key : keys) {
+            if (index.containsKey(new Key(key))) {
+                deleted.add(key);
+                size += HEADER_SIZE + key.length;
+            }
+        }
+        if (deleted.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] key : deleted) {
+            writeEntry(buffer, DELETE, key, new byte[0]);
+        }
+        append(buffer);
+        for (byte[] key : deleted) {
+            removeIndex(new Key(key));
+        }
+        compactIfNeeded();
+    }
+
+    public synchronized byte[] get(byte[] key) throws IOException {
+        Location location = index.get(new Key(key));
+        if (location == null) {
+            return null;
+        }
+        int valueLength = location.length - HEADER_SIZE - key.length;
+        ByteBuffer buffer = ByteBuffer.allocate(valueLength);
+        readFully(buffer, location.offset + HEADER_SIZE + key.length);
+        return buffer.array();
+    }
+
+    public synchronized List<byte[]> keys() {
+        List<byte[]> keys = new ArrayList<>(index.size());
+        index.keySet().forEach(key -> keys.add(key.bytes));
+        return keys;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long fileSize() {
+        return fileSize;
+    }
+
+    private void putIndex(Key key, Location location) {
+        Location previous = index.put(key, location);
+        if (previous != null) {
+            liveSize -= previous.length;
+        }
+        liveSize += location.length;
+    }
+
+    private void removeIndex(Key key) {
+        Location previous = index.remove(key);
+        if (previous != null) {
+            liveSize -= previous.length;
+        }
+    }
+
+    private void append(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        long position = fileSize;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        fileSize = position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of the log " + file);
+            }
+            position += read;
+        }
+    }
+
+    private static void writeEntry(ByteBuffer buffer, byte type, byte[] key, byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(intToBytes(key.length));
+        crc.update(intToBytes(value.length));
+        crc.update(key);
+        crc.update(value);
+        buffer.putInt((int) crc.getValue())
+            .put(type)
+            .putInt(key.length)
+            .putInt(value.length)
+            .put(key)
+            .put(value);
+    }
+
+    private static byte[] intToBytes(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (fileSize >= minCompactionSize && fileSize - liveSize > fileSize * maxGarbageRatio) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies the live entries which the {@link CompactionFilter} keeps to a new log, then replaces the current log
+     * with it.
+     */
+    public synchronized void compact() throws IOException {
+        long start = System.currentTimeMillis();
+        long oldSize = fileSize;
+        File compactFile = compactFile();
+        Map<Key, Location> compactedIndex = new HashMap<>(index.size());
+        long position = 0;
+        try (FileChannel target = FileChannel.open(compactFile.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<Key, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (compactionFilter.discard(entry.getKey().bytes, get(entry.getKey().bytes))) {
+                    continue;
+                }
+                long transferred = 0;
+                while (transferred < location.length) {
+                    transferred += channel.transferTo(location.offset + transferred, location.length - transferred,
+                        target);
+                }
+                compactedIndex.put(entry.getKey(), new Location(position, location.length));
+                position += location.length;
+            }
+            target.force(true);
+        }
+        // the followers of the old file read it and open the compacted log
+        ByteBuffer replaced = ByteBuffer.allocate(HEADER_SIZE);
+        writeEntry(replaced, REPLACED, new byte[0], new byte[0]);
+        append(replaced);
+        channel.close();
+        Files.move(compactFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.clear();
+        index.putAll(compactedIndex);
+        liveSize = position;
+        fileSize = position;
+        log.info("Compacted the log {} from {} to {} bytes in {} ms", file, oldSize, fileSize,
+            System.currentTimeMillis() - start);
+    }
+
+    private File compactFile() {
+        return new File(file.getPath() + COMPACT_SUFFIX);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Decides whether a live entry is dropped when the log is compacted, e.g. an entry superseded by another store.
+     */
+    @FunctionalInterface
+    public interface CompactionFilter {
+
+        boolean discard(byte[] key, byte[] value) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface EntryListener {
+
+        /**
+         * @param value the value, null if the key is deleted
+         */
+        void accept(byte[] key, byte[] value);
+
+        /**
+         * Called before the log is read again from the beginning, because a compaction replaced it.
+         */
+        default void reset() {
+        }
+    }
+
+    /**
+     * Follows a log written by another process without opening it for write. The file stays open and only the
+     * entries appended since the previous read are read, the file is opened again after a compaction replaced it.
+     */
+    public static class LogFollower implements Closeable {
+
+        private final File file;
+
+        private FileChannel channel;
+
+        private long offset;
+
+        public LogFollower(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Reads the entries appended since the previous read, the entries after the valid prefix of the log are
+         * incomplete and read next time.
+         */
+        public synchronized void read(EntryListener listener) throws IOException {
+            boolean reopened = false;
+            while (true) {
+                if (channel == null) {
+                    if (!file.exists()) {
+                        return;
+                    }
+                    channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                    offset = 0;
+                    listener.reset();
+                }
+                boolean[] replaced = new boolean[1];
+                offset = replay(channel, offset, (type, key, value, entryOffset, length) -> {
+                    if (type == REPLACED) {
+                        replaced[0] = true;
+                    } else {
+                        listener.accept(key, type == PUT ? value : null);
+                    }
+                });
+                if (!replaced[0]) {
+                    return;
+                }
+                close();
+                if (reopened) {
+                    // the compacted log did not replace the old one yet, it is opened by the next read
+                    return;
+                }
+                reopened = true;
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+
+        void accept(byte type, byte[] key, byte[] value, long offset, int length);
+    }
+
+    private static class Key {
+
+        private final byte[] bytes;
+
+        private final int hash;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Location {
+
+        private final long offset;
+
+        private final int length;
+    }
+}
@@ -83,6 +83,10 @@ public abstract class AbstractTask implements Task {
         return progress.toState();
     }
 
+    public long getJobID() {
+        return jobID;
+    }
+
     public TaskLocation getTaskLocation() {
         return this.taskLocation;
     }
@@ -47,6 +47,10 @@ public class Progress implements IdentifiedDataSerializable, Serializable {
         madeProgress = true;
     }
 
+    public void noProgress() {
+        madeProgress = false;
+    }
+
     public void done() {
         isDone = true;
     }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
 
@@ -30,6 +31,8 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
 
     private final List<OneInputFlowLifeCycle<Record<?>>> outputs;
 
+    private volatile boolean emptyThisPollNext;
+
     public SeaTunnelSourceCollector(Object checkpointLock, List<OneInputFlowLifeCycle<Record<?>>> outputs) {
         this.checkpointLock = checkpointLock;
         this.outputs = outputs;
@@ -37,6 +40,7 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
 
     @Override
     public void collect(T row) {
+        emptyThisPollNext = false;
         try {
             sendRecordToNext(new Record<>(row));
         } catch (IOException e) {
@@ -44,11 +48,32 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         }
     }
 
+    @Override
+    public void collectBatch(ColumnarBatch batch) {
+        if (batch.getRowCount() == 0) {
+            return;
+        }
+        emptyThisPollNext = false;
+        try {
+            sendRecordToNext(new Record<>(batch));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public Object getCheckpointLock() {
         return checkpointLock;
     }
 
+    public boolean isEmptyThisPollNext() {
+        return emptyThisPollNext;
+    }
+
+    public void resetEmptyThisPollNext() {
+        this.emptyThisPollNext = true;
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
@@ -41,6 +41,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
+import org.apache.seatunnel.engine.server.dag.physical.config.PartitionConfig;
 import org.apache.seatunnel.engine.server.dag.physical.config.SinkConfig;
 import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
 import org.apache.seatunnel.engine.server.dag.physical.flow.Flow;
@@ -50,6 +51,7 @@ import org.apache.seatunnel.engine.server.dag.physical.flow.UnknownFlowException
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.flow.ActionFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.flow.BufferedFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.FlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
@@ -73,6 +75,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -94,10 +97,25 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected List<CompletableFuture<Void>> flowFutures;
 
+    protected List<BufferedFlowLifeCycle> bufferedCycles;
+
     protected final Map<Long, List<ActionSubtaskState>> checkpointStates = new ConcurrentHashMap<>();
 
     private final Map<Long, Integer> cycleAcks = new ConcurrentHashMap<>();
 
+    /**
+     * The records overtaken by the barrier in the input queue, only used in unaligned checkpoint mode.
+     */
+    private final Map<Long, List<byte[]>> channelStates = new ConcurrentHashMap<>();
+
+    /**
+     * The consumer side of the input queue and the first action after it, the channel state is stored with the
+     * state of that action.
+     */
+    private IntermediateQueueFlowLifeCycle inputQueueCycle;
+
+    private Long inputQueueActionId;
+
     protected int indexID;
 
     private TaskGroup taskBelongGroup;
@@ -115,6 +133,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
         this.currState = SeaTunnelTaskState.INIT;
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
+        bufferedCycles = new ArrayList<>();
         startFlowLifeCycle = convertFlowToActionLifeCycle(executionFlow);
         for (FlowLifeCycle cycle : allCycles) {
             cycle.init();
@@ -146,8 +165,14 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 currState = RUNNING;
                 break;
             case RUNNING:
-                collect();
-                if (prepareCloseStatus) {
+                // the records of the last round which can't be written without blocking are written first, no more
+                // records are collected until they are all written
+                boolean flushed = flushBufferedCycles();
+                if (flushed) {
+                    collect();
+                    flushed = flushBufferedCycles();
+                }
+                if (prepareCloseStatus && flushed) {
                     currState = PREPARE_CLOSE;
                 }
                 break;
@@ -171,6 +196,14 @@ public abstract class SeaTunnelTask extends AbstractTask {
         }
     }
 
+    private boolean flushBufferedCycles() throws IOException {
+        boolean flushed = true;
+        for (BufferedFlowLifeCycle cycle : bufferedCycles) {
+            flushed &= cycle.flush();
+        }
+        return flushed;
+    }
+
     public void setTaskGroup(TaskGroup group) {
         this.taskBelongGroup = group;
     }
@@ -202,11 +235,16 @@ public abstract class SeaTunnelTask extends AbstractTask {
                     new TransformFlowLifeCycle<SeaTunnelRow>((TransformChainAction) f.getAction(), this,
                         new SeaTunnelTransformCollector(flowLifeCycles), completableFuture);
             } else if (f.getAction() instanceof PartitionTransformAction) {
-                // TODO use index and taskID to create ringbuffer list
                 if (flow.getNext().isEmpty()) {
-                    lifeCycle = new PartitionTransformSinkFlowLifeCycle(this, completableFuture);
+                    PartitionTransformSinkFlowLifeCycle partitionSinkLifeCycle =
+                        new PartitionTransformSinkFlowLifeCycle((PartitionTransformAction) f.getAction(),
+                            (PartitionConfig) f.getConfig(), this, completableFuture);
+                    bufferedCycles.add(partitionSinkLifeCycle);
+                    lifeCycle = partitionSinkLifeCycle;
                 } else {
-                    lifeCycle = new PartitionTransformSourceFlowLifeCycle(this, completableFuture);
+                    lifeCycle = new PartitionTransformSourceFlowLifeCycle((PartitionTransformAction) f.getAction(),
+                        (PartitionConfig) f.getConfig(), this, completableFuture);
+                    outputs = flowLifeCycles;
                 }
             } else {
                 throw new UnknownActionException(f.getAction());
@@ -214,9 +252,20 @@ public abstract class SeaTunnelTask extends AbstractTask {
         } else if (flow instanceof IntermediateExecutionFlow) {
             IntermediateQueueConfig config =
                 ((IntermediateExecutionFlow<IntermediateQueueConfig>) flow).getConfig();
-            lifeCycle = new IntermediateQueueFlowLifeCycle(this, completableFuture,
-                ((TaskGroupWithIntermediateQueue) taskBelongGroup)
-                    .getBlockingQueueCache(config.getQueueID()));
+            TaskGroupWithIntermediateQueue group = (TaskGroupWithIntermediateQueue) taskBelongGroup;
+            IntermediateQueueFlowLifeCycle queueLifeCycle = new IntermediateQueueFlowLifeCycle(this, completableFuture,
+                group.getBlockingQueueCache(config), group.getBarrierChannelCache(config));
+            flow.getNext().stream()
+                .filter(PhysicalExecutionFlow.class::isInstance)
+                .findFirst()
+                .ifPresent(next -> {
+                    inputQueueCycle = queueLifeCycle;
+                    inputQueueActionId = ((PhysicalExecutionFlow<?, ?>) next).getAction().getId();
+                });
+            if (inputQueueCycle != queueLifeCycle) {
+                bufferedCycles.add(queueLifeCycle);
+            }
+            lifeCycle = queueLifeCycle;
             outputs = flowLifeCycles;
         } else {
             throw new UnknownFlowException(flow);
@@ -270,13 +319,34 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 this.prepareCloseStatus = true;
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
+            List<byte[]> channelState = channelStates.remove(barrier.getId());
             if (barrier.snapshot()) {
+                if (channelState != null) {
+                    addChannelStateToAction(barrier, channelState);
+                }
                 this.getExecutionContext().sendToMaster(
                     new TaskAcknowledgeOperation(this.taskLocation, (CheckpointBarrier) barrier, checkpointStates.get(barrier.getId())));
             }
         }
     }
 
+    public void addChannelState(Barrier barrier, List<byte[]> channelState) {
+        channelStates.put(barrier.getId(), channelState);
+    }
+
+    private void addChannelStateToAction(Barrier barrier, List<byte[]> channelState) {
+        List<ActionSubtaskState> states = checkpointStates.computeIfAbsent(barrier.getId(), id -> new ArrayList<>());
+        ActionSubtaskState actionState = states.stream()
+            .filter(state -> state.getActionId() == inputQueueActionId)
+            .findFirst()
+            .orElseGet(() -> {
+                ActionSubtaskState state = new ActionSubtaskState(inputQueueActionId, indexID, Collections.emptyList());
+                states.add(state);
+                return state;
+            });
+        actionState.setChannelState(channelState);
+    }
+
     public void addState(Barrier barrier, long actionId, List<byte[]> state) {
         List<ActionSubtaskState> states = checkpointStates.computeIfAbsent(barrier.getId(), id -> new ArrayList<>());
         states.add(new ActionSubtaskState(actionId, indexID, state));
@@ -305,6 +375,12 @@ public abstract class SeaTunnelTask extends AbstractTask {
     public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
         Map<Long, List<ActionSubtaskState>> stateMap = actionStateList.stream()
             .collect(Collectors.groupingBy(ActionSubtaskState::getActionId, Collectors.toList()));
+        if (inputQueueCycle != null) {
+            stateMap.getOrDefault(inputQueueActionId, Collections.emptyList()).stream()
+                .map(ActionSubtaskState::getChannelState)
+                .filter(Objects::nonNull)
+                .forEach(inputQueueCycle::restoreChannelState);
+        }
         allCycles.stream().filter(cycle -> cycle instanceof ActionFlowLifeCycle)
             .map(cycle -> (ActionFlowLifeCycle) cycle)
             .forEach(actionFlowLifeCycle -> {
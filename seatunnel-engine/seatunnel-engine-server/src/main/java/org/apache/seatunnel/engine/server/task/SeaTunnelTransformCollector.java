@@ -28,12 +28,15 @@ public class SeaTunnelTransformCollector implements Collector<Record<?>> {
 
     private final List<OneInputFlowLifeCycle<Record<?>>> outputs;
 
+    private boolean emptyThisCollect;
+
     public SeaTunnelTransformCollector(List<OneInputFlowLifeCycle<Record<?>>> outputs) {
         this.outputs = outputs;
     }
 
     @Override
     public void collect(Record<?> record) {
+        emptyThisCollect = false;
         for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
             try {
                 output.received(record);
@@ -43,6 +46,14 @@ public class SeaTunnelTransformCollector implements Collector<Record<?>> {
         }
     }
 
+    public boolean isEmptyThisCollect() {
+        return emptyThisCollect;
+    }
+
+    public void resetEmptyThisCollect() {
+        this.emptyThisCollect = true;
+    }
+
     @Override
     public void close() {
     }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.task;
 
+import static org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState.RUNNING;
+
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
@@ -65,16 +67,32 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
 
     @Override
     protected void collect() throws Exception {
+        collector.resetEmptyThisPollNext();
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
+        if (!collector.isEmptyThisPollNext()) {
+            progress.makeProgress();
+        }
     }
 
     @NonNull
     @Override
     public ProgressState call() throws Exception {
+        progress.noProgress();
         stateProcess();
         return progress.toState();
     }
 
+    /**
+     * Only the running source task can be parked, the reader tells when it has data to emit again.
+     */
+    @Override
+    public CompletableFuture<?> getAvailableFuture() {
+        if (currState != RUNNING || prepareCloseStatus) {
+            return null;
+        }
+        return ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).getAvailableFuture();
+    }
+
     public void receivedSourceSplit(List<SplitT> splits) {
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).receivedSplits(splits);
     }
@@ -18,7 +18,6 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.table.type.Record;
-import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
 import org.apache.seatunnel.engine.server.dag.physical.flow.Flow;
@@ -42,7 +41,7 @@ public class TransformSeaTunnelTask extends SeaTunnelTask {
         super(jobID, taskID, indexID, executionFlow);
     }
 
-    private Collector<Record<?>> collector;
+    private SeaTunnelTransformCollector collector;
 
     @Override
     public void init() throws Exception {
@@ -62,12 +61,18 @@ public class TransformSeaTunnelTask extends SeaTunnelTask {
 
     @Override
     protected void collect() throws Exception {
+        collector.resetEmptyThisCollect();
         ((OneOutputFlowLifeCycle<Record<?>>) startFlowLifeCycle).collect(collector);
+        // every record or barrier taken from the input is passed to the collector
+        if (!collector.isEmptyThisCollect()) {
+            progress.makeProgress();
+        }
     }
 
     @NonNull
     @Override
     public ProgressState call() throws Exception {
+        progress.noProgress();
         stateProcess();
         return progress.toState();
     }
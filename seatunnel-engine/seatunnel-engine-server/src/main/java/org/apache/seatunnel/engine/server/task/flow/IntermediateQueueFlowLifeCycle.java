@@ -19,45 +19,184 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.common.utils.SerializationUtils;
 import org.apache.seatunnel.engine.common.utils.ConsumerWithException;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.queue.BarrierChannel;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class IntermediateQueueFlowLifeCycle extends AbstractFlowLifeCycle implements OneInputFlowLifeCycle<Record<?>>,
-        OneOutputFlowLifeCycle<Record<?>> {
+        OneOutputFlowLifeCycle<Record<?>>, BufferedFlowLifeCycle {
+
+    private static final int MAX_DRAIN_SIZE = 1024;
+
+    private static final long OVERTAKE_WAIT_MILLIS = 10;
 
     private final BlockingQueue<Record<?>> queue;
 
+    /**
+     * Not null in unaligned checkpoint mode, the checkpoint barriers skip the queue and overtake the buffered records.
+     * The prepare close barriers (savepoint and completed point) still go through the queue, the records before them
+     * must be processed before the task closes, otherwise they are dropped.
+     */
+    private final BarrierChannel barrierChannel;
+
+    private final List<Record<?>> drainBuffer = new ArrayList<>(MAX_DRAIN_SIZE);
+
+    /**
+     * The records overtaken by the barrier of the restored checkpoint, they are collected before the queue.
+     */
+    private List<Record<?>> restoredRecords = new ArrayList<>();
+
+    /**
+     * The records can't be put into the full queue yet, only used by the producer side. In unaligned checkpoint mode
+     * a barrier behind them waits here too, it only overtakes the records which are already in the queue.
+     */
+    private final Queue<Record<?>> pendingRecords = new ArrayDeque<>();
+
+    /**
+     * The number of records put into the queue, only used by the producer side.
+     */
+    private long producedCount;
+
+    /**
+     * The number of records taken out of the drain buffer, only used by the consumer side.
+     */
+    private long consumedCount;
+
     public IntermediateQueueFlowLifeCycle(SeaTunnelTask runningTask,
                                           CompletableFuture<Void> completableFuture,
-                                          BlockingQueue<Record<?>> queue) {
+                                          BlockingQueue<Record<?>> queue,
+                                          BarrierChannel barrierChannel) {
         super(runningTask, completableFuture);
         this.queue = queue;
+        this.barrierChannel = barrierChannel;
     }
 
+    /**
+     * Barriers may be received from the checkpoint thread, so it's synchronized with {@link #flush()}.
+     */
     @Override
-    public void received(Record<?> record) {
+    public synchronized void received(Record<?> record) {
         try {
-            handleRecord(record, queue::put);
+            handleRecord(record, pendingRecords::add);
+            flush();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Puts the pending records into the queue without blocking, the task retries the rest after the next round of
+     * collect if the queue is full.
+     */
+    @Override
+    public synchronized boolean flush() {
+        Record<?> record;
+        while ((record = pendingRecords.peek()) != null) {
+            if (barrierChannel != null && record.getData() instanceof Barrier
+                && !((Barrier) record.getData()).prepareClose()) {
+                barrierChannel.publish(record, producedCount);
+            } else if (queue.offer(record)) {
+                producedCount++;
+            } else {
+                return false;
+            }
+            pendingRecords.poll();
+        }
+        return true;
+    }
+
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
-        while (true) {
-            Record<?> record = queue.poll();
-            if (record != null) {
+        if (barrierChannel != null) {
+            collectUnaligned(collector);
+            return;
+        }
+        // drain records in batch, so the queue is only synchronized once per batch instead of once per record
+        while (queue.drainTo(drainBuffer, MAX_DRAIN_SIZE) > 0) {
+            try {
+                for (Record<?> record : drainBuffer) {
+                    handleRecord(record, collector::collect);
+                }
+            } finally {
+                drainBuffer.clear();
+            }
+        }
+    }
+
+    private void collectUnaligned(Collector<Record<?>> collector) throws Exception {
+        if (!restoredRecords.isEmpty()) {
+            List<Record<?>> records = restoredRecords;
+            restoredRecords = new ArrayList<>();
+            for (Record<?> record : records) {
                 handleRecord(record, collector::collect);
-            } else {
-                break;
             }
         }
+        do {
+            int index = 0;
+            try {
+                while (true) {
+                    // a record put after the barrier makes the barrier visible, so checking the channel before every
+                    // record guarantees the barrier is handled before the records behind it
+                    BarrierChannel.OvertakingBarrier barrier = barrierChannel.poll();
+                    if (barrier != null) {
+                        overtake(barrier, index, collector);
+                        continue;
+                    }
+                    if (index == drainBuffer.size()) {
+                        break;
+                    }
+                    consumedCount++;
+                    handleRecord(drainBuffer.get(index++), collector::collect);
+                }
+            } finally {
+                drainBuffer.subList(0, index).clear();
+            }
+        } while (queue.drainTo(drainBuffer, MAX_DRAIN_SIZE) > 0 || barrierChannel.peek() != null);
+    }
+
+    /**
+     * Stores the records between the consumed position and the barrier as the channel state of the checkpoint, then
+     * sends the barrier downstream. The overtaken records are still collected after the barrier.
+     */
+    private void overtake(BarrierChannel.OvertakingBarrier overtakingBarrier, int index,
+                          Collector<Record<?>> collector) throws Exception {
+        Record<?> record = overtakingBarrier.getBarrier();
+        Barrier barrier = (Barrier) record.getData();
+        int overtaken = (int) (overtakingBarrier.getProducedCount() - consumedCount);
+        // the records before the barrier are put into the queue before the barrier is published, wait for them
+        // instead of spinning in case they are not visible yet
+        while (drainBuffer.size() - index < overtaken) {
+            if (queue.drainTo(drainBuffer, overtaken - (drainBuffer.size() - index)) == 0) {
+                Record<?> next = queue.poll(OVERTAKE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    drainBuffer.add(next);
+                }
+            }
+        }
+        if (barrier.snapshot()) {
+            runningTask.addChannelState(barrier, drainBuffer.subList(index, index + overtaken).stream()
+                .map(SerializationUtils::serialize)
+                .collect(Collectors.toList()));
+        }
+        handleRecord(record, collector::collect);
+    }
+
+    public void restoreChannelState(List<byte[]> channelState) {
+        channelState.stream()
+            .map(bytes -> (Record<?>) SerializationUtils.deserialize(bytes))
+            .forEach(restoredRecords::add);
     }
 
     private void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer) throws Exception {
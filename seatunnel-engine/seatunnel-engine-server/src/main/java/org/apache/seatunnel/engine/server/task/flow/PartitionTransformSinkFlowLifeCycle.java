@@ -17,49 +17,201 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.dag.actions.PartitionTransformAction;
+import org.apache.seatunnel.engine.server.dag.physical.config.PartitionConfig;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.partition.Partitioner;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.ringbuffer.OverflowPolicy;
 import com.hazelcast.ringbuffer.Ringbuffer;
 
 import java.io.IOException;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
-public class PartitionTransformSinkFlowLifeCycle extends AbstractFlowLifeCycle implements OneInputFlowLifeCycle<Record<?>> {
+/**
+ * The writer side of {@link PartitionTransformAction}. Every upstream subtask owns one {@link Ringbuffer} for each
+ * downstream subtask, records are buffered per target and written to the ringbuffer in batches.
+ * <p>
+ * Hazelcast ringbuffer overwrites the oldest items when it is full, so the writer tracks how many records the reader
+ * has consumed (published by {@link PartitionTransformSourceFlowLifeCycle}) and only writes as many records as there
+ * is space for. The rest stay buffered and the task doesn't collect more records until they are written, which gives
+ * the upstream the backpressure without blocking the worker thread.
+ */
+public class PartitionTransformSinkFlowLifeCycle extends AbstractFlowLifeCycle implements OneInputFlowLifeCycle<Record<?>>,
+        BufferedFlowLifeCycle {
+
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final PartitionTransformAction action;
+
+    private final PartitionConfig config;
+
+    private final Partitioner partitioner;
 
-    // TODO: init ring buffer
     private Ringbuffer<Record<?>>[] ringbuffers;
-    private final Random random = new Random();
 
-    public PartitionTransformSinkFlowLifeCycle(SeaTunnelTask runningTask, CompletableFuture<Void> completableFuture) {
+    private String[] ringbufferNames;
+
+    private List<Record<?>>[] buffers;
+
+    /**
+     * The sequence of the last record written into each ringbuffer.
+     */
+    private long[] writtenSequences;
+
+    /**
+     * The last known sequence the reader will read next, refreshed only when the ringbuffer looks full.
+     */
+    private long[] consumedSequences;
+
+    private IMap<String, Long> consumedSequenceMap;
+
+    private int batchSize;
+
+    public PartitionTransformSinkFlowLifeCycle(PartitionTransformAction action, PartitionConfig config,
+                                               SeaTunnelTask runningTask, CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
+        this.action = action;
+        this.config = config;
+        this.partitioner = Partitioner.of(action.getPartitionTransformation());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void init() throws Exception {
+        HazelcastInstance instance = runningTask.getExecutionContext().getInstance();
+        int targetCount = config.getTargetCount();
+        ringbuffers = new Ringbuffer[targetCount];
+        ringbufferNames = new String[targetCount];
+        buffers = new List[targetCount];
+        writtenSequences = new long[targetCount];
+        consumedSequences = new long[targetCount];
+        consumedSequenceMap = instance.getMap(Constant.IMAP_PARTITION_CONSUMED_SEQUENCE);
+        for (int i = 0; i < targetCount; i++) {
+            ringbufferNames[i] = getRingbufferName(runningTask.getJobID(), action.getId(),
+                config.getParallelismIndex(), i);
+            ringbuffers[i] = instance.getRingbuffer(ringbufferNames[i]);
+            buffers[i] = new ArrayList<>();
+            writtenSequences[i] = ringbuffers[i].tailSequence();
+            consumedSequences[i] = ringbuffers[i].headSequence();
+        }
+        batchSize = (int) Math.min(MAX_BATCH_SIZE, ringbuffers[0].capacity());
     }
 
     @Override
-    public void received(Record<?> row) throws IOException {
-        // TODO: No space in the buffer
+    public synchronized void received(Record<?> row) throws IOException {
         if (row.getData() instanceof Barrier) {
             Barrier barrier = (Barrier) row.getData();
             runningTask.ack(barrier);
             if (barrier.prepareClose()) {
                 prepareClose = true;
             }
-            // The barrier needs to be replicated to all channels
-            for (Ringbuffer<Record<?>> ringBuffer : ringbuffers) {
-                ringBuffer.add(new Record<>(barrier));
+            // The barrier needs to be replicated to all channels, after all the records before it
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i].add(new Record<>(barrier));
+                flush(i);
             }
         } else {
             if (prepareClose) {
                 return;
             }
-            getRingBuffer(row).add(row);
+            if (row.getData() instanceof ColumnarBatch) {
+                // the rows of a batch may belong to different partitions
+                ColumnarBatch batch = (ColumnarBatch) row.getData();
+                for (int i = 0; i < batch.getRowCount(); i++) {
+                    received(new Record<>(batch.getRow(i)));
+                }
+                return;
+            }
+            int target = partitioner.select(row, buffers.length);
+            buffers[target].add(row);
+            // only tried once per batch, a blocked target is retried by the task after the round of collect
+            if (buffers[target].size() == batchSize) {
+                flush(target);
+            }
+        }
+    }
+
+    /**
+     * Write all buffered records into ringbuffers, called by the task after each round of collect, so the latency of
+     * records is bounded by one round instead of waiting the batch to be full. Barriers may be received from the
+     * checkpoint thread at the same time, so it's synchronized with {@link #received(Record)}.
+     */
+    @Override
+    public synchronized boolean flush() throws IOException {
+        boolean flushed = true;
+        for (int i = 0; i < buffers.length; i++) {
+            flushed &= flush(i);
+        }
+        return flushed;
+    }
+
+    private boolean flush(int target) throws IOException {
+        List<Record<?>> buffer = buffers[target];
+        try {
+            while (!buffer.isEmpty()) {
+                int size = (int) Math.min(Math.min(buffer.size(), batchSize), getCapacity(target, buffer.size()));
+                if (size <= 0) {
+                    return false;
+                }
+                List<Record<?>> batch = buffer.subList(0, size);
+                writtenSequences[target] =
+                    ringbuffers[target].addAllAsync(batch, OverflowPolicy.OVERWRITE).toCompletableFuture().get();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * The number of records can be written into the ringbuffer without overwriting the unconsumed ones, the consumed
+     * sequence is only refreshed when the known space isn't enough for the records.
+     */
+    private long getCapacity(int target, int size) {
+        long capacity = ringbuffers[target].capacity() - (writtenSequences[target] + 1 - consumedSequences[target]);
+        if (capacity < size) {
+            Long consumed = consumedSequenceMap.get(ringbufferNames[target]);
+            if (consumed != null && consumed > consumedSequences[target]) {
+                consumedSequences[target] = consumed;
+                capacity = ringbuffers[target].capacity() - (writtenSequences[target] + 1 - consumed);
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * Destroys the ringbuffers of the partition transform and their consumed sequences. The master calls it before a
+     * pipeline is deployed again, so the new attempt doesn't read the records left by the failed one.
+     */
+    public static void destroyRingbuffers(HazelcastInstance instance, long jobId, PartitionTransformAction action) {
+        IMap<String, Long> consumedSequenceMap = instance.getMap(Constant.IMAP_PARTITION_CONSUMED_SEQUENCE);
+        int partitionCount = action.getPartitionTransformation().getPartitionCount();
+        int targetCount = action.getPartitionTransformation().getTargetCount();
+        for (int upstream = 0; upstream < partitionCount; upstream++) {
+            for (int downstream = 0; downstream < targetCount; downstream++) {
+                String name = getRingbufferName(jobId, action.getId(), upstream, downstream);
+                instance.getRingbuffer(name).destroy();
+                consumedSequenceMap.delete(name);
+            }
         }
     }
 
-    private Ringbuffer<Record<?>> getRingBuffer(Record<?> row) {
-        // TODO: choose partition
-        return ringbuffers[random.nextInt(ringbuffers.length)];
+    public static String getRingbufferName(long jobId, long actionId, int upstreamIndex, int downstreamIndex) {
+        return String.format("%s-%s-%s-%s-%s", Constant.RINGBUFFER_PARTITION_PREFIX, jobId, actionId,
+            upstreamIndex, downstreamIndex);
     }
 }
@@ -19,63 +19,140 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.dag.actions.PartitionTransformAction;
+import org.apache.seatunnel.engine.server.dag.physical.config.PartitionConfig;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.ringbuffer.Ringbuffer;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 
-public class PartitionTransformSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle implements OneOutputFlowLifeCycle<T> {
+/**
+ * The reader side of {@link PartitionTransformAction}, read the ringbuffers written by every upstream subtask for the
+ * current subtask.
+ * <p>
+ * Barriers are aligned: once a barrier is read from one ringbuffer, that ringbuffer is not read anymore until the
+ * same barrier has arrived from all the ringbuffers, then the barrier is acked and sent to downstream only once.
+ */
+public class PartitionTransformSourceFlowLifeCycle extends AbstractFlowLifeCycle implements OneOutputFlowLifeCycle<Record<?>> {
+
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final PartitionTransformAction action;
+
+    private final PartitionConfig config;
 
-    // TODO: init ring buffer
-    private Ringbuffer<T>[] ringbuffers;
+    private Ringbuffer<Record<?>>[] ringbuffers;
 
-    private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
+    private String[] ringbufferNames;
 
-    private long currentCheckpointId = Long.MAX_VALUE;
+    /**
+     * The records read from ringbuffer but not be sent yet, because the ringbuffer is blocked by an aligning barrier.
+     */
+    private Queue<Record<?>>[] pendingRecords;
+
+    private long[] readSequences;
+
+    private boolean[] alignedBarriers;
 
     private int alignedBarriersCounter = 0;
-    public PartitionTransformSourceFlowLifeCycle(SeaTunnelTask runningTask, CompletableFuture<Void> completableFuture) {
+
+    private IMap<String, Long> consumedSequenceMap;
+
+    public PartitionTransformSourceFlowLifeCycle(PartitionTransformAction action, PartitionConfig config,
+                                                 SeaTunnelTask runningTask, CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
+        this.action = action;
+        this.config = config;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void init() throws Exception {
+        HazelcastInstance instance = runningTask.getExecutionContext().getInstance();
+        int partitionCount = config.getPartitionCount();
+        ringbuffers = new Ringbuffer[partitionCount];
+        ringbufferNames = new String[partitionCount];
+        pendingRecords = new Queue[partitionCount];
+        readSequences = new long[partitionCount];
+        alignedBarriers = new boolean[partitionCount];
+        consumedSequenceMap = instance.getMap(Constant.IMAP_PARTITION_CONSUMED_SEQUENCE);
+        for (int i = 0; i < partitionCount; i++) {
+            ringbufferNames[i] = PartitionTransformSinkFlowLifeCycle.getRingbufferName(runningTask.getJobID(),
+                action.getId(), i, config.getParallelismIndex());
+            ringbuffers[i] = instance.getRingbuffer(ringbufferNames[i]);
+            pendingRecords[i] = new ArrayDeque<>();
+            readSequences[i] = ringbuffers[i].headSequence();
+        }
     }
 
     @Override
-    public void collect(Collector<T> collector) throws Exception {
+    public void collect(Collector<Record<?>> collector) throws Exception {
         for (int i = 0; i < ringbuffers.length; i++) {
-            Ringbuffer<T> ringbuffer = ringbuffers[i];
-            if (ringbuffer.size() <= 0) {
+            if (alignedBarriers[i]) {
                 continue;
             }
-            // aligned barrier
-            if (alignedBarriers.get(i) != null && alignedBarriers.get(i).getId() == currentCheckpointId) {
+            if (pendingRecords[i].isEmpty() && !readBatch(i)) {
                 continue;
             }
-            // Batch reads are not used because of aligned barriers.
-            // get the oldest item
-            T item = ringbuffer.readOne(ringbuffer.headSequence());
-            Record<?> record = (Record<?>) item;
-            if (record.getData() instanceof Barrier) {
-                Barrier barrier = (Barrier) record.getData();
-                alignedBarriers.put(i, barrier);
-                alignedBarriersCounter++;
-                currentCheckpointId = barrier.getId();
-                if (alignedBarriersCounter == ringbuffers.length) {
-                    runningTask.ack(barrier);
-                    if (barrier.prepareClose()) {
-                        prepareClose = true;
-                    }
-                    collector.collect(item);
-                    alignedBarriersCounter = 0;
-                }
-            } else {
-                if (prepareClose) {
-                    return;
+            Record<?> record;
+            while (!alignedBarriers[i] && (record = pendingRecords[i].poll()) != null) {
+                if (record.getData() instanceof Barrier) {
+                    alignBarrier(i, record, collector);
+                } else if (!prepareClose) {
+                    collector.collect(record);
                 }
-                collector.collect(item);
             }
         }
     }
+
+    private boolean readBatch(int index) throws Exception {
+        ReadResultSet<Record<?>> resultSet = ringbuffers[index]
+            .readManyAsync(readSequences[index], 0, MAX_BATCH_SIZE, null).toCompletableFuture().get();
+        if (resultSet.size() == 0) {
+            return false;
+        }
+        resultSet.forEach(pendingRecords[index]::add);
+        readSequences[index] = resultSet.getNextSequenceToReadFrom();
+        // let the writer know the space can be reused
+        consumedSequenceMap.setAsync(ringbufferNames[index], readSequences[index]);
+        return true;
+    }
+
+    private void alignBarrier(int index, Record<?> record, Collector<Record<?>> collector) {
+        Barrier barrier = (Barrier) record.getData();
+        alignedBarriers[index] = true;
+        alignedBarriersCounter++;
+        if (alignedBarriersCounter == ringbuffers.length) {
+            runningTask.ack(barrier);
+            if (barrier.prepareClose()) {
+                prepareClose = true;
+            }
+            collector.collect(record);
+            alignedBarriersCounter = 0;
+            for (int i = 0; i < alignedBarriers.length; i++) {
+                alignedBarriers[i] = false;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ringbuffers != null) {
+            // the reader is the last one who uses the ringbuffers
+            for (int i = 0; i < ringbuffers.length; i++) {
+                ringbuffers[i].destroy();
+                consumedSequenceMap.delete(ringbufferNames[i]);
+            }
+        }
+        super.close();
+    }
 }
@@ -23,6 +23,8 @@ import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStat
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.common.utils.SerializationUtils;
 import org.apache.seatunnel.engine.core.checkpoint.InternalCheckpointListener;
@@ -115,6 +117,17 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void writeBatch(ColumnarBatch batch) throws IOException {
+        if (writer instanceof SupportColumnarBatchWrite) {
+            ((SupportColumnarBatchWrite) writer).writeBatch(batch);
+            return;
+        }
+        for (int i = 0; i < batch.getRowCount(); i++) {
+            writer.write((T) batch.getRow(i));
+        }
+    }
+
     @Override
     public void received(Record<?> record) {
         try {
@@ -150,7 +163,11 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (prepareClose) {
                     return;
                 }
-                writer.write((T) record.getData());
+                if (record.getData() instanceof ColumnarBatch) {
+                    writeBatch((ColumnarBatch) record.getData());
+                } else {
+                    writer.write((T) record.getData());
+                }
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
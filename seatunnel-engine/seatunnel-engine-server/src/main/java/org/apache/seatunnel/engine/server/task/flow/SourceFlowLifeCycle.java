@@ -109,11 +109,15 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     }
 
     public void collect() throws Exception {
-        if (!prepareClose) {
+        if (!prepareClose && reader.isAvailable().isDone()) {
             reader.pollNext(collector);
         }
     }
 
+    public CompletableFuture<Void> getAvailableFuture() {
+        return reader.isAvailable();
+    }
+
     public void signalNoMoreElement() {
         // ready close this reader
         try {
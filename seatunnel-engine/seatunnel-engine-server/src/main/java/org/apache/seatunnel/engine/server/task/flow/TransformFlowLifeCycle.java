@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
@@ -65,12 +66,32 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle implements On
             if (prepareClose) {
                 return;
             }
-            T r = (T) record.getData();
-            for (SeaTunnelTransform<T> t : transform) {
-                r = t.map(r);
+            if (record.getData() instanceof ColumnarBatch) {
+                receivedBatch(record);
+                return;
             }
-            collector.collect(new Record<>(r));
+            collector.collect(new Record<>(map((T) record.getData())));
+        }
+    }
+
+    /**
+     * The batch is passed through when there is no transform, otherwise the transforms are applied on every row.
+     */
+    @SuppressWarnings("unchecked")
+    private void receivedBatch(Record<?> record) {
+        if (transform.isEmpty()) {
+            collector.collect(record);
+            return;
+        }
+        ((ColumnarBatch) record.getData()).forEachRow(row -> collector.collect(new Record<>(map((T) row))));
+    }
+
+    private T map(T row) {
+        T r = row;
+        for (SeaTunnelTransform<T> t : transform) {
+            r = t.map(r);
         }
+        return r;
     }
 
     @Override
@@ -18,10 +18,13 @@
 package org.apache.seatunnel.engine.server.task.group;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.queue.BarrierChannel;
+import org.apache.seatunnel.engine.server.task.group.queue.SpscRingBufferQueue;
 
 import java.util.Collection;
 import java.util.Map;
@@ -31,24 +34,47 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class TaskGroupWithIntermediateQueue extends TaskGroupDefaultImpl {
 
-    public static final int QUEUE_SIZE = 1000;
-
     public TaskGroupWithIntermediateQueue(TaskGroupLocation taskGroupLocation, String taskGroupName, Collection<Task> tasks) {
         super(taskGroupLocation, taskGroupName, tasks);
     }
 
     private Map<Long, BlockingQueue<Record<?>>> blockingQueueCache = null;
 
+    private Map<Long, BarrierChannel> barrierChannelCache = null;
+
     @Override
     public void init() {
         blockingQueueCache = new ConcurrentHashMap<>();
+        barrierChannelCache = new ConcurrentHashMap<>();
         getTasks().stream().filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s).forEach(s -> s.setTaskGroup(this));
     }
 
-    public BlockingQueue<Record<?>> getBlockingQueueCache(long id) {
-        blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
-        return blockingQueueCache.get(id);
+    public BlockingQueue<Record<?>> getBlockingQueueCache(IntermediateQueueConfig config) {
+        return blockingQueueCache.computeIfAbsent(config.getQueueID(), i -> createQueue(config));
+    }
+
+    /**
+     * The barrier channel shared by the producer and consumer of the queue, null when checkpoint barriers travel
+     * through the queue itself.
+     */
+    public BarrierChannel getBarrierChannelCache(IntermediateQueueConfig config) {
+        if (!config.isUnaligned()) {
+            return null;
+        }
+        return barrierChannelCache.computeIfAbsent(config.getQueueID(), i -> new BarrierChannel());
+    }
+
+    private static BlockingQueue<Record<?>> createQueue(IntermediateQueueConfig config) {
+        switch (config.getQueueType()) {
+            case BLOCKINGQUEUE:
+                return new ArrayBlockingQueue<>(config.getCapacity());
+            case RINGBUFFER:
+                // only one task writes and one task reads the queue of the same id in a task group
+                return new SpscRingBufferQueue<>(config.getCapacity());
+            default:
+                throw new IllegalArgumentException("Unsupported intermediate queue type: " + config.getQueueType());
+        }
     }
 
 }
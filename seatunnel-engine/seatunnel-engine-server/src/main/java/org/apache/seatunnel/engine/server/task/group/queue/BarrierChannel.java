@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The side channel of an intermediate queue in unaligned checkpoint mode, the barriers are published here instead
+ * of being put into the queue, so they overtake the records buffered in the queue.
+ * <p>
+ * Every barrier carries the number of records the producer put into the queue before it, the consumer uses it to
+ * find the buffered records which are overtaken by the barrier and have to be stored with the checkpoint.
+ */
+public class BarrierChannel {
+
+    private final Queue<OvertakingBarrier> barriers = new ConcurrentLinkedQueue<>();
+
+    public void publish(Record<?> barrier, long producedCount) {
+        barriers.offer(new OvertakingBarrier(barrier, producedCount));
+    }
+
+    public OvertakingBarrier peek() {
+        return barriers.peek();
+    }
+
+    public OvertakingBarrier poll() {
+        return barriers.poll();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class OvertakingBarrier {
+
+        private final Record<?> barrier;
+
+        /**
+         * The number of records put into the queue before the barrier.
+         */
+        private final long producedCount;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import lombok.NonNull;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock free, bounded ring buffer which only supports one producer thread and one consumer thread at the same time.
+ * <p>
+ * The producer and consumer each own one sequence and only cache the sequence of the other side, so in the common
+ * case neither {@link #offer(Object)} nor {@link #drainTo(Collection, int)} touch memory written by the other thread.
+ * The blocking methods spin for a short time and then park, there is no lock or condition to signal.
+ */
+public class SpscRingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int MAX_SPIN_TIMES = 100;
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Object[] buffer;
+
+    private final int mask;
+
+    private final int capacity;
+
+    private final AtomicLong producerSequence = new AtomicLong();
+
+    private final AtomicLong consumerSequence = new AtomicLong();
+
+    /**
+     * Only read and written by the producer thread.
+     */
+    private long consumerSequenceCache;
+
+    /**
+     * Only read and written by the consumer thread.
+     */
+    private long producerSequenceCache;
+
+    public SpscRingBufferQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of ring buffer must be > 0");
+        }
+        this.capacity = capacity;
+        this.buffer = new Object[ceilingPowerOfTwo(capacity)];
+        this.mask = buffer.length - 1;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public boolean offer(@NonNull E e) {
+        long producer = producerSequence.get();
+        if (producer - consumerSequenceCache >= capacity) {
+            consumerSequenceCache = consumerSequence.get();
+            if (producer - consumerSequenceCache >= capacity) {
+                return false;
+            }
+        }
+        buffer[(int) producer & mask] = e;
+        producerSequence.lazySet(producer + 1);
+        return true;
+    }
+
+    @Override
+    public void put(@NonNull E e) throws InterruptedException {
+        int spinTimes = 0;
+        while (!offer(e)) {
+            spinTimes = idle(spinTimes);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int spinTimes = 0;
+        while (!offer(e)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            spinTimes = idle(spinTimes);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long consumer = consumerSequence.get();
+        if (consumer >= producerSequenceCache) {
+            producerSequenceCache = producerSequence.get();
+            if (consumer >= producerSequenceCache) {
+                return null;
+            }
+        }
+        int index = (int) consumer & mask;
+        E e = (E) buffer[index];
+        buffer[index] = null;
+        consumerSequence.lazySet(consumer + 1);
+        return e;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int spinTimes = 0;
+        E e;
+        while ((e = poll()) == null) {
+            spinTimes = idle(spinTimes);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int spinTimes = 0;
+        E e;
+        while ((e = poll()) == null) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            spinTimes = idle(spinTimes);
+        }
+        return e;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long consumer = consumerSequence.get();
+        if (consumer >= producerSequence.get()) {
+            return null;
+        }
+        return (E) buffer[(int) consumer & mask];
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Move up to maxElements records to the collection and publish the new consumer sequence only once, so the
+     * producer sees one sequence update per batch instead of one per record.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(@NonNull Collection<? super E> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        long consumer = consumerSequence.get();
+        long available = producerSequenceCache - consumer;
+        if (available < maxElements) {
+            producerSequenceCache = producerSequence.get();
+            available = producerSequenceCache - consumer;
+        }
+        int count = (int) Math.min(available, maxElements);
+        if (count <= 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            int index = (int) (consumer + i) & mask;
+            c.add((E) buffer[index]);
+            buffer[index] = null;
+        }
+        consumerSequence.lazySet(consumer + count);
+        return count;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int size() {
+        // read the consumer first, so the size never be negative
+        long consumer = consumerSequence.get();
+        long producer = producerSequence.get();
+        return (int) Math.min(Math.max(producer - consumer, 0), capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerSequence.get() >= producerSequence.get();
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the records between the consumer and the producer sequence at the time
+     * it is created. The records consumed while iterating are skipped, the records offered later are not returned and
+     * {@link Iterator#remove()} is not supported.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return "SpscRingBufferQueue{size=" + size() + ", capacity=" + capacity + "}";
+    }
+
+    private static int idle(int spinTimes) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (spinTimes < MAX_SPIN_TIMES) {
+            Thread.yield();
+            return spinTimes + 1;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+        return spinTimes;
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private final long end = producerSequence.get();
+
+        private long sequence = consumerSequence.get();
+
+        private E next;
+
+        Itr() {
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (sequence < end) {
+                long consumer = consumerSequence.get();
+                if (sequence < consumer) {
+                    sequence = consumer;
+                    continue;
+                }
+                E e = (E) buffer[(int) sequence & mask];
+                sequence++;
+                // the slot may be consumed and reused by the producer while reading it
+                if (e != null && consumerSequence.get() < sequence) {
+                    next = e;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            E e = next;
+            advance();
+            return e;
+        }
+    }
+}
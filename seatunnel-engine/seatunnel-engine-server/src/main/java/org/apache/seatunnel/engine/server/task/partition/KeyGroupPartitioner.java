@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.partition;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.PartitionSeaTunnelTransform;
+
+import java.util.Objects;
+
+public class KeyGroupPartitioner implements Partitioner {
+
+    public static final int DEFAULT_MAX_KEY_GROUPS = 128;
+
+    private final PartitionSeaTunnelTransform transform;
+
+    public KeyGroupPartitioner(PartitionSeaTunnelTransform transform) {
+        this.transform = transform;
+    }
+
+    @Override
+    public int select(Record<?> record, int targetCount) {
+        int maxKeyGroups = Math.max(DEFAULT_MAX_KEY_GROUPS, targetCount);
+        int keyGroup = Math.floorMod(murmurMix(Objects.hashCode(transform.getPartitionKey(record))),
+            maxKeyGroups);
+        return keyGroup * targetCount / maxKeyGroups;
+    }
+
+    /**
+     * The finalization mix of MurmurHash3, spread the bits of poor hashCode implementations before assign key group.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static int murmurMix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.partition;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.PartitionSeaTunnelTransform;
+
+/**
+ * Choose the target subtask index of a record for the {@link PartitionSeaTunnelTransform}.
+ */
+public interface Partitioner {
+
+    /**
+     * @param record      the record need to be sent, never be a barrier
+     * @param targetCount the number of target subtasks
+     * @return the index of target subtask, in range [0, targetCount)
+     */
+    int select(Record<?> record, int targetCount);
+
+    static Partitioner of(PartitionSeaTunnelTransform transform) {
+        switch (transform.getPartitionType()) {
+            case ROUND_ROBIN:
+                return new RoundRobinPartitioner();
+            case HASH:
+                return new HashPartitioner(transform);
+            case KEY_GROUP:
+                return new KeyGroupPartitioner(transform);
+            default:
+                throw new IllegalArgumentException("Unsupported partition type: " + transform.getPartitionType());
+        }
+    }
+}
@@ -24,8 +24,10 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.seatunnel.engine.server.execution.BlockingCallTestTask;
 import org.apache.seatunnel.engine.server.execution.ExceptionTestTask;
 import org.apache.seatunnel.engine.server.execution.FixedCallTestTimeTask;
+import org.apache.seatunnel.engine.server.execution.NoProgressTestTask;
 import org.apache.seatunnel.engine.server.execution.StopTimeTestTask;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -44,10 +46,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
 
@@ -242,6 +247,54 @@ public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
 
     }
 
+    @Test
+    public void testIdleTaskBackoff() throws InterruptedException {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicLong callTimes = new AtomicLong();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new NoProgressTestTask(stop, callTimes));
+        }
+
+        CompletableFuture<TaskExecutionState> completableFuture = taskExecutionService.deployLocalTask(
+            new TaskGroupDefaultImpl(new TaskGroupLocation(jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()), "idle",
+                Lists.newArrayList(tasks)), new CompletableFuture<>());
+
+        Thread.sleep(taskRunTime);
+        stop.set(true);
+
+        await().atMost(taskRunTime, TimeUnit.MILLISECONDS)
+            .untilAsserted(() -> assertEquals(FINISHED, completableFuture.get().getExecutionState()));
+
+        // an idle task is parked up to 100ms, it should not be called in a hot loop
+        assertTrue(callTimes.get() < tasks.size() * taskRunTime);
+    }
+
+    @Test
+    public void testBlockingTaskIsMovedToBlockingThread() throws InterruptedException {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+        long blockingTaskCount = taskExecutionService.getCooperativeTaskWorkers().stream()
+            .mapToLong(TaskExecutionService.CooperativeTaskWorker::getBlockingTaskCount).sum();
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        Set<String> callThreads = ConcurrentHashMap.newKeySet();
+        CompletableFuture<TaskExecutionState> completableFuture = taskExecutionService.deployLocalTask(
+            new TaskGroupDefaultImpl(new TaskGroupLocation(jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()), "blocking",
+                Lists.newArrayList(new BlockingCallTestTask(200, stop, callThreads))), new CompletableFuture<>());
+
+        await().atMost(taskRunTime, TimeUnit.MILLISECONDS)
+            .untilAsserted(() -> assertTrue(callThreads.stream().anyMatch(name -> name.contains(".task.thread-"))));
+        stop.set(true);
+        await().atMost(taskRunTime, TimeUnit.MILLISECONDS)
+            .untilAsserted(() -> assertEquals(FINISHED, completableFuture.get().getExecutionState()));
+
+        assertTrue(callThreads.stream().anyMatch(name -> name.contains(".cooperative.thread-")));
+        assertEquals(blockingTaskCount + 1, taskExecutionService.getCooperativeTaskWorkers().stream()
+            .mapToLong(TaskExecutionService.CooperativeTaskWorker::getBlockingTaskCount).sum());
+    }
+
     public List<Task> buildFixedTestTask(long callTime, long count, AtomicBoolean stopMart, CopyOnWriteArrayList<Long> lagList) {
         List<Task> taskQueue = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import static org.awaitility.Awaitility.await;
+
+import org.apache.seatunnel.api.table.factory.FactoryUtil;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointFinishedOperation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
+
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@DisabledOnOs(OS.WINDOWS)
+public class CheckpointCoordinatorTest extends AbstractSeaTunnelServerTest {
+
+    private static final int PIPELINE_ID = 1;
+
+    @Test
+    public void testCheckpointsAreNotifiedInOrder() throws Exception {
+        long jobId = (long) (Math.random() * 1000000L);
+        NotifyRecordingManager manager = new NotifyRecordingManager(jobId, false);
+        CheckpointCoordinator coordinator = coordinator(jobId, manager);
+
+        for (long checkpointId = 1; checkpointId <= 3; checkpointId++) {
+            coordinator.completePendingCheckpoint(completedCheckpoint(jobId, checkpointId));
+        }
+
+        await().atMost(10, TimeUnit.SECONDS)
+            .untilAsserted(() -> Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), manager.notifiedCheckpoints));
+        await().atMost(10, TimeUnit.SECONDS)
+            .untilAsserted(() -> Assertions.assertEquals(3, coordinator.getLatestCompletionStatistics().getCheckpointId()));
+        Assertions.assertTrue(manager.failedPipelines.isEmpty());
+    }
+
+    @Test
+    public void testNotifyFailureFailsThePipeline() throws Exception {
+        long jobId = (long) (Math.random() * 1000000L);
+        NotifyRecordingManager manager = new NotifyRecordingManager(jobId, true);
+        CheckpointCoordinator coordinator = coordinator(jobId, manager);
+
+        coordinator.completePendingCheckpoint(completedCheckpoint(jobId, 1));
+
+        await().atMost(10, TimeUnit.SECONDS)
+            .untilAsserted(() -> Assertions.assertEquals(Collections.singletonList(PIPELINE_ID), manager.failedPipelines));
+        Assertions.assertEquals(Collections.singletonList(1L), manager.notifiedCheckpoints);
+        Assertions.assertNull(coordinator.getLatestCompletionStatistics());
+    }
+
+    private CheckpointCoordinator coordinator(long jobId, CheckpointManager manager) throws CheckpointStorageException {
+        CheckpointConfig checkpointConfig = new CheckpointConfig();
+        CheckpointStorage checkpointStorage = FactoryUtil.discoverFactory(Thread.currentThread().getContextClassLoader(),
+                CheckpointStorageFactory.class, checkpointConfig.getStorage().getStorage())
+            .create(new HashMap<>());
+        CheckpointPlan plan = CheckpointPlan.builder()
+            .pipelineId(PIPELINE_ID)
+            .pipelineSubtasks(Collections.singleton(new TaskLocation(new TaskGroupLocation(jobId, PIPELINE_ID, 1), 1, 0)))
+            .build();
+        return new CheckpointCoordinator(manager, checkpointStorage, checkpointConfig, jobId, plan,
+            new IMapCheckpointIDCounter(PIPELINE_ID, nodeEngine.getHazelcastInstance().getMap("checkpoint-id-" + jobId)),
+            null);
+    }
+
+    private static CompletedCheckpoint completedCheckpoint(long jobId, long checkpointId) {
+        return new CompletedCheckpoint(jobId, PIPELINE_ID, checkpointId,
+            Instant.now().toEpochMilli(),
+            CheckpointType.CHECKPOINT_TYPE,
+            Instant.now().toEpochMilli(),
+            new HashMap<>(),
+            new HashMap<>());
+    }
+
+    /**
+     * Records the notified checkpoints and the failed pipelines instead of sending them to the tasks and the master.
+     */
+    private class NotifyRecordingManager extends CheckpointManager {
+
+        private final boolean failNotification;
+
+        private final List<Long> notifiedCheckpoints = new CopyOnWriteArrayList<>();
+
+        private final List<Integer> failedPipelines = new CopyOnWriteArrayList<>();
+
+        NotifyRecordingManager(long jobId, boolean failNotification) throws CheckpointStorageException {
+            super(jobId, nodeEngine, null, new HashMap<>(), new CheckpointConfig());
+            this.failNotification = failNotification;
+        }
+
+        @Override
+        protected InvocationFuture<?> sendOperationToMemberNode(TaskOperation operation) {
+            if (operation instanceof CheckpointFinishedOperation) {
+                notifiedCheckpoints.add(((CheckpointFinishedOperation) operation).getCheckpointId());
+            }
+            return CheckpointCoordinatorTest.this.nodeEngine.getOperationService().createInvocationBuilder(
+                SeaTunnelServer.SERVICE_NAME, new NotifyOperation(failNotification),
+                CheckpointCoordinatorTest.this.nodeEngine.getThisAddress()).invoke();
+        }
+
+        @Override
+        protected void handleCheckpointError(int pipelineId) {
+            failedPipelines.add(pipelineId);
+        }
+    }
+
+    private static class NotifyOperation extends Operation {
+
+        private final boolean fail;
+
+        NotifyOperation(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public void run() {
+            if (fail) {
+                throw new IllegalStateException("The task is gone");
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.common.ProtoStuffSerializer;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalCheckpointTrackerTest {
+
+    private static final long ACTION_ID = 1L;
+
+    @Test
+    public void testUnchangedStateIsReferenced() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        CompletedCheckpoint first = tracker.toIncremental(checkpoint(1, "a", "b"));
+        tracker.commit(1);
+        Assertions.assertFalse(subtaskState(first, 0).isReference());
+        Assertions.assertFalse(subtaskState(first, 1).isReference());
+
+        CompletedCheckpoint second = tracker.toIncremental(checkpoint(2, "a", "c"));
+        tracker.commit(2);
+        Assertions.assertTrue(subtaskState(second, 0).isReference());
+        Assertions.assertEquals(1L, subtaskState(second, 0).getReferencedCheckpointId());
+        Assertions.assertFalse(subtaskState(second, 1).isReference());
+
+        // the reference always points to the checkpoint which stores the state
+        CompletedCheckpoint third = tracker.toIncremental(checkpoint(3, "a", "c"));
+        tracker.commit(3);
+        Assertions.assertEquals(1L, subtaskState(third, 0).getReferencedCheckpointId());
+        Assertions.assertEquals(2L, subtaskState(third, 1).getReferencedCheckpointId());
+
+        // checkpoint 1 is still referenced by checkpoint 2 and 3
+        Assertions.assertEquals(Collections.emptyList(), tracker.release(1));
+        // checkpoint 2 is still referenced by checkpoint 3
+        Assertions.assertEquals(Collections.emptyList(), tracker.release(2));
+        List<Long> unreferenced = tracker.release(3);
+        Assertions.assertEquals(3, unreferenced.size());
+        Assertions.assertTrue(unreferenced.containsAll(Arrays.asList(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void testUncommittedCheckpointIsNotReferenced() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        tracker.toIncremental(checkpoint(1, "a"));
+        tracker.commit(1);
+        // checkpoint 2 failed to store
+        tracker.toIncremental(checkpoint(2, "b"));
+        CompletedCheckpoint third = tracker.toIncremental(checkpoint(3, "b"));
+        Assertions.assertFalse(subtaskState(third, 0).isReference());
+    }
+
+    @Test
+    public void testRestore() throws IOException {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        Map<Long, byte[]> storage = new HashMap<>();
+        storage.put(1L, serializer.serialize(tracker.toIncremental(checkpoint(1, "a", "b"))));
+        tracker.commit(1);
+        storage.put(2L, serializer.serialize(tracker.toIncremental(checkpoint(2, "a", "c"))));
+        tracker.commit(2);
+
+        IncrementalCheckpointTracker restoredTracker = new IncrementalCheckpointTracker();
+        CompletedCheckpoint restored = restoredTracker.restore(
+            serializer.deserialize(storage.get(2L), CompletedCheckpoint.class),
+            id -> serializer.deserialize(storage.get(id), CompletedCheckpoint.class));
+        Assertions.assertArrayEquals("a".getBytes(), subtaskState(restored, 0).getState().get(0));
+        Assertions.assertArrayEquals("c".getBytes(), subtaskState(restored, 1).getState().get(0));
+
+        CompletedCheckpoint next = restoredTracker.toIncremental(checkpoint(3, "a", "c"));
+        Assertions.assertEquals(1L, subtaskState(next, 0).getReferencedCheckpointId());
+        Assertions.assertEquals(2L, subtaskState(next, 1).getReferencedCheckpointId());
+    }
+
+    @Test
+    public void testRestoreReleasesUnreferencedCheckpoints() throws IOException {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        Map<Long, byte[]> storage = new HashMap<>();
+        storage.put(1L, serializer.serialize(tracker.toIncremental(checkpoint(1, "a", "b"))));
+        tracker.commit(1);
+        storage.put(2L, serializer.serialize(tracker.toIncremental(checkpoint(2, "c", "b"))));
+        tracker.commit(2);
+        storage.put(3L, serializer.serialize(tracker.toIncremental(checkpoint(3, "d", "b"))));
+        tracker.commit(3);
+
+        IncrementalCheckpointTracker restoredTracker = new IncrementalCheckpointTracker();
+        restoredTracker.restore(serializer.deserialize(storage.get(3L), CompletedCheckpoint.class),
+            id -> serializer.deserialize(storage.get(id), CompletedCheckpoint.class));
+        // checkpoint 3 only references checkpoint 1, checkpoint 2 was retained before the restore
+        Assertions.assertEquals(Collections.singletonList(2L), restoredTracker.unreferenced(storage.keySet()));
+
+        Assertions.assertEquals(Collections.emptyList(), new IncrementalCheckpointTracker().unreferenced(storage.keySet()));
+    }
+
+    private static ActionSubtaskState subtaskState(CompletedCheckpoint checkpoint, int index) {
+        return checkpoint.getTaskStates().get(ACTION_ID).getSubtaskStates().get(index);
+    }
+
+    private static CompletedCheckpoint checkpoint(long checkpointId, String... subtaskStates) {
+        ActionState actionState = new ActionState(String.valueOf(ACTION_ID), subtaskStates.length);
+        for (int i = 0; i < subtaskStates.length; i++) {
+            actionState.reportState(i, new ActionSubtaskState(ACTION_ID, i,
+                Collections.singletonList(subtaskStates[i].getBytes())));
+        }
+        Map<Long, ActionState> taskStates = new HashMap<>();
+        taskStates.put(ACTION_ID, actionState);
+        return new CompletedCheckpoint(1L, 1, checkpointId, checkpointId, CheckpointType.CHECKPOINT_TYPE,
+            checkpointId, taskStates, new HashMap<>());
+    }
+}
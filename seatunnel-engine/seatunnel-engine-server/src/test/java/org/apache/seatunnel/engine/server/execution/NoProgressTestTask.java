@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * For test use, a thread share task which never makes progress until stopped
+ */
+public class NoProgressTestTask implements Task {
+
+    private final AtomicBoolean stop;
+
+    private final AtomicLong callTimes;
+
+    public NoProgressTestTask(AtomicBoolean stop, AtomicLong callTimes) {
+        this.stop = stop;
+        this.callTimes = callTimes;
+    }
+
+    @NonNull
+    @Override
+    public ProgressState call() {
+        callTimes.incrementAndGet();
+        return stop.get() ? ProgressState.DONE : ProgressState.NO_PROGRESS;
+    }
+
+    @NonNull
+    @Override
+    public Long getTaskID() {
+        return (long) this.hashCode();
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return true;
+    }
+}
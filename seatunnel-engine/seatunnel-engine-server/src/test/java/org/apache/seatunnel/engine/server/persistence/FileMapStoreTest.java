@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.persistence;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+public class FileMapStoreTest {
+
+    private static final String MAP_NAME = "runningJobState";
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testLoadKeysStoredByAllMembers() {
+        File cluster = new File(dir, "seatunnel");
+        FileMapStore member1 = open(cluster, "host1_5801");
+        FileMapStore member2 = open(cluster, "host2_5801");
+        member1.store("job1", "RUNNING");
+        member1.store("job2", "RUNNING");
+        member2.store("job3", "RUNNING");
+        // the partitions of job1 and job2 migrated to member2 later, the values are updated there, the versions
+        // order the writes whatever the clocks of the members are
+        member2.store("job1", "FINISHED");
+        member2.delete("job2");
+        member1.destroy();
+        member2.destroy();
+
+        // any member may be asked for all the keys after the cluster restarts
+        FileMapStore restarted = open(cluster, "host1_5801");
+        try {
+            List<Object> keys = new ArrayList<>();
+            restarted.loadAllKeys().forEach(keys::add);
+            Collections.sort(keys, (a, b) -> ((String) a).compareTo((String) b));
+            Assertions.assertEquals(2, keys.size());
+            Assertions.assertEquals("job1", keys.get(0));
+            Assertions.assertEquals("job3", keys.get(1));
+            Assertions.assertEquals("FINISHED", restarted.load("job1"));
+            Assertions.assertNull(restarted.load("job2"));
+            Assertions.assertEquals("RUNNING", restarted.load("job3"));
+        } finally {
+            restarted.destroy();
+        }
+    }
+
+    @Test
+    public void testClustersDoNotShareEntries() {
+        FileMapStore member1 = open(new File(dir, "cluster1"), "host1_5801");
+        member1.store("job1", "RUNNING");
+        member1.destroy();
+
+        FileMapStore member2 = open(new File(dir, "cluster2"), "host1_5801");
+        try {
+            Assertions.assertFalse(member2.loadAllKeys().iterator().hasNext());
+            Assertions.assertNull(member2.load("job1"));
+        } finally {
+            member2.destroy();
+        }
+    }
+
+    @Test
+    public void testLoadAfterWriteSeesTheOtherMembers() {
+        File cluster = new File(dir, "seatunnel");
+        FileMapStore member1 = open(cluster, "host1_5801");
+        FileMapStore member2 = open(cluster, "host2_5801");
+        // member2 joined after member1 opened the store
+        member1.addMember("host2_5801");
+        try {
+            member2.store("job1", "RUNNING");
+            Assertions.assertTrue(member1.loadAllKeys().iterator().hasNext());
+            member1.store("job2", "RUNNING");
+            // the snapshot of the initial load is not used any more
+            member2.store("job1", "FINISHED");
+            Assertions.assertEquals("FINISHED", member1.load("job1"));
+        } finally {
+            member1.destroy();
+            member2.destroy();
+        }
+    }
+
+    @Test
+    public void testObsoleteEntriesAreCompacted() throws IOException {
+        File cluster = new File(dir, "seatunnel");
+        FileMapStore member1 = open(cluster, "host1_5801");
+        FileMapStore member2 = open(cluster, "host2_5801");
+        member1.addMember("host2_5801");
+        try {
+            member1.store("job1", "RUNNING");
+            member1.store("job2", "RUNNING");
+            member2.store("job1", "FINISHED");
+            // the tombstone is kept while member1 has the older value
+            member2.delete("job1");
+            Assertions.assertEquals(1, LogStructuredKvStore.read(log(cluster, "host2_5801")).size());
+
+            // the value of job1 is superseded by the tombstone
+            member1.compact();
+            Assertions.assertEquals(Collections.singleton("job2"), keys(log(cluster, "host1_5801")));
+            // no older value of job1 any more
+            member2.compact();
+            Assertions.assertTrue(LogStructuredKvStore.read(log(cluster, "host2_5801")).isEmpty());
+
+            // no tombstone is needed when the other members don't have the key
+            member1.delete("job2");
+            Assertions.assertTrue(LogStructuredKvStore.read(log(cluster, "host1_5801")).isEmpty());
+        } finally {
+            member1.destroy();
+            member2.destroy();
+        }
+    }
+
+    private File log(File cluster, String member) {
+        return new File(new File(cluster, member), MAP_NAME + ".log");
+    }
+
+    private Set<Object> keys(File log) throws IOException {
+        Set<Object> keys = new HashSet<>();
+        LogStructuredKvStore.read(log).keySet()
+            .forEach(key -> keys.add(serializationService.toObject(new HeapData(key.array()))));
+        return keys;
+    }
+
+    private FileMapStore open(File cluster, String member) {
+        FileMapStore store = new FileMapStore();
+        store.open(serializationService, cluster, member, MAP_NAME, new Properties());
+        return store;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LogStructuredKvStoreTest {
+
+    private static final long NEVER_COMPACT = Long.MAX_VALUE;
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void testPutGetDeleteAndRecover() throws IOException {
+        File file = new File(dir, "map.log");
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            store.put(bytes("a"), bytes("1"));
+            store.put(bytes("b"), bytes("2"));
+            store.put(bytes("a"), bytes("3"));
+            store.delete(bytes("b"));
+            store.delete(bytes("c"));
+            Assertions.assertEquals("3", string(store.get(bytes("a"))));
+            Assertions.assertNull(store.get(bytes("b")));
+        }
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            Assertions.assertEquals(1, store.size());
+            Assertions.assertEquals("a", string(store.keys().get(0)));
+            Assertions.assertEquals("3", string(store.get(bytes("a"))));
+        }
+    }
+
+    @Test
+    public void testTruncateIncompleteTail() throws IOException {
+        File file = new File(dir, "map.log");
+        long validSize;
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            store.put(bytes("a"), bytes("1"));
+            validSize = store.fileSize();
+            store.put(bytes("b"), bytes("2"));
+        }
+        // a crash in the middle of the last write
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            Assertions.assertEquals(validSize, store.fileSize());
+            Assertions.assertEquals("1", string(store.get(bytes("a"))));
+            Assertions.assertNull(store.get(bytes("b")));
+            store.put(bytes("c"), bytes("3"));
+        }
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            Assertions.assertEquals(2, store.size());
+            Assertions.assertEquals("3", string(store.get(bytes("c"))));
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        File file = new File(dir, "map.log");
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, 0, 0.5)) {
+            for (int i = 0; i < 100; i++) {
+                store.put(bytes("key"), bytes("value-" + i));
+            }
+            store.put(bytes("other"), bytes("value"));
+            // at most the live entries and the garbage below the ratio
+            Assertions.assertTrue(store.fileSize() < 4 * (13 + 3 + 8));
+            Assertions.assertEquals("value-99", string(store.get(bytes("key"))));
+            Assertions.assertEquals("value", string(store.get(bytes("other"))));
+        }
+        Assertions.assertFalse(new File(dir, "map.log.compact").exists());
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, 0, 0.5)) {
+            Assertions.assertEquals(2, store.size());
+            Assertions.assertEquals("value-99", string(store.get(bytes("key"))));
+        }
+    }
+
+    @Test
+    public void testCompactionFilter() throws IOException {
+        File file = new File(dir, "map.log");
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5,
+            (key, value) -> "drop".equals(string(value)))) {
+            store.put(bytes("a"), bytes("keep"));
+            store.put(bytes("b"), bytes("drop"));
+            store.compact();
+            Assertions.assertEquals(1, store.size());
+            Assertions.assertEquals(store.fileSize(), file.length());
+            Assertions.assertNull(store.get(bytes("b")));
+        }
+        Assertions.assertEquals(1, LogStructuredKvStore.read(file).size());
+    }
+
+    @Test
+    public void testFollowLog() throws IOException {
+        File file = new File(dir, "map.log");
+        Map<String, String> entries = new HashMap<>();
+        LogStructuredKvStore.EntryListener listener = new LogStructuredKvStore.EntryListener() {
+            @Override
+            public void accept(byte[] key, byte[] value) {
+                entries.put(string(key), value == null ? null : string(value));
+            }
+
+            @Override
+            public void reset() {
+                entries.clear();
+            }
+        };
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5);
+             LogStructuredKvStore.LogFollower follower = new LogStructuredKvStore.LogFollower(file)) {
+            store.put(bytes("a"), bytes("1"));
+            store.put(bytes("b"), bytes("2"));
+            follower.read(listener);
+            Assertions.assertEquals(2, entries.size());
+
+            // only the entries appended since the previous read are read
+            entries.remove("b");
+            store.delete(bytes("a"));
+            follower.read(listener);
+            Assertions.assertEquals(1, entries.size());
+            Assertions.assertNull(entries.get("a"));
+            Assertions.assertTrue(entries.containsKey("a"));
+
+            // the compacted log is read from the beginning
+            store.put(bytes("c"), bytes("3"));
+            store.compact();
+            follower.read(listener);
+            Assertions.assertEquals(2, entries.size());
+            Assertions.assertEquals("2", entries.get("b"));
+            Assertions.assertEquals("3", entries.get("c"));
+        }
+    }
+
+    @Test
+    public void testRecoverReplacedLog() throws IOException {
+        File file = new File(dir, "map.log");
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            store.put(bytes("a"), bytes("1"));
+            store.compact();
+            store.put(bytes("b"), bytes("2"));
+        }
+        try (LogStructuredKvStore store = new LogStructuredKvStore(file, false, NEVER_COMPACT, 0.5)) {
+            Assertions.assertEquals(2, store.size());
+            Assertions.assertEquals(store.fileSize(), file.length());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
+import org.apache.seatunnel.engine.server.execution.ProgressState;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.queue.BarrierChannel;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+public class IntermediateQueueFlowLifeCycleTest {
+
+    @Test
+    public void testBarrierOvertakesBufferedRecords() throws Exception {
+        BlockingQueue<Record<?>> queue = new ArrayBlockingQueue<>(10);
+        BarrierChannel barrierChannel = new BarrierChannel();
+        RecordingTask task = new RecordingTask();
+        IntermediateQueueFlowLifeCycle producer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+        IntermediateQueueFlowLifeCycle consumer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+
+        CheckpointBarrier barrier = new CheckpointBarrier(1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        producer.received(new Record<>("a"));
+        producer.received(new Record<>("b"));
+        producer.received(new Record<>(barrier));
+        producer.received(new Record<>("c"));
+        // the barrier skips the queue
+        Assertions.assertEquals(3, queue.size());
+
+        List<Object> collected = new ArrayList<>();
+        consumer.collect(new ListCollector(collected));
+
+        Assertions.assertEquals(4, collected.size());
+        Assertions.assertSame(barrier, collected.get(0));
+        Assertions.assertEquals("a", collected.get(1));
+        Assertions.assertEquals("b", collected.get(2));
+        Assertions.assertEquals("c", collected.get(3));
+        // acked by the producer side and the consumer side
+        Assertions.assertEquals(2, task.acks.size());
+        Assertions.assertEquals(2, task.channelState.size());
+
+        IntermediateQueueFlowLifeCycle restored =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), new ArrayBlockingQueue<>(10),
+                new BarrierChannel());
+        restored.restoreChannelState(task.channelState);
+        List<Object> replayed = new ArrayList<>();
+        restored.collect(new ListCollector(replayed));
+        Assertions.assertEquals(2, replayed.size());
+        Assertions.assertEquals("a", replayed.get(0));
+        Assertions.assertEquals("b", replayed.get(1));
+    }
+
+    @Test
+    public void testBarrierAfterConsumedRecords() throws Exception {
+        BlockingQueue<Record<?>> queue = new ArrayBlockingQueue<>(10);
+        BarrierChannel barrierChannel = new BarrierChannel();
+        RecordingTask task = new RecordingTask();
+        IntermediateQueueFlowLifeCycle producer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+        IntermediateQueueFlowLifeCycle consumer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+
+        List<Object> collected = new ArrayList<>();
+        producer.received(new Record<>("a"));
+        consumer.collect(new ListCollector(collected));
+        producer.received(new Record<>(new CheckpointBarrier(1, System.currentTimeMillis(),
+            CheckpointType.CHECKPOINT_TYPE)));
+        consumer.collect(new ListCollector(collected));
+
+        Assertions.assertEquals(2, collected.size());
+        Assertions.assertEquals("a", collected.get(0));
+        Assertions.assertTrue(collected.get(1) instanceof CheckpointBarrier);
+        Assertions.assertTrue(task.channelState.isEmpty());
+    }
+
+    @Test
+    public void testSavepointBarrierDoesNotOvertakeRecords() throws Exception {
+        BlockingQueue<Record<?>> queue = new ArrayBlockingQueue<>(10);
+        BarrierChannel barrierChannel = new BarrierChannel();
+        RecordingTask task = new RecordingTask();
+        IntermediateQueueFlowLifeCycle producer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+        IntermediateQueueFlowLifeCycle consumer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+
+        producer.received(new Record<>("a"));
+        producer.received(new Record<>("b"));
+        producer.received(new Record<>(new CheckpointBarrier(1, System.currentTimeMillis(),
+            CheckpointType.SAVEPOINT_TYPE)));
+        Assertions.assertNull(barrierChannel.peek());
+
+        List<Object> collected = new ArrayList<>();
+        consumer.collect(new ListCollector(collected));
+
+        Assertions.assertEquals(3, collected.size());
+        Assertions.assertEquals("a", collected.get(0));
+        Assertions.assertEquals("b", collected.get(1));
+        Assertions.assertTrue(collected.get(2) instanceof CheckpointBarrier);
+        Assertions.assertNull(task.channelState);
+    }
+
+    @Test
+    public void testFullQueueKeepsRecordsPending() throws Exception {
+        BlockingQueue<Record<?>> queue = new ArrayBlockingQueue<>(1);
+        BarrierChannel barrierChannel = new BarrierChannel();
+        RecordingTask task = new RecordingTask();
+        IntermediateQueueFlowLifeCycle producer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+        IntermediateQueueFlowLifeCycle consumer =
+            new IntermediateQueueFlowLifeCycle(task, new CompletableFuture<>(), queue, barrierChannel);
+
+        producer.received(new Record<>("a"));
+        producer.received(new Record<>("b"));
+        producer.received(new Record<>(new CheckpointBarrier(1, System.currentTimeMillis(),
+            CheckpointType.CHECKPOINT_TYPE)));
+        Assertions.assertFalse(producer.flush());
+        // the barrier waits behind the pending record
+        Assertions.assertNull(barrierChannel.peek());
+
+        List<Object> collected = new ArrayList<>();
+        consumer.collect(new ListCollector(collected));
+        Assertions.assertTrue(producer.flush());
+        consumer.collect(new ListCollector(collected));
+
+        // the barrier only overtakes the record which was put into the queue before it
+        Assertions.assertEquals(3, collected.size());
+        Assertions.assertEquals("a", collected.get(0));
+        Assertions.assertTrue(collected.get(1) instanceof CheckpointBarrier);
+        Assertions.assertEquals("b", collected.get(2));
+        Assertions.assertEquals(1, task.channelState.size());
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+
+        private final List<Object> collected;
+
+        ListCollector(List<Object> collected) {
+            this.collected = collected;
+        }
+
+        @Override
+        public void collect(Record<?> record) {
+            collected.add(record.getData());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class RecordingTask extends SeaTunnelTask {
+
+        private final List<Long> acks = new ArrayList<>();
+
+        private List<byte[]> channelState;
+
+        RecordingTask() {
+            super(1, new TaskLocation(), 0, null);
+        }
+
+        @Override
+        public void ack(Barrier barrier) {
+            acks.add(barrier.getId());
+        }
+
+        @Override
+        public void addChannelState(Barrier barrier, List<byte[]> channelState) {
+            this.channelState = channelState;
+        }
+
+        @Override
+        protected SourceFlowLifeCycle<?, ?> createSourceFlowLifeCycle(SourceAction<?, ?, ?> sourceAction,
+                                                                      SourceConfig config,
+                                                                      CompletableFuture<Void> completableFuture) {
+            return null;
+        }
+
+        @Override
+        protected void collect() {
+        }
+
+        @Override
+        public ProgressState call() {
+            return null;
+        }
+    }
+}
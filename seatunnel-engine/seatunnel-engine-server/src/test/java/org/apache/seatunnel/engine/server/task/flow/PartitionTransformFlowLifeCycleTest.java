@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.PartitionSeaTunnelTransform;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.PartitionTransformAction;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.dag.physical.config.PartitionConfig;
+import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
+import org.apache.seatunnel.engine.server.execution.ProgressState;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PartitionTransformFlowLifeCycleTest extends AbstractSeaTunnelServerTest {
+
+    private static final AtomicLong JOB_ID = new AtomicLong(System.currentTimeMillis());
+
+    @Test
+    public void testRecordsAreSentToTheirTargets() throws Exception {
+        long jobId = JOB_ID.incrementAndGet();
+        PartitionTransformAction action = action(1, 2);
+        PartitionTransformSinkFlowLifeCycle writer = writer(jobId, action, 0);
+        for (int i = 0; i < 4; i++) {
+            writer.received(new Record<>(i));
+        }
+        Assertions.assertTrue(writer.flush());
+
+        // round robin, the reader of each target only gets its records
+        Assertions.assertEquals(Arrays.asList(0, 2), collect(reader(jobId, action, 0)));
+        Assertions.assertEquals(Arrays.asList(1, 3), collect(reader(jobId, action, 1)));
+    }
+
+    @Test
+    public void testBarriersAreAligned() throws Exception {
+        long jobId = JOB_ID.incrementAndGet();
+        PartitionTransformAction action = action(2, 1);
+        PartitionTransformSinkFlowLifeCycle first = writer(jobId, action, 0);
+        PartitionTransformSinkFlowLifeCycle second = writer(jobId, action, 1);
+        RecordingTask readerTask = task(jobId);
+        PartitionTransformSourceFlowLifeCycle reader =
+            new PartitionTransformSourceFlowLifeCycle(action, new PartitionConfig(2, 1, 0), readerTask,
+                new CompletableFuture<>());
+        reader.init();
+
+        CheckpointBarrier barrier = new CheckpointBarrier(1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        first.received(new Record<>("a"));
+        first.received(new Record<>(barrier));
+        first.received(new Record<>("b"));
+        Assertions.assertTrue(first.flush());
+        second.received(new Record<>("c"));
+        Assertions.assertTrue(second.flush());
+
+        // the records after the barrier wait until the barrier arrives from all the upstreams
+        List<Object> collected = new ArrayList<>();
+        reader.collect(new ListCollector(collected));
+        Assertions.assertEquals(Arrays.asList("a", "c"), collected);
+        Assertions.assertTrue(readerTask.acks.isEmpty());
+
+        second.received(new Record<>(barrier));
+        reader.collect(new ListCollector(collected));
+        Assertions.assertEquals(3, collected.size());
+        reader.collect(new ListCollector(collected));
+        Assertions.assertEquals(4, collected.size());
+        Assertions.assertTrue(collected.get(2) instanceof CheckpointBarrier);
+        Assertions.assertEquals("b", collected.get(3));
+        Assertions.assertEquals(Collections.singletonList(1L), readerTask.acks);
+        reader.close();
+    }
+
+    @Test
+    public void testDestroyedRingbuffersAreNotReadAgain() throws Exception {
+        long jobId = JOB_ID.incrementAndGet();
+        PartitionTransformAction action = action(1, 1);
+        PartitionTransformSinkFlowLifeCycle writer = writer(jobId, action, 0);
+        writer.received(new Record<>("stale"));
+        Assertions.assertTrue(writer.flush());
+
+        // the master destroys the ringbuffers before the pipeline is deployed again
+        PartitionTransformSinkFlowLifeCycle.destroyRingbuffers(instance, jobId, action);
+        PartitionTransformSinkFlowLifeCycle restoredWriter = writer(jobId, action, 0);
+        restoredWriter.received(new Record<>("fresh"));
+        Assertions.assertTrue(restoredWriter.flush());
+
+        Assertions.assertEquals(Collections.singletonList("fresh"), collect(reader(jobId, action, 0)));
+    }
+
+    private PartitionTransformSinkFlowLifeCycle writer(long jobId, PartitionTransformAction action, int index)
+        throws Exception {
+        PartitionSeaTunnelTransform transform = action.getPartitionTransformation();
+        PartitionTransformSinkFlowLifeCycle writer = new PartitionTransformSinkFlowLifeCycle(action,
+            new PartitionConfig(transform.getPartitionCount(), transform.getTargetCount(), index), task(jobId),
+            new CompletableFuture<>());
+        writer.init();
+        return writer;
+    }
+
+    private PartitionTransformSourceFlowLifeCycle reader(long jobId, PartitionTransformAction action, int index)
+        throws Exception {
+        PartitionSeaTunnelTransform transform = action.getPartitionTransformation();
+        PartitionTransformSourceFlowLifeCycle reader = new PartitionTransformSourceFlowLifeCycle(action,
+            new PartitionConfig(transform.getPartitionCount(), transform.getTargetCount(), index), task(jobId),
+            new CompletableFuture<>());
+        reader.init();
+        return reader;
+    }
+
+    private static List<Object> collect(PartitionTransformSourceFlowLifeCycle reader) throws Exception {
+        List<Object> collected = new ArrayList<>();
+        reader.collect(new ListCollector(collected));
+        reader.close();
+        return collected;
+    }
+
+    private RecordingTask task(long jobId) {
+        RecordingTask task = new RecordingTask(jobId);
+        task.setTaskExecutionContext(new TaskExecutionContext(task, instance.node.nodeEngine));
+        return task;
+    }
+
+    private static PartitionTransformAction action(int partitionCount, int targetCount) {
+        return new PartitionTransformAction(1, "partition", new TestPartitionTransform(partitionCount, targetCount),
+            Collections.emptySet());
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+
+        private final List<Object> collected;
+
+        ListCollector(List<Object> collected) {
+            this.collected = collected;
+        }
+
+        @Override
+        public void collect(Record<?> record) {
+            collected.add(record.getData());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class RecordingTask extends SeaTunnelTask {
+
+        private final List<Long> acks = new ArrayList<>();
+
+        RecordingTask(long jobId) {
+            super(jobId, new TaskLocation(), 0, null);
+        }
+
+        @Override
+        public void ack(Barrier barrier) {
+            acks.add(barrier.getId());
+        }
+
+        @Override
+        protected SourceFlowLifeCycle<?, ?> createSourceFlowLifeCycle(SourceAction<?, ?, ?> sourceAction,
+                                                                      SourceConfig config,
+                                                                      CompletableFuture<Void> completableFuture) {
+            return null;
+        }
+
+        @Override
+        protected void collect() {
+        }
+
+        @Override
+        public ProgressState call() {
+            return null;
+        }
+    }
+
+    private static class TestPartitionTransform implements PartitionSeaTunnelTransform {
+
+        private final int partitionCount;
+
+        private final int targetCount;
+
+        TestPartitionTransform(int partitionCount, int targetCount) {
+            this.partitionCount = partitionCount;
+            this.targetCount = targetCount;
+        }
+
+        @Override
+        public int getPartitionCount() {
+            return partitionCount;
+        }
+
+        @Override
+        public int getTargetCount() {
+            return targetCount;
+        }
+
+        @Override
+        public Record<?> map(Record<?> row) {
+            return row;
+        }
+
+        @Override
+        public void setTypeInfo(SeaTunnelDataType<Record<?>> seaTunnelRowType) {
+        }
+
+        @Override
+        public SeaTunnelDataType<Record<?>> getProducedType() {
+            return null;
+        }
+
+        @Override
+        public void prepare(Config pluginConfig) {
+        }
+
+        @Override
+        public String getPluginName() {
+            return "TestPartition";
+        }
+    }
+}
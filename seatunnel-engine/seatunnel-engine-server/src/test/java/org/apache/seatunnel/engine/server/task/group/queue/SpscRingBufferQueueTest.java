@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class SpscRingBufferQueueTest {
+
+    private static final int CAPACITY = 1000;
+
+    private static final int DRAIN_SIZE = 1024;
+
+    @Test
+    public void testOfferAndPoll() throws InterruptedException {
+        BlockingQueue<Integer> queue = new SpscRingBufferQueue<>(3);
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll());
+        Assertions.assertTrue(queue.offer(1));
+        Assertions.assertTrue(queue.offer(2));
+        Assertions.assertTrue(queue.offer(3));
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(3, queue.size());
+        Assertions.assertEquals(0, queue.remainingCapacity());
+        Assertions.assertEquals(1, queue.peek());
+        Assertions.assertEquals(1, queue.poll());
+        Assertions.assertTrue(queue.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(2, queue.drainTo(drained, 2));
+        Assertions.assertEquals(1, queue.drainTo(drained));
+        Assertions.assertEquals(0, queue.drainTo(drained));
+        Assertions.assertEquals(3, drained.size());
+        for (int i = 0; i < drained.size(); i++) {
+            Assertions.assertEquals(i + 2, drained.get(i));
+        }
+        Assertions.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testIterator() {
+        BlockingQueue<Integer> queue = new SpscRingBufferQueue<>(3);
+        queue.offer(1);
+        queue.offer(2);
+        queue.poll();
+        queue.offer(3);
+        queue.offer(4);
+        Assertions.assertEquals(Arrays.asList(2, 3, 4), new ArrayList<>(queue));
+        Assertions.assertTrue(queue.contains(3));
+
+        // the first record is fetched when the iterator is created, the consumed 3 is skipped and the new 5 is ignored
+        Iterator<Integer> iterator = queue.iterator();
+        queue.poll();
+        queue.poll();
+        queue.offer(5);
+        Assertions.assertEquals(2, iterator.next());
+        Assertions.assertEquals(4, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void testConcurrentProducerAndConsumerKeepOrder() throws Exception {
+        transfer(new SpscRingBufferQueue<>(CAPACITY), 1_000_000);
+    }
+
+    /**
+     * Not a strict benchmark, only print the throughput of the queues which can be used by the intermediate queue.
+     */
+    @Test
+    public void testThroughputCompareWithBlockingQueue() throws Exception {
+        int records = 2_000_000;
+        // warm up
+        transfer(new ArrayBlockingQueue<>(CAPACITY), records);
+        transfer(new SpscRingBufferQueue<>(CAPACITY), records);
+
+        long blockingQueueNanos = transfer(new ArrayBlockingQueue<>(CAPACITY), records);
+        long ringBufferNanos = transfer(new SpscRingBufferQueue<>(CAPACITY), records);
+        log.info(String.format("Transfer %s records, ArrayBlockingQueue: %s records/s, SpscRingBufferQueue: %s records/s",
+            records, records * TimeUnit.SECONDS.toNanos(1) / blockingQueueNanos,
+            records * TimeUnit.SECONDS.toNanos(1) / ringBufferNanos));
+    }
+
+    /**
+     * Transfer records from one producer thread to the current thread like the intermediate queue does, and check
+     * the order of the received records.
+     *
+     * @return the nanos used to transfer all records
+     */
+    private static long transfer(BlockingQueue<Integer> queue, int records) throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < records; i++) {
+                    queue.put(i);
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        List<Integer> buffer = new ArrayList<>(DRAIN_SIZE);
+        int expected = 0;
+        while (expected < records) {
+            if (queue.drainTo(buffer, DRAIN_SIZE) == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (Integer record : buffer) {
+                Assertions.assertEquals(expected++, record);
+            }
+            buffer.clear();
+        }
+        producer.get();
+        Assertions.assertTrue(queue.isEmpty());
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.partition;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.PartitionSeaTunnelTransform;
+import org.apache.seatunnel.api.transform.PartitionType;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PartitionerTest {
+
+    private static final int TARGET_COUNT = 32;
+
+    @Test
+    public void testRoundRobin() {
+        Partitioner partitioner = Partitioner.of(new TestPartitionTransform(PartitionType.ROUND_ROBIN));
+        Assertions.assertTrue(partitioner instanceof RoundRobinPartitioner);
+        for (int i = 0; i < TARGET_COUNT * 2; i++) {
+            Assertions.assertEquals(i % TARGET_COUNT, partitioner.select(record(i), TARGET_COUNT));
+        }
+    }
+
+    @Test
+    public void testHashAndKeyGroupAreStable() {
+        for (PartitionType type : new PartitionType[]{PartitionType.HASH, PartitionType.KEY_GROUP}) {
+            Partitioner partitioner = Partitioner.of(new TestPartitionTransform(type));
+            int[] counts = new int[TARGET_COUNT];
+            for (int i = 0; i < TARGET_COUNT * 100; i++) {
+                int target = partitioner.select(record(i), TARGET_COUNT);
+                Assertions.assertTrue(target >= 0 && target < TARGET_COUNT);
+                Assertions.assertEquals(target, partitioner.select(record(i), TARGET_COUNT));
+                counts[target]++;
+            }
+            for (int count : counts) {
+                Assertions.assertTrue(count > 0, type + " should use all the targets");
+            }
+        }
+    }
+
+    private static Record<?> record(int id) {
+        return new Record<>(new SeaTunnelRow(new Object[]{id, "name-" + id}));
+    }
+
+    private static class TestPartitionTransform implements PartitionSeaTunnelTransform {
+
+        private final PartitionType partitionType;
+
+        TestPartitionTransform(PartitionType partitionType) {
+            this.partitionType = partitionType;
+        }
+
+        @Override
+        public int getPartitionCount() {
+            return 1;
+        }
+
+        @Override
+        public int getTargetCount() {
+            return TARGET_COUNT;
+        }
+
+        @Override
+        public PartitionType getPartitionType() {
+            return partitionType;
+        }
+
+        @Override
+        public Object getPartitionKey(Record<?> record) {
+            return ((SeaTunnelRow) record.getData()).getField(0);
+        }
+
+        @Override
+        public Record<?> map(Record<?> row) {
+            return row;
+        }
+
+        @Override
+        public void setTypeInfo(SeaTunnelDataType<Record<?>> seaTunnelRowType) {
+        }
+
+        @Override
+        public SeaTunnelDataType<Record<?>> getProducedType() {
+            return null;
+        }
+
+        @Override
+        public void prepare(Config pluginConfig) {
+        }
+
+        @Override
+        public String getPluginName() {
+            return "TestPartition";
+        }
+    }
+}
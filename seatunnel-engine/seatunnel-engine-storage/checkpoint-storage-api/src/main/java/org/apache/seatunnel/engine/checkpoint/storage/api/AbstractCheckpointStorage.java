@@ -34,6 +34,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -172,15 +174,16 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
     }
 
     @Override
-    public void asyncStoreCheckPoint(PipelineState state) {
+    public CompletableFuture<String> asyncStoreCheckPoint(PipelineState state) {
         initExecutor();
-        this.executorService.submit(() -> {
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                storeCheckPoint(state);
+                return storeCheckPoint(state);
             } catch (Exception e) {
                 log.error(String.format("store checkpoint failed, job id : %s, pipeline id : %d", state.getJobId(), state.getPipelineId()), e);
+                throw new CompletionException(e);
             }
-        });
+        }, this.executorService);
     }
 
     private void initExecutor() {
@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface CheckpointStorage {
 
@@ -37,11 +38,14 @@ public interface CheckpointStorage {
 
     /**
      * async save checkpoint to storage
+     * <p>
+     * The checkpoints stored concurrently may be completed in any order, the caller need to chain the returned
+     * futures if the order matters.
      *
      * @param state PipelineState
-     * @throws CheckpointStorageException if save checkpoint failed
+     * @return the future of the checkpoint name, completed exceptionally if save checkpoint failed
      */
-    void asyncStoreCheckPoint(PipelineState state) throws CheckpointStorageException;
+    CompletableFuture<String> asyncStoreCheckPoint(PipelineState state);
 
     /**
      * get all checkpoint from storage
@@ -81,6 +81,21 @@ public class LocalFileStorageTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testAsyncStoreCheckPoint() throws CheckpointStorageException {
+        String jobId = JOB_ID + "-async";
+        PipelineState pipelineState = PipelineState.builder()
+            .jobId(jobId)
+            .pipelineId(1)
+            .checkpointId(1)
+            .states(new byte[0])
+            .build();
+        String checkpointName = STORAGE.asyncStoreCheckPoint(pipelineState).join();
+        Assertions.assertNotNull(checkpointName);
+        Assertions.assertEquals(1, STORAGE.getLatestCheckpointByJobIdAndPipelineId(jobId, "1").getCheckpointId());
+        STORAGE.deleteCheckpoint(jobId);
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.IOException;
+
+/**
+ * Deserializes Avro binary data written by {@link AvroSerializationSchema} to a {@link SeaTunnelRow}.
+ */
+public class AvroDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
+
+    private static final long serialVersionUID = -7193385683396219218L;
+
+    private final SeaTunnelRowType rowType;
+
+    private final AvroToRowConverters.AvroToRowConverter runtimeConverter;
+
+    /** Reusable decoder. */
+    private transient BinaryDecoder decoder;
+
+    public AvroDeserializationSchema(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+        this.runtimeConverter = new AvroToRowConverters().createRowConverter(checkNotNull(rowType));
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(byte[] message) throws IOException {
+        if (message == null) {
+            return null;
+        }
+        decoder = DecoderFactory.get().binaryDecoder(message, decoder);
+        return (SeaTunnelRow) runtimeConverter.convert(decoder);
+    }
+
+    @Override
+    public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+        return rowType;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+
+/**
+ * Converts a {@link SeaTunnelRowType} to the Avro record {@link Schema} written by {@link AvroSerializationSchema}.
+ *
+ * <p>Every field, array element and map value is nullable. Decimals are encoded as bytes with the decimal logical
+ * type, dates as days since epoch, times as microseconds of the day and timestamps as local microseconds since epoch.
+ * Map keys must be strings.
+ */
+public class AvroSchemaConverter {
+
+    public static final String DEFAULT_RECORD_NAME = "SeaTunnelRecord";
+
+    private AvroSchemaConverter() {
+    }
+
+    /**
+     * Returns the Avro schema of the row type.
+     */
+    public static Schema convertToSchema(SeaTunnelRowType rowType) {
+        return convertToRecord(rowType, DEFAULT_RECORD_NAME);
+    }
+
+    private static Schema convertToRecord(SeaTunnelRowType rowType, String recordName) {
+        SchemaBuilder.FieldAssembler<Schema> fields = SchemaBuilder.record(recordName).fields();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String fieldName = rowType.getFieldName(i);
+            Schema fieldSchema = convertToSchema(rowType.getFieldType(i), recordName + "_" + fieldName);
+            fields = fields.name(fieldName).type(fieldSchema).withDefault(null);
+        }
+        return fields.endRecord();
+    }
+
+    private static Schema convertToSchema(SeaTunnelDataType<?> dataType, String recordName) {
+        if (dataType.getSqlType() == SqlType.NULL) {
+            return Schema.create(Schema.Type.NULL);
+        }
+        return Schema.createUnion(Schema.create(Schema.Type.NULL), convertToNonNullSchema(dataType, recordName));
+    }
+
+    private static Schema convertToNonNullSchema(SeaTunnelDataType<?> dataType, String recordName) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return Schema.create(Schema.Type.BOOLEAN);
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+                return Schema.create(Schema.Type.INT);
+            case BIGINT:
+                return Schema.create(Schema.Type.LONG);
+            case FLOAT:
+                return Schema.create(Schema.Type.FLOAT);
+            case DOUBLE:
+                return Schema.create(Schema.Type.DOUBLE);
+            case STRING:
+                return Schema.create(Schema.Type.STRING);
+            case BYTES:
+                return Schema.create(Schema.Type.BYTES);
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) dataType;
+                return LogicalTypes.decimal(decimalType.getPrecision(), decimalType.getScale())
+                    .addToSchema(Schema.create(Schema.Type.BYTES));
+            case DATE:
+                return LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+            case TIME:
+                return LogicalTypes.timeMicros().addToSchema(Schema.create(Schema.Type.LONG));
+            case TIMESTAMP:
+                return LogicalTypes.localTimestampMicros().addToSchema(Schema.create(Schema.Type.LONG));
+            case ARRAY:
+                return Schema.createArray(convertToSchema(((ArrayType<?, ?>) dataType).getElementType(), recordName));
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                if (mapType.getKeyType().getSqlType() != SqlType.STRING) {
+                    throw new UnsupportedOperationException("SeaTunnel format avro only supports maps with string keys, but got " + mapType);
+                }
+                return Schema.createMap(convertToSchema(mapType.getValueType(), recordName));
+            case ROW:
+                return convertToRecord((SeaTunnelRowType) dataType, recordName);
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format avro not supported for type " + dataType);
+        }
+    }
+}
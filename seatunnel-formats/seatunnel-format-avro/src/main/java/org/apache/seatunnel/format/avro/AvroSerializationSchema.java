@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Serializes a {@link SeaTunnelRow} to Avro binary data, without any header, in the schema returned by
+ * {@link #getSchema()}.
+ */
+public class AvroSerializationSchema implements SerializationSchema {
+
+    private static final long serialVersionUID = 1846322345396713592L;
+
+    /**
+     * RowType to generate the runtime converter.
+     */
+    private final SeaTunnelRowType rowType;
+
+    private final RowToAvroConverters.RowToAvroConverter runtimeConverter;
+
+    /** The schema of the rows, built once per serializer. */
+    private transient Schema schema;
+
+    /** Reusable output buffer and encoder. */
+    private transient ByteArrayOutputStream out;
+    private transient BinaryEncoder encoder;
+
+    public AvroSerializationSchema(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+        this.runtimeConverter = new RowToAvroConverters().createNotNullConverter(checkNotNull(rowType));
+    }
+
+    public Schema getSchema() {
+        if (schema == null) {
+            schema = AvroSchemaConverter.convertToSchema(rowType);
+        }
+        return schema;
+    }
+
+    @Override
+    public byte[] serialize(SeaTunnelRow row) {
+        if (out == null) {
+            out = new ByteArrayOutputStream();
+        }
+        out.reset();
+        try {
+            encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+            runtimeConverter.convert(encoder, row);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (Throwable e) {
+            throw new RuntimeException(String.format("Failed to serialize row '%s' to Avro.", row), e);
+        }
+    }
+}
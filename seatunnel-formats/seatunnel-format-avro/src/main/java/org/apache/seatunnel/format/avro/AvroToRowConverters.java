@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.avro.io.Decoder;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the converters which read SeaTunnel values straight from an Avro {@link Decoder}, the counterpart of
+ * {@link RowToAvroConverters}.
+ */
+public class AvroToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 4211350421683935652L;
+
+    private static final int NULL_INDEX = 0;
+    private static final long MICROS_PER_SECOND = TimeUnit.SECONDS.toMicros(1);
+    private static final long NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+    public AvroToRowConverter createConverter(SeaTunnelDataType<?> type) {
+        if (type.getSqlType() == SqlType.NULL) {
+            return decoder -> {
+                decoder.readNull();
+                return null;
+            };
+        }
+        return wrapIntoNullableConverter(createNotNullConverter(type));
+    }
+
+    private AvroToRowConverter wrapIntoNullableConverter(AvroToRowConverter converter) {
+        return decoder -> {
+            if (decoder.readIndex() == NULL_INDEX) {
+                decoder.readNull();
+                return null;
+            }
+            return converter.convert(decoder);
+        };
+    }
+
+    AvroToRowConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return Decoder::readBoolean;
+            case TINYINT:
+                return decoder -> (byte) decoder.readInt();
+            case SMALLINT:
+                return decoder -> (short) decoder.readInt();
+            case INT:
+                return Decoder::readInt;
+            case BIGINT:
+                return Decoder::readLong;
+            case FLOAT:
+                return Decoder::readFloat;
+            case DOUBLE:
+                return Decoder::readDouble;
+            case STRING:
+                return Decoder::readString;
+            case BYTES:
+                return AvroToRowConverters::readBytes;
+            case DECIMAL:
+                int scale = ((DecimalType) type).getScale();
+                return decoder -> new BigDecimal(new BigInteger(readBytes(decoder)), scale);
+            case DATE:
+                return decoder -> LocalDate.ofEpochDay(decoder.readInt());
+            case TIME:
+                return decoder -> LocalTime.ofNanoOfDay(TimeUnit.MICROSECONDS.toNanos(decoder.readLong()));
+            case TIMESTAMP:
+                return decoder -> {
+                    long micros = decoder.readLong();
+                    return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                        (int) (Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO), ZoneOffset.UTC);
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type);
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format avro not supported for type " + type);
+        }
+    }
+
+    private static byte[] readBytes(Decoder decoder) throws IOException {
+        ByteBuffer buffer = decoder.readBytes(null);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private AvroToRowConverter createArrayConverter(ArrayType<?, ?> arrayType) {
+        AvroToRowConverter elementConverter = createConverter(arrayType.getElementType());
+        Class<?> elementClass = arrayType.getTypeClass().getComponentType();
+        return decoder -> {
+            List<Object> elements = new ArrayList<>();
+            for (long count = decoder.readArrayStart(); count != 0; count = decoder.arrayNext()) {
+                for (long i = 0; i < count; i++) {
+                    elements.add(elementConverter.convert(decoder));
+                }
+            }
+            return elements.toArray((Object[]) Array.newInstance(elementClass, elements.size()));
+        };
+    }
+
+    private AvroToRowConverter createMapConverter(MapType<?, ?> mapType) {
+        AvroToRowConverter valueConverter = createConverter(mapType.getValueType());
+        return decoder -> {
+            Map<String, Object> map = new HashMap<>();
+            for (long count = decoder.readMapStart(); count != 0; count = decoder.mapNext()) {
+                for (long i = 0; i < count; i++) {
+                    map.put(decoder.readString(), valueConverter.convert(decoder));
+                }
+            }
+            return map;
+        };
+    }
+
+    AvroToRowConverter createRowConverter(SeaTunnelRowType rowType) {
+        AvroToRowConverter[] fieldConverters = new AvroToRowConverter[rowType.getTotalFields()];
+        for (int i = 0; i < fieldConverters.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+        }
+        return decoder -> {
+            SeaTunnelRow row = new SeaTunnelRow(fieldConverters.length);
+            for (int i = 0; i < fieldConverters.length; i++) {
+                row.setField(i, fieldConverters[i].convert(decoder));
+            }
+            return row;
+        };
+    }
+
+    /**
+     * Runtime converter that reads a SeaTunnel value from an Avro {@link Decoder}.
+     */
+    @FunctionalInterface
+    public interface AvroToRowConverter extends Serializable {
+        Object convert(Decoder decoder) throws IOException;
+    }
+}
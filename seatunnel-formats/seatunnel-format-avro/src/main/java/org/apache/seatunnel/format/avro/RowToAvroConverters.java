@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the converters which encode SeaTunnel values straight into an Avro {@link Encoder} following the schema of
+ * {@link AvroSchemaConverter}, the converters are built once per row type so no intermediate record is created.
+ */
+public class RowToAvroConverters implements Serializable {
+
+    private static final long serialVersionUID = -3398725315587264384L;
+
+    private static final int NULL_INDEX = 0;
+    private static final int VALUE_INDEX = 1;
+
+    public RowToAvroConverter createConverter(SeaTunnelDataType<?> type) {
+        if (type.getSqlType() == SqlType.NULL) {
+            return (encoder, value) -> encoder.writeNull();
+        }
+        return wrapIntoNullableConverter(createNotNullConverter(type));
+    }
+
+    private RowToAvroConverter wrapIntoNullableConverter(RowToAvroConverter converter) {
+        return (encoder, value) -> {
+            if (value == null) {
+                encoder.writeIndex(NULL_INDEX);
+                encoder.writeNull();
+            } else {
+                encoder.writeIndex(VALUE_INDEX);
+                converter.convert(encoder, value);
+            }
+        };
+    }
+
+    RowToAvroConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return (encoder, value) -> encoder.writeBoolean((Boolean) value);
+            case TINYINT:
+                return (encoder, value) -> encoder.writeInt((Byte) value);
+            case SMALLINT:
+                return (encoder, value) -> encoder.writeInt((Short) value);
+            case INT:
+                return (encoder, value) -> encoder.writeInt((Integer) value);
+            case BIGINT:
+                return (encoder, value) -> encoder.writeLong((Long) value);
+            case FLOAT:
+                return (encoder, value) -> encoder.writeFloat((Float) value);
+            case DOUBLE:
+                return (encoder, value) -> encoder.writeDouble((Double) value);
+            case STRING:
+                return (encoder, value) -> encoder.writeString((String) value);
+            case BYTES:
+                return (encoder, value) -> encoder.writeBytes((byte[]) value);
+            case DECIMAL:
+                int scale = ((DecimalType) type).getScale();
+                return (encoder, value) -> encoder.writeBytes(
+                    ((BigDecimal) value).setScale(scale, RoundingMode.HALF_UP).unscaledValue().toByteArray());
+            case DATE:
+                return (encoder, value) -> encoder.writeInt((int) ((LocalDate) value).toEpochDay());
+            case TIME:
+                return (encoder, value) -> encoder.writeLong(TimeUnit.NANOSECONDS.toMicros(((LocalTime) value).toNanoOfDay()));
+            case TIMESTAMP:
+                return (encoder, value) -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    encoder.writeLong(TimeUnit.SECONDS.toMicros(dateTime.toEpochSecond(ZoneOffset.UTC))
+                        + TimeUnit.NANOSECONDS.toMicros(dateTime.getNano()));
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type);
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format avro not supported for type " + type);
+        }
+    }
+
+    private RowToAvroConverter createArrayConverter(ArrayType<?, ?> arrayType) {
+        RowToAvroConverter elementConverter = createConverter(arrayType.getElementType());
+        return (encoder, value) -> {
+            Object[] array = (Object[]) value;
+            encoder.writeArrayStart();
+            encoder.setItemCount(array.length);
+            for (Object element : array) {
+                encoder.startItem();
+                elementConverter.convert(encoder, element);
+            }
+            encoder.writeArrayEnd();
+        };
+    }
+
+    private RowToAvroConverter createMapConverter(MapType<?, ?> mapType) {
+        RowToAvroConverter valueConverter = createConverter(mapType.getValueType());
+        return (encoder, value) -> {
+            Map<?, ?> map = (Map<?, ?>) value;
+            encoder.writeMapStart();
+            encoder.setItemCount(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                encoder.startItem();
+                encoder.writeString(entry.getKey().toString());
+                valueConverter.convert(encoder, entry.getValue());
+            }
+            encoder.writeMapEnd();
+        };
+    }
+
+    private RowToAvroConverter createRowConverter(SeaTunnelRowType rowType) {
+        RowToAvroConverter[] fieldConverters = new RowToAvroConverter[rowType.getTotalFields()];
+        for (int i = 0; i < fieldConverters.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+        }
+        return (encoder, value) -> {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            for (int i = 0; i < fieldConverters.length; i++) {
+                fieldConverters[i].convert(encoder, row.getField(i));
+            }
+        };
+    }
+
+    /**
+     * Runtime converter that writes a SeaTunnel value to an Avro {@link Encoder}.
+     */
+    @FunctionalInterface
+    public interface RowToAvroConverter extends Serializable {
+        void convert(Encoder encoder, Object value) throws IOException;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.avro;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AvroFormatSchemaTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @SuppressWarnings("checkstyle:Indentation")
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{
+            "array_field",
+            "map_field",
+            "string_field",
+            "boolean_field",
+            "tinyint_field",
+            "smallint_field",
+            "int_field",
+            "bigint_field",
+            "float_field",
+            "double_field",
+            "decimal_field",
+            "null_field",
+            "bytes_field",
+            "date_field",
+            "time_field",
+            "timestamp_field",
+            "row_field"},
+        new SeaTunnelDataType<?>[]{
+            ArrayType.INT_ARRAY_TYPE,
+            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+            BasicType.STRING_TYPE,
+            BasicType.BOOLEAN_TYPE,
+            BasicType.BYTE_TYPE,
+            BasicType.SHORT_TYPE,
+            BasicType.INT_TYPE,
+            BasicType.LONG_TYPE,
+            BasicType.FLOAT_TYPE,
+            BasicType.DOUBLE_TYPE,
+            new DecimalType(10, 4),
+            BasicType.VOID_TYPE,
+            PrimitiveByteArrayType.INSTANCE,
+            LocalTimeType.LOCAL_DATE_TYPE,
+            LocalTimeType.LOCAL_TIME_TYPE,
+            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+            NESTED_TYPE});
+
+    private static SeaTunnelRow createRow() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("tyrantlucifer", 18);
+        map.put("Kris", null);
+        return new SeaTunnelRow(new Object[]{
+            new Integer[]{1, null, 3},
+            map,
+            "tyrantlucifer",
+            true,
+            (byte) 1,
+            (short) 2,
+            3,
+            4L,
+            6.66f,
+            7.77d,
+            new BigDecimal("8.8888"),
+            null,
+            "tyrantlucifer".getBytes(),
+            LocalDate.of(2022, 9, 24),
+            LocalTime.of(22, 45, 0, 123456000),
+            LocalDateTime.of(1969, 9, 24, 22, 45, 0, 123456000),
+            new SeaTunnelRow(new Object[]{1, null})});
+    }
+
+    @Test
+    public void testSerializeAndDeserialize() throws IOException {
+        SeaTunnelRow row = createRow();
+        byte[] bytes = new AvroSerializationSchema(ROW_TYPE).serialize(row);
+        SeaTunnelRow deserialized = new AvroDeserializationSchema(ROW_TYPE).deserialize(bytes);
+
+        Assertions.assertArrayEquals((Object[]) row.getField(0), (Object[]) deserialized.getField(0));
+        Assertions.assertArrayEquals((byte[]) row.getField(12), (byte[]) deserialized.getField(12));
+        for (int i = 1; i < row.getArity(); i++) {
+            if (i != 12) {
+                Assertions.assertEquals(row.getField(i), deserialized.getField(i), ROW_TYPE.getFieldName(i));
+            }
+        }
+        Assertions.assertEquals(Integer[].class, deserialized.getField(0).getClass());
+    }
+
+    @Test
+    public void testReadWithGenericAvroReader() throws IOException {
+        AvroSerializationSchema serializationSchema = new AvroSerializationSchema(ROW_TYPE);
+        Schema schema = serializationSchema.getSchema();
+        Assertions.assertSame(schema, serializationSchema.getSchema());
+        Assertions.assertEquals(schema, AvroSchemaConverter.convertToSchema(ROW_TYPE));
+
+        byte[] bytes = serializationSchema.serialize(createRow());
+        GenericRecord record = new GenericDatumReader<GenericRecord>(schema)
+            .read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+        Assertions.assertEquals("tyrantlucifer", record.get("string_field").toString());
+        Assertions.assertEquals(4L, record.get("bigint_field"));
+        Assertions.assertNull(record.get("null_field"));
+        Assertions.assertEquals((int) LocalDate.of(2022, 9, 24).toEpochDay(), record.get("date_field"));
+        Assertions.assertEquals(1, ((GenericRecord) record.get("row_field")).get("id"));
+    }
+}
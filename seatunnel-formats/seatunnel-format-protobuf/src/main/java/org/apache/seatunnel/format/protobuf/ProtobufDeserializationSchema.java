@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.google.protobuf.CodedInputStream;
+
+import java.io.IOException;
+
+/**
+ * Deserializes a protobuf message written by {@link ProtobufSerializationSchema} to a {@link SeaTunnelRow}.
+ */
+public class ProtobufDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 3517309861528403714L;
+
+    private final SeaTunnelRowType rowType;
+
+    private final ProtobufToRowConverters.ProtobufToRowConverter runtimeConverter;
+
+    public ProtobufDeserializationSchema(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+        this.runtimeConverter = new ProtobufToRowConverters().createRowConverter(checkNotNull(rowType));
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(byte[] message) throws IOException {
+        if (message == null) {
+            return null;
+        }
+        return (SeaTunnelRow) runtimeConverter.convert(CodedInputStream.newInstance(message));
+    }
+
+    @Override
+    public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+        return rowType;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts a {@link SeaTunnelRowType} to the proto3 definition of the messages written by
+ * {@link ProtobufSerializationSchema}, so that other applications can generate their classes from it.
+ *
+ * <p>The field number of a field is its position in the row starting with 1. Decimals are encoded as strings, dates
+ * as days since epoch, times as microseconds of the day and timestamps as local microseconds since epoch. Null fields
+ * are left out of the message, arrays can not contain null elements.
+ */
+public class ProtobufSchemaConverter {
+
+    public static final String DEFAULT_MESSAGE_NAME = "SeaTunnelRecord";
+
+    static final int MAP_KEY_FIELD_NUMBER = 1;
+    static final int MAP_VALUE_FIELD_NUMBER = 2;
+
+    private static final String INDENT = "  ";
+
+    private static final Map<SeaTunnelRowType, String> DEFINITION_CACHE = new ConcurrentHashMap<>();
+
+    private ProtobufSchemaConverter() {
+    }
+
+    /**
+     * Returns the proto3 file defining the message of the row type, the definition of a row type is only built once.
+     */
+    public static String convertToProtoDefinition(SeaTunnelRowType rowType) {
+        return DEFINITION_CACHE.computeIfAbsent(rowType, type -> {
+            StringBuilder builder = new StringBuilder("syntax = \"proto3\";\n\n");
+            appendMessage(builder, type, DEFAULT_MESSAGE_NAME, "");
+            return builder.toString();
+        });
+    }
+
+    private static void appendMessage(StringBuilder builder, SeaTunnelRowType rowType, String messageName, String indent) {
+        builder.append(indent).append("message ").append(messageName).append(" {\n");
+        String fieldIndent = indent + INDENT;
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String fieldName = rowType.getFieldName(i);
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(i);
+            int fieldNumber = i + 1;
+            switch (fieldType.getSqlType()) {
+                case NULL:
+                    builder.append(fieldIndent).append("reserved ").append(fieldNumber).append(";\n");
+                    break;
+                case ROW:
+                    String nestedName = messageName + "_" + fieldName;
+                    appendMessage(builder, (SeaTunnelRowType) fieldType, nestedName, fieldIndent);
+                    appendField(builder, fieldIndent, nestedName, fieldName, fieldNumber);
+                    break;
+                case ARRAY:
+                    String elementType = toScalarType(((ArrayType<?, ?>) fieldType).getElementType());
+                    appendField(builder, fieldIndent, "repeated " + elementType, fieldName, fieldNumber);
+                    break;
+                case MAP:
+                    MapType<?, ?> mapType = (MapType<?, ?>) fieldType;
+                    String valueType;
+                    if (mapType.getValueType().getSqlType() == SqlType.ROW) {
+                        valueType = messageName + "_" + fieldName + "_value";
+                        appendMessage(builder, (SeaTunnelRowType) mapType.getValueType(), valueType, fieldIndent);
+                    } else {
+                        valueType = toScalarType(mapType.getValueType());
+                    }
+                    appendField(builder, fieldIndent,
+                        "map<" + toMapKeyType(mapType.getKeyType()) + ", " + valueType + ">", fieldName, fieldNumber);
+                    break;
+                default:
+                    appendField(builder, fieldIndent, toScalarType(fieldType), fieldName, fieldNumber);
+            }
+        }
+        builder.append(indent).append("}\n");
+    }
+
+    private static void appendField(StringBuilder builder, String indent, String type, String name, int number) {
+        builder.append(indent).append(type).append(' ').append(name).append(" = ").append(number).append(";\n");
+    }
+
+    private static String toMapKeyType(SeaTunnelDataType<?> keyType) {
+        switch (keyType.getSqlType()) {
+            case STRING:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return toScalarType(keyType);
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format protobuf not supported for map key type " + keyType);
+        }
+    }
+
+    private static String toScalarType(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return "bool";
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case DATE:
+                return "int32";
+            case BIGINT:
+            case TIME:
+            case TIMESTAMP:
+                return "int64";
+            case FLOAT:
+                return "float";
+            case DOUBLE:
+                return "double";
+            case STRING:
+            case DECIMAL:
+                return "string";
+            case BYTES:
+                return "bytes";
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format protobuf not supported for type " + dataType);
+        }
+    }
+}
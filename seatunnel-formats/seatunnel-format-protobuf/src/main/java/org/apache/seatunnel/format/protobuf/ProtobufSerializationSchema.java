@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Serializes a {@link SeaTunnelRow} to a protobuf message defined by {@link #getProtoDefinition()}.
+ */
+public class ProtobufSerializationSchema implements SerializationSchema {
+
+    private static final long serialVersionUID = -4526937285634370921L;
+
+    /**
+     * RowType to generate the runtime converter.
+     */
+    private final SeaTunnelRowType rowType;
+
+    private final RowToProtobufConverters.MessageConverter runtimeConverter;
+
+    /** Reusable output buffer. */
+    private transient ByteArrayOutputStream out;
+
+    public ProtobufSerializationSchema(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+        this.runtimeConverter = new RowToProtobufConverters().createRowConverter(checkNotNull(rowType));
+    }
+
+    public String getProtoDefinition() {
+        return ProtobufSchemaConverter.convertToProtoDefinition(rowType);
+    }
+
+    @Override
+    public byte[] serialize(SeaTunnelRow row) {
+        if (out == null) {
+            out = new ByteArrayOutputStream();
+        }
+        out.reset();
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(out);
+            runtimeConverter.convert(output, row);
+            output.flush();
+            return out.toByteArray();
+        } catch (Throwable e) {
+            throw new RuntimeException(String.format("Failed to serialize row '%s' to protobuf.", row), e);
+        }
+    }
+}
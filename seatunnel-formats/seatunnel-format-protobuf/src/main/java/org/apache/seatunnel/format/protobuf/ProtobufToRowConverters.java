@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the converters which read SeaTunnel values straight from a {@link CodedInputStream}, the counterpart of
+ * {@link RowToProtobufConverters}. Fields which are absent from the message are read as null, unknown fields are
+ * skipped and both packed and unpacked repeated fields are accepted.
+ */
+public class ProtobufToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = -2475136651236052011L;
+
+    private static final long MICROS_PER_SECOND = TimeUnit.SECONDS.toMicros(1);
+    private static final long NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+    ProtobufToRowConverter createConverter(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return CodedInputStream::readBool;
+            case TINYINT:
+                return in -> (byte) in.readInt32();
+            case SMALLINT:
+                return in -> (short) in.readInt32();
+            case INT:
+                return CodedInputStream::readInt32;
+            case BIGINT:
+                return CodedInputStream::readInt64;
+            case FLOAT:
+                return CodedInputStream::readFloat;
+            case DOUBLE:
+                return CodedInputStream::readDouble;
+            case STRING:
+                return CodedInputStream::readString;
+            case BYTES:
+                return CodedInputStream::readByteArray;
+            case DECIMAL:
+                return in -> new BigDecimal(in.readString());
+            case DATE:
+                return in -> LocalDate.ofEpochDay(in.readInt32());
+            case TIME:
+                return in -> LocalTime.ofNanoOfDay(TimeUnit.MICROSECONDS.toNanos(in.readInt64()));
+            case TIMESTAMP:
+                return in -> {
+                    long micros = in.readInt64();
+                    return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                        (int) (Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO), ZoneOffset.UTC);
+                };
+            case ROW:
+                ProtobufToRowConverter rowConverter = createRowConverter((SeaTunnelRowType) type);
+                return in -> readMessage(in, rowConverter);
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format protobuf not supported for type " + type);
+        }
+    }
+
+    ProtobufToRowConverter createRowConverter(SeaTunnelRowType rowType) {
+        FieldReader[] fieldReaders = new FieldReader[rowType.getTotalFields()];
+        for (int i = 0; i < fieldReaders.length; i++) {
+            fieldReaders[i] = createFieldReader(rowType.getFieldType(i));
+        }
+        return in -> {
+            Object[] fields = new Object[fieldReaders.length];
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                int index = WireFormat.getTagFieldNumber(tag) - 1;
+                if (index < fields.length) {
+                    fields[index] = fieldReaders[index].read(in, tag, fields[index]);
+                } else {
+                    in.skipField(tag);
+                }
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    fields[i] = fieldReaders[i].complete(fields[i]);
+                }
+            }
+            return new SeaTunnelRow(fields);
+        };
+    }
+
+    private FieldReader createFieldReader(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case NULL:
+                return (in, tag, previous) -> {
+                    in.skipField(tag);
+                    return null;
+                };
+            case ARRAY:
+                return createArrayReader((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapReader((MapType<?, ?>) type);
+            default:
+                ProtobufToRowConverter converter = createConverter(type);
+                return (in, tag, previous) -> converter.convert(in);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private FieldReader createArrayReader(ArrayType<?, ?> arrayType) {
+        SeaTunnelDataType<?> elementType = arrayType.getElementType();
+        ProtobufToRowConverter elementConverter = createConverter(elementType);
+        boolean packable = elementType.getSqlType() != SqlType.STRING
+            && elementType.getSqlType() != SqlType.BYTES
+            && elementType.getSqlType() != SqlType.DECIMAL;
+        Class<?> elementClass = arrayType.getTypeClass().getComponentType();
+        return new FieldReader() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Object read(CodedInputStream in, int tag, Object previous) throws IOException {
+                List<Object> elements = previous == null ? new ArrayList<>() : (List<Object>) previous;
+                if (packable && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    int oldLimit = in.pushLimit(in.readRawVarint32());
+                    while (in.getBytesUntilLimit() > 0) {
+                        elements.add(elementConverter.convert(in));
+                    }
+                    in.popLimit(oldLimit);
+                } else {
+                    elements.add(elementConverter.convert(in));
+                }
+                return elements;
+            }
+
+            @Override
+            public Object complete(Object value) {
+                List<Object> elements = (List<Object>) value;
+                return elements.toArray((Object[]) Array.newInstance(elementClass, elements.size()));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private FieldReader createMapReader(MapType<?, ?> mapType) {
+        ProtobufToRowConverter keyConverter = createConverter(mapType.getKeyType());
+        ProtobufToRowConverter valueConverter = createConverter(mapType.getValueType());
+        return (in, tag, previous) -> {
+            Map<Object, Object> map = previous == null ? new HashMap<>() : (Map<Object, Object>) previous;
+            int oldLimit = in.pushLimit(in.readRawVarint32());
+            Object key = null;
+            Object value = null;
+            int entryTag;
+            while ((entryTag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(entryTag)) {
+                    case ProtobufSchemaConverter.MAP_KEY_FIELD_NUMBER:
+                        key = keyConverter.convert(in);
+                        break;
+                    case ProtobufSchemaConverter.MAP_VALUE_FIELD_NUMBER:
+                        value = valueConverter.convert(in);
+                        break;
+                    default:
+                        in.skipField(entryTag);
+                }
+            }
+            in.popLimit(oldLimit);
+            map.put(key, value);
+            return map;
+        };
+    }
+
+    private static Object readMessage(CodedInputStream in, ProtobufToRowConverter converter) throws IOException {
+        int oldLimit = in.pushLimit(in.readRawVarint32());
+        Object value = converter.convert(in);
+        in.popLimit(oldLimit);
+        return value;
+    }
+
+    /**
+     * Runtime converter that reads a single SeaTunnel value from a {@link CodedInputStream}.
+     */
+    @FunctionalInterface
+    public interface ProtobufToRowConverter extends Serializable {
+        Object convert(CodedInputStream in) throws IOException;
+    }
+
+    /**
+     * Reads an occurrence of a field, repeated fields are accumulated on the previously read value.
+     */
+    @FunctionalInterface
+    interface FieldReader extends Serializable {
+        Object read(CodedInputStream in, int tag, Object previous) throws IOException;
+
+        default Object complete(Object value) {
+            return value;
+        }
+    }
+}
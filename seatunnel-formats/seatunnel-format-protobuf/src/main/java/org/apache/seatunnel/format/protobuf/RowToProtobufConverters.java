@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the converters which encode SeaTunnel values straight into a {@link CodedOutputStream} following the message
+ * of {@link ProtobufSchemaConverter}, the converters are built once per row type so no intermediate message is
+ * created. Null values are not written.
+ */
+public class RowToProtobufConverters implements Serializable {
+
+    private static final long serialVersionUID = 5926338014436208712L;
+
+    public RowToProtobufConverter createConverter(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case NULL:
+                return (out, fieldNumber, value) -> { };
+            case BOOLEAN:
+                return (out, fieldNumber, value) -> out.writeBool(fieldNumber, (Boolean) value);
+            case TINYINT:
+                return (out, fieldNumber, value) -> out.writeInt32(fieldNumber, (Byte) value);
+            case SMALLINT:
+                return (out, fieldNumber, value) -> out.writeInt32(fieldNumber, (Short) value);
+            case INT:
+                return (out, fieldNumber, value) -> out.writeInt32(fieldNumber, (Integer) value);
+            case BIGINT:
+                return (out, fieldNumber, value) -> out.writeInt64(fieldNumber, (Long) value);
+            case FLOAT:
+                return (out, fieldNumber, value) -> out.writeFloat(fieldNumber, (Float) value);
+            case DOUBLE:
+                return (out, fieldNumber, value) -> out.writeDouble(fieldNumber, (Double) value);
+            case STRING:
+                return (out, fieldNumber, value) -> out.writeString(fieldNumber, (String) value);
+            case BYTES:
+                return (out, fieldNumber, value) -> out.writeByteArray(fieldNumber, (byte[]) value);
+            case DECIMAL:
+                return (out, fieldNumber, value) -> out.writeString(fieldNumber, ((BigDecimal) value).toPlainString());
+            case DATE:
+                return (out, fieldNumber, value) -> out.writeInt32(fieldNumber, (int) ((LocalDate) value).toEpochDay());
+            case TIME:
+                return (out, fieldNumber, value) ->
+                    out.writeInt64(fieldNumber, TimeUnit.NANOSECONDS.toMicros(((LocalTime) value).toNanoOfDay()));
+            case TIMESTAMP:
+                return (out, fieldNumber, value) -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.writeInt64(fieldNumber, TimeUnit.SECONDS.toMicros(dateTime.toEpochSecond(ZoneOffset.UTC))
+                        + TimeUnit.NANOSECONDS.toMicros(dateTime.getNano()));
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            case ROW:
+                MessageConverter rowConverter = createRowConverter((SeaTunnelRowType) type);
+                return (out, fieldNumber, value) -> out.writeByteArray(fieldNumber, toByteArray(rowConverter, value));
+            default:
+                throw new UnsupportedOperationException("SeaTunnel format protobuf not supported for type " + type);
+        }
+    }
+
+    private RowToProtobufConverter createArrayConverter(ArrayType<?, ?> arrayType) {
+        RowToProtobufConverter elementConverter = createConverter(arrayType.getElementType());
+        return (out, fieldNumber, value) -> {
+            for (Object element : (Object[]) value) {
+                if (element == null) {
+                    throw new IllegalArgumentException("Repeated protobuf fields can not contain null elements");
+                }
+                elementConverter.convert(out, fieldNumber, element);
+            }
+        };
+    }
+
+    private RowToProtobufConverter createMapConverter(MapType<?, ?> mapType) {
+        RowToProtobufConverter keyConverter = createConverter(mapType.getKeyType());
+        RowToProtobufConverter valueConverter = createConverter(mapType.getValueType());
+        MessageConverter entryConverter = (out, value) -> {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            keyConverter.convert(out, ProtobufSchemaConverter.MAP_KEY_FIELD_NUMBER, entry.getKey());
+            if (entry.getValue() != null) {
+                valueConverter.convert(out, ProtobufSchemaConverter.MAP_VALUE_FIELD_NUMBER, entry.getValue());
+            }
+        };
+        return (out, fieldNumber, value) -> {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                out.writeByteArray(fieldNumber, toByteArray(entryConverter, entry));
+            }
+        };
+    }
+
+    MessageConverter createRowConverter(SeaTunnelRowType rowType) {
+        RowToProtobufConverter[] fieldConverters = new RowToProtobufConverter[rowType.getTotalFields()];
+        for (int i = 0; i < fieldConverters.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+        }
+        return (out, value) -> {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            for (int i = 0; i < fieldConverters.length; i++) {
+                Object field = row.getField(i);
+                if (field != null) {
+                    fieldConverters[i].convert(out, i + 1, field);
+                }
+            }
+        };
+    }
+
+    private static byte[] toByteArray(MessageConverter converter, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        converter.convert(out, value);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Runtime converter that writes a SeaTunnel value as the field with the given number.
+     */
+    @FunctionalInterface
+    public interface RowToProtobufConverter extends Serializable {
+        void convert(CodedOutputStream out, int fieldNumber, Object value) throws IOException;
+    }
+
+    /**
+     * Runtime converter that writes the fields of a SeaTunnel value as a whole message.
+     */
+    @FunctionalInterface
+    public interface MessageConverter extends Serializable {
+        void convert(CodedOutputStream out, Object value) throws IOException;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.protobuf;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ProtobufFormatSchemaTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @SuppressWarnings("checkstyle:Indentation")
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{
+            "array_field",
+            "map_field",
+            "string_field",
+            "boolean_field",
+            "tinyint_field",
+            "smallint_field",
+            "int_field",
+            "bigint_field",
+            "float_field",
+            "double_field",
+            "decimal_field",
+            "null_field",
+            "bytes_field",
+            "date_field",
+            "time_field",
+            "timestamp_field",
+            "row_field"},
+        new SeaTunnelDataType<?>[]{
+            ArrayType.INT_ARRAY_TYPE,
+            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+            BasicType.STRING_TYPE,
+            BasicType.BOOLEAN_TYPE,
+            BasicType.BYTE_TYPE,
+            BasicType.SHORT_TYPE,
+            BasicType.INT_TYPE,
+            BasicType.LONG_TYPE,
+            BasicType.FLOAT_TYPE,
+            BasicType.DOUBLE_TYPE,
+            new DecimalType(10, 4),
+            BasicType.VOID_TYPE,
+            PrimitiveByteArrayType.INSTANCE,
+            LocalTimeType.LOCAL_DATE_TYPE,
+            LocalTimeType.LOCAL_TIME_TYPE,
+            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+            NESTED_TYPE});
+
+    private static SeaTunnelRow createRow() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("tyrantlucifer", 18);
+        map.put("Kris", null);
+        return new SeaTunnelRow(new Object[]{
+            new Integer[]{1, null, 3},
+            map,
+            "tyrantlucifer",
+            true,
+            (byte) 1,
+            (short) 2,
+            3,
+            4L,
+            6.66f,
+            7.77d,
+            new BigDecimal("8.8888"),
+            null,
+            "tyrantlucifer".getBytes(),
+            LocalDate.of(2022, 9, 24),
+            LocalTime.of(22, 45, 0, 123456000),
+            LocalDateTime.of(1969, 9, 24, 22, 45, 0, 123456000),
+            new SeaTunnelRow(new Object[]{1, null})});
+    }
+
+    @Test
+    public void testSerializeAndDeserialize() throws IOException {
+        SeaTunnelRow row = createRow();
+        ((Integer[]) row.getField(0))[1] = 2;
+        byte[] bytes = new ProtobufSerializationSchema(ROW_TYPE).serialize(row);
+        SeaTunnelRow deserialized = new ProtobufDeserializationSchema(ROW_TYPE).deserialize(bytes);
+
+        Assertions.assertArrayEquals((Object[]) row.getField(0), (Object[]) deserialized.getField(0));
+        Assertions.assertArrayEquals((byte[]) row.getField(12), (byte[]) deserialized.getField(12));
+        for (int i = 1; i < row.getArity(); i++) {
+            if (i != 12) {
+                Assertions.assertEquals(row.getField(i), deserialized.getField(i), ROW_TYPE.getFieldName(i));
+            }
+        }
+        Assertions.assertEquals(Integer[].class, deserialized.getField(0).getClass());
+        Assertions.assertThrows(RuntimeException.class, () -> new ProtobufSerializationSchema(ROW_TYPE).serialize(createRow()));
+    }
+
+    @Test
+    public void testDeserializePackedAndUnknownFields() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        // packed array_field = [1, 2, 3]
+        out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(CodedOutputStream.computeInt32SizeNoTag(1) * 3);
+        out.writeInt32NoTag(1);
+        out.writeInt32NoTag(2);
+        out.writeInt32NoTag(3);
+        out.writeString(3, "tyrantlucifer");
+        out.writeString(100, "unknown");
+        out.flush();
+
+        SeaTunnelRow row = new ProtobufDeserializationSchema(ROW_TYPE).deserialize(bytes.toByteArray());
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 3}, (Object[]) row.getField(0));
+        Assertions.assertEquals("tyrantlucifer", row.getField(2));
+        Assertions.assertNull(row.getField(6));
+    }
+
+    @Test
+    public void testConvertToProtoDefinition() {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(
+            new String[]{"id", "tags", "attributes", "unused", "nested"},
+            new SeaTunnelDataType<?>[]{
+                BasicType.LONG_TYPE,
+                ArrayType.STRING_ARRAY_TYPE,
+                new MapType<>(BasicType.STRING_TYPE, new DecimalType(10, 2)),
+                BasicType.VOID_TYPE,
+                NESTED_TYPE});
+        String expected = "syntax = \"proto3\";\n\n"
+            + "message SeaTunnelRecord {\n"
+            + "  int64 id = 1;\n"
+            + "  repeated string tags = 2;\n"
+            + "  map<string, string> attributes = 3;\n"
+            + "  reserved 4;\n"
+            + "  message SeaTunnelRecord_nested {\n"
+            + "    int32 id = 1;\n"
+            + "    string name = 2;\n"
+            + "  }\n"
+            + "  SeaTunnelRecord_nested nested = 5;\n"
+            + "}\n";
+        Assertions.assertEquals(expected, ProtobufSchemaConverter.convertToProtoDefinition(rowType));
+        Assertions.assertSame(ProtobufSchemaConverter.convertToProtoDefinition(rowType),
+            new ProtobufSerializationSchema(rowType).getProtoDefinition());
+    }
+}
@@ -34,14 +34,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Serializable> implements BaseSourceFunction<T> {
-    protected static final long SLEEP_TIME_INTERVAL = 5L;
     protected final SeaTunnelSource<T, SplitT, StateT> source;
     protected final Map<Integer, List<byte[]>> restoredState;
     protected final Integer parallelism;
@@ -64,6 +65,11 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
      */
     protected volatile boolean running = true;
 
+    /**
+     * Completed when the consumer stops running, so {@link #run(Collector)} waits for it instead of polling the flag.
+     */
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
     public CoordinatedSource(SeaTunnelSource<T, SplitT, StateT> source,
                              Map<Integer, List<byte[]>> restoredState,
                              int parallelism) {
@@ -142,13 +148,13 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
         readerMap.entrySet().parallelStream().forEach(entry -> {
             final AtomicBoolean flag = readerRunningMap.get(entry.getKey());
             final SourceReader<T, SplitT> reader = entry.getValue();
+            final SourceReaderPoller<T> poller = new SourceReaderPoller<>(reader, collector);
             executorService.execute(() -> {
                 while (flag.get()) {
                     try {
-                        reader.pollNext(collector);
-                        Thread.sleep(SLEEP_TIME_INTERVAL);
+                        poller.pollNext();
                     } catch (Exception e) {
-                        running = false;
+                        stopRunning();
                         flag.set(false);
                         throw new RuntimeException(e);
                     }
@@ -156,14 +162,24 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
             });
         });
         splitEnumerator.run();
-        while (running) {
-            Thread.sleep(SLEEP_TIME_INTERVAL);
-        }
+        awaitStopped();
+    }
+
+    protected void stopRunning() {
+        running = false;
+        stopped.complete(null);
+    }
+
+    /**
+     * Waits until all the readers reached the end of their data, a reader failed or the source is closed.
+     */
+    protected void awaitStopped() throws InterruptedException, ExecutionException {
+        stopped.get();
     }
 
     @Override
     public void close() throws IOException {
-        running = false;
+        stopRunning();
 
         for (Map.Entry<Integer, SourceReader<T, SplitT>> entry : readerMap.entrySet()) {
             readerRunningMap.get(entry.getKey()).set(false);
@@ -241,7 +257,7 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
         readerRunningMap.get(subtaskId).set(false);
         readerContextMap.remove(subtaskId);
         if (completedReader.incrementAndGet() == this.parallelism) {
-            this.running = false;
+            stopRunning();
         }
     }
 
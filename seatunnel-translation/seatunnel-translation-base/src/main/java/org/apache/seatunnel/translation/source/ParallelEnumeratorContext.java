@@ -50,6 +50,11 @@ public class ParallelEnumeratorContext<SplitT extends SourceSplit> implements So
         return running ? Collections.singleton(subtaskId) : Collections.emptySet();
     }
 
+    @Override
+    public boolean isCoordinated() {
+        return false;
+    }
+
     public void register() {
         running = true;
     }
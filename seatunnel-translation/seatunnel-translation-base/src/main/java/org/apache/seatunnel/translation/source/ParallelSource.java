@@ -17,8 +17,6 @@
 
 package org.apache.seatunnel.translation.source;
 
-import static org.apache.seatunnel.translation.source.CoordinatedSource.SLEEP_TIME_INTERVAL;
-
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
@@ -121,12 +119,12 @@ public class ParallelSource<T, SplitT extends SourceSplit, StateT extends Serial
             }
         });
 
+        SourceReaderPoller<T> poller = new SourceReaderPoller<>(reader, collector);
         while (running) {
             if (future.isDone()) {
                 future.get();
             }
-            reader.pollNext(collector);
-            Thread.sleep(SLEEP_TIME_INTERVAL);
+            poller.pollNext();
         }
         LOG.debug("Parallel source runs complete.");
     }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls the {@link SourceReader} on behalf of the source function. The reader is only polled when it is available,
+ * and the polling thread is parked with exponential backoff when the reader is not available or emitted nothing,
+ * instead of sleeping a fixed interval after each poll.
+ */
+public class SourceReaderPoller<T> {
+
+    private static final long MIN_IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final SourceReader<T, ?> reader;
+    private final EmittedRecordCollector collector;
+
+    private int idleTimes = 0;
+
+    public SourceReaderPoller(SourceReader<T, ?> reader, Collector<T> collector) {
+        this.reader = reader;
+        this.collector = new EmittedRecordCollector(collector);
+    }
+
+    /**
+     * Poll the next batch of records from the reader, or wait until the reader is available.
+     */
+    public void pollNext() throws Exception {
+        CompletableFuture<Void> available = reader.isAvailable();
+        if (!available.isDone()) {
+            try {
+                available.get(nextIdleNanos(), TimeUnit.NANOSECONDS);
+                idleTimes = 0;
+            } catch (TimeoutException | ExecutionException ignored) {
+                // the failure of the reader will be thrown by pollNext
+            }
+            return;
+        }
+        collector.emitted = false;
+        reader.pollNext(collector);
+        if (collector.emitted) {
+            idleTimes = 0;
+        } else {
+            LockSupport.parkNanos(this, nextIdleNanos());
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private long nextIdleNanos() {
+        return Math.min(MIN_IDLE_NANOS << Math.min(idleTimes++, MAX_BACKOFF_SHIFT), MAX_IDLE_NANOS);
+    }
+
+    private class EmittedRecordCollector implements Collector<T> {
+
+        private final Collector<T> delegate;
+
+        private volatile boolean emitted;
+
+        EmittedRecordCollector(Collector<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void collect(T record) {
+            emitted = true;
+            delegate.collect(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return delegate.getCheckpointLock();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.source.CoordinatedSource;
+import org.apache.seatunnel.translation.source.SourceReaderPoller;
 import org.apache.seatunnel.translation.spark.common.InternalRowCollector;
 import org.apache.seatunnel.translation.spark.common.ReaderState;
 
@@ -109,13 +110,13 @@ public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPart
                 final AtomicBoolean flag = readerRunningMap.get(entry.getKey());
                 final SourceReader<SeaTunnelRow, SplitT> reader = entry.getValue();
                 final Collector<SeaTunnelRow> rowCollector = collectorMap.get(entry.getKey());
+                final SourceReaderPoller<SeaTunnelRow> poller = new SourceReaderPoller<>(reader, rowCollector);
                 executorService.execute(() -> {
                     while (flag.get()) {
                         try {
-                            reader.pollNext(rowCollector);
-                            Thread.sleep(SLEEP_TIME_INTERVAL);
+                            poller.pollNext();
                         } catch (Exception e) {
-                            this.running = false;
+                            stopRunning();
                             flag.set(false);
                             throw new RuntimeException(e);
                         }
@@ -123,9 +124,7 @@ public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPart
                 });
             });
             splitEnumerator.run();
-            while (this.running) {
-                Thread.sleep(SLEEP_TIME_INTERVAL);
-            }
+            awaitStopped();
         }
 
         @Override